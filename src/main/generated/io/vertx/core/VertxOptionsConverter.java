@@ -65,6 +65,11 @@ public class VertxOptionsConverter {
             obj.setClustered((Boolean)member.getValue());
           }
           break;
+        case "contextCallBatchingEnabled":
+          if (member.getValue() instanceof Boolean) {
+            obj.setContextCallBatchingEnabled((Boolean)member.getValue());
+          }
+          break;
         case "eventBusOptions":
           if (member.getValue() instanceof JsonObject) {
             obj.setEventBusOptions(new io.vertx.core.eventbus.EventBusOptions((JsonObject)member.getValue()));
@@ -130,6 +135,16 @@ public class VertxOptionsConverter {
             obj.setQuorumSize(((Number)member.getValue()).intValue());
           }
           break;
+        case "timerWheelEnabled":
+          if (member.getValue() instanceof Boolean) {
+            obj.setTimerWheelEnabled((Boolean)member.getValue());
+          }
+          break;
+        case "timerWheelTickDuration":
+          if (member.getValue() instanceof Number) {
+            obj.setTimerWheelTickDuration(((Number)member.getValue()).longValue());
+          }
+          break;
         case "tracingOptions":
           if (member.getValue() instanceof JsonObject) {
             obj.setTracingOptions(new io.vertx.core.tracing.TracingOptions((JsonObject)member.getValue()));
@@ -177,6 +192,7 @@ public class VertxOptionsConverter {
     }
     json.put("clusterPublicPort", obj.getClusterPublicPort());
     json.put("clustered", obj.isClustered());
+    json.put("contextCallBatchingEnabled", obj.isContextCallBatchingEnabled());
     if (obj.getEventBusOptions() != null) {
       json.put("eventBusOptions", obj.getEventBusOptions().toJson());
     }
@@ -202,6 +218,8 @@ public class VertxOptionsConverter {
     }
     json.put("preferNativeTransport", obj.getPreferNativeTransport());
     json.put("quorumSize", obj.getQuorumSize());
+    json.put("timerWheelEnabled", obj.isTimerWheelEnabled());
+    json.put("timerWheelTickDuration", obj.getTimerWheelTickDuration());
     if (obj.getTracingOptions() != null) {
       json.put("tracingOptions", obj.getTracingOptions().toJson());
     }
@@ -45,6 +45,11 @@ public class EventBusOptionsConverter {
             obj.setClusterPublicPort(((Number)member.getValue()).intValue());
           }
           break;
+        case "clusterWriteQueueHighWaterMark":
+          if (member.getValue() instanceof Number) {
+            obj.setClusterWriteQueueHighWaterMark(((Number)member.getValue()).intValue());
+          }
+          break;
         case "clustered":
           if (member.getValue() instanceof Boolean) {
             obj.setClustered((Boolean)member.getValue());
@@ -263,6 +268,7 @@ public class EventBusOptionsConverter {
       json.put("clusterPublicHost", obj.getClusterPublicHost());
     }
     json.put("clusterPublicPort", obj.getClusterPublicPort());
+    json.put("clusterWriteQueueHighWaterMark", obj.getClusterWriteQueueHighWaterMark());
     json.put("clustered", obj.isClustered());
     json.put("connectTimeout", obj.getConnectTimeout());
     if (obj.getCrlPaths() != null) {
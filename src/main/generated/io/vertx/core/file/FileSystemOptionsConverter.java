@@ -15,6 +15,11 @@ public class FileSystemOptionsConverter {
    static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, FileSystemOptions obj) {
     for (java.util.Map.Entry<String, Object> member : json) {
       switch (member.getKey()) {
+        case "bulkPoolSize":
+          if (member.getValue() instanceof Number) {
+            obj.setBulkPoolSize(((Number)member.getValue()).intValue());
+          }
+          break;
         case "classPathResolvingEnabled":
           if (member.getValue() instanceof Boolean) {
             obj.setClassPathResolvingEnabled((Boolean)member.getValue());
@@ -30,6 +35,19 @@ public class FileSystemOptionsConverter {
             obj.setFileCachingEnabled((Boolean)member.getValue());
           }
           break;
+        case "resolutionCacheMaxSize":
+          if (member.getValue() instanceof Number) {
+            obj.setResolutionCacheMaxSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "resolutionWarmUpFiles":
+          if (member.getValue() instanceof JsonArray) {
+            ((Iterable<Object>)member.getValue()).forEach( item -> {
+              if (item instanceof String)
+                obj.addResolutionWarmUpFile((String)item);
+            });
+          }
+          break;
       }
     }
   }
@@ -39,10 +57,17 @@ public class FileSystemOptionsConverter {
   }
 
    static void toJson(FileSystemOptions obj, java.util.Map<String, Object> json) {
+    json.put("bulkPoolSize", obj.getBulkPoolSize());
     json.put("classPathResolvingEnabled", obj.isClassPathResolvingEnabled());
     if (obj.getFileCacheDir() != null) {
       json.put("fileCacheDir", obj.getFileCacheDir());
     }
     json.put("fileCachingEnabled", obj.isFileCachingEnabled());
+    json.put("resolutionCacheMaxSize", obj.getResolutionCacheMaxSize());
+    if (obj.getResolutionWarmUpFiles() != null) {
+      JsonArray array = new JsonArray();
+      obj.getResolutionWarmUpFiles().forEach(item -> array.add(item));
+      json.put("resolutionWarmUpFiles", array);
+    }
   }
 }
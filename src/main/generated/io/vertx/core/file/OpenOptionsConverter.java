@@ -40,6 +40,11 @@ public class OpenOptionsConverter {
             obj.setDsync((Boolean)member.getValue());
           }
           break;
+        case "mmap":
+          if (member.getValue() instanceof Boolean) {
+            obj.setMmap((Boolean)member.getValue());
+          }
+          break;
         case "perms":
           if (member.getValue() instanceof String) {
             obj.setPerms((String)member.getValue());
@@ -70,6 +75,21 @@ public class OpenOptionsConverter {
             obj.setWrite((Boolean)member.getValue());
           }
           break;
+        case "writeFlushSize":
+          if (member.getValue() instanceof Number) {
+            obj.setWriteFlushSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "writeGroupSync":
+          if (member.getValue() instanceof Boolean) {
+            obj.setWriteGroupSync((Boolean)member.getValue());
+          }
+          break;
+        case "writeLingerTime":
+          if (member.getValue() instanceof Number) {
+            obj.setWriteLingerTime(((Number)member.getValue()).longValue());
+          }
+          break;
       }
     }
   }
@@ -84,6 +104,7 @@ public class OpenOptionsConverter {
     json.put("createNew", obj.isCreateNew());
     json.put("deleteOnClose", obj.isDeleteOnClose());
     json.put("dsync", obj.isDsync());
+    json.put("mmap", obj.isMmap());
     if (obj.getPerms() != null) {
       json.put("perms", obj.getPerms());
     }
@@ -92,5 +113,8 @@ public class OpenOptionsConverter {
     json.put("sync", obj.isSync());
     json.put("truncateExisting", obj.isTruncateExisting());
     json.put("write", obj.isWrite());
+    json.put("writeFlushSize", obj.getWriteFlushSize());
+    json.put("writeGroupSync", obj.isWriteGroupSync());
+    json.put("writeLingerTime", obj.getWriteLingerTime());
   }
 }
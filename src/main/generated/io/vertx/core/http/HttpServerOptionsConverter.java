@@ -100,6 +100,11 @@ public class HttpServerOptionsConverter {
             obj.setPerMessageWebSocketCompressionSupported((Boolean)member.getValue());
           }
           break;
+        case "sendFileCacheMaxSize":
+          if (member.getValue() instanceof Number) {
+            obj.setSendFileCacheMaxSize(((Number)member.getValue()).intValue());
+          }
+          break;
         case "webSocketAllowServerNoContext":
           if (member.getValue() instanceof Boolean) {
             obj.setWebSocketAllowServerNoContext((Boolean)member.getValue());
@@ -156,6 +161,7 @@ public class HttpServerOptionsConverter {
     json.put("maxWebSocketMessageSize", obj.getMaxWebSocketMessageSize());
     json.put("perFrameWebSocketCompressionSupported", obj.getPerFrameWebSocketCompressionSupported());
     json.put("perMessageWebSocketCompressionSupported", obj.getPerMessageWebSocketCompressionSupported());
+    json.put("sendFileCacheMaxSize", obj.getSendFileCacheMaxSize());
     json.put("webSocketAllowServerNoContext", obj.getWebSocketAllowServerNoContext());
     json.put("webSocketCompressionLevel", obj.getWebSocketCompressionLevel());
     json.put("webSocketPreferredClientNoContext", obj.getWebSocketPreferredClientNoContext());
@@ -0,0 +1,42 @@
+package io.vertx.core.http;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.core.http.WebSocketGroupOptions}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.core.http.WebSocketGroupOptions} original class using Vert.x codegen.
+ */
+public class WebSocketGroupOptionsConverter {
+
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, WebSocketGroupOptions obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "maxFrameSize":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxFrameSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "slowConsumerPolicy":
+          if (member.getValue() instanceof String) {
+            obj.setSlowConsumerPolicy(io.vertx.core.http.SlowConsumerPolicy.valueOf((String)member.getValue()));
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(WebSocketGroupOptions obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(WebSocketGroupOptions obj, java.util.Map<String, Object> json) {
+    json.put("maxFrameSize", obj.getMaxFrameSize());
+    if (obj.getSlowConsumerPolicy() != null) {
+      json.put("slowConsumerPolicy", obj.getSlowConsumerPolicy().name());
+    }
+  }
+}
@@ -20,6 +20,11 @@ public class NetServerOptionsConverter {
             obj.setAcceptBacklog(((Number)member.getValue()).intValue());
           }
           break;
+        case "acceptBalancing":
+          if (member.getValue() instanceof String) {
+            obj.setAcceptBalancing(io.vertx.core.net.AcceptBalancing.valueOf((String)member.getValue()));
+          }
+          break;
         case "clientAuth":
           if (member.getValue() instanceof String) {
             obj.setClientAuth(io.vertx.core.http.ClientAuth.valueOf((String)member.getValue()));
@@ -50,6 +55,9 @@ public class NetServerOptionsConverter {
 
    static void toJson(NetServerOptions obj, java.util.Map<String, Object> json) {
     json.put("acceptBacklog", obj.getAcceptBacklog());
+    if (obj.getAcceptBalancing() != null) {
+      json.put("acceptBalancing", obj.getAcceptBalancing().name());
+    }
     if (obj.getClientAuth() != null) {
       json.put("clientAuth", obj.getClientAuth().name());
     }
@@ -0,0 +1,34 @@
+package io.vertx.core.shareddata;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.core.shareddata.LocalAsyncMapOptions}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.core.shareddata.LocalAsyncMapOptions} original class using Vert.x codegen.
+ */
+public class LocalAsyncMapOptionsConverter {
+
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, LocalAsyncMapOptions obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "maxSize":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxSize(((Number)member.getValue()).intValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(LocalAsyncMapOptions obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(LocalAsyncMapOptions obj, java.util.Map<String, Object> json) {
+    json.put("maxSize", obj.getMaxSize());
+  }
+}
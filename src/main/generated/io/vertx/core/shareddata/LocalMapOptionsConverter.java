@@ -0,0 +1,34 @@
+package io.vertx.core.shareddata;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.core.shareddata.LocalMapOptions}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.core.shareddata.LocalMapOptions} original class using Vert.x codegen.
+ */
+public class LocalMapOptionsConverter {
+
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, LocalMapOptions obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "offHeap":
+          if (member.getValue() instanceof Boolean) {
+            obj.setOffHeap((Boolean)member.getValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(LocalMapOptions obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(LocalMapOptions obj, java.util.Map<String, Object> json) {
+    json.put("offHeap", obj.isOffHeap());
+  }
+}
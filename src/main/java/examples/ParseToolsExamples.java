@@ -15,6 +15,9 @@ import io.vertx.core.buffer.Buffer;
 import io.vertx.core.parsetools.JsonParser;
 import io.vertx.core.parsetools.RecordParser;
 
+import java.util.Arrays;
+import java.util.HashSet;
+
 /**
  * Example using the record parser.
  */
@@ -205,4 +208,17 @@ public class ParseToolsExamples {
       // Catch any parsing or decoding error
     });
   }
+
+  public void jsonParserExample8(JsonParser parser) {
+
+    // Decode each object as a user, the other fields of the objects are skipped
+    parser
+      .objectValueMode(User.class)
+      .projection(new HashSet<>(Arrays.asList("firstName", "lastName")));
+
+    parser.handler(event -> {
+      User user = event.mapTo(User.class);
+      System.out.println("User " + user.firstName + " " + user.lastName);
+    });
+  }
 }
@@ -0,0 +1,96 @@
+package io.vertx.core.FastFutureFamily;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.FutureDouble;
+import io.vertx.core.Handler;
+
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleUnaryOperator;
+
+public class FutureDoubleImplFast implements FutureDouble
+{
+  private final double data;
+
+
+  public FutureDoubleImplFast(double data)
+  {
+    this.data = data;
+  }
+
+  @Override
+  public double getData()
+  {
+    return this.data;
+  }
+
+  @Override
+  public boolean isFastFuture()
+  {
+    return true;
+  }
+
+  @Override
+  public FutureDoubleImplFast onComplete(Handler<AsyncResult<Double>> handler)
+  {
+    //the handler wants an AsyncResult, so here we must box
+    handler.handle(Future.succeededFuture(this.data));
+    return this;
+  }
+
+  @Override
+  public FutureDoubleImplFast onComplete(Handler<AsyncResult<Double>> handler, long timeout)
+  {
+    //the result is there, we dont need to do more complex logic here
+    return onComplete(handler);
+  }
+
+  @Override
+  public FutureDoubleImplFast onSuccess(DoubleConsumer handler)
+  {
+    handler.accept(this.data);
+    return this;
+  }
+
+  @Override
+  public FutureDoubleImplFast onFailure(Handler<Throwable> handler)
+  {
+    //a fast future is always succeeded
+    return this;
+  }
+
+  @Override
+  public FutureDouble map(DoubleUnaryOperator mapper)
+  {
+    double mapped;
+    try
+    {
+      mapped = mapper.applyAsDouble(this.data);
+    }
+    catch (Throwable e)
+    {
+      return new FutureDoubleImplSlow(Future.failedFuture(e));
+    }
+    return new FutureDoubleImplFast(mapped);
+  }
+
+  @Override
+  public FutureDouble compose(DoubleFunction<FutureDouble> mapper)
+  {
+    try
+    {
+      return mapper.apply(this.data);
+    }
+    catch (Throwable e)
+    {
+      return new FutureDoubleImplSlow(Future.failedFuture(e));
+    }
+  }
+
+  @Override
+  public Future<Double> toFuture()
+  {
+    return Future.succeededFuture(this.data);
+  }
+}
@@ -0,0 +1,80 @@
+package io.vertx.core.FastFutureFamily;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.FutureDouble;
+import io.vertx.core.Handler;
+
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleUnaryOperator;
+
+public class FutureDoubleImplSlow implements FutureDouble
+{
+  private final Future<Double> slowFuture;
+
+
+  public FutureDoubleImplSlow(Future<Double> slowFuture)
+  {
+    this.slowFuture = slowFuture;
+  }
+
+  @Override
+  public double getData()
+  {
+    Double result = this.slowFuture.result();
+    return result != null ? result : 0D;
+  }
+
+  @Override
+  public boolean isFastFuture()
+  {
+    return false;
+  }
+
+  @Override
+  public FutureDoubleImplSlow onComplete(Handler<AsyncResult<Double>> handler)
+  {
+    this.slowFuture.onComplete(handler);
+    return this;
+  }
+
+  @Override
+  public FutureDoubleImplSlow onComplete(Handler<AsyncResult<Double>> handler, long timeout)
+  {
+    this.slowFuture.onComplete(handler, timeout);
+    return this;
+  }
+
+  @Override
+  public FutureDoubleImplSlow onSuccess(DoubleConsumer handler)
+  {
+    this.slowFuture.onSuccess(handler::accept);
+    return this;
+  }
+
+  @Override
+  public FutureDoubleImplSlow onFailure(Handler<Throwable> handler)
+  {
+    this.slowFuture.onFailure(handler);
+    return this;
+  }
+
+  @Override
+  public FutureDouble map(DoubleUnaryOperator mapper)
+  {
+    return new FutureDoubleImplSlow(this.slowFuture.map(mapper::applyAsDouble));
+  }
+
+  @Override
+  public FutureDouble compose(DoubleFunction<FutureDouble> mapper)
+  {
+    return new FutureDoubleImplSlow(this.slowFuture.compose(result -> mapper.apply(result).toFuture()));
+  }
+
+  @Override
+  public Future<Double> toFuture()
+  {
+    return this.slowFuture;
+  }
+}
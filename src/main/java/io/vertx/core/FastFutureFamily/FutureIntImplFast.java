@@ -0,0 +1,96 @@
+package io.vertx.core.FastFutureFamily;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.FutureInt;
+import io.vertx.core.Handler;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+
+public class FutureIntImplFast implements FutureInt
+{
+  private final int data;
+
+
+  public FutureIntImplFast(int data)
+  {
+    this.data = data;
+  }
+
+  @Override
+  public int getData()
+  {
+    return this.data;
+  }
+
+  @Override
+  public boolean isFastFuture()
+  {
+    return true;
+  }
+
+  @Override
+  public FutureIntImplFast onComplete(Handler<AsyncResult<Integer>> handler)
+  {
+    //the handler wants an AsyncResult, so here we must box
+    handler.handle(Future.succeededFuture(this.data));
+    return this;
+  }
+
+  @Override
+  public FutureIntImplFast onComplete(Handler<AsyncResult<Integer>> handler, long timeout)
+  {
+    //the result is there, we dont need to do more complex logic here
+    return onComplete(handler);
+  }
+
+  @Override
+  public FutureIntImplFast onSuccess(IntConsumer handler)
+  {
+    handler.accept(this.data);
+    return this;
+  }
+
+  @Override
+  public FutureIntImplFast onFailure(Handler<Throwable> handler)
+  {
+    //a fast future is always succeeded
+    return this;
+  }
+
+  @Override
+  public FutureInt map(IntUnaryOperator mapper)
+  {
+    int mapped;
+    try
+    {
+      mapped = mapper.applyAsInt(this.data);
+    }
+    catch (Throwable e)
+    {
+      return new FutureIntImplSlow(Future.failedFuture(e));
+    }
+    return new FutureIntImplFast(mapped);
+  }
+
+  @Override
+  public FutureInt compose(IntFunction<FutureInt> mapper)
+  {
+    try
+    {
+      return mapper.apply(this.data);
+    }
+    catch (Throwable e)
+    {
+      return new FutureIntImplSlow(Future.failedFuture(e));
+    }
+  }
+
+  @Override
+  public Future<Integer> toFuture()
+  {
+    return Future.succeededFuture(this.data);
+  }
+}
@@ -0,0 +1,80 @@
+package io.vertx.core.FastFutureFamily;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.FutureInt;
+import io.vertx.core.Handler;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+
+public class FutureIntImplSlow implements FutureInt
+{
+  private final Future<Integer> slowFuture;
+
+
+  public FutureIntImplSlow(Future<Integer> slowFuture)
+  {
+    this.slowFuture = slowFuture;
+  }
+
+  @Override
+  public int getData()
+  {
+    Integer result = this.slowFuture.result();
+    return result != null ? result : 0;
+  }
+
+  @Override
+  public boolean isFastFuture()
+  {
+    return false;
+  }
+
+  @Override
+  public FutureIntImplSlow onComplete(Handler<AsyncResult<Integer>> handler)
+  {
+    this.slowFuture.onComplete(handler);
+    return this;
+  }
+
+  @Override
+  public FutureIntImplSlow onComplete(Handler<AsyncResult<Integer>> handler, long timeout)
+  {
+    this.slowFuture.onComplete(handler, timeout);
+    return this;
+  }
+
+  @Override
+  public FutureIntImplSlow onSuccess(IntConsumer handler)
+  {
+    this.slowFuture.onSuccess(handler::accept);
+    return this;
+  }
+
+  @Override
+  public FutureIntImplSlow onFailure(Handler<Throwable> handler)
+  {
+    this.slowFuture.onFailure(handler);
+    return this;
+  }
+
+  @Override
+  public FutureInt map(IntUnaryOperator mapper)
+  {
+    return new FutureIntImplSlow(this.slowFuture.map(mapper::applyAsInt));
+  }
+
+  @Override
+  public FutureInt compose(IntFunction<FutureInt> mapper)
+  {
+    return new FutureIntImplSlow(this.slowFuture.compose(result -> mapper.apply(result).toFuture()));
+  }
+
+  @Override
+  public Future<Integer> toFuture()
+  {
+    return this.slowFuture;
+  }
+}
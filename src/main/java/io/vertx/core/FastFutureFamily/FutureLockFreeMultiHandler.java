@@ -0,0 +1,382 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.FastFutureFamily;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.NoStackTraceThrowable;
+import io.vertx.core.impl.VertxInternal;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * A multi handler future without any lock, unlike {@link FutureLockedMultiHandler} handlers can be registered
+ * before and after the completion, from any thread.
+ *
+ * <ul>
+ *   <li>the first handler and its context are stored inline in the future, so the common case of a single handler
+ *   does not allocate anything else than the future</li>
+ *   <li>the other handlers are pushed on a lock-free stack, one node per handler, no list and no monitor</li>
+ *   <li>at completion time the handlers are grouped by context, N handlers registered on the same context
+ *   cost a single dispatch on that context, the handlers of a group are called in registration order</li>
+ *   <li>completion is a CAS on the {@link #state} field, the completing thread never waits on a registering thread:
+ *   a registration that loses the race against the completion dispatches its handler itself</li>
+ * </ul>
+ */
+public class FutureLockFreeMultiHandler<T> implements Promise<T>, Future<T>
+{
+  // state bits
+  private static final int CLAIMING = 1;   // a thread is writing the inline handler
+  private static final int ONE = 2;        // the inline handler is written
+  private static final int COMPLETING = 4; // a thread won the completion, the result is being written
+  private static final int DONE = 8;       // the result is written, the handlers are dispatched
+
+  private static final AtomicIntegerFieldUpdater<FutureLockFreeMultiHandler> STATE =
+    AtomicIntegerFieldUpdater.newUpdater(FutureLockFreeMultiHandler.class, "state");
+
+  private static final AtomicReferenceFieldUpdater<FutureLockFreeMultiHandler, Node> STACK =
+    AtomicReferenceFieldUpdater.newUpdater(FutureLockFreeMultiHandler.class, Node.class, "stack");
+
+  // marks the stack as closed, a registration that sees it dispatches its handler itself
+  private static final Node CLOSED = new Node<>(null, null, null);
+
+  // runs the inline handler and the handlers sharing its context in one dispatch
+  private static final Handler<FutureLockFreeMultiHandler<?>> FIRST_GROUP = FutureLockFreeMultiHandler::runFirstGroup;
+
+  // runs the handlers of a group in one dispatch
+  private static final Handler<Node<?>> GROUP = FutureLockFreeMultiHandler::runGroup;
+
+  private final VertxInternal vertx;
+
+  private volatile int state;
+  private volatile Node<T> stack;
+
+  // written before the ONE bit is set
+  private Handler<AsyncResult<T>> firstHandler;
+  private ContextInternal firstContext;
+
+  // handlers sharing the context of the inline handler, only used by the completing thread and the dispatch
+  private Node<T> firstGroup;
+
+  // written before the DONE bit is set
+  private T result;
+  private Throwable error;
+
+  public FutureLockFreeMultiHandler(VertxInternal vertx)
+  {
+    this.vertx = vertx;
+  }
+
+  @Override
+  public boolean isComplete()
+  {
+    return (state & DONE) != 0;
+  }
+
+  @Override
+  public Future<T> onComplete(Handler<AsyncResult<T>> handler)
+  {
+    Objects.requireNonNull(handler, "No null handler accepted");
+    register(handler, vertx.getOrCreateContext());
+    return this;
+  }
+
+  @Override
+  public Future<T> onComplete(Handler<AsyncResult<T>> handler, long timeout)
+  {
+    Objects.requireNonNull(handler, "No null handler accepted");
+    ContextInternal callerContext = vertx.getOrCreateContext();
+    //the timer is armed before the handler is published, so a completion racing with the registration cancels it
+    register(new TimeoutWrapperHandler<>(handler, callerContext, timeout), callerContext);
+    return this;
+  }
+
+  /**
+   * @return {@code true} when the handler is registered, {@code false} when it was dispatched because the future
+   * is completed
+   */
+  private boolean register(Handler<AsyncResult<T>> handler, ContextInternal context)
+  {
+    int s = state;
+    if ((s & DONE) != 0)
+    {
+      context.dispatch(this, handler);
+      return false;
+    }
+    if (s == 0 && STATE.compareAndSet(this, 0, CLAIMING))
+    {
+      this.firstHandler = handler;
+      this.firstContext = context;
+      for (; ; )
+      {
+        s = state;
+        if ((s & DONE) != 0)
+        {
+          //the completing thread has not seen the inline handler
+          context.dispatch(this, handler);
+          return false;
+        }
+        if (STATE.compareAndSet(this, s, (s & ~CLAIMING) | ONE))
+        {
+          return true;
+        }
+      }
+    }
+    Node<T> node = new Node<>(this, handler, context);
+    for (; ; )
+    {
+      Node<T> head = stack;
+      if (head == CLOSED)
+      {
+        context.dispatch(this, handler);
+        return false;
+      }
+      node.next = head;
+      if (STACK.compareAndSet(this, head, node))
+      {
+        return true;
+      }
+    }
+  }
+
+  @Override
+  public Handler<AsyncResult<T>> getHandler()
+  {
+    return null;
+  }
+
+  @Override
+  public T result()
+  {
+    return isComplete() ? result : null;
+  }
+
+  @Override
+  public Throwable cause()
+  {
+    return isComplete() ? error : null;
+  }
+
+  @Override
+  public boolean succeeded()
+  {
+    return isComplete() && error == null;
+  }
+
+  @Override
+  public boolean failed()
+  {
+    return isComplete() && error != null;
+  }
+
+  @Override
+  public boolean tryComplete(T result)
+  {
+    if (!claim()) return false;
+    this.result = result;
+    publish();
+    return true;
+  }
+
+  @Override
+  public boolean tryFail(Throwable cause)
+  {
+    if (!claim()) return false;
+    this.error = cause != null ? cause : new NoStackTraceThrowable(null);
+    publish();
+    return true;
+  }
+
+  private boolean claim()
+  {
+    for (; ; )
+    {
+      int s = state;
+      if ((s & COMPLETING) != 0)
+      {
+        return false;
+      }
+      if (STATE.compareAndSet(this, s, s | COMPLETING))
+      {
+        return true;
+      }
+    }
+  }
+
+  private void publish()
+  {
+    int s;
+    do
+    {
+      s = state;
+    } while (!STATE.compareAndSet(this, s, s | DONE));
+    //from here on every new registration dispatches by itself
+    Node<T> head = STACK.getAndSet(this, CLOSED);
+    boolean hasFirst = (s & ONE) != 0;
+    if (head == null)
+    {
+      if (hasFirst)
+      {
+        firstContext.dispatch(this, firstHandler);
+      }
+      return;
+    }
+
+    //the stack is in reverse registration order
+    Node<T> ordered = null;
+    while (head != null)
+    {
+      Node<T> next = head.next;
+      head.next = ordered;
+      ordered = head;
+      head = next;
+    }
+
+    //group the nodes by context, a group is a chain of nodes linked by next, the groups are linked by nextGroup
+    Node<T> firstTail = null;
+    Node<T> groups = null;
+    for (Node<T> node = ordered; node != null; )
+    {
+      Node<T> next = node.next;
+      node.next = null;
+      if (hasFirst && node.context == firstContext)
+      {
+        if (firstTail == null)
+        {
+          firstGroup = node;
+        }
+        else
+        {
+          firstTail.next = node;
+        }
+        firstTail = node;
+      }
+      else
+      {
+        Node<T> group = groups;
+        while (group != null && group.context != node.context)
+        {
+          group = group.nextGroup;
+        }
+        if (group == null)
+        {
+          node.tail = node;
+          node.nextGroup = groups;
+          groups = node;
+        }
+        else
+        {
+          group.tail.next = node;
+          group.tail = node;
+        }
+      }
+      node = next;
+    }
+
+    if (hasFirst)
+    {
+      if (firstGroup == null)
+      {
+        firstContext.dispatch(this, firstHandler);
+      }
+      else
+      {
+        firstContext.dispatch(this, FIRST_GROUP);
+      }
+    }
+    while (groups != null)
+    {
+      Node<T> next = groups.nextGroup;
+      groups.nextGroup = null;
+      if (groups.next == null)
+      {
+        groups.context.dispatch(this, groups.handler);
+      }
+      else
+      {
+        groups.context.dispatch(groups, GROUP);
+      }
+      groups = next;
+    }
+  }
+
+  private static <T> void runFirstGroup(FutureLockFreeMultiHandler<T> future)
+  {
+    try
+    {
+      future.firstHandler.handle(future);
+    }
+    catch (Throwable t)
+    {
+      future.firstContext.reportException(t);
+    }
+    runGroup(future.firstGroup);
+  }
+
+  private static <T> void runGroup(Node<T> node)
+  {
+    //the handlers are independent, a failing handler must not prevent the next ones of its group from being called
+    for (; node != null; node = node.next)
+    {
+      try
+      {
+        node.handler.handle(node.future);
+      }
+      catch (Throwable t)
+      {
+        node.context.reportException(t);
+      }
+    }
+  }
+
+  @Override
+  public Future<T> future()
+  {
+    return this;
+  }
+
+  @Override
+  public String toString()
+  {
+    if (succeeded())
+    {
+      return "Future{result=" + result + "}";
+    }
+    if (failed())
+    {
+      return "Future{cause=" + error.getMessage() + "}";
+    }
+    return "Future{unresolved}";
+  }
+
+  private static final class Node<T>
+  {
+    private final FutureLockFreeMultiHandler<T> future;
+    private final Handler<AsyncResult<T>> handler;
+    private final ContextInternal context;
+    private Node<T> next;
+    private Node<T> nextGroup;
+    private Node<T> tail;
+
+    Node(FutureLockFreeMultiHandler<T> future, Handler<AsyncResult<T>> handler, ContextInternal context)
+    {
+      this.future = future;
+      this.handler = handler;
+      this.context = context;
+    }
+  }
+}
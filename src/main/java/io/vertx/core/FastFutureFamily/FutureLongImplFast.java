@@ -0,0 +1,96 @@
+package io.vertx.core.FastFutureFamily;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.FutureLong;
+import io.vertx.core.Handler;
+
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+
+public class FutureLongImplFast implements FutureLong
+{
+  private final long data;
+
+
+  public FutureLongImplFast(long data)
+  {
+    this.data = data;
+  }
+
+  @Override
+  public long getData()
+  {
+    return this.data;
+  }
+
+  @Override
+  public boolean isFastFuture()
+  {
+    return true;
+  }
+
+  @Override
+  public FutureLongImplFast onComplete(Handler<AsyncResult<Long>> handler)
+  {
+    //the handler wants an AsyncResult, so here we must box
+    handler.handle(Future.succeededFuture(this.data));
+    return this;
+  }
+
+  @Override
+  public FutureLongImplFast onComplete(Handler<AsyncResult<Long>> handler, long timeout)
+  {
+    //the result is there, we dont need to do more complex logic here
+    return onComplete(handler);
+  }
+
+  @Override
+  public FutureLongImplFast onSuccess(LongConsumer handler)
+  {
+    handler.accept(this.data);
+    return this;
+  }
+
+  @Override
+  public FutureLongImplFast onFailure(Handler<Throwable> handler)
+  {
+    //a fast future is always succeeded
+    return this;
+  }
+
+  @Override
+  public FutureLong map(LongUnaryOperator mapper)
+  {
+    long mapped;
+    try
+    {
+      mapped = mapper.applyAsLong(this.data);
+    }
+    catch (Throwable e)
+    {
+      return new FutureLongImplSlow(Future.failedFuture(e));
+    }
+    return new FutureLongImplFast(mapped);
+  }
+
+  @Override
+  public FutureLong compose(LongFunction<FutureLong> mapper)
+  {
+    try
+    {
+      return mapper.apply(this.data);
+    }
+    catch (Throwable e)
+    {
+      return new FutureLongImplSlow(Future.failedFuture(e));
+    }
+  }
+
+  @Override
+  public Future<Long> toFuture()
+  {
+    return Future.succeededFuture(this.data);
+  }
+}
@@ -0,0 +1,80 @@
+package io.vertx.core.FastFutureFamily;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.FutureLong;
+import io.vertx.core.Handler;
+
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+
+public class FutureLongImplSlow implements FutureLong
+{
+  private final Future<Long> slowFuture;
+
+
+  public FutureLongImplSlow(Future<Long> slowFuture)
+  {
+    this.slowFuture = slowFuture;
+  }
+
+  @Override
+  public long getData()
+  {
+    Long result = this.slowFuture.result();
+    return result != null ? result : 0L;
+  }
+
+  @Override
+  public boolean isFastFuture()
+  {
+    return false;
+  }
+
+  @Override
+  public FutureLongImplSlow onComplete(Handler<AsyncResult<Long>> handler)
+  {
+    this.slowFuture.onComplete(handler);
+    return this;
+  }
+
+  @Override
+  public FutureLongImplSlow onComplete(Handler<AsyncResult<Long>> handler, long timeout)
+  {
+    this.slowFuture.onComplete(handler, timeout);
+    return this;
+  }
+
+  @Override
+  public FutureLongImplSlow onSuccess(LongConsumer handler)
+  {
+    this.slowFuture.onSuccess(handler::accept);
+    return this;
+  }
+
+  @Override
+  public FutureLongImplSlow onFailure(Handler<Throwable> handler)
+  {
+    this.slowFuture.onFailure(handler);
+    return this;
+  }
+
+  @Override
+  public FutureLong map(LongUnaryOperator mapper)
+  {
+    return new FutureLongImplSlow(this.slowFuture.map(mapper::applyAsLong));
+  }
+
+  @Override
+  public FutureLong compose(LongFunction<FutureLong> mapper)
+  {
+    return new FutureLongImplSlow(this.slowFuture.compose(result -> mapper.apply(result).toFuture()));
+  }
+
+  @Override
+  public Future<Long> toFuture()
+  {
+    return this.slowFuture;
+  }
+}
@@ -24,7 +24,7 @@ public class TimeoutWrapperHandler<T> implements Handler<AsyncResult<T>>
 
     if(timeout<=0)return;
 
-    handlerContext.setTimer(timeout, h ->
+    timerId = handlerContext.setTimer(timeout, h ->
     {
       this.timeoutHandle(Future.failedFuture(new FutureTimeoutException()));
     });
@@ -36,7 +36,7 @@ public class TimeoutWrapperHandler<T> implements Handler<AsyncResult<T>>
     if (timerId != -1) throw new IllegalStateException("timeout is already started");
     if(timeout<=0)return;
 
-    handlerContext.setTimer(timeout, h ->
+    timerId = handlerContext.setTimer(timeout, h ->
     {
       this.timeoutHandle(Future.failedFuture(new FutureTimeoutException()));
     });
@@ -51,7 +51,10 @@ public class TimeoutWrapperHandler<T> implements Handler<AsyncResult<T>>
     {
       isFired = true;
       //handlerContext.cancelTimer(this.timerId); //method is missing in Context! //Todo
-      handlerContext.owner().cancelTimer(this.timerId);
+      if (this.timerId != -1)
+      {
+        handlerContext.owner().cancelTimer(this.timerId);
+      }
       handler.handle(event);
     }
   }
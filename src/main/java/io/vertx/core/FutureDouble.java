@@ -0,0 +1,72 @@
+package io.vertx.core;
+
+import io.vertx.core.FastFutureFamily.FutureDoubleImplFast;
+import io.vertx.core.FastFutureFamily.FutureDoubleImplSlow;
+
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * A future of a {@code double}, like {@link FutureBoolean} a result known synchronously is held by a fast future
+ * without boxing and without allocating a {@link Future}, the slow future wraps a {@code Future<Double>}.
+ * <p>
+ * The {@link #map}, {@link #compose} and {@link #onSuccess} operations of a fast future work on the {@code double}
+ * and return a fast future, only the slow futures box the value.
+ */
+public interface FutureDouble
+{
+
+	static FutureDouble createFastFutureDouble(double data)
+	{
+		return new FutureDoubleImplFast(data);
+	}
+
+	static FutureDouble createSlowFutureDouble(Future<Double> data)
+	{
+		return new FutureDoubleImplSlow(data);
+	}
+
+	static FutureDouble createSlowFutureDouble(Promise<Double> data)
+	{
+		return new FutureDoubleImplSlow(data.future());
+	}
+
+
+	/**
+	 * @return the data, for a slow future it is only meaningful once the future succeeded, else it is {@code 0D}
+	 */
+	public double getData();
+
+	public boolean isFastFuture();
+
+	public FutureDouble onComplete(Handler<AsyncResult<Double>> handler);
+
+	public FutureDouble onComplete(Handler<AsyncResult<Double>> handler, long timeout);
+
+	/**
+	 * Call the handler with the unboxed result when the future succeeds.
+	 */
+	public FutureDouble onSuccess(DoubleConsumer handler);
+
+	/**
+	 * Call the handler when the future fails, a fast future never fails.
+	 */
+	public FutureDouble onFailure(Handler<Throwable> handler);
+
+	/**
+	 * Map the result of this future, a failure of the mapper fails the returned future.
+	 */
+	public FutureDouble map(DoubleUnaryOperator mapper);
+
+	/**
+	 * Compose this future with the future returned by the mapper, a failure of the mapper fails the returned future.
+	 */
+	public FutureDouble compose(DoubleFunction<FutureDouble> mapper);
+
+	/**
+	 * @return this future as a {@code Future<Double>}, a fast future boxes its data in a succeeded future
+	 */
+	public Future<Double> toFuture();
+
+}
@@ -0,0 +1,72 @@
+package io.vertx.core;
+
+import io.vertx.core.FastFutureFamily.FutureIntImplFast;
+import io.vertx.core.FastFutureFamily.FutureIntImplSlow;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A future of a {@code int}, like {@link FutureBoolean} a result known synchronously is held by a fast future
+ * without boxing and without allocating a {@link Future}, the slow future wraps a {@code Future<Integer>}.
+ * <p>
+ * The {@link #map}, {@link #compose} and {@link #onSuccess} operations of a fast future work on the {@code int}
+ * and return a fast future, only the slow futures box the value.
+ */
+public interface FutureInt
+{
+
+	static FutureInt createFastFutureInt(int data)
+	{
+		return new FutureIntImplFast(data);
+	}
+
+	static FutureInt createSlowFutureInt(Future<Integer> data)
+	{
+		return new FutureIntImplSlow(data);
+	}
+
+	static FutureInt createSlowFutureInt(Promise<Integer> data)
+	{
+		return new FutureIntImplSlow(data.future());
+	}
+
+
+	/**
+	 * @return the data, for a slow future it is only meaningful once the future succeeded, else it is {@code 0}
+	 */
+	public int getData();
+
+	public boolean isFastFuture();
+
+	public FutureInt onComplete(Handler<AsyncResult<Integer>> handler);
+
+	public FutureInt onComplete(Handler<AsyncResult<Integer>> handler, long timeout);
+
+	/**
+	 * Call the handler with the unboxed result when the future succeeds.
+	 */
+	public FutureInt onSuccess(IntConsumer handler);
+
+	/**
+	 * Call the handler when the future fails, a fast future never fails.
+	 */
+	public FutureInt onFailure(Handler<Throwable> handler);
+
+	/**
+	 * Map the result of this future, a failure of the mapper fails the returned future.
+	 */
+	public FutureInt map(IntUnaryOperator mapper);
+
+	/**
+	 * Compose this future with the future returned by the mapper, a failure of the mapper fails the returned future.
+	 */
+	public FutureInt compose(IntFunction<FutureInt> mapper);
+
+	/**
+	 * @return this future as a {@code Future<Integer>}, a fast future boxes its data in a succeeded future
+	 */
+	public Future<Integer> toFuture();
+
+}
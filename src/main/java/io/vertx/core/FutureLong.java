@@ -0,0 +1,72 @@
+package io.vertx.core;
+
+import io.vertx.core.FastFutureFamily.FutureLongImplFast;
+import io.vertx.core.FastFutureFamily.FutureLongImplSlow;
+
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * A future of a {@code long}, like {@link FutureBoolean} a result known synchronously is held by a fast future
+ * without boxing and without allocating a {@link Future}, the slow future wraps a {@code Future<Long>}.
+ * <p>
+ * The {@link #map}, {@link #compose} and {@link #onSuccess} operations of a fast future work on the {@code long}
+ * and return a fast future, only the slow futures box the value.
+ */
+public interface FutureLong
+{
+
+	static FutureLong createFastFutureLong(long data)
+	{
+		return new FutureLongImplFast(data);
+	}
+
+	static FutureLong createSlowFutureLong(Future<Long> data)
+	{
+		return new FutureLongImplSlow(data);
+	}
+
+	static FutureLong createSlowFutureLong(Promise<Long> data)
+	{
+		return new FutureLongImplSlow(data.future());
+	}
+
+
+	/**
+	 * @return the data, for a slow future it is only meaningful once the future succeeded, else it is {@code 0L}
+	 */
+	public long getData();
+
+	public boolean isFastFuture();
+
+	public FutureLong onComplete(Handler<AsyncResult<Long>> handler);
+
+	public FutureLong onComplete(Handler<AsyncResult<Long>> handler, long timeout);
+
+	/**
+	 * Call the handler with the unboxed result when the future succeeds.
+	 */
+	public FutureLong onSuccess(LongConsumer handler);
+
+	/**
+	 * Call the handler when the future fails, a fast future never fails.
+	 */
+	public FutureLong onFailure(Handler<Throwable> handler);
+
+	/**
+	 * Map the result of this future, a failure of the mapper fails the returned future.
+	 */
+	public FutureLong map(LongUnaryOperator mapper);
+
+	/**
+	 * Compose this future with the future returned by the mapper, a failure of the mapper fails the returned future.
+	 */
+	public FutureLong compose(LongFunction<FutureLong> mapper);
+
+	/**
+	 * @return this future as a {@code Future<Long>}, a fast future boxes its data in a succeeded future
+	 */
+	public Future<Long> toFuture();
+
+}
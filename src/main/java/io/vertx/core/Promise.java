@@ -67,6 +67,11 @@ public interface Promise<T> extends Handler<AsyncResult<T>> {
     return factory.futureNormal(vertx);
   }
 
+  static <T> Promise<T> futureLockFree(VertxInternal vertx)
+  {
+    return factory.futureLockFree(vertx);
+  }
+
 
   /**
    * Succeed or fail this promise with the {@link AsyncResult} event.
@@ -655,6 +655,8 @@ public interface Vertx extends Measured {
 
    <T> Promise<T> futureNormal();
 
+   <T> Promise<T> futureLockFree();
+
 
 
 }
@@ -155,6 +155,21 @@ public class VertxOptions {
    */
   public static final boolean DEFAULT_PREFER_NATIVE_TRANSPORT = false;
 
+  /**
+   * The default value of whether timers are driven by a per event loop timing wheel = false
+   */
+  public static final boolean DEFAULT_TIMER_WHEEL_ENABLED = false;
+
+  /**
+   * The default value of the timing wheel tick duration = 1 ms
+   */
+  public static final long DEFAULT_TIMER_WHEEL_TICK_DURATION = 1;
+
+  /**
+   * The default value of whether the calls between contexts are batched = false
+   */
+  public static final boolean DEFAULT_CONTEXT_CALL_BATCHING_ENABLED = false;
+
   /**
    * The default value of warning exception time 5000000000 ns (5 seconds)
    * If a thread is blocked longer than this threshold, the warning log
@@ -188,6 +203,9 @@ public class VertxOptions {
   private TimeUnit maxWorkerExecuteTimeUnit = DEFAULT_MAX_WORKER_EXECUTE_TIME_UNIT;
   private TimeUnit warningExceptionTimeUnit = DEFAULT_WARNING_EXCEPTION_TIME_UNIT;
   private TimeUnit blockedThreadCheckIntervalUnit = DEFAULT_BLOCKED_THREAD_CHECK_INTERVAL_UNIT;
+  private boolean timerWheelEnabled = DEFAULT_TIMER_WHEEL_ENABLED;
+  private long timerWheelTickDuration = DEFAULT_TIMER_WHEEL_TICK_DURATION;
+  private boolean contextCallBatchingEnabled = DEFAULT_CONTEXT_CALL_BATCHING_ENABLED;
 
   /**
    * Default constructor
@@ -221,6 +239,9 @@ public class VertxOptions {
     this.warningExceptionTimeUnit = other.warningExceptionTimeUnit;
     this.blockedThreadCheckIntervalUnit = other.blockedThreadCheckIntervalUnit;
     this.tracingOptions = other.tracingOptions != null ? other.tracingOptions.copy() : null;
+    this.timerWheelEnabled = other.timerWheelEnabled;
+    this.timerWheelTickDuration = other.timerWheelTickDuration;
+    this.contextCallBatchingEnabled = other.contextCallBatchingEnabled;
   }
 
   /**
@@ -870,6 +891,72 @@ public class VertxOptions {
     return this;
   }
 
+  /**
+   * @return whether timers are driven by a per event loop timing wheel
+   */
+  public boolean isTimerWheelEnabled() {
+    return timerWheelEnabled;
+  }
+
+  /**
+   * Set whether timers are driven by a per event loop timing wheel instead of being scheduled one by one on the event loop.
+   * <p>
+   * The timing wheel trades timer accuracy (timers fire on a tick boundary) for constant time scheduling and cancellation,
+   * it is worth enabling when a large number of short-lived timers are created, e.g. timeouts that are usually cancelled.
+   *
+   * @param timerWheelEnabled {@code true} to use a timing wheel
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setTimerWheelEnabled(boolean timerWheelEnabled) {
+    this.timerWheelEnabled = timerWheelEnabled;
+    return this;
+  }
+
+  /**
+   * @return the tick duration of the timing wheel, in ms
+   */
+  public long getTimerWheelTickDuration() {
+    return timerWheelTickDuration;
+  }
+
+  /**
+   * Set the tick duration of the timing wheel, in ms. This is the resolution of the timers when the timing wheel is enabled.
+   * <p>
+   * The default value is {@code 1}.
+   *
+   * @param timerWheelTickDuration the tick duration in ms
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setTimerWheelTickDuration(long timerWheelTickDuration) {
+    if (timerWheelTickDuration < 1) {
+      throw new IllegalArgumentException("timerWheelTickDuration must be > 0");
+    }
+    this.timerWheelTickDuration = timerWheelTickDuration;
+    return this;
+  }
+
+  /**
+   * @return whether the calls between contexts are batched
+   */
+  public boolean isContextCallBatchingEnabled() {
+    return contextCallBatchingEnabled;
+  }
+
+  /**
+   * Set whether the calls a context makes to another context with {@link Context#run} and {@link Context#runAndGetFuture}
+   * are batched.
+   * <p>
+   * When batching is enabled, the calls from a context to another context are queued in a mailbox and executed by a single
+   * task on the target context, their completions are sent back to the caller context in a single task.
+   *
+   * @param contextCallBatchingEnabled {@code true} to batch the calls
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setContextCallBatchingEnabled(boolean contextCallBatchingEnabled) {
+    this.contextCallBatchingEnabled = contextCallBatchingEnabled;
+    return this;
+  }
+
   public TracingOptions getTracingOptions() {
     return tracingOptions;
   }
@@ -909,6 +996,9 @@ public class VertxOptions {
         ", eventbus=" + eventBusOptions.toJson() +
         ", warningExceptionTimeUnit=" + warningExceptionTimeUnit +
         ", warningExceptionTime=" + warningExceptionTime +
+        ", timerWheelEnabled=" + timerWheelEnabled +
+        ", timerWheelTickDuration=" + timerWheelTickDuration +
+        ", contextCallBatchingEnabled=" + contextCallBatchingEnabled +
         '}';
   }
 }
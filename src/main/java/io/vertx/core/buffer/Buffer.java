@@ -685,6 +685,19 @@ public interface Buffer extends ClusterSerializable, Shareable {
    */
   Buffer copy();
 
+  /**
+   * Returns a read-only copy of the entire Buffer.<p>
+   * The content is copied once, any attempt to modify the returned buffer throws a {@link java.nio.ReadOnlyBufferException}.
+   * The returned buffer is not copied when it is put in or read from a {@link io.vertx.core.shareddata.LocalMap}, unlike
+   * other read-only buffers which might be views of a buffer that is still written to.
+   */
+  Buffer readOnlyCopy();
+
+  /**
+   * @return {@code true} if the buffer content cannot be modified
+   */
+  boolean isReadOnly();
+
   /**
    * Returns a slice of this buffer. Modifying the content
    * of the returned buffer or this buffer affects each other's content
@@ -66,6 +66,8 @@ public class BufferImpl implements Buffer {
   }
 
   private ByteBuf buffer;
+  // only set by readOnlyCopy, a read-only buffer can still be a view of a buffer written to
+  private boolean immutable;
 
   public BufferImpl() {
     this(0);
@@ -493,6 +495,29 @@ public class BufferImpl implements Buffer {
     return new BufferImpl(buffer.copy());
   }
 
+  public Buffer readOnlyCopy() {
+    BufferImpl copy;
+    if (immutable) {
+      // The content cannot change, sharing it is enough
+      copy = new BufferImpl(buffer.duplicate());
+    } else {
+      copy = new BufferImpl(buffer.copy().asReadOnly());
+    }
+    copy.immutable = true;
+    return copy;
+  }
+
+  /**
+   * @return {@code true} if the buffer is a {@link #readOnlyCopy()}, the content of the buffer never changes
+   */
+  public boolean isImmutable() {
+    return immutable;
+  }
+
+  public boolean isReadOnly() {
+    return buffer.isReadOnly();
+  }
+
   public Buffer slice() {
     return new BufferImpl(buffer.slice());
   }
@@ -65,11 +65,17 @@ public class EventBusOptions extends TCPSSLOptions {
    */
   public static final long DEFAULT_CLUSTER_PING_REPLY_INTERVAL = VertxOptions.DEFAULT_CLUSTER_PING_REPLY_INTERVAL;
 
+  /**
+   * The default high-water mark of the queue of messages written to a cluster node = 65536.
+   */
+  public static final int DEFAULT_CLUSTER_WRITE_QUEUE_HIGH_WATER_MARK = 65536;
+
   private boolean clustered = DEFAULT_CLUSTERED;
   private String clusterPublicHost = DEFAULT_CLUSTER_PUBLIC_HOST;
   private int clusterPublicPort = DEFAULT_CLUSTER_PUBLIC_PORT;
   private long clusterPingInterval = DEFAULT_CLUSTER_PING_INTERVAL;
   private long clusterPingReplyInterval = DEFAULT_CLUSTER_PING_REPLY_INTERVAL;
+  private int clusterWriteQueueHighWaterMark = DEFAULT_CLUSTER_WRITE_QUEUE_HIGH_WATER_MARK;
 
   // Attributes used to configure the server of the event bus when the event bus is clustered.
 
@@ -159,6 +165,7 @@ public class EventBusOptions extends TCPSSLOptions {
     this.clusterPublicPort = other.clusterPublicPort;
     this.clusterPingInterval = other.clusterPingInterval;
     this.clusterPingReplyInterval = other.clusterPingReplyInterval;
+    this.clusterWriteQueueHighWaterMark = other.clusterWriteQueueHighWaterMark;
 
     this.port = other.port;
     this.host = other.host;
@@ -619,6 +626,33 @@ public class EventBusOptions extends TCPSSLOptions {
     return this;
   }
 
+  /**
+   * Get the high-water mark of the queue of messages written to a cluster node.
+   *
+   * @return the high-water mark of the cluster write queue
+   */
+  public int getClusterWriteQueueHighWaterMark() {
+    return clusterWriteQueueHighWaterMark;
+  }
+
+  /**
+   * Set the high-water mark of the queue of messages written to a cluster node.
+   * <p>
+   * The messages sent to a node are queued and written in batches by the event loop of the connection to the node.
+   * When the connection cannot keep up and the queue reaches this size, the messages sent to the node are failed
+   * until the queue is drained below it.
+   *
+   * @param clusterWriteQueueHighWaterMark the high-water mark of the cluster write queue
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EventBusOptions setClusterWriteQueueHighWaterMark(int clusterWriteQueueHighWaterMark) {
+    if (clusterWriteQueueHighWaterMark < 1) {
+      throw new IllegalArgumentException("clusterWriteQueueHighWaterMark must be greater than 0");
+    }
+    this.clusterWriteQueueHighWaterMark = clusterWriteQueueHighWaterMark;
+    return this;
+  }
+
   /**
    * Get the public facing host to be used when clustering.
    *
@@ -11,6 +11,7 @@
 
 package io.vertx.core.eventbus.impl;
 
+import io.netty.channel.EventLoop;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Closeable;
 import io.vertx.core.Context;
@@ -32,7 +33,6 @@ import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * A local event bus implementation
@@ -43,9 +43,13 @@ public class EventBusImpl implements EventBus, MetricsProvider {
 
   static final Logger log = LoggerFactory.getLogger(EventBusImpl.class);
 
+  public static final String REPLY_ADDRESS_PREFIX = "__vertx.reply.";
+
   private final List<Handler<DeliveryContext>> sendInterceptors = new CopyOnWriteArrayList<>();
   private final List<Handler<DeliveryContext>> receiveInterceptors = new CopyOnWriteArrayList<>();
-  private final AtomicLong replySequence = new AtomicLong(0);
+  private final ConcurrentMap<EventLoop, ReplyTable> replyTables = new ConcurrentHashMap<>();
+  // the reply tables by index - 1
+  private volatile ReplyTable[] replyTablesByIndex = new ReplyTable[0];
   protected final VertxInternal vertx;
   protected final EventBusMetrics metrics;
   protected final ConcurrentMap<String, ConcurrentCyclicSequence<HandlerHolder>> handlerMap = new ConcurrentHashMap<>();
@@ -175,6 +179,16 @@ public class EventBusImpl implements EventBus, MetricsProvider {
     return new MessageConsumerImpl<>(vertx, vertx.getOrCreateContext(), this, address,  true);
   }
 
+  /**
+   * Like {@link #localConsumer(String)} but the consumer is bound to the given {@code context} instead of the
+   * current context, so it can be created from any thread.
+   */
+  public <T> MessageConsumer<T> localConsumer(ContextInternal context, String address) {
+    checkStarted();
+    Objects.requireNonNull(address, "address");
+    return new MessageConsumerImpl<>(vertx, context, this, address,  true);
+  }
+
   @Override
   public <T> MessageConsumer<T> localConsumer(String address, Handler<Message<T>> handler) {
     Objects.requireNonNull(handler, "handler");
@@ -334,6 +348,13 @@ public class EventBusImpl implements EventBus, MetricsProvider {
   }
 
   private <T> void sendLocally(OutboundDeliveryContext<T> sendContext) {
+    long replyId = replyId(sendContext.message.address());
+    ReplyTable table = replyTable(replyId);
+    if (table != null) {
+      // The handler is only known on the event loop of its table, so is the outcome of the write
+      deliverReply(sendContext.message, table, replyId, sendContext::written);
+      return;
+    }
     ReplyException failure = deliverMessageLocally(sendContext.message);
     if (failure != null) {
       sendContext.written(failure);
@@ -347,6 +368,12 @@ public class EventBusImpl implements EventBus, MetricsProvider {
   }
 
   protected ReplyException deliverMessageLocally(MessageImpl msg) {
+    long replyId = replyId(msg.address());
+    ReplyTable table = replyTable(replyId);
+    if (table != null) {
+      deliverReply(msg, table, replyId, null);
+      return null;
+    }
     ConcurrentCyclicSequence<HandlerHolder> handlers = handlerMap.get(msg.address());
     if (handlers != null) {
       if (msg.isSend()) {
@@ -384,17 +411,108 @@ public class EventBusImpl implements EventBus, MetricsProvider {
     }
   }
 
-  protected String generateReplyAddress() {
-    return "__vertx.reply." + Long.toString(replySequence.incrementAndGet());
+  /**
+   * Generate the address of a reply handler, it must start with {@link #REPLY_ADDRESS_PREFIX} followed by the
+   * {@code replyId} and optionally by a dot and any suffix.
+   *
+   * @param replyId the reply correlation id
+   */
+  protected String generateReplyAddress(long replyId) {
+    return REPLY_ADDRESS_PREFIX + replyId;
+  }
+
+  /**
+   * @return the reply correlation id of the {@code address} or {@code 0} when it is not a reply address
+   */
+  static long replyId(String address) {
+    if (!address.startsWith(REPLY_ADDRESS_PREFIX)) {
+      return 0;
+    }
+    int start = REPLY_ADDRESS_PREFIX.length();
+    int end = start;
+    long id = 0;
+    while (end < address.length() && end - start < 18) {
+      char c = address.charAt(end);
+      if (c < '0' || c > '9') {
+        break;
+      }
+      id = id * 10 + (c - '0');
+      end++;
+    }
+    if (end == start || (end < address.length() && address.charAt(end) != '.')) {
+      return 0;
+    }
+    return id;
+  }
+
+  /**
+   * @return the table of the reply correlation id or {@code null} when the id is not one of a table
+   */
+  private ReplyTable replyTable(long replyId) {
+    if (replyId != 0) {
+      ReplyTable[] tables = replyTablesByIndex;
+      int index = (int) (replyId >>> ReplyTable.INDEX_SHIFT);
+      if (index > 0 && index <= tables.length) {
+        return tables[index - 1];
+      }
+    }
+    return null;
+  }
+
+  private ReplyTable replyTable(EventLoop eventLoop) {
+    ReplyTable table = replyTables.get(eventLoop);
+    if (table == null) {
+      synchronized (replyTables) {
+        table = replyTables.get(eventLoop);
+        if (table == null) {
+          ReplyTable[] tables = Arrays.copyOf(replyTablesByIndex, replyTablesByIndex.length + 1);
+          table = new ReplyTable(tables.length, eventLoop);
+          tables[tables.length - 1] = table;
+          replyTablesByIndex = tables;
+          replyTables.put(eventLoop, table);
+        }
+      }
+    }
+    return table;
+  }
+
+  /**
+   * Deliver a reply to its handler on the event loop of its table.
+   *
+   * @param written called on the event loop with the failure of the delivery, {@code null} when it is delivered
+   */
+  private void deliverReply(MessageImpl msg, ReplyTable table, long replyId, Handler<Throwable> written) {
+    boolean local = isMessageLocal(msg);
+    MessageImpl copied = msg.copyBeforeReceive();
+    table.eventLoop.execute(() -> {
+      ReplyHandler handler = table.take(replyId, copied.address());
+      if (metrics != null) {
+        metrics.messageReceived(copied.address(), !copied.isSend(), local, handler != null ? 1 : 0);
+      }
+      if (written != null) {
+        // The handler timed out or was unregistered
+        written.handle(handler != null ? null : new ReplyException(ReplyFailure.NO_HANDLERS, "No handlers for address " + copied.address()));
+      }
+      if (handler != null) {
+        try {
+          handler.receive(copied);
+        } finally {
+          handler.unregister();
+        }
+      }
+    });
   }
 
   <T> ReplyHandler<T> createReplyHandler(MessageImpl message,
                                                  boolean src,
                                                  DeliveryOptions options) {
     long timeout = options.getSendTimeout();
-    String replyAddress = generateReplyAddress();
+    ContextInternal ctx = vertx.getOrCreateContext();
+    ReplyTable table = replyTable(ctx.nettyEventLoop());
+    long replyId = table.nextId();
+    String replyAddress = generateReplyAddress(replyId);
     message.setReplyAddress(replyAddress);
-    ReplyHandler<T> handler = new ReplyHandler<>(this, vertx.getOrCreateContext(), replyAddress, message.address, src, timeout);
+    ReplyHandler<T> handler = new ReplyHandler<>(this, ctx, table, replyId, replyAddress, message.address, src, timeout);
     handler.register();
     return handler;
   }
@@ -34,6 +34,7 @@ abstract class HandlerRegistration<T> {
   public final String address;
   public final boolean src;
   private HandlerHolder<T> registered;
+  private boolean metricRegistered;
   private Object metric;
 
   HandlerRegistration(ContextInternal context,
@@ -63,9 +64,23 @@ abstract class HandlerRegistration<T> {
     if (registered != null) {
       throw new IllegalStateException();
     }
+    // The metric must be set before a message can be delivered to the handler
+    registerMetric(repliedAddress);
     registered = bus.addRegistration(address, this, repliedAddress != null, localOnly, promise);
-    if (bus.metrics != null) {
+  }
+
+  synchronized void registerMetric(String repliedAddress) {
+    if (bus.metrics != null && !metricRegistered) {
       metric = bus.metrics.handlerRegistered(address, repliedAddress);
+      metricRegistered = true;
+    }
+  }
+
+  synchronized void unregisterMetric() {
+    if (metricRegistered) {
+      bus.metrics.handlerUnregistered(metric);
+      metricRegistered = false;
+      metric = null;
     }
   }
 
@@ -79,10 +94,7 @@ abstract class HandlerRegistration<T> {
       if (registered != null) {
         bus.removeRegistration(registered, promise);
         registered = null;
-        if (bus.metrics != null) {
-          bus.metrics.handlerUnregistered(metric);
-          metric = null;
-        }
+        unregisterMetric();
       } else {
         promise.complete();
       }
@@ -156,7 +168,7 @@ abstract class HandlerRegistration<T> {
         if (tracer != null && !src) {
           message.trace = tracer.receiveRequest(context, message, message.isSend() ? "send" : "publish", message.headers, MessageTagExtractor.INSTANCE);
           HandlerRegistration.this.dispatch(message, context, handler);
-          if (message.replyAddress == null) {
+          if (message.replyAddress() == null) {
             tracer.sendResponse(context, null, message.trace, null, TagExtractor.empty());
           }
         } else {
@@ -104,7 +104,7 @@ public class MessageImpl<U, V> implements Message<V> {
 
   @Override
   public void reply(Object message, DeliveryOptions options) {
-    if (replyAddress != null) {
+    if (replyAddress() != null) {
       MessageImpl reply = createReply(message, options);
       bus.sendReply(reply, options, null);
     }
@@ -112,7 +112,7 @@ public class MessageImpl<U, V> implements Message<V> {
 
   @Override
   public <R> Future<Message<R>> replyAndRequest(Object message, DeliveryOptions options) {
-    if (replyAddress != null) {
+    if (replyAddress() != null) {
       MessageImpl reply = createReply(message, options);
       ReplyHandler<R> handler = bus.createReplyHandler(reply, false, options);
       bus.sendReply(reply, options, handler);
@@ -123,7 +123,7 @@ public class MessageImpl<U, V> implements Message<V> {
   }
 
   protected MessageImpl createReply(Object message, DeliveryOptions options) {
-    MessageImpl reply = bus.createMessage(true, replyAddress, options.getHeaders(), message, options.getCodecName());
+    MessageImpl reply = bus.createMessage(true, replyAddress(), options.getHeaders(), message, options.getCodecName());
     reply.trace = trace;
     return reply;
   }
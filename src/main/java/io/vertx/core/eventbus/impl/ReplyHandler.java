@@ -21,26 +21,41 @@ import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.spi.tracing.TagExtractor;
 import io.vertx.core.spi.tracing.VertxTracer;
 
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A reply handler is not registered in the handler map, it waits in the {@link ReplyTable} of the event loop of its
+ * context until the reply is delivered or its deadline expires.
+ */
 class ReplyHandler<T> extends HandlerRegistration<T> {
 
+  // Keeps the deadline far from overflowing
+  private static final long MAX_TIMEOUT = TimeUnit.DAYS.toMillis(365 * 100);
+
   private final EventBusImpl eventBus;
   private final ContextInternal context;
   private final Promise<Message<T>> result;
-  private final long timeoutID;
+  private final long timeout;
   private final boolean src;
   private final String repliedAddress;
+  final ReplyTable table;
+  final long id;
+  final long deadline;
+  // the position in the deadline heap of the table, only accessed from its event loop
+  int heapIndex;
   Object trace;
 
-  ReplyHandler(EventBusImpl eventBus, ContextInternal context, String address, String repliedAddress, boolean src, long timeout) {
+  ReplyHandler(EventBusImpl eventBus, ContextInternal context, ReplyTable table, long id, String address, String repliedAddress, boolean src, long timeout) {
     super(context, eventBus, address, src);
     this.eventBus = eventBus;
     this.context = context;
     this.result = context.promise();
     this.src = src;
     this.repliedAddress = repliedAddress;
-    this.timeoutID = eventBus.vertx.setTimer(timeout, id -> {
-      fail(new ReplyException(ReplyFailure.TIMEOUT, "Timed out after waiting " + timeout + "(ms) for a reply. address: " + address + ", repliedAddress: " + repliedAddress));
-    });
+    this.table = table;
+    this.id = id;
+    this.timeout = timeout;
+    this.deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.min(timeout, MAX_TIMEOUT));
   }
 
   private void trace(Object reply, Throwable failure) {
@@ -54,8 +69,12 @@ class ReplyHandler<T> extends HandlerRegistration<T> {
     return result.future();
   }
 
+  void timeout() {
+    fail(new ReplyException(ReplyFailure.TIMEOUT, "Timed out after waiting " + timeout + "(ms) for a reply. address: " + address + ", repliedAddress: " + repliedAddress));
+  }
+
   void fail(ReplyException failure) {
-    unregister(ar -> {});
+    unregister();
     if (eventBus.metrics != null) {
       eventBus.metrics.replyFailure(repliedAddress, failure.failureType());
     }
@@ -74,18 +93,25 @@ class ReplyHandler<T> extends HandlerRegistration<T> {
   }
 
   void register() {
-    register(repliedAddress, true, ar -> {});
+    registerMetric(repliedAddress);
+    table.add(this);
+  }
+
+  @Override
+  public Future<Void> unregister() {
+    table.remove(this);
+    unregisterMetric();
+    return context.succeededFuture();
   }
 
   @Override
   protected void dispatch(Message<T> reply, ContextInternal context, Handler<Message<T>> handler /* null */) {
-    eventBus.vertx.cancelTimer(timeoutID);
     if (reply.body() instanceof ReplyException) {
       // This is kind of clunky - but hey-ho
       fail((ReplyException) reply.body());
     } else {
       trace(reply, null);
-      result.complete(reply);
+      result.tryComplete(reply);
     }
   }
 }
@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.eventbus.impl;
+
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.ScheduledFuture;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The reply handlers of an event loop waiting for a reply, indexed by their correlation id.
+ * <p>
+ * The id of a handler carries the index of its table in its high bits, so a reply finds the table without any
+ * lookup in the handler map. A table is only accessed from its event loop: a handler added or removed from another
+ * thread is added or removed by a task of the event loop, which always runs before the task delivering its reply.
+ * <p>
+ * The handlers are stored in an open-addressing table with linear probing. Instead of a timer per handler, a single
+ * task is scheduled at the earliest deadline and fails all the expired handlers at once. The handlers are also kept
+ * in a binary heap ordered by deadline, each handler knowing its position in the heap, so adding or removing a handler
+ * is {@code O(log n)} and a sweep only visits the expired handlers.
+ */
+final class ReplyTable {
+
+  static final int INDEX_SHIFT = 48;
+  private static final long SEQUENCE_MASK = (1L << INDEX_SHIFT) - 1;
+  private static final int INITIAL_CAPACITY = 64;
+
+  final int index;
+  final EventLoop eventLoop;
+  private final AtomicLong sequence = new AtomicLong();
+  // 0 marks an empty slot, the index of a table is never 0 so neither is an id
+  private long[] ids = new long[INITIAL_CAPACITY];
+  private ReplyHandler<?>[] handlers = new ReplyHandler<?>[INITIAL_CAPACITY];
+  private int size;
+  // The handlers ordered by deadline
+  private ReplyHandler<?>[] heap = new ReplyHandler<?>[INITIAL_CAPACITY];
+  private int heapSize;
+  private ScheduledFuture<?> sweepTask;
+  private long sweepDeadline;
+
+  ReplyTable(int index, EventLoop eventLoop) {
+    if (index <= 0) {
+      throw new IllegalArgumentException();
+    }
+    this.index = index;
+    this.eventLoop = eventLoop;
+  }
+
+  /**
+   * @return a new correlation id, can be called from any thread
+   */
+  long nextId() {
+    return ((long) index << INDEX_SHIFT) | (sequence.incrementAndGet() & SEQUENCE_MASK);
+  }
+
+  void add(ReplyHandler<?> handler) {
+    if (eventLoop.inEventLoop()) {
+      doAdd(handler);
+    } else {
+      eventLoop.execute(() -> doAdd(handler));
+    }
+  }
+
+  void remove(ReplyHandler<?> handler) {
+    if (eventLoop.inEventLoop()) {
+      doRemove(handler.id, null);
+    } else {
+      eventLoop.execute(() -> doRemove(handler.id, null));
+    }
+  }
+
+  /**
+   * Remove the handler of a reply, must be called from the event loop.
+   *
+   * @param id the correlation id of the reply
+   * @param address the reply address, it must match the address of the handler
+   * @return the handler or {@code null} when it is not waiting anymore
+   */
+  ReplyHandler<?> take(long id, String address) {
+    return doRemove(id, address);
+  }
+
+  private static int slot(long id, int mask) {
+    return (int) ((id * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+  }
+
+  private void doAdd(ReplyHandler<?> handler) {
+    if (size >= ids.length >> 1) {
+      resize();
+    }
+    insert(handler.id, handler);
+    size++;
+    heapAdd(handler);
+    schedule(handler.deadline);
+  }
+
+  private void insert(long id, ReplyHandler<?> handler) {
+    int mask = ids.length - 1;
+    int i = slot(id, mask);
+    while (ids[i] != 0) {
+      i = (i + 1) & mask;
+    }
+    ids[i] = id;
+    handlers[i] = handler;
+  }
+
+  private void resize() {
+    long[] prevIds = ids;
+    ReplyHandler<?>[] prevHandlers = handlers;
+    ids = new long[prevIds.length << 1];
+    handlers = new ReplyHandler<?>[prevIds.length << 1];
+    for (int i = 0;i < prevIds.length;i++) {
+      if (prevIds[i] != 0) {
+        insert(prevIds[i], prevHandlers[i]);
+      }
+    }
+  }
+
+  private ReplyHandler<?> doRemove(long id, String address) {
+    int mask = ids.length - 1;
+    int i = slot(id, mask);
+    while (ids[i] != 0) {
+      if (ids[i] == id) {
+        ReplyHandler<?> handler = handlers[i];
+        if (address != null && !address.equals(handler.address)) {
+          return null;
+        }
+        delete(i);
+        size--;
+        heapRemove(handler);
+        return handler;
+      }
+      i = (i + 1) & mask;
+    }
+    return null;
+  }
+
+  private void delete(int i) {
+    // Shift back the following entries of the run, so no tombstone is needed
+    int mask = ids.length - 1;
+    int j = i;
+    while (true) {
+      j = (j + 1) & mask;
+      if (ids[j] == 0) {
+        break;
+      }
+      int k = slot(ids[j], mask);
+      if (i <= j ? (i < k && k <= j) : (i < k || k <= j)) {
+        // The entry is still reachable from its slot
+        continue;
+      }
+      ids[i] = ids[j];
+      handlers[i] = handlers[j];
+      i = j;
+    }
+    ids[i] = 0;
+    handlers[i] = null;
+  }
+
+  private void schedule(long deadline) {
+    if (sweepTask == null || deadline - sweepDeadline < 0) {
+      if (sweepTask != null) {
+        sweepTask.cancel(false);
+      }
+      sweepDeadline = deadline;
+      sweepTask = eventLoop.schedule(this::sweep, Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private void sweep() {
+    sweepTask = null;
+    long now = System.nanoTime();
+    while (heapSize > 0 && heap[0].deadline - now <= 0) {
+      ReplyHandler<?> handler = heap[0];
+      doRemove(handler.id, null);
+      handler.timeout();
+    }
+    if (heapSize > 0) {
+      schedule(heap[0].deadline);
+    }
+  }
+
+  private void heapAdd(ReplyHandler<?> handler) {
+    if (heapSize == heap.length) {
+      heap = Arrays.copyOf(heap, heapSize << 1);
+    }
+    siftUp(heapSize++, handler);
+  }
+
+  private void heapRemove(ReplyHandler<?> handler) {
+    int i = handler.heapIndex;
+    ReplyHandler<?> last = heap[--heapSize];
+    heap[heapSize] = null;
+    if (last != handler) {
+      siftDown(i, last);
+      if (heap[i] == last) {
+        siftUp(i, last);
+      }
+    }
+  }
+
+  private void siftUp(int i, ReplyHandler<?> handler) {
+    while (i > 0) {
+      int parent = (i - 1) >>> 1;
+      ReplyHandler<?> p = heap[parent];
+      if (handler.deadline - p.deadline >= 0) {
+        break;
+      }
+      heap[i] = p;
+      p.heapIndex = i;
+      i = parent;
+    }
+    heap[i] = handler;
+    handler.heapIndex = i;
+  }
+
+  private void siftDown(int i, ReplyHandler<?> handler) {
+    int half = heapSize >>> 1;
+    while (i < half) {
+      int child = (i << 1) + 1;
+      ReplyHandler<?> c = heap[child];
+      int right = child + 1;
+      if (right < heapSize && heap[right].deadline - c.deadline < 0) {
+        child = right;
+        c = heap[right];
+      }
+      if (handler.deadline - c.deadline <= 0) {
+        break;
+      }
+      heap[i] = c;
+      c.heapIndex = i;
+      i = child;
+    }
+    heap[i] = handler;
+    handler.heapIndex = i;
+  }
+}
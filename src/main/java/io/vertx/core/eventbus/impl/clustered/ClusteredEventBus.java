@@ -28,7 +28,6 @@ import io.vertx.core.impl.logging.Logger;
 import io.vertx.core.impl.logging.LoggerFactory;
 import io.vertx.core.net.*;
 import io.vertx.core.net.impl.ServerID;
-import io.vertx.core.parsetools.RecordParser;
 import io.vertx.core.spi.cluster.AsyncMultiMap;
 import io.vertx.core.spi.cluster.ChoosableIterable;
 import io.vertx.core.spi.cluster.ClusterManager;
@@ -59,9 +58,12 @@ public class ClusteredEventBus extends EventBusImpl {
 
   private final ClusterManager clusterManager;
   private final ConcurrentMap<ServerID, ConnectionHolder> connections = new ConcurrentHashMap<>();
+  private final ClusteredMessageEncoder encoder = new ClusteredMessageEncoder();
 
   private EventBusOptions options;
   private AsyncMultiMap<String, ClusterNodeInfo> subs;
+  // null when the cluster manager does not notify the subscription changes
+  private volatile SubsCache subsCache;
   private Set<String> ownSubs = new ConcurrentHashSet<>();
   private ServerID serverID;
   private ClusterNodeInfo nodeInfo;
@@ -118,6 +120,23 @@ public class ClusteredEventBus extends EventBusImpl {
     clusterManager.<String, ClusterNodeInfo>getAsyncMultiMap(SUBS_MAP_NAME, ar1 -> {
       if (ar1.succeeded()) {
         subs = ar1.result();
+        SubsCache cache = new SubsCache(metrics, new SubsCache.Delivery() {
+          @Override
+          public void fetch(OutboundDeliveryContext<?> sendContext, Handler<AsyncResult<ChoosableIterable<ClusterNodeInfo>>> handler) {
+            fetchSubs(sendContext, handler);
+          }
+          @Override
+          public void deliver(ChoosableIterable<ClusterNodeInfo> serverIDs, OutboundDeliveryContext<?> sendContext) {
+            onSubsReceived(serverIDs, sendContext);
+          }
+          @Override
+          public void fail(Throwable cause, OutboundDeliveryContext<?> sendContext) {
+            onSubsFailed(cause, sendContext);
+          }
+        });
+        if (subs.changeHandler(cache::invalidate)) {
+          subsCache = cache;
+        }
         server = vertx.createNetServer(getServerOptions());
 
         server.connectHandler(getServerHandler());
@@ -188,6 +207,7 @@ public class ClusteredEventBus extends EventBusImpl {
       // Propagate the information
       subs.add(holder.address, nodeInfo, completionHandler);
       ownSubs.add(holder.address);
+      invalidateSubs(holder.address);
     } else {
       completionHandler.handle(Future.succeededFuture());
     }
@@ -197,6 +217,7 @@ public class ClusteredEventBus extends EventBusImpl {
   protected <T> void removeRegistration(HandlerHolder<T> lastHolder, String address, Promise<Void> completionHandler) {
     if (lastHolder != null && subs != null && !lastHolder.isLocalOnly()) {
       ownSubs.remove(address);
+      invalidateSubs(address);
       removeSub(address, nodeInfo, completionHandler);
     } else {
       completionHandler.complete();
@@ -208,37 +229,56 @@ public class ClusteredEventBus extends EventBusImpl {
     if (((ClusteredMessage) sendContext.message).getRepliedTo() != null) {
       clusteredSendReply(((ClusteredMessage) sendContext.message).getRepliedTo(), sendContext);
     } else {
+      SubsCache cache = subsCache;
       if (sendContext.options.isLocalOnly()) {
         super.sendOrPub(sendContext);
-      } else if (Vertx.currentContext() != sendContext.ctx) {
-        // Current event-loop might be null when sending from non vertx thread
-        sendContext.ctx.runOnContext(v -> {
-          subs.get(sendContext.message.address(), ar -> onSubsReceived(ar, sendContext));
-        });
+      } else if (cache != null) {
+        cache.send(sendContext);
       } else {
-        subs.get(sendContext.message.address(), ar -> onSubsReceived(ar, sendContext));
+        fetchSubs(sendContext, ar -> {
+          if (ar.succeeded()) {
+            onSubsReceived(ar.result(), sendContext);
+          } else {
+            onSubsFailed(ar.cause(), sendContext);
+          }
+        });
       }
     }
   }
 
-  private <T> void onSubsReceived(AsyncResult<ChoosableIterable<ClusterNodeInfo>> asyncResult, OutboundDeliveryContext<T> sendContext) {
-    if (asyncResult.succeeded()) {
-      ChoosableIterable<ClusterNodeInfo> serverIDs = asyncResult.result();
-      if (serverIDs != null && !serverIDs.isEmpty()) {
-        sendToSubs(serverIDs, sendContext);
-      } else {
-        super.sendOrPub(sendContext);
-      }
+  private void fetchSubs(OutboundDeliveryContext<?> sendContext, Handler<AsyncResult<ChoosableIterable<ClusterNodeInfo>>> handler) {
+    if (Vertx.currentContext() != sendContext.ctx) {
+      // Current event-loop might be null when sending from non vertx thread
+      sendContext.ctx.runOnContext(v -> subs.get(sendContext.message.address(), handler));
+    } else {
+      subs.get(sendContext.message.address(), handler);
+    }
+  }
+
+  private void onSubsFailed(Throwable cause, OutboundDeliveryContext<?> sendContext) {
+    log.error("Failed to send message", cause);
+    sendContext.written(cause);
+  }
+
+  private void onSubsReceived(ChoosableIterable<ClusterNodeInfo> serverIDs, OutboundDeliveryContext<?> sendContext) {
+    if (serverIDs != null && !serverIDs.isEmpty()) {
+      sendToSubs(serverIDs, sendContext);
     } else {
-      log.error("Failed to send message", asyncResult.cause());
-      sendContext.written(asyncResult.cause());
+      super.sendOrPub(sendContext);
+    }
+  }
+
+  private void invalidateSubs(String address) {
+    SubsCache cache = subsCache;
+    if (cache != null) {
+      cache.invalidate(address);
     }
   }
 
   @Override
-  protected String generateReplyAddress() {
-    // The address is a cryptographically secure id that can't be guessed
-    return "__vertx.reply." + UUID.randomUUID().toString();
+  protected String generateReplyAddress(long replyId) {
+    // The address has a cryptographically secure suffix that can't be guessed
+    return REPLY_ADDRESS_PREFIX + replyId + "." + UUID.randomUUID().toString();
   }
 
   @Override
@@ -249,6 +289,11 @@ public class ClusteredEventBus extends EventBusImpl {
 
   private void setClusterViewChangedHandler(HAManager haManager) {
     haManager.setClusterViewChangedHandler(members -> {
+      SubsCache cache = subsCache;
+      if (cache != null) {
+        // The subscribers of the nodes that left are removed below, the cluster manager might not notify it per address
+        cache.invalidateAll();
+      }
       ownSubs.forEach(address -> {
         subs.add(address, nodeInfo, addResult -> {
           if (addResult.failed()) {
@@ -261,6 +306,9 @@ public class ClusteredEventBus extends EventBusImpl {
         if (removeResult.failed()) {
           log.warn("Error removing subs", removeResult.cause());
         }
+        if (cache != null) {
+          cache.invalidateAll();
+        }
       });
     });
   }
@@ -286,33 +334,20 @@ public class ClusteredEventBus extends EventBusImpl {
 
   private Handler<NetSocket> getServerHandler() {
     return socket -> {
-      RecordParser parser = RecordParser.newFixed(4);
-      Handler<Buffer> handler = new Handler<Buffer>() {
-        int size = -1;
-
-        public void handle(Buffer buff) {
-          if (size == -1) {
-            size = buff.getInt(0);
-            parser.fixedSizeMode(size);
-          } else {
-            ClusteredMessage received = new ClusteredMessage(ClusteredEventBus.this);
-            received.readFromWire(buff, codecManager);
-            if (metrics != null) {
-              metrics.messageRead(received.address(), buff.length());
-            }
-            parser.fixedSizeMode(4);
-            size = -1;
-            if (received.codec() == CodecManager.PING_MESSAGE_CODEC) {
-              // Just send back pong directly on connection
-              socket.write(PONG);
-            } else {
-              deliverMessageLocally(received);
-            }
-          }
+      InternTable strings = new InternTable();
+      socket.handler(new ClusteredMessageParser(buff -> {
+        ClusteredMessage received = new ClusteredMessage(ClusteredEventBus.this);
+        received.readFromWire(buff, codecManager, strings);
+        if (metrics != null) {
+          metrics.messageRead(received.address(), buff.length());
         }
-      };
-      parser.setOutput(handler);
-      socket.handler(parser);
+        if (received.codec() == CodecManager.PING_MESSAGE_CODEC) {
+          // Just send back pong directly on connection
+          socket.write(PONG);
+        } else {
+          deliverMessageLocally(received);
+        }
+      }));
     };
   }
 
@@ -387,6 +422,10 @@ public class ClusteredEventBus extends EventBusImpl {
     return connections;
   }
 
+  ClusteredMessageEncoder encoder() {
+    return encoder;
+  }
+
   VertxInternal vertx() {
     return vertx;
   }
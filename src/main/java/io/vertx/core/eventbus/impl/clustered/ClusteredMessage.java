@@ -33,13 +33,16 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
 
   private static final Logger log = LoggerFactory.getLogger(ClusteredMessage.class);
 
-  private static final byte WIRE_PROTOCOL_VERSION = 1;
+  static final byte WIRE_PROTOCOL_VERSION = 1;
 
   private ServerID sender;
   private ServerID repliedTo;
   private Buffer wireBuffer;
   private int bodyPos;
   private int headersPos;
+  // The reply address and the sender of a message read from the wire are decoded on access
+  private int replyAddressPos;
+  private int senderPos;
   private boolean fromWire;
   private boolean toWire;
 
@@ -60,6 +63,8 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
       this.wireBuffer = other.wireBuffer;
       this.bodyPos = other.bodyPos;
       this.headersPos = other.headersPos;
+      this.replyAddressPos = other.replyAddressPos;
+      this.senderPos = other.senderPos;
     }
     this.fromWire = other.fromWire;
   }
@@ -67,7 +72,7 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
   @Override
   protected MessageImpl createReply(Object message, DeliveryOptions options) {
     ClusteredMessage reply = (ClusteredMessage) super.createReply(message, options);
-    reply.repliedTo = sender;
+    reply.repliedTo = getSender();
     return reply;
   }
 
@@ -102,9 +107,21 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
 
   @Override
   public String replyAddress() {
+    // Lazily decode the reply address
+    if (replyAddressPos != 0) {
+      int length = wireBuffer.getInt(replyAddressPos);
+      replyAddress = wireBuffer.getString(replyAddressPos + 4, replyAddressPos + 4 + length);
+      replyAddressPos = 0;
+    }
     return replyAddress;
   }
 
+  @Override
+  public void setReplyAddress(String replyAddress) {
+    replyAddressPos = 0;
+    super.setReplyAddress(replyAddress);
+  }
+
   public Buffer encodeToWire() {
     toWire = true;
     int length = 1024; // TODO make this configurable
@@ -133,6 +150,18 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
   }
 
   public void readFromWire(Buffer buffer, CodecManager codecManager) {
+    readFromWire(buffer, codecManager, null);
+  }
+
+  /**
+   * Read the message from the wire, only the codec and the address are decoded, the other fields are decoded on
+   * access from the buffer.
+   *
+   * @param buffer the buffer of the message, it must not be modified afterwards
+   * @param codecManager the codec manager
+   * @param strings the table of the known addresses and codec names or {@code null}
+   */
+  void readFromWire(Buffer buffer, CodecManager codecManager, InternTable strings) {
     int pos = 0;
     // Overall Length already read when passed in here
     byte protocolVersion = buffer.getByte(pos);
@@ -147,8 +176,7 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
       // User codec
       int length = buffer.getInt(pos);
       pos += 4;
-      byte[] bytes = buffer.getBytes(pos, pos + length);
-      String codecName = new String(bytes, CharsetUtil.UTF_8);
+      String codecName = readString(buffer, pos, length, strings);
       messageCodec = codecManager.getCodec(codecName);
       if (messageCodec == null) {
         throw new IllegalStateException("No message codec registered with name " + codecName);
@@ -162,32 +190,32 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
     pos++;
     int length = buffer.getInt(pos);
     pos += 4;
-    byte[] bytes = buffer.getBytes(pos, pos + length);
-    address = new String(bytes, CharsetUtil.UTF_8);
+    address = readString(buffer, pos, length, strings);
     pos += length;
     length = buffer.getInt(pos);
-    pos += 4;
     if (length != 0) {
-      bytes = buffer.getBytes(pos, pos + length);
-      replyAddress = new String(bytes, CharsetUtil.UTF_8);
-      pos += length;
+      replyAddressPos = pos;
     }
-    int senderPort = buffer.getInt(pos);
+    pos += 4 + length;
+    senderPos = pos;
     pos += 4;
     length = buffer.getInt(pos);
-    pos += 4;
-    bytes = buffer.getBytes(pos, pos + length);
-    String senderHost = new String(bytes, CharsetUtil.UTF_8);
-    pos += length;
+    pos += 4 + length;
     headersPos = pos;
     int headersLength = buffer.getInt(pos);
     pos += headersLength;
     bodyPos = pos;
-    sender = new ServerID(senderPort, senderHost);
     wireBuffer = buffer;
     fromWire = true;
   }
 
+  private static String readString(Buffer buffer, int pos, int length, InternTable strings) {
+    if (strings != null) {
+      return strings.get(buffer, pos, length);
+    }
+    return buffer.getString(pos, pos + length);
+  }
+
   private void decodeBody() {
     receivedBody = messageCodec.decodeFromWire(bodyPos, wireBuffer);
     bodyPos = 0;
@@ -238,6 +266,15 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
     messageCodec.encodeToWire(buff, sentBody);
   }
 
+  MultiMap encodedHeaders() {
+    return headers;
+  }
+
+  void encodeBody(Buffer buffer) {
+    toWire = true;
+    writeBody(buffer);
+  }
+
   private void writeString(Buffer buff, String str) {
     byte[] strBytes = str.getBytes(CharsetUtil.UTF_8);
     buff.appendInt(strBytes.length);
@@ -245,6 +282,13 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
   }
 
   ServerID getSender() {
+    // Lazily decode the sender
+    if (senderPos != 0) {
+      int port = wireBuffer.getInt(senderPos);
+      int length = wireBuffer.getInt(senderPos + 4);
+      sender = new ServerID(port, wireBuffer.getString(senderPos + 8, senderPos + 8 + length));
+      senderPos = 0;
+    }
     return sender;
   }
 
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.eventbus.impl.clustered;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.util.CharsetUtil;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.MessageCodec;
+import io.vertx.core.eventbus.impl.EventBusImpl;
+import io.vertx.core.net.impl.ServerID;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Encodes a {@link ClusteredMessage} in the same wire format as {@link ClusteredMessage#encodeToWire()}, directly in
+ * a buffer of a Netty allocator.
+ * <p>
+ * The strings that rarely change are encoded once: the address, the codec name and the sender. The capacity of the
+ * buffer is predicted from a running average of the size of the headers and body of the messages of each codec, so
+ * a message is usually encoded without growing its buffer.
+ * <p>
+ * An encoder is shared by the connections of a clustered event bus and can be used from any thread.
+ */
+public class ClusteredMessageEncoder {
+
+  static final int MAX_CACHED_ADDRESSES = 1024;
+  private static final int MIN_ESTIMATE = 64;
+
+  private static class SizeEstimate {
+    // racy updates are harmless, it is only a hint
+    volatile int value = MIN_ESTIMATE;
+
+    void update(int size) {
+      int v = value;
+      value = Math.max(MIN_ESTIMATE, v + ((size - v) >> 3));
+    }
+  }
+
+  private static class EncodedSender {
+    final ServerID serverID;
+    final byte[] bytes;
+
+    EncodedSender(ServerID serverID) {
+      byte[] host = serverID.host.getBytes(CharsetUtil.UTF_8);
+      this.serverID = serverID;
+      this.bytes = new byte[8 + host.length];
+      setInt(bytes, 0, serverID.port);
+      setInt(bytes, 4, host.length);
+      System.arraycopy(host, 0, bytes, 8, host.length);
+    }
+  }
+
+  private final ConcurrentMap<String, byte[]> addresses = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, byte[]> codecNames = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, SizeEstimate> estimates = new ConcurrentHashMap<>();
+  private volatile EncodedSender sender;
+
+  /**
+   * Encode a message.
+   *
+   * @param message the message
+   * @param allocator the allocator of the buffer
+   * @return the buffer, its ownership is transferred to the caller
+   */
+  public ByteBuf encode(ClusteredMessage<?, ?> message, ByteBufAllocator allocator) {
+    MessageCodec codec = message.codec();
+    SizeEstimate estimate = estimates.computeIfAbsent(codec.name(), n -> new SizeEstimate());
+    byte systemCodecID = codec.systemCodecID();
+    byte[] codecName = systemCodecID == -1 ? codecNames.computeIfAbsent(codec.name(), ClusteredMessageEncoder::encodeString) : null;
+    byte[] address = address(message.address());
+    String replyAddress = message.replyAddress();
+    byte[] sender = sender(message.getSender());
+    int prefixLength = 4 + 1 + 1 + (codecName != null ? codecName.length : 0) + 1 + address.length
+      + 4 + (replyAddress != null ? replyAddress.length() * 3 : 0) + sender.length;
+    ByteBuf buf = allocator.directBuffer(prefixLength + estimate.value);
+    try {
+      buf.writeInt(0);
+      buf.writeByte(ClusteredMessage.WIRE_PROTOCOL_VERSION);
+      buf.writeByte(systemCodecID);
+      if (codecName != null) {
+        buf.writeBytes(codecName);
+      }
+      buf.writeByte(message.isSend() ? 0 : 1);
+      buf.writeBytes(address);
+      if (replyAddress != null) {
+        writeString(buf, replyAddress);
+      } else {
+        buf.writeInt(0);
+      }
+      buf.writeBytes(sender);
+      int start = buf.writerIndex();
+      writeHeaders(buf, message.encodedHeaders());
+      message.encodeBody(Buffer.buffer(buf));
+      estimate.update(buf.writerIndex() - start);
+      buf.setInt(0, buf.writerIndex() - 4);
+      return buf;
+    } catch (Throwable t) {
+      buf.release();
+      throw t;
+    }
+  }
+
+  private byte[] address(String address) {
+    byte[] bytes = addresses.get(address);
+    if (bytes == null) {
+      bytes = encodeString(address);
+      // The reply addresses are used once
+      if (addresses.size() < MAX_CACHED_ADDRESSES && !address.startsWith(EventBusImpl.REPLY_ADDRESS_PREFIX)) {
+        addresses.putIfAbsent(address, bytes);
+      }
+    }
+    return bytes;
+  }
+
+  private byte[] sender(ServerID serverID) {
+    EncodedSender encoded = sender;
+    if (encoded == null || !encoded.serverID.equals(serverID)) {
+      encoded = new EncodedSender(serverID);
+      sender = encoded;
+    }
+    return encoded.bytes;
+  }
+
+  private static void writeHeaders(ByteBuf buf, MultiMap headers) {
+    if (headers != null && !headers.isEmpty()) {
+      int headersLengthPos = buf.writerIndex();
+      buf.writeInt(0);
+      buf.writeInt(headers.size());
+      List<Map.Entry<String, String>> entries = headers.entries();
+      for (Map.Entry<String, String> entry : entries) {
+        writeString(buf, entry.getKey());
+        writeString(buf, entry.getValue());
+      }
+      buf.setInt(headersLengthPos, buf.writerIndex() - headersLengthPos);
+    } else {
+      buf.writeInt(4);
+    }
+  }
+
+  private static void writeString(ByteBuf buf, String s) {
+    int lengthPos = buf.writerIndex();
+    buf.writeInt(0);
+    int length = buf.writeCharSequence(s, CharsetUtil.UTF_8);
+    buf.setInt(lengthPos, length);
+  }
+
+  private static byte[] encodeString(String s) {
+    byte[] str = s.getBytes(CharsetUtil.UTF_8);
+    byte[] bytes = new byte[4 + str.length];
+    setInt(bytes, 0, str.length);
+    System.arraycopy(str, 0, bytes, 4, str.length);
+    return bytes;
+  }
+
+  private static void setInt(byte[] bytes, int pos, int value) {
+    bytes[pos] = (byte) (value >>> 24);
+    bytes[pos + 1] = (byte) (value >>> 16);
+    bytes[pos + 2] = (byte) (value >>> 8);
+    bytes[pos + 3] = (byte) value;
+  }
+}
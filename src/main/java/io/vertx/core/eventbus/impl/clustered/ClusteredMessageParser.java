@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.eventbus.impl.clustered;
+
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Splits the buffers received from a cluster node into the size prefixed messages they carry.
+ * <p>
+ * The received buffers are not reused, so a message is handed over as a slice of them instead of a copy. The bytes of
+ * a message split across the received buffers are appended in place to a growable buffer, sized after the message
+ * once its size is known. Only the bytes remaining after a completed message are copied, into a new buffer so the
+ * slices already handed over are never overwritten: the parsing is linear in the size of the received data.
+ * <p>
+ * A parser is used by a single connection.
+ */
+public class ClusteredMessageParser implements Handler<Buffer> {
+
+  private final Handler<Buffer> messageHandler;
+  // The bytes of a message split across the received buffers
+  private Buffer partial;
+
+  /**
+   * @param messageHandler called with each message, without its size prefix
+   */
+  public ClusteredMessageParser(Handler<Buffer> messageHandler) {
+    this.messageHandler = messageHandler;
+  }
+
+  @Override
+  public void handle(Buffer data) {
+    Buffer buff = partial == null ? data : partial.appendBuffer(data);
+    int pos = 0;
+    int len = buff.length();
+    while (len - pos >= 4) {
+      int size = buff.getInt(pos);
+      if (len - pos - 4 < size) {
+        break;
+      }
+      messageHandler.handle(buff.slice(pos + 4, pos + 4 + size));
+      pos += 4 + size;
+    }
+    if (pos == len) {
+      partial = null;
+    } else if (partial == null || pos > 0) {
+      int remaining = len - pos;
+      int capacity = remaining >= 4 ? Math.max(remaining, 4 + buff.getInt(pos)) : remaining;
+      partial = Buffer.buffer(capacity).appendBuffer(buff, pos, remaining);
+    }
+  }
+}
@@ -11,7 +11,10 @@
 
 package io.vertx.core.eventbus.impl.clustered;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.util.internal.PlatformDependent;
 import io.vertx.core.Vertx;
+import io.vertx.core.VertxException;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.EventBusOptions;
 import io.vertx.core.eventbus.impl.OutboundDeliveryContext;
@@ -21,15 +24,23 @@ import io.vertx.core.impl.logging.LoggerFactory;
 import io.vertx.core.net.NetClient;
 import io.vertx.core.net.NetClientOptions;
 import io.vertx.core.net.NetSocket;
+import io.vertx.core.net.SocketAddress;
 import io.vertx.core.net.impl.ConnectionBase;
 import io.vertx.core.net.impl.NetClientImpl;
+import io.vertx.core.net.impl.NetSocketInternal;
 import io.vertx.core.net.impl.ServerID;
 import io.vertx.core.spi.metrics.EventBusMetrics;
 
-import java.util.ArrayDeque;
 import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
+ * The messages written to a node are queued in a lock-free queue, the first message queued while no drain is pending
+ * schedules a drain on the event loop of the connection that writes all the queued messages with a single flush.
+ * <p/>
+ * The drain stops when the channel is not writable and resumes when it is drained, messages sent to the node are
+ * failed while the queue is above the high-water mark.
+ *
  * @author <a href="http://tfox.org">Tim Fox</a>
  */
 class ConnectionHolder {
@@ -43,9 +54,17 @@ class ConnectionHolder {
   private final ServerID serverID;
   private final Vertx vertx;
   private final EventBusMetrics metrics;
+  private final SocketAddress remoteAddress;
+  private final int highWaterMark;
+  private final Queue<OutboundDeliveryContext<?>> pending = PlatformDependent.newMpscQueue();
+  // The number of queued messages, a producer increments it before queuing its message so it is never negative
+  private final AtomicInteger pendingCount = new AtomicInteger();
+  // The signals of the queued messages not yet seen by the drain, non zero while a drain is scheduled, running or
+  // waiting for the connection or the channel to be writable
+  private final AtomicInteger drainSignals = new AtomicInteger();
 
-  private Queue<OutboundDeliveryContext<?>> pending;
-  private NetSocket socket;
+  private volatile NetSocketInternal socket;
+  private volatile Throwable closeCause;
   private boolean connected;
   private long timeoutID = -1;
   private long pingTimeoutID = -1;
@@ -55,6 +74,8 @@ class ConnectionHolder {
     this.serverID = serverID;
     this.vertx = eventBus.vertx();
     this.metrics = eventBus.getMetrics();
+    this.remoteAddress = SocketAddress.inetSocketAddress(serverID.port, serverID.host);
+    this.highWaterMark = options.getClusterWriteQueueHighWaterMark();
     NetClientOptions clientOptions = new NetClientOptions(options.toJson());
     ClusteredEventBus.setCertOptions(clientOptions, options.getKeyCertOptions());
     ClusteredEventBus.setTrustOptions(clientOptions, options.getTrustOptions());
@@ -75,22 +96,25 @@ class ConnectionHolder {
     });
   }
 
-  // TODO optimise this (contention on monitor)
-  synchronized void writeMessage(OutboundDeliveryContext<?> ctx) {
-    if (connected) {
-      Buffer data = ((ClusteredMessage)ctx.message).encodeToWire();
-      if (metrics != null) {
-        metrics.messageWritten(ctx.message.address(), data.length());
-      }
-      socket.write(data, ctx);
-    } else {
-      if (pending == null) {
-        if (log.isDebugEnabled()) {
-          log.debug("Not connected to server " + serverID + " - starting queuing");
-        }
-        pending = new ArrayDeque<>();
-      }
-      pending.add(ctx);
+  void writeMessage(OutboundDeliveryContext<?> ctx) {
+    Throwable cause = closeCause;
+    if (cause != null) {
+      ctx.written(cause);
+      return;
+    }
+    int depth = pendingCount.incrementAndGet();
+    if (depth > highWaterMark) {
+      pendingCount.decrementAndGet();
+      ctx.written(new VertxException("Write queue of server " + serverID + " is full", true));
+      return;
+    }
+    pending.add(ctx);
+    if (metrics != null) {
+      metrics.clusterMessageQueued(remoteAddress, depth);
+    }
+    // A message queued concurrently with the close must be failed
+    if (drainSignals.getAndIncrement() == 0 || closeCause != null) {
+      scheduleDrain();
     }
   }
 
@@ -105,14 +129,8 @@ class ConnectionHolder {
     if (pingTimeoutID != -1) {
       vertx.cancelTimer(pingTimeoutID);
     }
-    synchronized (this) {
-      OutboundDeliveryContext<?> msg;
-      if (pending != null) {
-        while ((msg = pending.poll()) != null) {
-          msg.written(cause);
-        }
-      }
-    }
+    closeCause = cause;
+    scheduleDrain();
     try {
       client.close();
     } catch (Exception ignore) {
@@ -143,7 +161,7 @@ class ConnectionHolder {
   }
 
   private synchronized void connected(NetSocket socket) {
-    this.socket = socket;
+    NetSocketInternal so = (NetSocketInternal) socket;
     connected = true;
     socket.exceptionHandler(err -> {
       close(err);
@@ -154,21 +172,87 @@ class ConnectionHolder {
       vertx.cancelTimer(timeoutID);
       schedulePing();
     });
+    // Resume the drain when the channel becomes writable
+    socket.drainHandler(v -> so.channelHandlerContext().executor().execute(this::drain));
+    this.socket = so;
     // Start a pinger
     schedulePing();
-    if (pending != null) {
+    if (drainSignals.get() > 0) {
       if (log.isDebugEnabled()) {
         log.debug("Draining the queue for server " + serverID);
       }
-      for (OutboundDeliveryContext<?> ctx : pending) {
-        Buffer data = ((ClusteredMessage<?, ?>)ctx.message).encodeToWire();
-        if (metrics != null) {
-          metrics.messageWritten(ctx.message.address(), data.length());
-        }
-        socket.write(data, ctx);
+      scheduleDrain();
+    }
+  }
+
+  private void scheduleDrain() {
+    NetSocketInternal so = socket;
+    if (so != null) {
+      so.channelHandlerContext().executor().execute(this::drain);
+    } else if (closeCause != null) {
+      failPending(closeCause);
+    }
+    // Otherwise the queue is drained once connected
+  }
+
+  /**
+   * Write the queued messages and flush them once, this is called from the event loop of the connection.
+   */
+  private void drain() {
+    Throwable cause = closeCause;
+    if (cause != null) {
+      failPending(cause);
+      return;
+    }
+    NetSocketInternal so = socket;
+    int batchSize = 0;
+    // Only the event loop consumes the signals, the drain resumed when the channel is writable takes them over
+    int missed = drainSignals.get();
+    while (true) {
+      OutboundDeliveryContext<?> ctx;
+      while (!so.writeQueueFull() && (ctx = pending.poll()) != null) {
+        pendingCount.decrementAndGet();
+        batchSize++;
+        write(so, ctx);
+      }
+      if (so.writeQueueFull()) {
+        // The signals are kept, so the producers leave the drain to the drain handler
+        break;
+      }
+      // A producer signals after queuing its message, so the messages of the signals seen here have been polled
+      missed = drainSignals.addAndGet(-missed);
+      if (missed == 0) {
+        break;
       }
     }
-    pending = null;
+    if (batchSize > 0) {
+      so.flush();
+      if (metrics != null) {
+        metrics.clusterMessagesFlushed(remoteAddress, batchSize);
+      }
+    }
+  }
+
+  private synchronized void failPending(Throwable cause) {
+    OutboundDeliveryContext<?> ctx;
+    while ((ctx = pending.poll()) != null) {
+      pendingCount.decrementAndGet();
+      ctx.written(cause);
+    }
+  }
+
+  private void write(NetSocketInternal so, OutboundDeliveryContext<?> ctx) {
+    ByteBuf data;
+    try {
+      data = eventBus.encoder().encode((ClusteredMessage<?, ?>) ctx.message, so.channelHandlerContext().alloc());
+    } catch (Throwable t) {
+      ctx.written(t);
+      return;
+    }
+    if (metrics != null) {
+      metrics.messageWritten(ctx.message.address(), data.readableBytes());
+    }
+    so.writeMessage(data, false, ctx);
   }
 
 }
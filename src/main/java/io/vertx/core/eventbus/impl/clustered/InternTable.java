@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.eventbus.impl.clustered;
+
+import io.netty.util.CharsetUtil;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.impl.EventBusImpl;
+
+/**
+ * The strings read from the wire that repeat across messages, the addresses and the codec names, keyed by their
+ * raw bytes, so a known string is read without copying its bytes or decoding it.
+ * <p>
+ * The table is direct-mapped: a string evicts the string of its slot. The reply addresses are used once and are
+ * never stored. A table is not thread safe, it is used by the event loop of a single connection.
+ */
+final class InternTable {
+
+  static final int SIZE = 256;
+  static final int MAX_LENGTH = 256;
+  private static final byte[] REPLY_ADDRESS_PREFIX = EventBusImpl.REPLY_ADDRESS_PREFIX.getBytes(CharsetUtil.UTF_8);
+
+  private final byte[][] keys = new byte[SIZE][];
+  private final String[] values = new String[SIZE];
+
+  /**
+   * @return the string encoded in UTF-8 at {@code pos}
+   */
+  String get(Buffer buffer, int pos, int length) {
+    if (length > MAX_LENGTH || startsWith(buffer, pos, length, REPLY_ADDRESS_PREFIX)) {
+      return buffer.getString(pos, pos + length);
+    }
+    int hash = 0;
+    for (int i = 0;i < length;i++) {
+      hash = 31 * hash + buffer.getByte(pos + i);
+    }
+    int slot = (hash ^ (hash >>> 16)) & (SIZE - 1);
+    byte[] key = keys[slot];
+    if (key != null && key.length == length && startsWith(buffer, pos, length, key)) {
+      return values[slot];
+    }
+    key = buffer.getBytes(pos, pos + length);
+    String value = new String(key, CharsetUtil.UTF_8);
+    keys[slot] = key;
+    values[slot] = value;
+    return value;
+  }
+
+  private static boolean startsWith(Buffer buffer, int pos, int length, byte[] prefix) {
+    if (length < prefix.length) {
+      return false;
+    }
+    for (int i = 0;i < prefix.length;i++) {
+      if (buffer.getByte(pos + i) != prefix[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.eventbus.impl.clustered;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.eventbus.impl.OutboundDeliveryContext;
+import io.vertx.core.spi.cluster.ChoosableIterable;
+import io.vertx.core.spi.metrics.EventBusMetrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Node-local cache of the subscribers of the addresses, invalidated when the subscriptions of an address or the
+ * cluster members change.
+ * <p>
+ * The first message sent to an address fetches its subscribers, the messages sent meanwhile wait in the entry of the
+ * address and are delivered in order with the fetched subscribers, outside the lock of the entry. The entry becomes a
+ * hit only once they are delivered, so the messages sent to an address are delivered in the order they were sent.
+ * <p>
+ * An entry invalidated while its subscribers are fetched is removed once the waiting messages are delivered, so a
+ * result fetched before a change is never cached after the change was notified.
+ */
+class SubsCache {
+
+  interface Delivery {
+
+    /**
+     * Fetch the subscribers of the address of a message.
+     */
+    void fetch(OutboundDeliveryContext<?> sendContext, Handler<AsyncResult<ChoosableIterable<ClusterNodeInfo>>> handler);
+
+    void deliver(ChoosableIterable<ClusterNodeInfo> subs, OutboundDeliveryContext<?> sendContext);
+
+    void fail(Throwable cause, OutboundDeliveryContext<?> sendContext);
+  }
+
+  private static final class Entry {
+
+    // null until fetched
+    volatile ChoosableIterable<ClusterNodeInfo> subs;
+    long timestamp;
+    // the messages waiting for the subscribers, null once they are delivered, guarded by the entry
+    List<OutboundDeliveryContext<?>> waiters = new ArrayList<>();
+    // invalidated while fetching, guarded by the entry
+    boolean stale;
+  }
+
+  private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+  private final EventBusMetrics metrics;
+  private final Delivery delivery;
+
+  SubsCache(EventBusMetrics metrics, Delivery delivery) {
+    this.metrics = metrics;
+    this.delivery = delivery;
+  }
+
+  void send(OutboundDeliveryContext<?> sendContext) {
+    String address = sendContext.message.address();
+    Entry entry = entries.get(address);
+    ChoosableIterable<ClusterNodeInfo> subs;
+    if (entry != null && (subs = entry.subs) != null) {
+      if (metrics != null) {
+        metrics.subscriptionCacheHit(address);
+      }
+      delivery.deliver(subs, sendContext);
+      return;
+    }
+    if (metrics != null) {
+      metrics.subscriptionCacheMiss(address);
+    }
+    while (true) {
+      if (entry == null) {
+        Entry created = new Entry();
+        entry = entries.putIfAbsent(address, created);
+        if (entry == null) {
+          Entry fetched = created;
+          delivery.fetch(sendContext, ar -> fetched(address, fetched, sendContext, ar));
+          return;
+        }
+      }
+      synchronized (entry) {
+        if (entry.waiters != null) {
+          entry.waiters.add(sendContext);
+          return;
+        }
+      }
+      subs = entry.subs;
+      if (subs != null) {
+        delivery.deliver(subs, sendContext);
+        return;
+      }
+      // The fetch failed
+      entry = entries.get(address);
+    }
+  }
+
+  private void fetched(String address, Entry entry, OutboundDeliveryContext<?> sendContext, AsyncResult<ChoosableIterable<ClusterNodeInfo>> ar) {
+    ChoosableIterable<ClusterNodeInfo> subs = ar.result();
+    List<OutboundDeliveryContext<?>> waiters = Collections.singletonList(sendContext);
+    while (true) {
+      // Delivered outside the lock, a delivery can send a message to the same address and add a waiter
+      for (int i = 0;i < waiters.size();i++) {
+        if (ar.succeeded()) {
+          delivery.deliver(subs, waiters.get(i));
+        } else {
+          delivery.fail(ar.cause(), waiters.get(i));
+        }
+      }
+      synchronized (entry) {
+        waiters = entry.waiters;
+        if (waiters.isEmpty()) {
+          if (ar.succeeded()) {
+            entry.timestamp = System.nanoTime();
+            entry.subs = subs;
+          }
+          entry.waiters = null;
+          if (ar.failed() || entry.stale) {
+            entries.remove(address, entry);
+          }
+          return;
+        }
+        entry.waiters = new ArrayList<>();
+      }
+    }
+  }
+
+  void invalidate(String address) {
+    Entry entry = entries.get(address);
+    if (entry != null) {
+      invalidate(address, entry);
+    }
+  }
+
+  void invalidateAll() {
+    entries.forEach(this::invalidate);
+  }
+
+  private void invalidate(String address, Entry entry) {
+    synchronized (entry) {
+      if (entry.waiters != null) {
+        entry.stale = true;
+        return;
+      }
+    }
+    if (entries.remove(address, entry) && metrics != null && entry.subs != null) {
+      metrics.subscriptionCacheInvalidated(address, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - entry.timestamp));
+    }
+  }
+}
@@ -62,4 +62,9 @@ public interface FileProps {
    */
   long size();
 
+  /**
+   * The path of the file, as given to the file system or found by {@link FileSystem#readDirRecursive}
+   */
+  String path();
+
 }
@@ -18,6 +18,7 @@ import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
 
 import java.util.List;
 
@@ -297,6 +298,30 @@ public interface FileSystem {
    */
   FileProps lpropsBlocking(String path) ;
 
+  /**
+   * Obtain properties for the files represented by {@code paths}, asynchronously.
+   * <p>
+   * The properties of all the files are obtained by a single task of the file system bulk pool, instead of a worker
+   * task per file. The links are followed like {@link #props(String, Handler)}. The properties are in the order of
+   * {@code paths}, the properties of a file that does not exist are {@code null}.
+   *
+   * @param paths  the paths to the files
+   * @param handler  the handler that will be called on completion
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  FileSystem propsBatch(List<String> paths, Handler<AsyncResult<List<@Nullable FileProps>>> handler);
+
+  /**
+   * Like {@link #propsBatch(List, Handler)} but returns a {@code Future} of the asynchronous result
+   */
+  Future<List<@Nullable FileProps>> propsBatch(List<String> paths);
+
+  /**
+   * Blocking version of {@link #propsBatch(List, Handler)}
+   */
+  List<@Nullable FileProps> propsBatchBlocking(List<String> paths) ;
+
   /**
    * Create a hard link on the file system from {@code link} to {@code existing}, asynchronously.
    *
@@ -580,6 +605,19 @@ public interface FileSystem {
    */
   List<String> readDirBlocking(String path, String filter) ;
 
+  /**
+   * Walk the tree of the directory at {@code path} and stream the properties of the files and directories below it,
+   * the directory itself excluded.
+   * <p>
+   * The tree is walked depth first on the file system bulk pool, the properties are read in chunks and the walk
+   * waits while the stream is paused. The links are not followed, the properties are those of
+   * {@link #lprops(String, Handler)}. The stream fails when the directory cannot be read.
+   *
+   * @param path  path to the directory
+   * @return the stream of the properties, the walk starts when a handler is set
+   */
+  ReadStream<FileProps> readDirRecursive(String path);
+
   /**
    * Reads the entire file as represented by the path {@code path} as a {@link Buffer}, asynchronously.
    * <p>
@@ -710,6 +748,29 @@ public interface FileSystem {
    */
   boolean existsBlocking(String path) ;
 
+  /**
+   * Determines whether the files specified by {@code paths} exist, asynchronously.
+   * <p>
+   * All the files are checked by a single task of the file system bulk pool, instead of a worker task per file.
+   * The results are in the order of {@code paths}.
+   *
+   * @param paths  the paths to the files
+   * @param handler  the handler that will be called on completion
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  FileSystem existsBatch(List<String> paths, Handler<AsyncResult<List<Boolean>>> handler);
+
+  /**
+   * Like {@link #existsBatch(List, Handler)} but returns a {@code Future} of the asynchronous result
+   */
+  Future<List<Boolean>> existsBatch(List<String> paths);
+
+  /**
+   * Blocking version of {@link #existsBatch(List, Handler)}
+   */
+  List<Boolean> existsBatchBlocking(List<String> paths) ;
+
   /**
    * Returns properties of the file-system being used by the specified {@code path}, asynchronously.
    *
@@ -16,6 +16,9 @@ import io.vertx.codegen.annotations.DataObject;
 import io.vertx.core.json.JsonObject;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 
 import static io.vertx.core.file.impl.FileResolver.*;
 
@@ -48,9 +51,22 @@ public class FileSystemOptions {
    */
   public static final String DEFAULT_FILE_CACHING_DIR = System.getProperty(CACHE_DIR_BASE_PROP_NAME, TMPDIR + File.separator + DEFAULT_CACHE_DIR_BASE);
 
+  /**
+   * The default size of the pool executing the bulk file system operations = 2
+   */
+  public static final int DEFAULT_BULK_POOL_SIZE = 2;
+
+  /**
+   * The default maximum number of class path resolutions kept by the file resolver = 10000
+   */
+  public static final int DEFAULT_RESOLUTION_CACHE_MAX_SIZE = 10000;
+
   private boolean classPathResolvingEnabled = DEFAULT_CLASS_PATH_RESOLVING_ENABLED;
   private boolean fileCachingEnabled = DEFAULT_FILE_CACHING_ENABLED;
   private String fileCacheDir = DEFAULT_FILE_CACHING_DIR;
+  private int bulkPoolSize = DEFAULT_BULK_POOL_SIZE;
+  private int resolutionCacheMaxSize = DEFAULT_RESOLUTION_CACHE_MAX_SIZE;
+  private List<String> resolutionWarmUpFiles = new ArrayList<>();
 
   /**
    * Default constructor
@@ -67,6 +83,9 @@ public class FileSystemOptions {
     this.classPathResolvingEnabled = other.isClassPathResolvingEnabled();
     this.fileCachingEnabled = other.isFileCachingEnabled();
     this.fileCacheDir = other.getFileCacheDir();
+    this.bulkPoolSize = other.getBulkPoolSize();
+    this.resolutionCacheMaxSize = other.getResolutionCacheMaxSize();
+    this.resolutionWarmUpFiles = new ArrayList<>(other.getResolutionWarmUpFiles());
   }
 
   /**
@@ -150,6 +169,73 @@ public class FileSystemOptions {
     return this;
   }
 
+  /**
+   * @return the size of the pool executing the bulk file system operations
+   */
+  public int getBulkPoolSize() {
+    return bulkPoolSize;
+  }
+
+  /**
+   * Set the size of the pool executing the bulk file system operations, such as
+   * {@link FileSystem#propsBatch} or {@link FileSystem#readDirRecursive}. This pool is separate from the
+   * worker pool so the bulk operations do not delay the other blocking tasks.
+   *
+   * @param bulkPoolSize the pool size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public FileSystemOptions setBulkPoolSize(int bulkPoolSize) {
+    if (bulkPoolSize < 1) {
+      throw new IllegalArgumentException("bulkPoolSize must be > 0");
+    }
+    this.bulkPoolSize = bulkPoolSize;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of class path resolutions kept by the file resolver
+   */
+  public int getResolutionCacheMaxSize() {
+    return resolutionCacheMaxSize;
+  }
+
+  /**
+   * Set the maximum number of class path resolutions kept by the file resolver when file caching is enabled.
+   * <p>
+   * A file name that is not found on the file system is resolved once from the class path, the extracted file or
+   * the absence of the file is then reused by the next resolutions of the name. Setting {@code 0} disables the cache.
+   *
+   * @param resolutionCacheMaxSize the maximum number of resolutions
+   * @return a reference to this, so the API can be used fluently
+   */
+  public FileSystemOptions setResolutionCacheMaxSize(int resolutionCacheMaxSize) {
+    if (resolutionCacheMaxSize < 0) {
+      throw new IllegalArgumentException("resolutionCacheMaxSize must be >= 0");
+    }
+    this.resolutionCacheMaxSize = resolutionCacheMaxSize;
+    return this;
+  }
+
+  /**
+   * @return the files resolved when the file resolver is created
+   */
+  public List<String> getResolutionWarmUpFiles() {
+    return resolutionWarmUpFiles;
+  }
+
+  /**
+   * Add a file to resolve when the file resolver is created, so the first request of the file does not extract it
+   * from the class path.
+   *
+   * @param fileName the file name
+   * @return a reference to this, so the API can be used fluently
+   */
+  public FileSystemOptions addResolutionWarmUpFile(String fileName) {
+    Objects.requireNonNull(fileName, "No null file name accepted");
+    resolutionWarmUpFiles.add(fileName);
+    return this;
+  }
+
 
   @Override
   public String toString() {
@@ -157,6 +243,9 @@ public class FileSystemOptions {
     "classPathResolvingEnabled=" + classPathResolvingEnabled +
     ", fileCachingEnabled=" + fileCachingEnabled +
     ", fileCacheDir=" + fileCacheDir +
+    ", bulkPoolSize=" + bulkPoolSize +
+    ", resolutionCacheMaxSize=" + resolutionCacheMaxSize +
+    ", resolutionWarmUpFiles=" + resolutionWarmUpFiles +
     '}';
   }
 }
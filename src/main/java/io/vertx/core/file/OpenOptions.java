@@ -12,6 +12,7 @@
 package io.vertx.core.file;
 
 import io.vertx.codegen.annotations.DataObject;
+import io.vertx.core.impl.Arguments;
 import io.vertx.core.json.JsonObject;
 
 /**
@@ -38,6 +39,26 @@ public class OpenOptions {
    */
   public static final boolean DEFAULT_APPEND = false;
 
+  /**
+   * Whether the file should be read through memory mapped regions by default = false.
+   */
+  public static final boolean DEFAULT_MMAP = false;
+
+  /**
+   * The default number of bytes of contiguous writes gathered in a single write = 0 (the writes are not gathered).
+   */
+  public static final int DEFAULT_WRITE_FLUSH_SIZE = 0;
+
+  /**
+   * The default time in ms the gathered writes wait for more writes = 0.
+   */
+  public static final long DEFAULT_WRITE_LINGER_TIME = 0L;
+
+  /**
+   * Whether the gathered writes are forced to the storage device by default = false.
+   */
+  public static final boolean DEFAULT_WRITE_GROUP_SYNC = false;
+
   private String perms = DEFAULT_PERMS;
   private boolean read = DEFAULT_READ;
   private boolean write = DEFAULT_WRITE;
@@ -49,6 +70,10 @@ public class OpenOptions {
   private boolean truncateExisting = DEFAULT_TRUNCATEEXISTING;
   private boolean sparse = DEFAULT_SPARSE;
   private boolean append = DEFAULT_APPEND;
+  private boolean mmap = DEFAULT_MMAP;
+  private int writeFlushSize = DEFAULT_WRITE_FLUSH_SIZE;
+  private long writeLingerTime = DEFAULT_WRITE_LINGER_TIME;
+  private boolean writeGroupSync = DEFAULT_WRITE_GROUP_SYNC;
 
   /**
    * Default constructor
@@ -74,6 +99,10 @@ public class OpenOptions {
     this.truncateExisting = other.truncateExisting;
     this.sparse = other.sparse;
     this.append = other.append;
+    this.mmap = other.mmap;
+    this.writeFlushSize = other.writeFlushSize;
+    this.writeLingerTime = other.writeLingerTime;
+    this.writeGroupSync = other.writeGroupSync;
   }
 
   /**
@@ -300,4 +329,91 @@ public class OpenOptions {
     this.append = append;
     return this;
   }
+
+  /**
+   * @return true if the file should be read through memory mapped regions, false otherwise
+   */
+  public boolean isMmap() {
+    return mmap;
+  }
+
+  /**
+   * Whether the file should be read through memory mapped regions of the file instead of reads on the worker pool.
+   * Defaults to {@code false}.
+   * <p/>
+   * The reads are performed on the context of the file and the buffers emitted by the file are read-only
+   * views of the mapped regions. The reads may block on page faults when the file content is not in the page cache,
+   * this is mostly suited for large files that are read frequently.
+   * The file must not be truncated while it is read.
+   *
+   * @param mmap true to read the file through memory mapped regions, false otherwise
+   * @return a reference to this, so the API can be used fluently
+   */
+  public OpenOptions setMmap(boolean mmap) {
+    this.mmap = mmap;
+    return this;
+  }
+
+  /**
+   * @return the number of bytes of contiguous writes gathered in a single write
+   */
+  public int getWriteFlushSize() {
+    return writeFlushSize;
+  }
+
+  /**
+   * Set the number of bytes of contiguous writes gathered in a single write of the file, {@code 0} writes each
+   * buffer on its own. Defaults to {@code 0}.
+   * <p/>
+   * The buffers written at contiguous positions are gathered until this size is reached or the {@link #setWriteLingerTime linger time}
+   * elapses, they are then written by a single task of the worker pool and their handlers are completed together.
+   *
+   * @param writeFlushSize the number of bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public OpenOptions setWriteFlushSize(int writeFlushSize) {
+    Arguments.require(writeFlushSize >= 0, "writeFlushSize must be >= 0");
+    this.writeFlushSize = writeFlushSize;
+    return this;
+  }
+
+  /**
+   * @return the time in ms the gathered writes wait for more writes
+   */
+  public long getWriteLingerTime() {
+    return writeLingerTime;
+  }
+
+  /**
+   * Set the time in ms the gathered writes wait for more writes before they are written when the
+   * {@link #setWriteFlushSize flush size} is not reached, {@code 0} gathers the writes done by the same task of the
+   * file context. Defaults to {@code 0}.
+   *
+   * @param writeLingerTime the time in ms
+   * @return a reference to this, so the API can be used fluently
+   */
+  public OpenOptions setWriteLingerTime(long writeLingerTime) {
+    Arguments.require(writeLingerTime >= 0, "writeLingerTime must be >= 0");
+    this.writeLingerTime = writeLingerTime;
+    return this;
+  }
+
+  /**
+   * @return true if the gathered writes are forced to the storage device before their handlers are completed
+   */
+  public boolean isWriteGroupSync() {
+    return writeGroupSync;
+  }
+
+  /**
+   * Set whether the gathered writes are forced to the storage device before their handlers are completed, so a single
+   * sync commits all the writes gathered together. Defaults to {@code false}.
+   *
+   * @param writeGroupSync true to force the gathered writes to the storage device
+   * @return a reference to this, so the API can be used fluently
+   */
+  public OpenOptions setWriteGroupSync(boolean writeGroupSync) {
+    this.writeGroupSync = writeGroupSync;
+    return this;
+  }
 }
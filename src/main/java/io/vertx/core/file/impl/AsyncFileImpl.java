@@ -12,6 +12,7 @@
 package io.vertx.core.file.impl;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
@@ -29,14 +30,18 @@ import io.vertx.core.streams.impl.InboundBuffer;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.FileChannel;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.FileAttribute;
 import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -57,8 +62,38 @@ public class AsyncFileImpl implements AsyncFile {
 
   public static final int DEFAULT_READ_BUFFER_SIZE = 8192;
 
+  /**
+   * The size of the regions mapped by a file opened with {@link OpenOptions#isMmap()}, the regions are aligned on this
+   * size so a position of the file always falls in the same region.
+   */
+  public static final long MAPPED_REGION_SIZE = 1L << 30;
+
+  /**
+   * The max number of regions of a file kept mapped, a replaced region is only unmapped once it is garbage collected.
+   */
+  private static final int MAX_MAPPED_REGIONS = 4;
+
+  /**
+   * The max number of buffers emitted by a mapped file read stream before yielding the context.
+   */
+  private static final int MAX_MAPPED_READS = 16;
+
   private final VertxInternal vertx;
   private final AsynchronousFileChannel ch;
+  private final FileChannel fileCh;
+  private final boolean mapped;
+  // The mapped regions, the most recently used first
+  private final MappedByteBuffer[] mappedRegions = new MappedByteBuffer[MAX_MAPPED_REGIONS];
+  private final long[] mappedRegionPositions = new long[MAX_MAPPED_REGIONS];
+  private final int writeFlushSize;
+  private final long writeLingerTime;
+  private final boolean writeGroupSync;
+  private List<ByteBuffer> gatheredBuffers;
+  private List<Handler<AsyncResult<Void>>> gatheredHandlers;
+  private long gatheredPos;
+  private long gatheredSize;
+  private boolean gatheredFlushScheduled;
+  private long gatheredTimerID = -1;
   private final ContextInternal context;
   private boolean closed;
   private Runnable closedDeferred;
@@ -102,6 +137,28 @@ public class AsyncFileImpl implements AsyncFile {
     } catch (IOException e) {
       throw new FileSystemException(e);
     }
+    mapped = options.isMmap() && options.isRead();
+    writeFlushSize = options.isWrite() ? options.getWriteFlushSize() : 0;
+    writeLingerTime = options.getWriteLingerTime();
+    writeGroupSync = options.isWriteGroupSync();
+    if (mapped || writeFlushSize > 0) {
+      HashSet<OpenOption> fileOpts = new HashSet<>();
+      if (mapped) fileOpts.add(StandardOpenOption.READ);
+      if (writeFlushSize > 0) fileOpts.add(StandardOpenOption.WRITE);
+      if (options.isSync()) fileOpts.add(StandardOpenOption.SYNC);
+      if (options.isDsync()) fileOpts.add(StandardOpenOption.DSYNC);
+      try {
+        fileCh = FileChannel.open(file, fileOpts);
+      } catch (IOException e) {
+        try {
+          ch.close();
+        } catch (IOException ignore) {
+        }
+        throw new FileSystemException(e);
+      }
+    } else {
+      fileCh = null;
+    }
     this.context = context;
     this.queue = new InboundBuffer<>(context, 0);
     queue.handler(buff -> {
@@ -155,6 +212,25 @@ public class AsyncFileImpl implements AsyncFile {
     Arguments.require(position >= 0, "position must be >= 0");
     Arguments.require(length >= 0, "length must be >= 0");
     check();
+    if (mapped) {
+      try {
+        int read = 0;
+        while (read < length) {
+          // A read crossing the end of a region continues in the next region
+          ByteBuffer bb = mappedRead(position + read, length - read);
+          int len = bb.remaining();
+          if (len == 0) {
+            break;
+          }
+          buffer.setBytes(offset + read, bb);
+          read += len;
+        }
+        promise.complete(buffer);
+      } catch (IOException e) {
+        promise.fail(e);
+      }
+      return promise.future();
+    }
     ByteBuffer bb = ByteBuffer.allocate(length);
     doRead(buffer, offset, bb, position, promise);
     return promise.future();
@@ -383,7 +459,85 @@ public class AsyncFileImpl implements AsyncFile {
   }
 
   private void doRead() {
-    doRead(ByteBuffer.allocate(readBufferSize));
+    if (mapped) {
+      context.runOnContext(v -> doMappedRead());
+    } else {
+      doRead(ByteBuffer.allocate(readBufferSize));
+    }
+  }
+
+  private void doMappedRead() {
+    for (int i = 0;i < MAX_MAPPED_READS;i++) {
+      Buffer buffer;
+      try {
+        synchronized (this) {
+          int readSize = (int) Math.min((long)readBufferSize, readLength);
+          buffer = Buffer.buffer(Unpooled.wrappedBuffer(mappedRead(readPos, readSize)));
+          readPos += buffer.length();
+          readLength -= buffer.length();
+        }
+      } catch (IOException e) {
+        handleException(e);
+        return;
+      }
+      // Empty buffer represents end of file
+      if (!queue.write(buffer) || buffer.length() == 0) {
+        return;
+      }
+    }
+    context.runOnContext(v -> doMappedRead());
+  }
+
+  /**
+   * Read from the mapped region of {@code position}, the read stops at the end of the region.
+   *
+   * @return a read-only view of the region, empty at the end of the file
+   */
+  private synchronized ByteBuffer mappedRead(long position, int length) throws IOException {
+    long regionPos = position & ~(MAPPED_REGION_SIZE - 1);
+    int offset = (int) (position - regionPos);
+    MappedByteBuffer region = mappedRegion(regionPos);
+    if (region == null || region.capacity() < Math.min((long) offset + length, MAPPED_REGION_SIZE)) {
+      // Not mapped yet or mapped before the file grew
+      long size = fileCh.size();
+      if (position >= size || length == 0) {
+        return Unpooled.EMPTY_BUFFER.nioBuffer();
+      }
+      long regionSize = Math.min(MAPPED_REGION_SIZE, size - regionPos);
+      if (region == null) {
+        region = fileCh.map(FileChannel.MapMode.READ_ONLY, regionPos, regionSize);
+        // Drop the least recently used region
+        moveMappedRegionToFront(MAX_MAPPED_REGIONS - 1, region, regionPos);
+      } else if (region.capacity() < regionSize) {
+        region = fileCh.map(FileChannel.MapMode.READ_ONLY, regionPos, regionSize);
+        mappedRegions[0] = region;
+      }
+    }
+    ByteBuffer slice = region.duplicate();
+    slice.position(offset);
+    slice.limit((int) Math.min((long) offset + length, region.capacity()));
+    return slice.slice();
+  }
+
+  /**
+   * @return the mapped region at {@code regionPos}, it becomes the most recently used region, or {@code null}
+   */
+  private MappedByteBuffer mappedRegion(long regionPos) {
+    for (int i = 0;i < MAX_MAPPED_REGIONS;i++) {
+      MappedByteBuffer region = mappedRegions[i];
+      if (region != null && mappedRegionPositions[i] == regionPos) {
+        moveMappedRegionToFront(i, region, regionPos);
+        return region;
+      }
+    }
+    return null;
+  }
+
+  private void moveMappedRegionToFront(int i, MappedByteBuffer region, long regionPos) {
+    System.arraycopy(mappedRegions, 0, mappedRegions, 1, i);
+    System.arraycopy(mappedRegionPositions, 0, mappedRegionPositions, 1, i);
+    mappedRegions[0] = region;
+    mappedRegionPositions[0] = regionPos;
   }
 
   private synchronized void doRead(ByteBuffer bb) {
@@ -433,6 +587,8 @@ public class AsyncFileImpl implements AsyncFile {
 
   private synchronized void doFlush(Handler<AsyncResult<Void>> handler) {
     checkClosed();
+    // The gathered writes and the flush are executed in order by the internal blocking pool
+    flushGatheredWrites();
     context.executeBlockingInternal((Promise<Void> fut) -> {
       try {
         ch.force(false);
@@ -447,6 +603,10 @@ public class AsyncFileImpl implements AsyncFile {
     if (toWrite > 0) {
       synchronized (this) {
         writesOutstanding += toWrite;
+        if (writeFlushSize > 0) {
+          gatherWrite(buff, position, handler);
+          return;
+        }
       }
       writeInternal(buff, position, handler);
     } else {
@@ -454,6 +614,77 @@ public class AsyncFileImpl implements AsyncFile {
     }
   }
 
+  /**
+   * Gather a write with the pending writes when it is contiguous to them, the gathered writes are flushed when
+   * they reach the flush size, when the linger time elapses or at the end of the current context task.
+   */
+  private synchronized void gatherWrite(ByteBuffer buff, long position, Handler<AsyncResult<Void>> handler) {
+    if (gatheredBuffers != null && position != gatheredPos + gatheredSize) {
+      flushGatheredWrites();
+    }
+    if (gatheredBuffers == null) {
+      gatheredBuffers = new ArrayList<>();
+      gatheredHandlers = new ArrayList<>();
+      gatheredPos = position;
+      gatheredSize = 0;
+    }
+    gatheredBuffers.add(buff);
+    gatheredHandlers.add(handler);
+    gatheredSize += buff.remaining();
+    if (gatheredSize >= writeFlushSize) {
+      flushGatheredWrites();
+    } else if (!gatheredFlushScheduled) {
+      gatheredFlushScheduled = true;
+      if (writeLingerTime > 0) {
+        gatheredTimerID = vertx.setTimer(writeLingerTime, id -> flushGatheredWrites());
+      } else {
+        context.runOnContext(v -> flushGatheredWrites());
+      }
+    }
+  }
+
+  private synchronized void flushGatheredWrites() {
+    if (gatheredFlushScheduled) {
+      gatheredFlushScheduled = false;
+      if (gatheredTimerID != -1) {
+        vertx.cancelTimer(gatheredTimerID);
+        gatheredTimerID = -1;
+      }
+    }
+    if (gatheredBuffers == null) {
+      return;
+    }
+    ByteBuffer[] buffers = gatheredBuffers.toArray(new ByteBuffer[0]);
+    List<Handler<AsyncResult<Void>>> handlers = gatheredHandlers;
+    long position = gatheredPos;
+    long size = gatheredSize;
+    gatheredBuffers = null;
+    gatheredHandlers = null;
+    context.<Void>executeBlockingInternal(fut -> {
+      try {
+        // The gathered writes are executed in order, the channel position is only used by them
+        fileCh.position(position);
+        long written = 0;
+        while (written < size) {
+          written += fileCh.write(buffers);
+        }
+        if (writeGroupSync) {
+          fileCh.force(false);
+        }
+        fut.complete();
+      } catch (IOException e) {
+        fut.fail(e);
+      }
+    }, ar -> {
+      synchronized (AsyncFileImpl.this) {
+        writesOutstanding -= size;
+      }
+      for (Handler<AsyncResult<Void>> handler : handlers) {
+        handler.handle(ar);
+      }
+    });
+  }
+
   private void writeInternal(ByteBuffer buff, long position, Handler<AsyncResult<Void>> handler) {
 
     ch.write(buff, position, null, new java.nio.channels.CompletionHandler<Integer, Object>() {
@@ -543,6 +774,9 @@ public class AsyncFileImpl implements AsyncFile {
     context.executeBlockingInternal(res -> {
       try {
         ch.close();
+        if (fileCh != null) {
+          fileCh.close();
+        }
         res.complete(null);
       } catch (IOException e) {
         res.fail(e);
@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.file.impl;
+
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.file.FileProps;
+import io.vertx.core.file.FileSystemException;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.TaskQueue;
+import io.vertx.core.impl.WorkerPool;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.core.streams.impl.InboundBuffer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * The stream of {@link FileSystemImpl#readDirRecursive}.
+ * <p>
+ * The tree is walked depth first by the tasks of a worker pool, each task reads the attributes of a chunk of
+ * {@link #CHUNK_SIZE} entries. The tasks are ordered by a task queue and the next chunk is read only when the
+ * previous one has been accepted by the inbound buffer, so a paused stream does not walk the tree.
+ */
+class DirectoryWalkStream implements ReadStream<FileProps> {
+
+  static final int CHUNK_SIZE = 256;
+
+  private static final class Dir {
+
+    private final String path;
+    private final DirectoryStream<Path> stream;
+    private final Iterator<Path> it;
+
+    private Dir(String path, DirectoryStream<Path> stream) {
+      this.path = path;
+      this.stream = stream;
+      this.it = stream.iterator();
+    }
+  }
+
+  private final ContextInternal context;
+  private final WorkerPool pool;
+  private final TaskQueue tasks = new TaskQueue();
+  private final Path root;
+  private final String path;
+  private final InboundBuffer<Object> queue;
+  private final Deque<Dir> dirs = new ArrayDeque<>(); // Accessed by the tasks
+  private boolean opened;                             // Accessed by the tasks
+  private Handler<FileProps> handler;
+  private Handler<Void> endHandler;
+  private Handler<Throwable> exceptionHandler;
+  private boolean reading;
+  private boolean walked;
+  private boolean closed;
+
+  DirectoryWalkStream(ContextInternal context, WorkerPool pool, Path root, String path) {
+    this.context = context;
+    this.pool = pool;
+    this.root = root;
+    this.path = path;
+    this.queue = new InboundBuffer<>(context, CHUNK_SIZE);
+    queue.handler(this::handleElement);
+    queue.drainHandler(v -> read());
+  }
+
+  @Override
+  public synchronized ReadStream<FileProps> exceptionHandler(Handler<Throwable> handler) {
+    this.exceptionHandler = handler;
+    return this;
+  }
+
+  @Override
+  public ReadStream<FileProps> handler(Handler<FileProps> handler) {
+    synchronized (this) {
+      if (closed) {
+        return this;
+      }
+      this.handler = handler;
+    }
+    if (handler != null) {
+      read();
+    } else {
+      close();
+    }
+    return this;
+  }
+
+  @Override
+  public ReadStream<FileProps> pause() {
+    queue.pause();
+    return this;
+  }
+
+  @Override
+  public ReadStream<FileProps> resume() {
+    queue.resume();
+    return this;
+  }
+
+  @Override
+  public ReadStream<FileProps> fetch(long amount) {
+    queue.fetch(amount);
+    return this;
+  }
+
+  @Override
+  public synchronized ReadStream<FileProps> endHandler(Handler<Void> endHandler) {
+    this.endHandler = endHandler;
+    return this;
+  }
+
+  private synchronized void read() {
+    if (reading || walked || closed) {
+      return;
+    }
+    reading = true;
+    context.executeBlocking(this::readChunk, pool, tasks).setHandler(ar -> {
+      List<Object> chunk = ar.result();
+      synchronized (this) {
+        reading = false;
+        if (closed) {
+          return;
+        }
+        walked = ar.succeeded() && chunk.get(chunk.size() - 1) == InboundBuffer.END_SENTINEL;
+      }
+      if (ar.failed()) {
+        handleException(ar.cause());
+      } else if (queue.write(chunk) && !walked) {
+        read();
+      }
+    });
+  }
+
+  private void readChunk(Promise<List<Object>> promise) {
+    List<Object> chunk = new ArrayList<>(CHUNK_SIZE);
+    try {
+      if (!opened) {
+        opened = true;
+        dirs.push(new Dir(path, Files.newDirectoryStream(root)));
+      }
+      while (chunk.size() < CHUNK_SIZE) {
+        Dir dir = dirs.peek();
+        if (dir == null) {
+          chunk.add(InboundBuffer.END_SENTINEL);
+          break;
+        }
+        if (!dir.it.hasNext()) {
+          dirs.pop().stream.close();
+          continue;
+        }
+        Path entry = dir.it.next();
+        String entryPath = new File(dir.path, entry.getFileName().toString()).getPath();
+        try {
+          BasicFileAttributes attrs = Files.readAttributes(entry, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+          if (attrs.isDirectory()) {
+            dirs.push(new Dir(entryPath, Files.newDirectoryStream(entry)));
+          }
+          chunk.add(new FilePropsImpl(entryPath, attrs));
+        } catch (NoSuchFileException ignore) {
+          // Deleted during the walk
+        }
+      }
+    } catch (IOException e) {
+      closeDirs();
+      promise.fail(new FileSystemException(e));
+      return;
+    } catch (DirectoryIteratorException e) {
+      closeDirs();
+      promise.fail(new FileSystemException(e.getCause()));
+      return;
+    }
+    promise.complete(chunk);
+  }
+
+  private void closeDirs() {
+    Dir dir;
+    while ((dir = dirs.poll()) != null) {
+      try {
+        dir.stream.close();
+      } catch (IOException ignore) {
+      }
+    }
+  }
+
+  private void close() {
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+    }
+    queue.clear();
+    context.executeBlocking(p -> {
+      closeDirs();
+      p.complete();
+    }, pool, tasks);
+  }
+
+  private void handleElement(Object element) {
+    if (element == InboundBuffer.END_SENTINEL) {
+      Handler<Void> endHandler;
+      synchronized (this) {
+        closed = true;
+        endHandler = this.endHandler;
+      }
+      if (endHandler != null) {
+        endHandler.handle(null);
+      }
+    } else {
+      Handler<FileProps> handler;
+      synchronized (this) {
+        handler = this.handler;
+      }
+      if (handler != null) {
+        handler.handle((FileProps) element);
+      }
+    }
+  }
+
+  private void handleException(Throwable t) {
+    Handler<Throwable> exceptionHandler;
+    synchronized (this) {
+      closed = true;
+      exceptionHandler = this.exceptionHandler;
+    }
+    if (exceptionHandler != null) {
+      exceptionHandler.handle(t);
+    } else {
+      context.reportException(t);
+    }
+  }
+}
@@ -26,8 +26,10 @@ public class FilePropsImpl implements FileProps {
   private final boolean isRegularFile;
   private final boolean isSymbolicLink;
   private final long size;
+  private final String path;
 
-  public FilePropsImpl(BasicFileAttributes attrs) {
+  public FilePropsImpl(String path, BasicFileAttributes attrs) {
+    this.path = path;
     creationTime = attrs.creationTime().toMillis();
     lastModifiedTime = attrs.lastModifiedTime().toMillis();
     lastAccessTime = attrs.lastAccessTime().toMillis();
@@ -77,4 +79,9 @@ public class FilePropsImpl implements FileProps {
   public long size() {
     return size;
   }
+
+  @Override
+  public String path() {
+    return path;
+  }
 }
@@ -19,13 +19,17 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
-import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.util.Enumeration;
+import java.util.Iterator;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
@@ -44,6 +48,11 @@ import static io.vertx.core.net.impl.URIDecoder.*;
  *
  * There is one cache dir per Vert.x instance and they are deleted on Vert.x shutdown.
  *
+ * When file caching is enabled, the class path resolution of a file name is done once and its result, the extracted
+ * file or the absence of the file, is kept in a bounded resolution cache. The concurrent resolutions of a name wait
+ * for the first one, the resolutions of different names and the extractions of resources are not serialized: a
+ * resource is extracted to a temporary file and moved atomically to its location in the cache dir.
+ *
  * @author <a href="http://tfox.org">Tim Fox</a>
  * @author <a href="https://github.com/rworsnop/">Rob Worsnop</a>
  */
@@ -58,11 +67,13 @@ public class FileResolver {
   private static final Pattern JAR_URL_SEP_PATTERN = Pattern.compile(JAR_URL_SEP);
 
   private final File cwd;
-  private File cacheDir;
+  private volatile File cacheDir;
   private Thread shutdownHook;
   private final boolean enableCaching;
   private final boolean enableCpResolving;
   private final String fileCacheDir;
+  private final int resolutionCacheMaxSize;
+  private final ConcurrentMap<String, FutureTask<File>> resolutions;
 
   public FileResolver() {
     this(new FileSystemOptions());
@@ -72,6 +83,8 @@ public class FileResolver {
     this.enableCaching = fileSystemOptions.isFileCachingEnabled();
     this.enableCpResolving = fileSystemOptions.isClassPathResolvingEnabled();
     this.fileCacheDir = fileSystemOptions.getFileCacheDir();
+    this.resolutionCacheMaxSize = fileSystemOptions.getResolutionCacheMaxSize();
+    this.resolutions = enableCaching && resolutionCacheMaxSize > 0 ? new ConcurrentHashMap<>() : null;
 
     String cwdOverride = System.getProperty("vertx.cwd");
     if (cwdOverride != null) {
@@ -81,6 +94,7 @@ public class FileResolver {
     }
     if (this.enableCpResolving) {
       setupCacheDir();
+      fileSystemOptions.getResolutionWarmUpFiles().forEach(this::resolveFile);
     }
   }
 
@@ -97,6 +111,9 @@ public class FileResolver {
         }
       }
     }
+    if (resolutions != null) {
+      resolutions.clear();
+    }
     deleteCacheDir();
   }
 
@@ -106,43 +123,103 @@ public class FileResolver {
     if (cwd != null && !file.isAbsolute()) {
       file = new File(cwd, fileName);
     }
-    if (!this.enableCpResolving) {
+    if (!this.enableCpResolving || file.exists()) {
       return file;
     }
-    // We need to synchronized here to avoid 2 different threads to copy the file to the cache directory and so
-    // corrupting the content.
-    synchronized (this) {
-      if (!file.exists()) {
-        // Look for it in local file cache
-        File cacheFile = new File(cacheDir, fileName);
-        if (this.enableCaching && cacheFile.exists()) {
-          return cacheFile;
-        }
-        // Look for file on classpath
-        ClassLoader cl = getClassLoader();
-        if (NON_UNIX_FILE_SEP) {
-          fileName = fileName.replace(FILE_SEP, "/");
-        }
+    ClassLoader cl = getClassLoader();
+    File resolved;
+    if (resolutions != null) {
+      resolved = resolveCached(file, fileName, cl);
+    } else {
+      resolved = resolveFromClassPath(file, fileName, cl);
+    }
+    return resolved != null ? resolved : file;
+  }
 
-        //https://github.com/eclipse/vert.x/issues/2126
-        //Cache all elements in the parent directory if it exists
-        //this is so that listing the directory after an individual file has
-        //been read works.
-        String parentFileName = file.getParent();
-        if (parentFileName != null) {
-          URL directoryContents = cl.getResource(parentFileName);
-          if (directoryContents != null) {
-            unpackUrlResource(directoryContents, parentFileName, cl, true);
-          }
-        }
+  /**
+   * Resolve the file name from the class path once, the concurrent resolutions of the name wait for the first one.
+   * <p>
+   * The absence of a resource is only kept when it is looked up with the class loader of the resolver, so an isolated
+   * class loader always looks up the resources missing from the class path of the resolver.
+   */
+  private File resolveCached(File file, String fileName, ClassLoader cl) {
+    FutureTask<File> resolution = resolutions.get(fileName);
+    if (resolution == null) {
+      FutureTask<File> task = new FutureTask<>(() -> resolveFromClassPath(file, fileName, cl));
+      resolution = resolutions.putIfAbsent(fileName, task);
+      if (resolution == null) {
+        evictResolution();
+        task.run();
+        resolution = task;
+      }
+    }
+    File resolved;
+    try {
+      resolved = resolution.get();
+    } catch (ExecutionException e) {
+      resolutions.remove(fileName, resolution);
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new VertxException(cause);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new VertxException(e);
+    }
+    if (resolved == null && cl != getClass().getClassLoader()) {
+      resolutions.remove(fileName, resolution);
+      resolved = resolveFromClassPath(file, fileName, cl);
+    }
+    return resolved;
+  }
 
-        URL url = cl.getResource(fileName);
-        if (url != null) {
-          return unpackUrlResource(url, fileName, cl, false);
+  /**
+   * Evict an arbitrary completed resolution when the cache is full.
+   */
+  private void evictResolution() {
+    if (resolutions.size() > resolutionCacheMaxSize) {
+      Iterator<FutureTask<File>> it = resolutions.values().iterator();
+      while (it.hasNext()) {
+        if (it.next().isDone()) {
+          it.remove();
+          return;
         }
       }
     }
-    return file;
+  }
+
+  /**
+   * @return the file extracted from the class path or {@code null} when the class path does not contain the file
+   */
+  private File resolveFromClassPath(File file, String fileName, ClassLoader cl) {
+    // Look for it in local file cache
+    File cacheFile = new File(cacheDir, fileName);
+    if (this.enableCaching && cacheFile.exists()) {
+      return cacheFile;
+    }
+    // Look for file on classpath
+    if (NON_UNIX_FILE_SEP) {
+      fileName = fileName.replace(FILE_SEP, "/");
+    }
+
+    //https://github.com/eclipse/vert.x/issues/2126
+    //Cache all elements in the parent directory if it exists
+    //this is so that listing the directory after an individual file has
+    //been read works.
+    String parentFileName = file.getParent();
+    if (parentFileName != null) {
+      URL directoryContents = cl.getResource(parentFileName);
+      if (directoryContents != null) {
+        unpackUrlResource(directoryContents, parentFileName, cl, true);
+      }
+    }
+
+    URL url = cl.getResource(fileName);
+    if (url != null) {
+      return unpackUrlResource(url, fileName, cl, false);
+    }
+    return null;
   }
 
   private File unpackUrlResource(URL url, String fileName, ClassLoader cl, boolean isDir) {
@@ -163,19 +240,14 @@ public class FileResolver {
   }
 
 
-  private synchronized File unpackFromFileURL(URL url, String fileName, ClassLoader cl) {
+  private File unpackFromFileURL(URL url, String fileName, ClassLoader cl) {
     final File resource = new File(decodeURIComponent(url.getPath(), false));
     boolean isDirectory = resource.isDirectory();
     File cacheFile = new File(cacheDir, fileName);
     if (!isDirectory) {
       cacheFile.getParentFile().mkdirs();
-      try {
-        if (this.enableCaching) {
-          Files.copy(resource.toPath(), cacheFile.toPath());
-        } else {
-          Files.copy(resource.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
-        }
-      } catch (FileAlreadyExistsException ignore) {
+      try (InputStream is = Files.newInputStream(resource.toPath())) {
+        copyToCache(is, cacheFile);
       } catch (IOException e) {
         throw new VertxException(e);
       }
@@ -191,7 +263,7 @@ public class FileResolver {
     return cacheFile;
   }
 
-  private synchronized File unpackFromJarURL(URL url, String fileName, ClassLoader cl) {
+  private File unpackFromJarURL(URL url, String fileName, ClassLoader cl) {
     ZipFile zip = null;
     try {
       String path = url.getPath();
@@ -232,12 +304,7 @@ public class FileResolver {
           } else {
             file.getParentFile().mkdirs();
             try (InputStream is = zip.getInputStream(entry)) {
-              if (this.enableCaching) {
-                Files.copy(is, file.toPath());
-              } else {
-                Files.copy(is, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
-              }
-            } catch (FileAlreadyExistsException ignore) {
+              copyToCache(is, file);
             }
           }
         }
@@ -281,7 +348,7 @@ public class FileResolver {
    * @param url      the url
    * @return the extracted file
    */
-  private synchronized File unpackFromBundleURL(URL url, boolean isDir) {
+  private File unpackFromBundleURL(URL url, boolean isDir) {
     try {
       File file = new File(cacheDir, url.getHost() + File.separator + url.getFile());
       file.getParentFile().mkdirs();
@@ -291,12 +358,7 @@ public class FileResolver {
       } else {
         file.getParentFile().mkdirs();
         try (InputStream is = url.openStream()) {
-          if (this.enableCaching) {
-            Files.copy(is, file.toPath());
-          } else {
-            Files.copy(is, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
-          }
-        } catch (FileAlreadyExistsException ignore) {
+          copyToCache(is, file);
         }
       }
     } catch (IOException e) {
@@ -306,6 +368,23 @@ public class FileResolver {
   }
 
 
+  /**
+   * Copy a resource to the cache dir. The resource is copied to a temporary file that is then moved atomically, so
+   * concurrent extractions of the same resource never expose a partially copied file.
+   */
+  private void copyToCache(InputStream is, File file) throws IOException {
+    if (this.enableCaching && file.exists()) {
+      return;
+    }
+    Path tmp = Files.createTempFile(file.getParentFile().toPath(), "." + file.getName() + "-", ".tmp");
+    try {
+      Files.copy(is, tmp, StandardCopyOption.REPLACE_EXISTING);
+      Files.move(tmp, file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(tmp);
+    }
+  }
+
   private ClassLoader getClassLoader() {
     ClassLoader cl = Thread.currentThread().getContextClassLoader();
     if (cl == null) {
@@ -26,6 +26,7 @@ import io.vertx.core.file.FileSystemProps;
 import io.vertx.core.file.OpenOptions;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.streams.ReadStream;
 
 import java.io.File;
 import java.io.FilenameFilter;
@@ -38,6 +39,7 @@ import java.nio.file.FileVisitOption;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
@@ -227,6 +229,20 @@ public class FileSystemImpl implements FileSystem {
     return lpropsInternal(path).perform();
   }
 
+  public FileSystem propsBatch(List<String> paths, Handler<AsyncResult<List<FileProps>>> handler) {
+    propsBatch(paths).setHandler(handler);
+    return this;
+  }
+
+  @Override
+  public Future<List<FileProps>> propsBatch(List<String> paths) {
+    return propsBatchInternal(paths).runBulk();
+  }
+
+  public List<FileProps> propsBatchBlocking(List<String> paths) {
+    return propsBatchInternal(paths).perform();
+  }
+
   public FileSystem link(String link, String existing, Handler<AsyncResult<Void>> handler) {
     link(link, existing).setHandler(handler);
     return this;
@@ -404,6 +420,12 @@ public class FileSystemImpl implements FileSystem {
     return readDirInternal(path, filter).perform();
   }
 
+  @Override
+  public ReadStream<FileProps> readDirRecursive(String path) {
+    Objects.requireNonNull(path);
+    return new DirectoryWalkStream(vertx.getOrCreateContext(), vertx.getFileSystemPool(), vertx.resolveFile(path).toPath(), path);
+  }
+
   public FileSystem readFile(String path, Handler<AsyncResult<Buffer>> handler) {
     readFile(path).setHandler(handler);
     return this;
@@ -491,6 +513,20 @@ public class FileSystemImpl implements FileSystem {
     return existsInternal(path).perform();
   }
 
+  public FileSystem existsBatch(List<String> paths, Handler<AsyncResult<List<Boolean>>> handler) {
+    existsBatch(paths).setHandler(handler);
+    return this;
+  }
+
+  @Override
+  public Future<List<Boolean>> existsBatch(List<String> paths) {
+    return existsBatchInternal(paths).runBulk();
+  }
+
+  public List<Boolean> existsBatchBlocking(List<String> paths) {
+    return existsBatchInternal(paths).perform();
+  }
+
   public FileSystem fsProps(String path, Handler<AsyncResult<FileSystemProps>> handler) {
     fsProps(path).setHandler(handler);
     return this;
@@ -800,7 +836,7 @@ public class FileSystemImpl implements FileSystem {
           } else {
             attrs = Files.readAttributes(target, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
           }
-          return new FilePropsImpl(attrs);
+          return new FilePropsImpl(path, attrs);
         } catch (IOException e) {
           throw new FileSystemException(e);
         }
@@ -808,6 +844,26 @@ public class FileSystemImpl implements FileSystem {
     };
   }
 
+  private BlockingAction<List<FileProps>> propsBatchInternal(List<String> paths) {
+    Objects.requireNonNull(paths);
+    return new BlockingAction<List<FileProps>>() {
+      public List<FileProps> perform() {
+        List<FileProps> props = new ArrayList<>(paths.size());
+        for (String path : paths) {
+          try {
+            Path target = vertx.resolveFile(path).toPath();
+            props.add(new FilePropsImpl(path, Files.readAttributes(target, BasicFileAttributes.class)));
+          } catch (NoSuchFileException e) {
+            props.add(null);
+          } catch (IOException e) {
+            throw new FileSystemException(e);
+          }
+        }
+        return props;
+      }
+    };
+  }
+
   private BlockingAction<Void> linkInternal(String link, String existing) {
     return link(link, existing, false);
   }
@@ -1117,6 +1173,19 @@ public class FileSystemImpl implements FileSystem {
     };
   }
 
+  private BlockingAction<List<Boolean>> existsBatchInternal(List<String> paths) {
+    Objects.requireNonNull(paths);
+    return new BlockingAction<List<Boolean>>() {
+      public List<Boolean> perform() {
+        List<Boolean> exists = new ArrayList<>(paths.size());
+        for (String path : paths) {
+          exists.add(vertx.resolveFile(path).exists());
+        }
+        return exists;
+      }
+    };
+  }
+
   private BlockingAction<FileSystemProps> fsPropsInternal(String path) {
     Objects.requireNonNull(path);
     return new BlockingAction<FileSystemProps>() {
@@ -1147,6 +1216,13 @@ public class FileSystemImpl implements FileSystem {
       return context.executeBlockingInternal(this);
     }
 
+    /**
+     * Run the blocking action using a thread from the file system bulk pool.
+     */
+    public Future<T> runBulk() {
+      return context.executeBlocking(this, vertx.getFileSystemPool(), null);
+    }
+
     @Override
     public void handle(Promise<T> fut) {
       try {
@@ -192,6 +192,11 @@ public class HttpClientOptions extends ClientOptionsBase {
    */
   public static final int DEFAULT_POOL_CLEANER_PERIOD = 1000;
 
+  /**
+   * Default pool event loop affinity = {@code false}
+   */
+  public static final boolean DEFAULT_POOL_EVENT_LOOP_AFFINITY = false;
+
   private boolean verifyHost = true;
   private int maxPoolSize;
   private boolean keepAlive;
@@ -203,6 +208,7 @@ public class HttpClientOptions extends ClientOptionsBase {
   private int http2ConnectionWindowSize;
   private int http2KeepAliveTimeout;
   private int poolCleanerPeriod;
+  private boolean poolEventLoopAffinity;
 
   private boolean tryUseCompression;
   private int maxWebSocketFrameSize;
@@ -272,6 +278,7 @@ public class HttpClientOptions extends ClientOptionsBase {
     this.forceSni = other.forceSni;
     this.decoderInitialBufferSize = other.getDecoderInitialBufferSize();
     this.poolCleanerPeriod = other.getPoolCleanerPeriod();
+    this.poolEventLoopAffinity = other.isPoolEventLoopAffinity();
     this.tryUsePerFrameWebSocketCompression = other.tryUsePerFrameWebSocketCompression;
     this.tryUsePerMessageWebSocketCompression = other.tryUsePerMessageWebSocketCompression;
     this.webSocketAllowClientNoContext = other.webSocketAllowClientNoContext;
@@ -335,6 +342,7 @@ public class HttpClientOptions extends ClientOptionsBase {
     webSocketAllowClientNoContext = DEFAULT_WEBSOCKET_ALLOW_CLIENT_NO_CONTEXT;
     webSocketRequestServerNoContext = DEFAULT_WEBSOCKET_REQUEST_SERVER_NO_CONTEXT;
     poolCleanerPeriod = DEFAULT_POOL_CLEANER_PERIOD;
+    poolEventLoopAffinity = DEFAULT_POOL_EVENT_LOOP_AFFINITY;
   }
 
   @Override
@@ -1225,4 +1233,26 @@ public class HttpClientOptions extends ClientOptionsBase {
     this.poolCleanerPeriod = poolCleanerPeriod;
     return this;
   }
+
+  /**
+   * @return whether the connection pool of a server keeps a sub-pool per event loop
+   */
+  public boolean isPoolEventLoopAffinity() {
+    return poolEventLoopAffinity;
+  }
+
+  /**
+   * Set whether the connection pool of a server keeps a sub-pool per event loop.
+   * <p/>
+   * A request then uses an idle connection of its event loop or creates one, and falls back on an idle
+   * connection of another event loop when the max pool size is reached. The sub-pools share the max pool size,
+   * the max wait queue size applies to each sub-pool.
+   *
+   * @param poolEventLoopAffinity {@code true} to keep a sub-pool per event loop
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setPoolEventLoopAffinity(boolean poolEventLoopAffinity) {
+    this.poolEventLoopAffinity = poolEventLoopAffinity;
+    return this;
+  }
 }
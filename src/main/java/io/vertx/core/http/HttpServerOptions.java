@@ -130,6 +130,11 @@ public class HttpServerOptions extends NetServerOptions {
    */
   public static final boolean DEFAULT_WEBSOCKET_PREFERRED_CLIENT_NO_CONTEXT = false;
 
+  /**
+   * Default max number of files kept open by the send file cache = 0 (disabled)
+   */
+  public static final int DEFAULT_SEND_FILE_CACHE_MAX_SIZE = 0;
+
   private boolean compressionSupported;
   private int compressionLevel;
   private int maxWebSocketFrameSize;
@@ -150,6 +155,7 @@ public class HttpServerOptions extends NetServerOptions {
   private int webSocketCompressionLevel;
   private boolean webSocketAllowServerNoContext;
   private boolean webSocketPreferredClientNoContext;
+  private int sendFileCacheMaxSize;
 
   /**
    * Default constructor
@@ -187,6 +193,7 @@ public class HttpServerOptions extends NetServerOptions {
     this.webSocketCompressionLevel = other.webSocketCompressionLevel;
     this.webSocketPreferredClientNoContext = other.webSocketPreferredClientNoContext;
     this.webSocketAllowServerNoContext = other.webSocketAllowServerNoContext;
+    this.sendFileCacheMaxSize = other.sendFileCacheMaxSize;
   }
 
   /**
@@ -232,6 +239,7 @@ public class HttpServerOptions extends NetServerOptions {
     webSocketCompressionLevel = DEFAULT_WEBSOCKET_COMPRESSION_LEVEL;
     webSocketPreferredClientNoContext = DEFAULT_WEBSOCKET_PREFERRED_CLIENT_NO_CONTEXT;
     webSocketAllowServerNoContext = DEFAULT_WEBSOCKET_ALLOW_SERVER_NO_CONTEXT;
+    sendFileCacheMaxSize = DEFAULT_SEND_FILE_CACHE_MAX_SIZE;
   }
 
   @Override
@@ -729,6 +737,11 @@ public class HttpServerOptions extends NetServerOptions {
     return (HttpServerOptions) super.setSni(sni);
   }
 
+  @Override
+  public HttpServerOptions setAcceptBalancing(AcceptBalancing acceptBalancing) {
+    return (HttpServerOptions) super.setAcceptBalancing(acceptBalancing);
+  }
+
   /**
    * @return {@code true} if the server supports decompression
    */
@@ -860,4 +873,26 @@ public class HttpServerOptions extends NetServerOptions {
   public boolean getWebSocketPreferredClientNoContext() {
     return this.webSocketPreferredClientNoContext;
   }
+
+  /**
+   * @return the max number of files kept open by the send file cache
+   */
+  public int getSendFileCacheMaxSize() {
+    return sendFileCacheMaxSize;
+  }
+
+  /**
+   * Set the max number of files kept open by the send file cache, {@code 0} disables the cache.
+   * <p/>
+   * The cache keeps the files sent by the responses open with their length and content type, the files sent
+   * again are checked for changes with their last modification time and size instead of being resolved and opened.
+   *
+   * @param sendFileCacheMaxSize the max number of files
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setSendFileCacheMaxSize(int sendFileCacheMaxSize) {
+    Arguments.require(sendFileCacheMaxSize >= 0, "sendFileCacheMaxSize must be >= 0");
+    this.sendFileCacheMaxSize = sendFileCacheMaxSize;
+    return this;
+  }
 }
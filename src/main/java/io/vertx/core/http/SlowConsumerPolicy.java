@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.http;
+
+import io.vertx.codegen.annotations.VertxGen;
+
+/**
+ * What a {@link WebSocketGroup} does with a member whose write queue is full when a message is broadcast.
+ */
+@VertxGen
+public enum SlowConsumerPolicy {
+
+  /**
+   * The message is written to the member anyway and buffered by the connection.
+   */
+  BUFFER,
+
+  /**
+   * The message is not written to the member.
+   */
+  DROP,
+
+  /**
+   * The connection of the member is closed without waiting for its write queue to be flushed and the member is
+   * removed from the group.
+   */
+  DISCONNECT
+
+}
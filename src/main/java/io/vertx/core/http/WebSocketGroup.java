@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.http;
+
+import io.vertx.codegen.annotations.Fluent;
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.impl.WebSocketGroupImpl;
+import io.vertx.core.impl.VertxInternal;
+
+/**
+ * A group of server WebSockets receiving the same messages.
+ * <p>
+ * A message broadcast to the group is encoded once in a shared buffer that is written to every member, instead
+ * of being encoded for each member like {@link ServerWebSocket#writeTextMessage} or the event bus handlers of the
+ * WebSockets do. The shared frames are not compressed, a member that negotiated the per-message deflate extension
+ * receives them uncompressed.
+ * <p>
+ * A member is removed from the group when it is closed. The members whose write queue is full are handled according
+ * to the {@link WebSocketGroupOptions#getSlowConsumerPolicy()} of the group.
+ */
+@VertxGen
+public interface WebSocketGroup {
+
+  /**
+   * Create a group with the default options.
+   *
+   * @param vertx the Vert.x instance
+   * @return the group
+   */
+  static WebSocketGroup create(Vertx vertx) {
+    return create(vertx, new WebSocketGroupOptions());
+  }
+
+  /**
+   * Create a group.
+   *
+   * @param vertx the Vert.x instance
+   * @param options the options of the group
+   * @return the group
+   */
+  static WebSocketGroup create(Vertx vertx, WebSocketGroupOptions options) {
+    return new WebSocketGroupImpl((VertxInternal) vertx, new WebSocketGroupOptions(options));
+  }
+
+  /**
+   * Add a WebSocket to the group, the WebSocket is accepted when it is added unless its handshake was set with
+   * {@link ServerWebSocket#setHandshake}: the broadcasts skip it until this handshake completes. A closed or rejected
+   * WebSocket is not added.
+   *
+   * @param webSocket the WebSocket to add
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  WebSocketGroup add(ServerWebSocket webSocket);
+
+  /**
+   * Remove a WebSocket from the group.
+   *
+   * @param webSocket the WebSocket to remove
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  WebSocketGroup remove(ServerWebSocket webSocket);
+
+  /**
+   * @return the number of members of the group
+   */
+  int size();
+
+  /**
+   * Broadcast a text message to the members of the group.
+   *
+   * @param text the message
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  WebSocketGroup writeTextMessage(String text);
+
+  /**
+   * Broadcast a binary message to the members of the group.
+   *
+   * @param data the message
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  WebSocketGroup writeBinaryMessage(Buffer data);
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.http;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.core.impl.Arguments;
+import io.vertx.core.json.JsonObject;
+
+import java.util.Objects;
+
+/**
+ * Options configuring a {@link WebSocketGroup}.
+ */
+@DataObject(generateConverter = true, publicConverter = false)
+public class WebSocketGroupOptions {
+
+  /**
+   * The default policy applied to the slow members = {@link SlowConsumerPolicy#BUFFER}
+   */
+  public static final SlowConsumerPolicy DEFAULT_SLOW_CONSUMER_POLICY = SlowConsumerPolicy.BUFFER;
+
+  /**
+   * The default maximum size of the frames of a broadcast message = 65536
+   */
+  public static final int DEFAULT_MAX_FRAME_SIZE = HttpServerOptions.DEFAULT_MAX_WEBSOCKET_FRAME_SIZE;
+
+  private SlowConsumerPolicy slowConsumerPolicy;
+  private int maxFrameSize;
+
+  /**
+   * Default constructor
+   */
+  public WebSocketGroupOptions() {
+    slowConsumerPolicy = DEFAULT_SLOW_CONSUMER_POLICY;
+    maxFrameSize = DEFAULT_MAX_FRAME_SIZE;
+  }
+
+  /**
+   * Copy constructor
+   *
+   * @param other the options to copy
+   */
+  public WebSocketGroupOptions(WebSocketGroupOptions other) {
+    this.slowConsumerPolicy = other.getSlowConsumerPolicy();
+    this.maxFrameSize = other.getMaxFrameSize();
+  }
+
+  /**
+   * Create options from JSON
+   *
+   * @param json the JSON
+   */
+  public WebSocketGroupOptions(JsonObject json) {
+    this();
+    WebSocketGroupOptionsConverter.fromJson(json, this);
+  }
+
+  /**
+   * @return the policy applied to the members whose write queue is full
+   */
+  public SlowConsumerPolicy getSlowConsumerPolicy() {
+    return slowConsumerPolicy;
+  }
+
+  /**
+   * Set the policy applied to the members whose write queue is full when a message is broadcast.
+   *
+   * @param slowConsumerPolicy the policy
+   * @return a reference to this, so the API can be used fluently
+   */
+  public WebSocketGroupOptions setSlowConsumerPolicy(SlowConsumerPolicy slowConsumerPolicy) {
+    this.slowConsumerPolicy = Objects.requireNonNull(slowConsumerPolicy, "No null slow consumer policy accepted");
+    return this;
+  }
+
+  /**
+   * @return the maximum size of the frames of a broadcast message
+   */
+  public int getMaxFrameSize() {
+    return maxFrameSize;
+  }
+
+  /**
+   * Set the maximum size of the frames of a broadcast message, a larger message is fragmented in continuation frames.
+   *
+   * @param maxFrameSize the maximum frame size in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public WebSocketGroupOptions setMaxFrameSize(int maxFrameSize) {
+    Arguments.require(maxFrameSize > 0, "maxFrameSize must be > 0");
+    this.maxFrameSize = maxFrameSize;
+    return this;
+  }
+
+  /**
+   * @return a JSON representation of these options
+   */
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    WebSocketGroupOptionsConverter.toJson(this, json);
+    return json;
+  }
+}
@@ -12,6 +12,7 @@
 package io.vertx.core.http.impl;
 
 import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
@@ -23,6 +24,7 @@ import io.vertx.core.spi.metrics.HttpClientMetrics;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.LongSupplier;
 
 /**
@@ -42,6 +44,7 @@ class ConnectionManager {
   private final Map<EndpointKey, Endpoint> endpointMap = new ConcurrentHashMap<>();
   private final HttpVersion version;
   private final long maxSize;
+  private final boolean eventLoopAffinity;
   private long timerID;
 
   ConnectionManager(HttpClientImpl client,
@@ -54,6 +57,7 @@ class ConnectionManager {
     this.metrics = metrics;
     this.maxSize = maxSize;
     this.version = version;
+    this.eventLoopAffinity = client.getOptions().isPoolEventLoopAffinity();
   }
 
   synchronized void start() {
@@ -62,7 +66,7 @@ class ConnectionManager {
   }
 
   private synchronized void checkExpired(long period) {
-    endpointMap.values().forEach(e -> e.pool.closeIdle());
+    endpointMap.values().forEach(Endpoint::closeIdle);
     timerID = client.getVertx().setTimer(period, id -> checkExpired(period));
   }
 
@@ -101,34 +105,41 @@ class ConnectionManager {
     }
   }
 
+  /**
+   * The pools of a server, either a single pool or with event loop affinity a sub-pool per event loop sharing
+   * the max pool size.
+   */
   class Endpoint {
 
-    private final Pool<HttpClientConnection> pool;
+    private final EndpointKey key;
+    private final String host;
+    private final int port;
     private final Object metric;
+    private final HttpChannelConnector connector;
+    private final Pool<HttpClientConnection> pool;                      // The pool without event loop affinity
+    private final Map<EventLoop, Pool<HttpClientConnection>> subPools; // The sub-pools with event loop affinity
+    private final AtomicLong weight;                                   // The weight shared by the sub-pools
+    private boolean closed;                                            // Guarded by the endpoint
 
-    public Endpoint(Pool<HttpClientConnection> pool, Object metric) {
-      this.pool = pool;
-      this.metric = metric;
-    }
-  }
-
-  void getConnection(ContextInternal ctx, SocketAddress peerAddress, boolean ssl, SocketAddress server, Handler<AsyncResult<HttpClientConnection>> handler) {
-    EndpointKey key = new EndpointKey(ssl, server, peerAddress);
-    while (true) {
-      Endpoint endpoint = endpointMap.computeIfAbsent(key, targetAddress -> {
-        int maxPoolSize = Math.max(client.getOptions().getMaxPoolSize(), client.getOptions().getHttp2MaxPoolSize());
-        String host;
-        int port;
-        if (server.isInetSocket()) {
-          host = server.host();
-          port = server.port();
-        } else {
-          host = server.path();
-          port = 0;
-        }
-        Object metric = metrics != null ? metrics.createEndpoint(host, port, maxPoolSize) : null;
-        HttpChannelConnector connector = new HttpChannelConnector(client, metric, version, ssl, peerAddress, server);
-        Pool<HttpClientConnection> pool = new Pool<>(ctx, connector, CLOCK, maxWaitQueueSize, connector.weight(), maxSize,
+    Endpoint(ContextInternal ctx, EndpointKey key) {
+      SocketAddress server = key.server;
+      if (server.isInetSocket()) {
+        host = server.host();
+        port = server.port();
+      } else {
+        host = server.path();
+        port = 0;
+      }
+      int maxPoolSize = Math.max(client.getOptions().getMaxPoolSize(), client.getOptions().getHttp2MaxPoolSize());
+      this.key = key;
+      this.metric = metrics != null ? metrics.createEndpoint(host, port, maxPoolSize) : null;
+      this.connector = new HttpChannelConnector(client, metric, version, key.ssl, key.peerAddress, server);
+      if (eventLoopAffinity) {
+        pool = null;
+        subPools = new ConcurrentHashMap<>();
+        weight = new AtomicLong();
+      } else {
+        pool = new Pool<>(ctx, connector, CLOCK, maxWaitQueueSize, connector.weight(), maxSize,
           v -> {
             if (metrics != null) {
               metrics.closeEndpoint(host, port, metric);
@@ -138,8 +149,115 @@ class ConnectionManager {
           conn -> connectionMap.put(conn.channel(), conn),
           conn -> connectionMap.remove(conn.channel(), conn),
           false);
-        return new Endpoint(pool, metric);
+        subPools = null;
+        weight = null;
+      }
+    }
+
+    /**
+     * Select the pool of a request: the sub-pool of the event loop of the request when it has an idle connection or
+     * can create one, otherwise a sub-pool with an idle connection. When there is none the request waits in the
+     * sub-pool of its event loop, unless this one has no connection to recycle while another sub-pool has.
+     *
+     * @return the pool or {@code null} when the endpoint is closed
+     */
+    Pool<HttpClientConnection> pool(ContextInternal ctx) {
+      if (pool != null) {
+        return pool;
+      }
+      EventLoop eventLoop = ctx.nettyEventLoop();
+      Pool<HttpClientConnection> own = subPools.get(eventLoop);
+      if (own != null && own.capacity() > 0) {
+        return own;
+      }
+      if (weight.get() < maxSize) {
+        return own != null ? own : subPool(ctx, eventLoop);
+      }
+      Pool<HttpClientConnection> busiest = null;
+      long busiestWeight = 0;
+      for (Pool<HttpClientConnection> subPool : subPools.values()) {
+        if (subPool != own) {
+          if (subPool.capacity() > 0) {
+            return subPool;
+          }
+          long subPoolWeight = subPool.weight();
+          if (subPoolWeight > busiestWeight) {
+            busiest = subPool;
+            busiestWeight = subPoolWeight;
+          }
+        }
+      }
+      if (busiest != null && (own == null || own.weight() == 0)) {
+        return busiest;
+      }
+      return own != null ? own : subPool(ctx, eventLoop);
+    }
+
+    private synchronized Pool<HttpClientConnection> subPool(ContextInternal ctx, EventLoop eventLoop) {
+      if (closed) {
+        return null;
+      }
+      return subPools.computeIfAbsent(eventLoop, l -> new Pool<>(ctx, connector, CLOCK, maxWaitQueueSize, connector.weight(), maxSize,
+        v -> subPoolClosed(eventLoop),
+        conn -> connectionMap.put(conn.channel(), conn),
+        conn -> {
+          connectionMap.remove(conn.channel(), conn);
+          weightReleased(eventLoop);
+        },
+        false,
+        weight,
+        handler -> ConnectionManager.this.getConnection(ctx, key, handler)));
+    }
+
+    private synchronized void subPoolClosed(EventLoop eventLoop) {
+      subPools.remove(eventLoop);
+      if (subPools.isEmpty()) {
+        closed = true;
+        if (metrics != null) {
+          metrics.closeEndpoint(host, port, metric);
+        }
+        endpointMap.remove(key, this);
+      }
+    }
+
+    /**
+     * Let the other sub-pools create the connections their waiters need, the sub-pool releasing the weight holds its
+     * lock so this is done on their event loop.
+     */
+    private void weightReleased(EventLoop eventLoop) {
+      subPools.forEach((subPoolEventLoop, subPool) -> {
+        if (subPoolEventLoop != eventLoop) {
+          subPoolEventLoop.execute(subPool::weightReleased);
+        }
       });
+    }
+
+    /**
+     * Get a connection for a request.
+     *
+     * @return whether the endpoint can satisfy the request
+     */
+    boolean getConnection(ContextInternal ctx, Handler<AsyncResult<HttpClientConnection>> handler) {
+      Pool<HttpClientConnection> pool = pool(ctx);
+      return pool != null && pool.getConnection(handler);
+    }
+
+    void closeIdle() {
+      if (pool != null) {
+        pool.closeIdle();
+      } else {
+        subPools.values().forEach(Pool::closeIdle);
+      }
+    }
+  }
+
+  void getConnection(ContextInternal ctx, SocketAddress peerAddress, boolean ssl, SocketAddress server, Handler<AsyncResult<HttpClientConnection>> handler) {
+    getConnection(ctx, new EndpointKey(ssl, server, peerAddress), handler);
+  }
+
+  private void getConnection(ContextInternal ctx, EndpointKey key, Handler<AsyncResult<HttpClientConnection>> handler) {
+    while (true) {
+      Endpoint endpoint = endpointMap.computeIfAbsent(key, k -> new Endpoint(ctx, k));
       Object metric;
       if (metrics != null) {
         metric = metrics.enqueueRequest(endpoint.metric);
@@ -147,7 +265,7 @@ class ConnectionManager {
         metric = null;
       }
 
-      if (endpoint.pool.getConnection(ar -> {
+      if (endpoint.getConnection(ctx, ar -> {
         if (metrics != null) {
           metrics.dequeueRequest(endpoint.metric, metric);
         }
@@ -81,6 +81,7 @@ public class Http1xServerConnection extends Http1xConnectionBase<ServerWebSocket
   final HttpServerMetrics metrics;
   final boolean handle100ContinueAutomatically;
   final HttpServerOptions options;
+  final SendFileCache sendFileCache;
 
   public Http1xServerConnection(VertxInternal vertx,
                                 SSLHelper sslHelper,
@@ -88,12 +89,14 @@ public class Http1xServerConnection extends Http1xConnectionBase<ServerWebSocket
                                 ChannelHandlerContext channel,
                                 ContextInternal context,
                                 String serverOrigin,
-                                HttpServerMetrics metrics) {
+                                HttpServerMetrics metrics,
+                                SendFileCache sendFileCache) {
     super(vertx, channel, context);
     this.serverOrigin = serverOrigin;
     this.options = options;
     this.sslHelper = sslHelper;
     this.metrics = metrics;
+    this.sendFileCache = sendFileCache;
     this.handle100ContinueAutomatically = options.isHandle100ContinueAutomatically();
   }
 
@@ -497,6 +497,10 @@ public class Http1xServerResponse implements HttpServerResponse {
       if (headWritten) {
         throw new IllegalStateException("Head already written");
       }
+      if (conn.sendFileCache != null) {
+        doSendCachedFile(conn.sendFileCache, filename, offset, length, resultHandler);
+        return;
+      }
       File file = vertx.resolveFile(filename);
 
       if (!file.exists()) {
@@ -541,47 +545,92 @@ public class Http1xServerResponse implements HttpServerResponse {
         return;
       }
       written = true;
+      sendFileCompleted(channelFuture, resultHandler);
+    }
+  }
 
-      ContextInternal ctx = vertx.getOrCreateContext();
-      channelFuture.addListener(future -> {
+  private void doSendCachedFile(SendFileCache cache, String filename, long offset, long length, Handler<AsyncResult<Void>> resultHandler) {
+    SendFileCache.Entry entry;
+    try {
+      entry = cache.acquire(filename);
+    } catch (IOException e) {
+      if (resultHandler != null) {
+        ContextInternal ctx = vertx.getOrCreateContext();
+        ctx.runOnContext((v) -> resultHandler.handle(Future.failedFuture(e)));
+      } else if (e instanceof FileNotFoundException) {
+        log.error("File not found: " + filename);
+      } else {
+        log.error("Failed to send file", e);
+      }
+      return;
+    }
 
-        // write an empty last content to let the http encoder know the response is complete
-        if (future.isSuccess()) {
-          ChannelPromise pr = conn.channelHandlerContext().newPromise();
-          conn.writeToChannel(LastHttpContent.EMPTY_LAST_CONTENT, pr);
-          if (!keepAlive) {
-            pr.addListener(a -> {
-              closeConnAfterWrite();
-            });
-          }
-        }
+    long contentLength = Math.min(length, entry.length - offset);
+    bytesWritten = contentLength;
+    if (!headers.contains(HttpHeaders.CONTENT_TYPE) && entry.contentType != null) {
+      headers.set(HttpHeaders.CONTENT_TYPE, entry.contentType);
+    }
+    prepareHeaders(bytesWritten);
 
-        // signal completion handler when there is one
-        if (resultHandler != null) {
-          AsyncResult<Void> res;
-          if (future.isSuccess()) {
-            res = Future.succeededFuture();
-          } else {
-            res = Future.failedFuture(future.cause());
-          }
-          ctx.dispatch(null, v -> resultHandler.handle(res));
-        }
+    ChannelFuture channelFuture;
+    try {
+      conn.writeToChannel(new AssembledHttpResponse(head, version, status, headers));
+      channelFuture = conn.sendFile(entry.channel, Math.min(offset, entry.length), contentLength);
+    } catch (IOException e) {
+      entry.release();
+      if (resultHandler != null) {
+        ContextInternal ctx = vertx.getOrCreateContext();
+        ctx.runOnContext((v) -> resultHandler.handle(Future.failedFuture(e)));
+      } else {
+        log.error("Failed to send file", e);
+      }
+      return;
+    }
+    channelFuture.addListener(future -> entry.release());
+    written = true;
+    sendFileCompleted(channelFuture, resultHandler);
+  }
 
-        // signal body end handler
-        Handler<Void> handler;
-        synchronized (conn) {
-          handler = bodyEndHandler;
-        }
-        if (handler != null) {
-          context.dispatch(v -> {
-            handler.handle(null);
+  private void sendFileCompleted(ChannelFuture channelFuture, Handler<AsyncResult<Void>> resultHandler) {
+    ContextInternal ctx = vertx.getOrCreateContext();
+    channelFuture.addListener(future -> {
+
+      // write an empty last content to let the http encoder know the response is complete
+      if (future.isSuccess()) {
+        ChannelPromise pr = conn.channelHandlerContext().newPromise();
+        conn.writeToChannel(LastHttpContent.EMPTY_LAST_CONTENT, pr);
+        if (!keepAlive) {
+          pr.addListener(a -> {
+            closeConnAfterWrite();
           });
         }
+      }
 
-        // allow to write next response
-        conn.responseComplete();
-      });
-    }
+      // signal completion handler when there is one
+      if (resultHandler != null) {
+        AsyncResult<Void> res;
+        if (future.isSuccess()) {
+          res = Future.succeededFuture();
+        } else {
+          res = Future.failedFuture(future.cause());
+        }
+        ctx.dispatch(null, v -> resultHandler.handle(res));
+      }
+
+      // signal body end handler
+      Handler<Void> handler;
+      synchronized (conn) {
+        handler = bodyEndHandler;
+      }
+      if (handler != null) {
+        context.dispatch(v -> {
+          handler.handle(null);
+        });
+      }
+
+      // allow to write next response
+      conn.responseComplete();
+    });
   }
 
   private void closeConnAfterWrite() {
@@ -39,6 +39,7 @@ public class Http2ServerConnection extends Http2ConnectionBase implements HttpSe
   final HttpServerOptions options;
   private final String serverOrigin;
   private final HttpServerMetrics metrics;
+  final SendFileCache sendFileCache;
 
   Handler<HttpServerRequest> requestHandler;
   private int concurrentStreams;
@@ -49,12 +50,14 @@ public class Http2ServerConnection extends Http2ConnectionBase implements HttpSe
       String serverOrigin,
       VertxHttp2ConnectionHandler connHandler,
       HttpServerOptions options,
-      HttpServerMetrics metrics) {
+      HttpServerMetrics metrics,
+      SendFileCache sendFileCache) {
     super(context, connHandler);
 
     this.options = options;
     this.serverOrigin = serverOrigin;
     this.metrics = metrics;
+    this.sendFileCache = sendFileCache;
   }
 
   @Override
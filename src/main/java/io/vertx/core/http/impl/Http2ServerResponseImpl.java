@@ -28,6 +28,7 @@ import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.file.AsyncFile;
+import io.vertx.core.file.OpenOptions;
 import io.vertx.core.http.Cookie;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
@@ -38,6 +39,7 @@ import io.vertx.core.http.impl.headers.Http2HeadersAdaptor;
 import io.vertx.core.net.NetSocket;
 import io.vertx.core.net.impl.ConnectionBase;
 
+import java.io.IOException;
 import java.util.Map;
 
 import static io.vertx.core.http.HttpHeaders.SET_COOKIE;
@@ -587,21 +589,13 @@ public class Http2ServerResponseImpl implements HttpServerResponse {
     } else {
       h = ar -> {};
     }
+    if (conn.sendFileCache != null) {
+      sendCachedFile(conn.sendFileCache, filename, offset, length, h);
+      return this;
+    }
     stream.resolveFile(filename, offset, length, ar -> {
       if (ar.succeeded()) {
-        AsyncFile file = ar.result();
-        long contentLength = Math.min(length, file.getReadLength());
-        if (headers.get(HttpHeaderNames.CONTENT_LENGTH) == null) {
-          putHeader(HttpHeaderNames.CONTENT_LENGTH, String.valueOf(contentLength));
-        }
-        if (headers.get(HttpHeaderNames.CONTENT_TYPE) == null) {
-          String contentType = MimeMapping.getMimeTypeForFilename(filename);
-          if (contentType != null) {
-            putHeader(HttpHeaderNames.CONTENT_TYPE, contentType);
-          }
-        }
-        checkSendHeaders(false);
-        file.pipeTo(this, h);
+        pipeFile(ar.result(), Math.min(length, ar.result().getReadLength()), MimeMapping.getMimeTypeForFilename(filename), h);
       } else {
         h.handle(ar.mapEmpty());
       }
@@ -609,6 +603,43 @@ public class Http2ServerResponseImpl implements HttpServerResponse {
     return this;
   }
 
+  /**
+   * The cache resolves the file and provides its length and content type, the file is then read asynchronously
+   * since the data frames are subject to the flow control of the stream.
+   */
+  private void sendCachedFile(SendFileCache cache, String filename, long offset, long length, Handler<AsyncResult<Void>> h) {
+    SendFileCache.Entry entry;
+    try {
+      entry = cache.acquire(filename);
+    } catch (IOException e) {
+      h.handle(Future.failedFuture(e));
+      return;
+    }
+    entry.release();
+    long contentLength = Math.min(length, entry.length - offset);
+    stream.vertx.fileSystem().open(entry.file.getPath(), new OpenOptions().setCreate(false).setWrite(false), ar -> {
+      if (ar.succeeded()) {
+        AsyncFile file = ar.result();
+        file.setReadPos(offset);
+        file.setReadLength(contentLength);
+        pipeFile(file, contentLength, entry.contentType, h);
+      } else {
+        h.handle(ar.mapEmpty());
+      }
+    });
+  }
+
+  private void pipeFile(AsyncFile file, long contentLength, String contentType, Handler<AsyncResult<Void>> h) {
+    if (headers.get(HttpHeaderNames.CONTENT_LENGTH) == null) {
+      putHeader(HttpHeaderNames.CONTENT_LENGTH, String.valueOf(contentLength));
+    }
+    if (headers.get(HttpHeaderNames.CONTENT_TYPE) == null && contentType != null) {
+      putHeader(HttpHeaderNames.CONTENT_TYPE, contentType);
+    }
+    checkSendHeaders(false);
+    file.pipeTo(this, h);
+  }
+
   @Override
   public void close() {
     conn.close();
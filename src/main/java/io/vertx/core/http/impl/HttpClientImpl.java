@@ -1171,7 +1171,9 @@ public class HttpClientImpl implements HttpClient, MetricsProvider {
                                boolean ssl,
                                SocketAddress server,
                                Handler<AsyncResult<HttpClientStream>> handler) {
-    httpCM.getConnection(context, peerAddress, ssl, server, ar -> {
+    // With event loop affinity the connection is borrowed from the sub-pool of the request event loop
+    ContextInternal poolCtx = options.isPoolEventLoopAffinity() ? ctx : context;
+    httpCM.getConnection(poolCtx, peerAddress, ssl, server, ar -> {
       if (ar.succeeded()) {
         ar.result().createStream(ctx, req, netSocketPromise, handler);
       } else {
@@ -51,6 +51,7 @@ import java.util.function.Function;
   private final HttpServerOptions options;
   private final String serverOrigin;
   private final HttpServerMetrics metrics;
+  private final SendFileCache sendFileCache;
   private final boolean logEnabled;
   private final boolean disableH2C;
   private final Function<EventLoop, HandlerHolder<? extends Handler<HttpServerConnection>>> connectionHandler;
@@ -61,6 +62,7 @@ import java.util.function.Function;
                                       HttpServerOptions options,
                                       String serverOrigin,
                                       HttpServerMetrics metrics,
+                                      SendFileCache sendFileCache,
                                       boolean disableH2C,
                                       Function<EventLoop, HandlerHolder<? extends Handler<HttpServerConnection>>> connectionHandler,
                                       Function<EventLoop, HandlerHolder<? extends Handler<Throwable>>> errorHandler) {
@@ -69,6 +71,7 @@ import java.util.function.Function;
     this.options = options;
     this.serverOrigin = serverOrigin;
     this.metrics = metrics;
+    this.sendFileCache = sendFileCache;
     this.logEnabled = options.getLogActivity();
     this.disableH2C = disableH2C;
     this.connectionHandler = connectionHandler;
@@ -195,7 +198,7 @@ import java.util.function.Function;
       .useDecompression(options.isDecompressionSupported())
       .compressionLevel(options.getCompressionLevel())
       .initialSettings(options.getInitialSettings())
-      .connectionFactory(connHandler -> new Http2ServerConnection(ctx, serverOrigin, connHandler, options, metrics))
+      .connectionFactory(connHandler -> new Http2ServerConnection(ctx, serverOrigin, connHandler, options, metrics, sendFileCache))
       .logEnabled(logEnabled)
       .build();
     handler.addHandler(conn -> {
@@ -247,7 +250,8 @@ import java.util.function.Function;
         chctx,
         holder.context,
         serverOrigin,
-        metrics);
+        metrics,
+        sendFileCache);
       return conn;
     });
     pipeline.addLast("handler", handler);
@@ -27,6 +27,7 @@ import io.vertx.core.impl.PromiseInternal;
 import io.vertx.core.impl.VertxInternal;
 import io.vertx.core.impl.logging.Logger;
 import io.vertx.core.impl.logging.LoggerFactory;
+import io.vertx.core.net.AcceptBalancing;
 import io.vertx.core.net.SocketAddress;
 import io.vertx.core.net.impl.*;
 import io.vertx.core.spi.metrics.HttpServerMetrics;
@@ -74,11 +75,13 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
   private ChannelGroup serverChannelGroup;
   private volatile boolean listening;
   private io.netty.util.concurrent.Future<Channel> bindFuture;
+  private ReusePortListeners reusePortListeners;
   private ServerID id;
   private HttpServerImpl actualServer;
   private volatile int actualPort;
   private ContextInternal listenContext;
   HttpServerMetrics metrics;
+  private SendFileCache sendFileCache;
   private Handler<Throwable> exceptionHandler;
 
   public HttpServerImpl(VertxInternal vertx, HttpServerOptions options) {
@@ -186,12 +189,14 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
   private ChannelHandler childHandler(SocketAddress address, String serverOrigin) {
     VertxMetrics vertxMetrics = vertx.metricsSPI();
     this.metrics = vertxMetrics != null ? vertxMetrics.createHttpServerMetrics(options, address) : null;
+    this.sendFileCache = options.getSendFileCacheMaxSize() > 0 ? new SendFileCache(vertx, options.getSendFileCacheMaxSize(), metrics) : null;
     return new HttpServerChannelInitializer(
       vertx,
       sslHelper,
       options,
       serverOrigin,
       metrics,
+      sendFileCache,
       disableH2c,
       httpHandlerMgr::chooseHandler,
       eventLoop -> {
@@ -207,6 +212,7 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
         if (!requestStream.accept() || !wsStream.accept()) {
           ch.close();
         } else {
+          reportAccepted(ch);
           super.initChannel(ch);
         }
       }
@@ -233,17 +239,27 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
       this.actualPort = port; // Will be updated on bind for a wildcard port
       id = new ServerID(port, hostOrPath);
       HttpServerImpl shared = sharedHttpServers.get(id);
+      io.netty.util.concurrent.Future<Channel> listenFuture;
       if (shared == null || port == 0) {
         serverChannelGroup = new DefaultChannelGroup("vertx-acceptor-channels", GlobalEventExecutor.INSTANCE);
+        AcceptBalancing balancing = ReusePortListeners.balancing(vertx, options, address);
+        availableWorkers.balancing(balancing);
         ServerBootstrap bootstrap = new ServerBootstrap();
-        bootstrap.group(vertx.getAcceptorEventLoopGroup(), availableWorkers);
+        if (balancing != AcceptBalancing.REUSE_PORT) {
+          bootstrap.group(vertx.getAcceptorEventLoopGroup(), availableWorkers);
+        }
         applyConnectionOptions(address.isDomainSocket(), bootstrap);
         sslHelper.validate(vertx);
         String serverOrigin = (options.isSsl() ? "https" : "http") + "://" + host + ":" + port;
         bootstrap.childHandler(childHandler(address, serverOrigin));
         addHandlers(this, listenContext);
         try {
-          bindFuture = AsyncResolveConnectHelper.doBind(vertx, address, bootstrap);
+          if (balancing == AcceptBalancing.REUSE_PORT) {
+            reusePortListeners = new ReusePortListeners(vertx, address, bootstrap, availableWorkers, serverChannelGroup);
+            bindFuture = reusePortListeners.bind(listenContext.nettyEventLoop());
+          } else {
+            bindFuture = AsyncResolveConnectHelper.doBind(vertx, address, bootstrap);
+          }
           bindFuture.addListener((GenericFutureListener<io.netty.util.concurrent.Future<Channel>>) res -> {
             if (!res.isSuccess()) {
               synchronized (sharedHttpServers) {
@@ -270,6 +286,7 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
         }
         sharedHttpServers.put(id, this);
         actualServer = this;
+        listenFuture = bindFuture;
       } else {
         // Server already exists with that host/port - we will use that
         actualServer = shared;
@@ -277,9 +294,20 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
         addHandlers(actualServer, listenContext);
         VertxMetrics metrics = vertx.metricsSPI();
         this.metrics = metrics != null ? metrics.createHttpServerMetrics(options, address) : null;
+        if (actualServer.reusePortListeners != null) {
+          // The event loop of this server needs its own listener
+          listenFuture = actualServer.reusePortListeners.bind(listenContext.nettyEventLoop());
+          listenFuture.addListener(res -> {
+            if (!res.isSuccess()) {
+              unregister();
+            }
+          });
+        } else {
+          listenFuture = actualServer.bindFuture;
+        }
       }
       Promise<HttpServer> promise = listenContext.promise();
-      actualServer.bindFuture.addListener(res -> {
+      listenFuture.addListener(res -> {
         if (res.isSuccess()) {
           promise.complete(this);
         } else {
@@ -372,8 +400,14 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
 
         if (actualServer.httpHandlerMgr.hasHandlers()) {
           // The actual server still has handlers so we don't actually close it
+          Promise<Void> unbound = Promise.promise();
+          if (actualServer.reusePortListeners != null && !actualServer.httpHandlerMgr.hasHandlers(listenContext.nettyEventLoop())) {
+            actualServer.reusePortListeners.unbind(listenContext.nettyEventLoop(), unbound);
+          } else {
+            unbound.complete();
+          }
           if (completion != null) {
-            executeCloseDone(context, completion, null);
+            unbound.future().setHandler(ar -> executeCloseDone(context, completion, null));
           }
         } else {
           // No Handlers left so close the actual server
@@ -413,6 +447,32 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
   }
 
 
+  private synchronized void unregister() {
+    if (listening) {
+      listening = false;
+      synchronized (vertx.sharedHttpServers()) {
+        actualServer.httpHandlerMgr.removeHandler(
+          new HttpHandlers(
+            this,
+            requestStream.handler(),
+            wsStream.handler(),
+            connectionHandler,
+            exceptionHandler == null ? DEFAULT_EXCEPTION_HANDLER : exceptionHandler)
+          , listenContext);
+      }
+    }
+  }
+
+  private void reportAccepted(Channel ch) {
+    HttpServerMetrics metrics = this.metrics;
+    if (metrics != null) {
+      // Called on the event loop of the channel
+      String eventLoop = Thread.currentThread().getName();
+      metrics.connectionAccepted(eventLoop, availableWorkers.connections(ch.eventLoop()));
+      ch.closeFuture().addListener(future -> metrics.acceptedConnectionClosed(eventLoop, availableWorkers.connections(ch.eventLoop())));
+    }
+  }
+
   private void addHandlers(HttpServerImpl server, ContextInternal context) {
     server.httpHandlerMgr.addHandler(
       new HttpHandlers(
@@ -444,6 +504,10 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
       metrics.close();
     }
 
+    if (sendFileCache != null) {
+      sendFileCache.close();
+    }
+
     ChannelGroupFuture fut = serverChannelGroup.close();
     fut.addListener(cgf -> executeCloseDone(closeContext, done, fut.cause()));
   }
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.http.impl;
+
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.spi.metrics.HttpServerMetrics;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The files sent by the responses of a server, kept open with their length and content type and shared by the
+ * connections of the server.
+ * <p>
+ * A file sent again is checked with a single stat of the file: when its last modification time and size are unchanged
+ * it is sent from the open channel, otherwise its entry is replaced. The file name is not resolved again as long as
+ * the entry is valid.
+ * <p>
+ * The cache keeps the most recently sent files. The entries are reference counted so an entry evicted or replaced
+ * while it is sent is closed once the send is done.
+ */
+class SendFileCache {
+
+  static final class Entry {
+
+    final File file;
+    final FileChannel channel;
+    final long length;
+    final String contentType;
+    private final FileTime lastModified;
+    private int refCount = 1;        // Guarded by the entry
+    private boolean cached = true;   // Guarded by the entry
+    private boolean closed;          // Guarded by the entry
+
+    private Entry(File file, FileChannel channel, long length, FileTime lastModified, String contentType) {
+      this.file = file;
+      this.channel = channel;
+      this.length = length;
+      this.lastModified = lastModified;
+      this.contentType = contentType;
+    }
+
+    private synchronized boolean retain() {
+      if (closed) {
+        return false;
+      }
+      refCount++;
+      return true;
+    }
+
+    /**
+     * Release the entry when its file has been sent.
+     */
+    synchronized void release() {
+      if (--refCount == 0 && !cached) {
+        close();
+      }
+    }
+
+    private synchronized void evict() {
+      cached = false;
+      if (refCount == 0) {
+        close();
+      }
+    }
+
+    private void close() {
+      closed = true;
+      try {
+        channel.close();
+      } catch (IOException ignore) {
+      }
+    }
+  }
+
+  private final VertxInternal vertx;
+  private final HttpServerMetrics metrics;
+  private final Map<String, Entry> entries;   // Access ordered, guarded by the cache
+  private boolean closed;
+
+  SendFileCache(VertxInternal vertx, int maxSize, HttpServerMetrics metrics) {
+    this.vertx = vertx;
+    this.metrics = metrics;
+    this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+        if (size() > maxSize) {
+          eldest.getValue().evict();
+          return true;
+        }
+        return false;
+      }
+    };
+  }
+
+  /**
+   * Acquire the entry of a file, the entry must be released when the file has been sent.
+   *
+   * @param filename the name of the file, as given to {@code sendFile}
+   * @return the entry
+   * @throws FileNotFoundException when the file does not exist or is not a regular file
+   * @throws IOException when the file cannot be opened
+   */
+  Entry acquire(String filename) throws IOException {
+    Entry entry;
+    synchronized (this) {
+      entry = entries.get(filename);
+    }
+    if (entry != null) {
+      BasicFileAttributes attributes = readAttributes(entry.file);
+      if (attributes != null && attributes.size() == entry.length && attributes.lastModifiedTime().equals(entry.lastModified) && entry.retain()) {
+        if (metrics != null) {
+          metrics.sendFileCacheHit(filename);
+        }
+        return entry;
+      }
+      remove(filename, entry);
+    }
+    if (metrics != null) {
+      metrics.sendFileCacheMiss(filename);
+    }
+    File file = vertx.resolveFile(filename);
+    BasicFileAttributes attributes = readAttributes(file);
+    if (attributes == null || !attributes.isRegularFile()) {
+      throw new FileNotFoundException();
+    }
+    FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+    entry = new Entry(file, channel, attributes.size(), attributes.lastModifiedTime(), MimeMapping.getMimeTypeForFilename(filename));
+    Entry previous = null;
+    synchronized (this) {
+      if (closed) {
+        entry.cached = false;
+      } else {
+        previous = entries.put(filename, entry);
+      }
+    }
+    if (previous != null) {
+      previous.evict();
+    }
+    return entry;
+  }
+
+  private synchronized void remove(String filename, Entry entry) {
+    if (entries.remove(filename, entry)) {
+      entry.evict();
+    }
+  }
+
+  /**
+   * Close the cache, the entries being sent are closed once released.
+   */
+  void close() {
+    List<Entry> evicted;
+    synchronized (this) {
+      closed = true;
+      evicted = new ArrayList<>(entries.values());
+      entries.clear();
+    }
+    evicted.forEach(Entry::evict);
+  }
+
+  private static BasicFileAttributes readAttributes(File file) throws IOException {
+    try {
+      return Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+    } catch (NoSuchFileException e) {
+      return null;
+    }
+  }
+}
@@ -11,6 +11,7 @@
 
 package io.vertx.core.http.impl;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelPipeline;
@@ -27,6 +28,8 @@ import io.vertx.core.impl.ContextInternal;
 import javax.net.ssl.SSLPeerUnverifiedException;
 import javax.net.ssl.SSLSession;
 import javax.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.List;
 
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
@@ -53,6 +56,7 @@ public class ServerWebSocketImpl extends WebSocketImplBase<ServerWebSocketImpl>
   private Http1xServerRequest request;
   private Integer status;
   private Promise<Integer> handshakePromise;
+  private List<WebSocketGroupImpl> groups;
 
   ServerWebSocketImpl(ContextInternal context,
                       Http1xServerConnection conn,
@@ -148,6 +152,75 @@ public class ServerWebSocketImpl extends WebSocketImplBase<ServerWebSocketImpl>
     }
   }
 
+  /**
+   * Write the frames encoded by a group.
+   *
+   * @param frames the encoded frames, released when they are not written
+   * @return {@code true} when the frames are written, {@code null} when the handshake set by
+   *         {@link #setHandshake} is still pending, {@code false} when the WebSocket is closed or rejected
+   */
+  Boolean writeEncodedFrames(ByteBuf frames) {
+    Boolean check;
+    synchronized (conn) {
+      check = closed ? Boolean.FALSE : checkAccept();
+      if (check == Boolean.TRUE) {
+        conn.writeToChannel(frames, conn.voidPromise);
+        return check;
+      }
+    }
+    frames.release();
+    return check;
+  }
+
+  /**
+   * Close the connection without sending a close frame, a slow consumer would not read it.
+   */
+  void disconnect() {
+    conn.channel().close();
+  }
+
+  /**
+   * Add a group to this WebSocket, the WebSocket is accepted unless it is closed, rejected or its handshake was set
+   * with {@link #setHandshake}.
+   *
+   * @return whether the group is added
+   */
+  boolean addGroup(WebSocketGroupImpl group) {
+    synchronized (conn) {
+      if (closed || checkAccept() == Boolean.FALSE) {
+        return false;
+      }
+      if (groups == null) {
+        groups = new ArrayList<>(1);
+      } else if (groups.contains(group)) {
+        return false;
+      }
+      groups.add(group);
+      return true;
+    }
+  }
+
+  void removeGroup(WebSocketGroupImpl group) {
+    synchronized (conn) {
+      if (groups != null) {
+        groups.remove(group);
+      }
+    }
+  }
+
+  @Override
+  void handleClosed() {
+    List<WebSocketGroupImpl> groups;
+    synchronized (conn) {
+      groups = this.groups;
+      this.groups = null;
+    }
+    if (groups != null) {
+      groups.forEach(group -> group.removeMember(this));
+    }
+    super.handleClosed();
+  }
+
   private Boolean checkAccept() {
     return tryHandshake(SC_SWITCHING_PROTOCOLS);
   }
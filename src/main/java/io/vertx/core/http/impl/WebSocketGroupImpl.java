@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.http.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.ServerWebSocket;
+import io.vertx.core.http.SlowConsumerPolicy;
+import io.vertx.core.http.WebSocketGroup;
+import io.vertx.core.http.WebSocketGroupOptions;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.net.impl.PartialPooledByteBufAllocator;
+import io.vertx.core.spi.metrics.VertxMetrics;
+import io.vertx.core.spi.metrics.WebSocketGroupMetrics;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The frames of a message are encoded once in a direct buffer, each member writes a duplicate of the buffer to its
+ * channel: the frames of a server are not masked so they are the same for every member.
+ * <p>
+ * A member whose handshake set with {@link ServerWebSocket#setHandshake} is still pending is skipped by a broadcast,
+ * it only leaves the group once it is closed or rejected.
+ *
+ * @see ServerWebSocketImpl#writeEncodedFrames(ByteBuf)
+ */
+public class WebSocketGroupImpl implements WebSocketGroup {
+
+  private static final int OPCODE_CONTINUATION = 0x0;
+  private static final int OPCODE_TEXT = 0x1;
+  private static final int OPCODE_BINARY = 0x2;
+  private static final int FIN = 0x80;
+
+  private final Set<ServerWebSocketImpl> members = ConcurrentHashMap.newKeySet();
+  private final SlowConsumerPolicy slowConsumerPolicy;
+  private final int maxFrameSize;
+  private final WebSocketGroupMetrics metrics;
+
+  public WebSocketGroupImpl(VertxInternal vertx, WebSocketGroupOptions options) {
+    VertxMetrics vertxMetrics = vertx.metricsSPI();
+    this.slowConsumerPolicy = options.getSlowConsumerPolicy();
+    this.maxFrameSize = options.getMaxFrameSize();
+    this.metrics = vertxMetrics != null ? vertxMetrics.createWebSocketGroupMetrics(options) : null;
+  }
+
+  @Override
+  public WebSocketGroup add(ServerWebSocket webSocket) {
+    ServerWebSocketImpl member = (ServerWebSocketImpl) webSocket;
+    if (member.addGroup(this) && members.add(member) && metrics != null) {
+      metrics.memberAdded();
+    }
+    return this;
+  }
+
+  @Override
+  public WebSocketGroup remove(ServerWebSocket webSocket) {
+    ServerWebSocketImpl member = (ServerWebSocketImpl) webSocket;
+    member.removeGroup(this);
+    removeMember(member);
+    return this;
+  }
+
+  /**
+   * Called when a member is closed.
+   */
+  void removeMember(ServerWebSocketImpl member) {
+    if (members.remove(member) && metrics != null) {
+      metrics.memberRemoved();
+    }
+  }
+
+  @Override
+  public int size() {
+    return members.size();
+  }
+
+  @Override
+  public WebSocketGroup writeTextMessage(String text) {
+    broadcast(OPCODE_TEXT, Unpooled.wrappedBuffer(text.getBytes(StandardCharsets.UTF_8)));
+    return this;
+  }
+
+  @Override
+  public WebSocketGroup writeBinaryMessage(Buffer data) {
+    broadcast(OPCODE_BINARY, data.getByteBuf());
+    return this;
+  }
+
+  private void broadcast(int opcode, ByteBuf payload) {
+    if (members.isEmpty()) {
+      return;
+    }
+    ByteBuf frames = encodeFrames(opcode, payload);
+    int recipients = 0;
+    try {
+      for (ServerWebSocketImpl member : members) {
+        if (member.writeQueueFull()) {
+          if (slowConsumerPolicy == SlowConsumerPolicy.DROP) {
+            if (metrics != null) {
+              metrics.messageDropped();
+            }
+            continue;
+          }
+          if (slowConsumerPolicy == SlowConsumerPolicy.DISCONNECT) {
+            remove(member);
+            if (metrics != null) {
+              metrics.memberDisconnected();
+            }
+            member.disconnect();
+            continue;
+          }
+        }
+        Boolean written = member.writeEncodedFrames(frames.retainedDuplicate());
+        if (written == Boolean.TRUE) {
+          recipients++;
+        } else if (written == Boolean.FALSE) {
+          // Closed or rejected
+          remove(member);
+        }
+      }
+      if (metrics != null) {
+        metrics.messageBroadcast(frames.readableBytes(), recipients);
+      }
+    } finally {
+      frames.release();
+    }
+  }
+
+  /**
+   * Encode the unmasked frames of a message, fragmented in frames of at most {@code maxFrameSize} bytes.
+   */
+  private ByteBuf encodeFrames(int opcode, ByteBuf payload) {
+    int length = payload.readableBytes();
+    int numberOfFrames = Math.max(1, (length + maxFrameSize - 1) / maxFrameSize);
+    ByteBuf frames = PartialPooledByteBufAllocator.INSTANCE.directBuffer(length + numberOfFrames * 10);
+    int index = payload.readerIndex();
+    for (int i = 0;i < numberOfFrames;i++) {
+      int frameLength = Math.min(maxFrameSize, length);
+      boolean last = i == numberOfFrames - 1;
+      frames.writeByte((last ? FIN : 0) | (i == 0 ? opcode : OPCODE_CONTINUATION));
+      if (frameLength < 126) {
+        frames.writeByte(frameLength);
+      } else if (frameLength <= 0xFFFF) {
+        frames.writeByte(126);
+        frames.writeShort(frameLength);
+      } else {
+        frames.writeByte(127);
+        frames.writeLong(frameLength);
+      }
+      frames.writeBytes(payload, index, frameLength);
+      index += frameLength;
+      length -= frameLength;
+    }
+    return frames;
+  }
+}
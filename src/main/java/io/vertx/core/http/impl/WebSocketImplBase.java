@@ -22,6 +22,7 @@ import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.EventBus;
 import io.vertx.core.eventbus.Message;
 import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.eventbus.impl.EventBusImpl;
 import io.vertx.core.http.WebSocketBase;
 import io.vertx.core.http.WebSocketFrame;
 import io.vertx.core.http.impl.ws.WebSocketFrameImpl;
@@ -47,12 +48,13 @@ import java.util.UUID;
 public abstract class WebSocketImplBase<S extends WebSocketBase> implements WebSocketBase {
 
   private final boolean supportsContinuation;
-  private final String textHandlerID;
-  private final String binaryHandlerID;
   private final int maxWebSocketFrameSize;
   private final int maxWebSocketMessageSize;
   private final InboundBuffer<Buffer> pending;
   protected final ContextInternal context;
+  private EventBusImpl eventBus;
+  private String textHandlerID;
+  private String binaryHandlerID;
   private MessageConsumer binaryHandlerRegistration;
   private MessageConsumer textHandlerRegistration;
   private String subProtocol;
@@ -73,8 +75,6 @@ public abstract class WebSocketImplBase<S extends WebSocketBase> implements WebS
   WebSocketImplBase(ContextInternal context, Http1xConnectionBase conn, boolean supportsContinuation,
                               int maxWebSocketFrameSize, int maxWebSocketMessageSize) {
     this.supportsContinuation = supportsContinuation;
-    this.textHandlerID = "__vertx.ws." + UUID.randomUUID().toString();
-    this.binaryHandlerID = "__vertx.ws." + UUID.randomUUID().toString();
     this.conn = conn;
     this.context = context;
     this.maxWebSocketFrameSize = maxWebSocketFrameSize;
@@ -87,19 +87,54 @@ public abstract class WebSocketImplBase<S extends WebSocketBase> implements WebS
     });
   }
 
+  /**
+   * Enable the event bus handlers once the handshake is done, a handler is only registered when its ID has been
+   * requested since most WebSockets never need it.
+   */
   void registerHandler(EventBus eventBus) {
+    synchronized (conn) {
+      this.eventBus = (EventBusImpl) eventBus;
+      if (binaryHandlerID != null) {
+        registerBinaryHandler();
+      }
+      if (textHandlerID != null) {
+        registerTextHandler();
+      }
+    }
+  }
+
+  private void registerBinaryHandler() {
     Handler<Message<Buffer>> binaryHandler = msg -> writeBinaryFrameInternal(msg.body());
+    binaryHandlerRegistration = eventBus.<Buffer>localConsumer(context, binaryHandlerID).handler(binaryHandler);
+  }
+
+  private void registerTextHandler() {
     Handler<Message<String>> textHandler = msg -> writeTextFrameInternal(msg.body());
-    binaryHandlerRegistration = eventBus.<Buffer>localConsumer(binaryHandlerID).handler(binaryHandler);
-    textHandlerRegistration = eventBus.<String>localConsumer(textHandlerID).handler(textHandler);
+    textHandlerRegistration = eventBus.<String>localConsumer(context, textHandlerID).handler(textHandler);
   }
 
   public String binaryHandlerID() {
-    return binaryHandlerID;
+    synchronized (conn) {
+      if (binaryHandlerID == null) {
+        binaryHandlerID = "__vertx.ws." + UUID.randomUUID().toString();
+        if (eventBus != null && !closed) {
+          registerBinaryHandler();
+        }
+      }
+      return binaryHandlerID;
+    }
   }
 
   public String textHandlerID() {
-    return textHandlerID;
+    synchronized (conn) {
+      if (textHandlerID == null) {
+        textHandlerID = "__vertx.ws." + UUID.randomUUID().toString();
+        if (eventBus != null && !closed) {
+          registerTextHandler();
+        }
+      }
+      return textHandlerID;
+    }
   }
 
   public boolean writeQueueFull() {
@@ -559,16 +594,15 @@ public abstract class WebSocketImplBase<S extends WebSocketBase> implements WebS
   }
 
   void handleClosed() {
-    unregisterHandlers();
     Handler<Void> endHandler;
     Handler<Void> closeHandler;
     synchronized (conn) {
       endHandler = pending.isPaused() ? null : this.endHandler;
       closeHandler = this.closeHandler;
       closed = true;
-      binaryHandlerRegistration = null;
-      textHandlerRegistration = null;
     }
+    // After closed is set so a handler ID requested concurrently is not registered
+    unregisterHandlers();
     if (closeHandler != null) {
       context.emit(null, closeHandler);
     }
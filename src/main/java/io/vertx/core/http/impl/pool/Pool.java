@@ -20,6 +20,7 @@ import io.vertx.core.impl.ContextInternal;
 
 import java.io.File;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.LongSupplier;
 
@@ -53,6 +54,12 @@ import java.util.function.LongSupplier;
  * When the channel is connected the {@link ConnectResult} callback value provides actual connection weight so it
  * can be used to correct the pool weight. When the channel fails to connect the initial weight is used
  * to correct the pool weight.
+ * <p/>
+ * Pools can share their weight with the {@link #sharedWeight} counter, the sum of the weights of these pools must
+ * then remain lesser than {@link #maxWeight} to create a connection. A pool does not observe the weight released
+ * by the other pools, {@link #weightReleased()} shall be called to let it make progress. When the other pools
+ * hold all the weight and this pool has no connection, its waiters would wait for a connection that cannot be
+ * created nor recycled: they are removed from the queue and handed to the {@link #overflow} handler.
  *
  * <h3>Recycling a connection</h3>
  * When a connection is recycled and reaches its full capacity (i.e {@code Holder#concurrency == Holder#capacity},
@@ -156,6 +163,8 @@ public class Pool<C> {
   private final long initialWeight;                                 // The initial weight of a connection
   private final long maxWeight;                                     // The max weight (equivalent to max pool size)
   private long weight;                                              // The actual pool weight (equivalent to connection count)
+  private final AtomicLong sharedWeight;                            // The weight shared with other pools or null
+  private final Consumer<Handler<AsyncResult<C>>> overflow;         // The handler of the waiters of a pool holding no shared weight
 
   private boolean checkInProgress;                                  // A flag to avoid running un-necessary checks
   private boolean closed;
@@ -171,6 +180,21 @@ public class Pool<C> {
               Consumer<C> connectionAdded,
               Consumer<C> connectionRemoved,
               boolean fifo) {
+    this(context, connector, clock, queueMaxSize, initialWeight, maxWeight, poolClosed, connectionAdded, connectionRemoved, fifo, null, null);
+  }
+
+  public Pool(Context context,
+              ConnectionProvider<C> connector,
+              LongSupplier clock,
+              int queueMaxSize,
+              long initialWeight,
+              long maxWeight,
+              Handler<Void> poolClosed,
+              Consumer<C> connectionAdded,
+              Consumer<C> connectionRemoved,
+              boolean fifo,
+              AtomicLong sharedWeight,
+              Consumer<Handler<AsyncResult<C>>> overflow) {
     this.clock = clock;
     this.context = (ContextInternal) context;
     this.weight = 0;
@@ -183,6 +207,8 @@ public class Pool<C> {
     this.connectionAdded = connectionAdded;
     this.connectionRemoved = connectionRemoved;
     this.fifo = fifo;
+    this.sharedWeight = sharedWeight;
+    this.overflow = overflow;
   }
 
   public synchronized int waitersInQueue() {
@@ -222,6 +248,13 @@ public class Pool<C> {
     checkProgress();
   }
 
+  /**
+   * Signal that another pool released some of the {@link #sharedWeight}, so this pool can create a connection.
+   */
+  public synchronized void weightReleased() {
+    checkProgress();
+  }
+
   /**
    * Check whether the pool can make progress toward satisfying the waiters.
    */
@@ -234,7 +267,7 @@ public class Pool<C> {
 
   private boolean canProgress() {
     if (waitersQueue.size() > 0) {
-      return (canAcquireConnection() || needToCreateConnection() || canEvictWaiter());
+      return (canAcquireConnection() || needToCreateConnection() || canEvictWaiter() || canOverflowWaiters());
     } else {
       return capacity > 0L;
     }
@@ -270,7 +303,40 @@ public class Pool<C> {
    * @return {@code true} if a connection needs to be created
    */
   private boolean needToCreateConnection() {
-    return weight < maxWeight && (waitersQueue.size() - connecting) > 0;
+    return (sharedWeight != null ? sharedWeight.get() : weight) < maxWeight && (waitersQueue.size() - connecting) > 0;
+  }
+
+  /**
+   * @return {@code true} if the waiters shall be handed to the {@link #overflow} handler
+   */
+  private boolean canOverflowWaiters() {
+    return sharedWeight != null && weight == 0;
+  }
+
+  /**
+   * Add the initial weight of a new connection, the shared weight can have been taken by another pool meanwhile.
+   *
+   * @return {@code true} if the weight was added
+   */
+  private boolean reserveWeight() {
+    if (sharedWeight != null) {
+      long current;
+      do {
+        current = sharedWeight.get();
+        if (current >= maxWeight) {
+          return false;
+        }
+      } while (!sharedWeight.compareAndSet(current, current + initialWeight));
+    }
+    weight += initialWeight;
+    return true;
+  }
+
+  private void addWeight(long delta) {
+    weight += delta;
+    if (sharedWeight != null) {
+      sharedWeight.addAndGet(delta);
+    }
   }
 
   /**
@@ -292,14 +358,17 @@ public class Pool<C> {
         }
         Waiter<C> waiter = waitersQueue.poll();
         return () -> waiter.handler.handle(Future.succeededFuture(conn.connection));
-      } else if (needToCreateConnection()) {
+      } else if (needToCreateConnection() && reserveWeight()) {
         connecting++;
-        weight += initialWeight;
         Holder holder  = new Holder();
         return holder::connect;
       } else if (canEvictWaiter()) {
         Waiter<C> waiter = waitersQueue.removeLast();
         return () -> waiter.handler.handle(Future.failedFuture(new ConnectionPoolTooBusyException("Connection pool reached max wait queue size of " + queueMaxSize)));
+      } else if (canOverflowWaiters()) {
+        List<Waiter<C>> waiters = new ArrayList<>(waitersQueue);
+        waitersQueue.clear();
+        return () -> waiters.forEach(waiter -> overflow.accept(waiter.handler));
       }
     } else if (capacity > 0) {
       long now = clock.getAsLong();
@@ -354,14 +423,14 @@ public class Pool<C> {
     synchronized (this) {
 
       connecting--;
-      weight -= initialWeight;
+      addWeight(-initialWeight);
 
       if (holder.removed) {
         checkProgress();
         return;
       }
       holder.initialized = true;
-      weight += result.weight();
+      addWeight(result.weight());
       holder.init(result.concurrency(), result.connection(), result.weight());
       waiters = new ArrayList<>();
       while (holder.capacity > 0 && waitersQueue.size() > 0) {
@@ -388,7 +457,7 @@ public class Pool<C> {
     synchronized (this) {
       connecting--;
       waiter = waitersQueue.poll();
-      weight -= initialWeight;
+      addWeight(-initialWeight);
       holder.removed = true;
       checkProgress();
     }
@@ -461,7 +530,7 @@ public class Pool<C> {
       holder.capacity = 0;
       available.remove(holder);
     }
-    weight -= holder.weight;
+    addWeight(-holder.weight);
   }
 
   // These methods assume to be called under synchronization
@@ -16,6 +16,8 @@ import io.vertx.core.*;
 import io.vertx.core.impl.launcher.VertxCommandLauncher;
 
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
@@ -65,6 +67,9 @@ abstract class AbstractContext implements ContextInternal {
     }
   };
 
+  // The mailboxes batching the calls of this context to other contexts, lazily created
+  private volatile ConcurrentMap<ContextInternal, ContextMailbox> mailboxes;
+
   /**
    * Execute the {@code task} on the context.
    *
@@ -231,6 +236,11 @@ abstract class AbstractContext implements ContextInternal {
     setResultHandler(this, fut, resultHandler);
   }
 
+  @Override
+  public final <T> Future<T> executeBlocking(Handler<Promise<T>> blockingCodeHandler, WorkerPool pool, TaskQueue queue) {
+    return ContextImpl.executeBlocking(this, blockingCodeHandler, pool, queue);
+  }
+
   @Override
   public <T> void executeBlocking(Handler<Promise<T>> blockingCodeHandler, boolean ordered, Handler<AsyncResult<T>> resultHandler) {
     Future<T> fut = executeBlocking(blockingCodeHandler, ordered);
@@ -363,6 +373,26 @@ abstract class AbstractContext implements ContextInternal {
     }
 
     PromiseInternal<T> promise = callerContextS.promise();
+    ContextMailbox mailbox = mailbox(callerContextS);
+    if (mailbox != null)
+    {
+      mailbox.submit(() ->
+      {
+        T result;
+        try
+        {
+          result = runnableWithReturn.get();
+        }
+        catch (Throwable t)
+        {
+          return () -> promise.tryFail(t);
+        }
+        //the completion is batched with the other completions sent back to the callerContext
+        return () -> promise.complete(result);
+      });
+      return promise.future();
+    }
+
     this.runOnContext(h ->
     {
       try
@@ -411,7 +441,7 @@ abstract class AbstractContext implements ContextInternal {
     }
 
     PromiseInternal<T> promise = callerContextS.promise();
-    this.runOnContext(h ->
+    Handler<Void> task = h ->
     {
       try
       {
@@ -422,12 +452,77 @@ abstract class AbstractContext implements ContextInternal {
       {
         promise.tryFail(t);
       }
-    });
+    };
+
+    ContextMailbox mailbox = mailbox(callerContextS);
+    if (mailbox != null)
+    {
+      //the promise can be completed later, only the call is batched
+      mailbox.submit(() ->
+      {
+        task.handle(null);
+        return null;
+      });
+    }
+    else
+    {
+      this.runOnContext(task);
+    }
 
     return promise.future();
   }
 
 
+  /**
+   * Get the mailbox batching the calls of the {@code callerContext} to this context.
+   * <p>
+   * Batching is only used when it is enabled and the caller runs on its context, otherwise {@code null} is returned
+   * and the call is executed with {@link #runOnContext(Handler)}.
+   */
+  private ContextMailbox mailbox(ContextInternal callerContext)
+  {
+    if (callerContext == null || callerContext == this || !owner().isContextCallBatchingEnabled() || ContextInternal.current() != callerContext || !(callerContext instanceof AbstractContext))
+    {
+      return null;
+    }
+    return ((AbstractContext) callerContext).outboundMailbox(this);
+  }
+
+  // Visible for testing
+  ConcurrentMap<ContextInternal, ContextMailbox> outboundMailboxes()
+  {
+    return mailboxes;
+  }
+
+  private ContextMailbox outboundMailbox(ContextInternal target)
+  {
+    ConcurrentMap<ContextInternal, ContextMailbox> map = mailboxes;
+    if (map == null)
+    {
+      synchronized (this)
+      {
+        map = mailboxes;
+        if (map == null)
+        {
+          mailboxes = map = new ConcurrentHashMap<>();
+        }
+      }
+    }
+    ContextMailbox mailbox = map.get(target);
+    if (mailbox == null)
+    {
+      ContextMailbox created = new ContextMailbox(this, target, map, owner().contextMailboxMetrics());
+      mailbox = map.putIfAbsent(target, created);
+      if (mailbox == null)
+      {
+        mailbox = created;
+        created.register();
+      }
+    }
+    return mailbox;
+  }
+
+
   private ContextInternal getCallerContextOrNullS()
   {
     ContextInternal callerContext = this.owner().getOrCreateContext();
@@ -451,11 +546,22 @@ abstract class AbstractContext implements ContextInternal {
       }
       catch (Exception e)
       {
-        callerContext.reportException(e);
+        this.reportException(e);
       }
       return;
     }
 
+    ContextMailbox mailbox = mailbox(callerContext);
+    if (mailbox != null)
+    {
+      mailbox.submit(() ->
+      {
+        ressourceRunner.run();
+        return null;
+      });
+      return;
+    }
+
     this.runOnContext(h ->
     {
       ressourceRunner.run();
@@ -495,6 +601,25 @@ abstract class AbstractContext implements ContextInternal {
       return;
     }
 
+    ContextMailbox mailbox = mailbox(callerContextS);
+    if (mailbox != null)
+    {
+      mailbox.submit(() ->
+      {
+        Promise<T> promiseFast = (isFastFutureAllowed) ? Promise.promiseSingleThread(/*callerContextS*/) : callerContextS.promise();
+        try
+        {
+          ressourceRunner.handle(promiseFast);
+        }
+        catch (Throwable t)
+        {
+          promiseFast.tryFail(t);
+        }
+        return () -> this.runHelper(isFastFutureAllowed, promiseFast, callerRunner);
+      });
+      return;
+    }
+
     this.runOnContext(h ->
     {
       //callerContext binding deshalb, weil wenn das promise weitergereicht wird, dass dann sichergestellt wird,
@@ -562,6 +687,25 @@ abstract class AbstractContext implements ContextInternal {
       return;
     }
 
+    ContextMailbox mailbox = mailbox(callerContextS);
+    if (mailbox != null)
+    {
+      mailbox.submit(() ->
+      {
+        Future<T> tmp;
+        try
+        {
+          tmp = Future.succeededFuture(ressourceRunner.get());
+        }
+        catch (Throwable t)
+        {
+          tmp = Future.failedFuture(t);
+        }
+        Future<T> back = tmp;
+        return () -> callerRunner.handle(back);
+      });
+      return;
+    }
 
     this.runOnContext(h ->
     {
@@ -621,6 +765,25 @@ abstract class AbstractContext implements ContextInternal {
       return;
     }
 
+    ContextMailbox mailbox = mailbox(callerContextS);
+    if (mailbox != null)
+    {
+      mailbox.submit(() ->
+      {
+        T back;
+        try
+        {
+          back = ressourceRunner.get();
+        }
+        catch (Exception e)
+        {
+          return () -> callerRunner.accept(null, e);
+        }
+        return () -> callerRunner.accept(back, null);
+      });
+      return;
+    }
+
     this.runOnContext(h ->
     {
       try
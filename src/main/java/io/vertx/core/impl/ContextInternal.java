@@ -110,6 +110,12 @@ public interface ContextInternal extends Context, Executor {
    */
   <T> Future<T> executeBlockingInternal(Handler<Promise<T>> action);
 
+  /**
+   * Like {@link #executeBlocking(Handler, TaskQueue)} but executes the task on the given {@code pool}, the
+   * {@code queue} can be {@code null} when the tasks are not ordered.
+   */
+  <T> Future<T> executeBlocking(Handler<Promise<T>> blockingCodeHandler, WorkerPool pool, TaskQueue queue);
+
   /**
    * @return the deployment associated with this context or {@code null}
    */
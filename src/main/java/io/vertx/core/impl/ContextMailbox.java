@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.impl;
+
+import io.netty.util.internal.PlatformDependent;
+import io.vertx.core.Closeable;
+import io.vertx.core.Promise;
+import io.vertx.core.spi.metrics.ContextMailboxMetrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Batches the calls a caller context makes to a target context.
+ * <p/>
+ * Calls are queued in the mailbox of the (caller, target) pair, the first call queued in an empty mailbox schedules
+ * a single task on the target context that executes all the pending calls. The completions produced by the calls
+ * of this batch are then sent back to the caller context in a single task.
+ * <p/>
+ * The mailbox is removed from the caller mailboxes when either the caller or the target context is closed, the close
+ * hook registered on the other context is removed at the same time.
+ */
+final class ContextMailbox implements Closeable {
+
+  /**
+   * A call executed on the target context.
+   */
+  interface Call {
+
+    /**
+     * Execute the call on the target context.
+     *
+     * @return the completion to execute on the caller context or {@code null}
+     */
+    Runnable call();
+  }
+
+  private final ContextInternal caller;
+  private final ContextInternal target;
+  private final ConcurrentMap<ContextInternal, ContextMailbox> owner;
+  private final ContextMailboxMetrics metrics;
+  private final Queue<Call> calls = PlatformDependent.newMpscQueue();
+  private final AtomicInteger pending = new AtomicInteger();
+  private final Closeable callerHook = this::callerClosed;
+
+  ContextMailbox(ContextInternal caller, ContextInternal target, ConcurrentMap<ContextInternal, ContextMailbox> owner, ContextMailboxMetrics metrics) {
+    this.caller = caller;
+    this.target = target;
+    this.owner = owner;
+    this.metrics = metrics;
+  }
+
+  /**
+   * Register the close hooks of the mailbox on the caller and the target contexts.
+   */
+  void register() {
+    caller.addCloseHook(callerHook);
+    target.addCloseHook(this);
+  }
+
+  /**
+   * Queue a call, this is called from the caller context.
+   */
+  void submit(Call call) {
+    // Counted before it is queued so the counter is never behind the queue
+    int depth = pending.incrementAndGet();
+    calls.add(call);
+    if (metrics != null) {
+      metrics.callQueued(depth);
+    }
+    if (depth == 1) {
+      target.runOnContext(v -> drain());
+    }
+  }
+
+  private void drain() {
+    List<Runnable> completions = null;
+    int batchSize = 0;
+    for (;;) {
+      int drained = 0;
+      Call call;
+      while ((call = calls.poll()) != null) {
+        drained++;
+        Runnable completion;
+        try {
+          completion = call.call();
+        } catch (Throwable t) {
+          target.reportException(t);
+          continue;
+        }
+        if (completion != null) {
+          if (completions == null) {
+            completions = new ArrayList<>();
+          }
+          completions.add(completion);
+        }
+      }
+      batchSize += drained;
+      if (pending.addAndGet(-drained) == 0) {
+        break;
+      }
+      if (calls.isEmpty()) {
+        // A call is counted but not yet queued, drain it in a next task rather than spinning
+        target.runOnContext(v -> drain());
+        break;
+      }
+    }
+    if (metrics != null) {
+      metrics.callsDrained(batchSize);
+    }
+    if (completions != null) {
+      List<Runnable> batch = completions;
+      if (metrics != null) {
+        metrics.completionsSent(batch.size());
+      }
+      caller.runOnContext(v -> {
+        for (Runnable completion : batch) {
+          try {
+            completion.run();
+          } catch (Throwable t) {
+            caller.reportException(t);
+          }
+        }
+      });
+    }
+  }
+
+  // Called via the target context close hook when the target verticle is undeployed
+  @Override
+  public void close(Promise<Void> completion) {
+    owner.remove(target, this);
+    caller.removeCloseHook(callerHook);
+    completion.complete();
+  }
+
+  // Called via the caller context close hook when the caller verticle is undeployed
+  private void callerClosed(Promise<Void> completion) {
+    owner.remove(target, this);
+    target.removeCloseHook(this);
+    completion.complete();
+  }
+}
@@ -135,5 +135,11 @@ public class FutureFactoryImpl implements FutureFactory {
     return new FutureImplNormal<>(vertx);
   }
 
+  @Override
+  public <T> Promise<T> futureLockFree(VertxInternal vertx)
+  {
+    return new FutureLockFreeMultiHandler<>(vertx);
+  }
+
 
 }
@@ -11,11 +11,15 @@
 
 package io.vertx.core.impl;
 
+import io.netty.util.internal.PlatformDependent;
 import io.vertx.core.impl.logging.Logger;
 import io.vertx.core.impl.logging.LoggerFactory;
 
-import java.util.LinkedList;
+import java.util.Queue;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * A task queue that always run all tasks in order. The executor to run the tasks is passed when
@@ -25,6 +29,11 @@ import java.util.concurrent.Executor;
  * More specifically, any call B to the {@link #execute(Runnable, Executor)} method that happens-after another call A to the
  * same method, will result in B's task running after A's.
  *
+ * The queue is a lock-free multi-producer / single-consumer queue: producers never block each other and a
+ * single runner drains all the tasks available for its executor before returning. The first executor used with
+ * the queue is remembered and tasks for this executor are queued as is, only tasks for another executor
+ * are wrapped, so the common case of a queue always used with the same executor does not allocate per task.
+ *
  * @author <a href="david.lloyd@jboss.com">David Lloyd</a>
  * @author <a href="mailto:tim.fox@jboss.com">Tim Fox</a>
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -44,10 +53,15 @@ public class TaskQueue {
     }
   }
 
-  // @protectedby tasks
-  private final LinkedList<Task> tasks = new LinkedList<>();
+  private final Queue<Object> tasks = PlatformDependent.newMpscQueue();
+
+  // The executor of the tasks queued without a wrapper
+  private final AtomicReference<Executor> defaultExec = new AtomicReference<>();
+
+  // 1 when a runner is scheduled or running, the owner of the runner is the consumer of the queue
+  private final AtomicInteger scheduled = new AtomicInteger();
 
-  // @protectedby tasks
+  // @protectedby scheduled
   private Executor current;
 
   private final Runnable runner;
@@ -58,27 +72,37 @@ public class TaskQueue {
 
   private void run() {
     for (; ; ) {
-      final Task task;
-      synchronized (tasks) {
-        task = tasks.poll();
-        if (task == null) {
-          current = null;
+      Object task;
+      while ((task = tasks.peek()) != null) {
+        Executor exec = executor(task);
+        if (exec != current) {
+          current = exec;
+          exec.execute(runner);
           return;
         }
-        if (task.exec != current) {
-          tasks.addFirst(task);
-          task.exec.execute(runner);
-          current = task.exec;
-          return;
+        tasks.poll();
+        try {
+          if (task instanceof Task) {
+            ((Task) task).runnable.run();
+          } else {
+            ((Runnable) task).run();
+          }
+        } catch (Throwable t) {
+          log.error("Caught unexpected Throwable", t);
         }
       }
-      try {
-        task.runnable.run();
-      } catch (Throwable t) {
-        log.error("Caught unexpected Throwable", t);
+      current = null;
+      scheduled.set(0);
+      // A producer might have queued a task after the last peek but before the reset
+      if (tasks.isEmpty() || !scheduled.compareAndSet(0, 1)) {
+        return;
       }
     }
-  };
+  }
+
+  private Executor executor(Object task) {
+    return task instanceof Task ? ((Task) task).exec : defaultExec.get();
+  }
 
   /**
    * Run a task.
@@ -86,11 +110,19 @@ public class TaskQueue {
    * @param task the task to run.
    */
   public void execute(Runnable task, Executor executor) {
-    synchronized (tasks) {
-      tasks.add(new Task(task, executor));
-      if (current == null) {
-        current = executor;
+    Executor def = defaultExec.get();
+    if (def == null && defaultExec.compareAndSet(null, executor)) {
+      def = executor;
+    }
+    tasks.add(def == executor ? task : new Task(task, executor));
+    if (scheduled.compareAndSet(0, 1)) {
+      current = executor;
+      try {
         executor.execute(runner);
+      } catch (RejectedExecutionException e) {
+        current = null;
+        scheduled.set(0);
+        throw e;
       }
     }
   }
@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.impl;
+
+import io.netty.channel.EventLoop;
+import io.vertx.core.Closeable;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A hashed timing wheel driving the timers of a single event loop.
+ * <p/>
+ * The wheel is only mutated from its event loop thread: timers scheduled from another thread are handed over
+ * with a single {@link EventLoop#execute(Runnable)} call. Insertion and removal of a timer in its bucket are
+ * {@code O(1)}, the wheel is driven by a single Netty scheduled task per tick that is only armed while timers
+ * are pending.
+ * <p/>
+ * The timers of the wheel are stored in the {@link #timeouts} table of the wheel rather than in the global
+ * table of {@link VertxImpl}, the wheel index is encoded in the timer id so {@link VertxImpl#cancelTimer(long)}
+ * can find it back. Like {@link VertxImpl}, the thread removing the timer from {@link #timeouts} owns the timer
+ * termination.
+ */
+final class TimerWheel {
+
+  /**
+   * Bit set on every id created by a timer wheel, the regular timer ids never reach it.
+   */
+  static final long ID_FLAG = 1L << 62;
+
+  private static final int INDEX_SHIFT = 48;
+  private static final int MAX_INDEX = (1 << 14) - 1;
+  private static final long SEQUENCE_MASK = (1L << INDEX_SHIFT) - 1;
+  private static final int WHEEL_SIZE = 512;
+
+  static boolean isWheelId(long id) {
+    return (id & ID_FLAG) != 0;
+  }
+
+  static int wheelIndex(long id) {
+    return (int) ((id >>> INDEX_SHIFT) & MAX_INDEX);
+  }
+
+  static int maxWheels() {
+    return MAX_INDEX + 1;
+  }
+
+  private final EventLoop eventLoop;
+  private final long idPrefix;
+  private final long tickNanos;
+  private final long startTime;
+  private final Timeout[] buckets = new Timeout[WHEEL_SIZE];
+  private final AtomicLong sequence = new AtomicLong();
+  private final ConcurrentMap<Long, Timeout> timeouts = new ConcurrentHashMap<>();
+  private final Runnable driver = this::advance;
+
+  // Only accessed from the event loop thread
+  private long tick;
+  private int pending;
+  private boolean armed;
+
+  TimerWheel(EventLoop eventLoop, int index, long tickDuration, TimeUnit tickUnit) {
+    if (index > MAX_INDEX) {
+      throw new IllegalArgumentException("Too many timer wheels");
+    }
+    this.eventLoop = eventLoop;
+    this.idPrefix = ID_FLAG | ((long) index << INDEX_SHIFT);
+    this.tickNanos = Math.max(1, tickUnit.toNanos(tickDuration));
+    this.startTime = System.nanoTime();
+  }
+
+  /**
+   * Schedule a timer on this wheel, this can be called from any thread.
+   *
+   * @return the timer id
+   */
+  long schedule(ContextInternal context, Handler<Long> handler, long delay, boolean periodic) {
+    long id = idPrefix | (sequence.getAndIncrement() & SEQUENCE_MASK);
+    long delayNanos = TimeUnit.MILLISECONDS.toNanos(delay);
+    Timeout timeout = new Timeout(id, context, handler, delayNanos, periodic, System.nanoTime() + delayNanos);
+    timeouts.put(id, timeout);
+    context.addCloseHook(timeout);
+    if (eventLoop.inEventLoop()) {
+      add(timeout);
+    } else {
+      eventLoop.execute(() -> add(timeout));
+    }
+    return id;
+  }
+
+  /**
+   * Cancel a timer of this wheel, this can be called from any thread.
+   *
+   * @return {@code true} when the timer was cancelled by this call
+   */
+  boolean cancel(long id) {
+    Timeout timeout = timeouts.remove(id);
+    if (timeout != null) {
+      timeout.context.removeCloseHook(timeout);
+      timeout.cancel();
+      return true;
+    } else {
+      return false;
+    }
+  }
+
+  private void add(Timeout timeout) {
+    if (timeout.cancelled) {
+      return;
+    }
+    if (pending == 0) {
+      // Resynchronize so the timer does not walk through the idle period
+      tick = Math.max(tick, (System.nanoTime() - startTime) / tickNanos);
+    }
+    long ticks = (timeout.deadline - startTime + tickNanos - 1) / tickNanos;
+    if (ticks < tick) {
+      // Already expired, fire on the next tick
+      ticks = tick;
+    }
+    timeout.remainingRounds = (ticks - tick) / WHEEL_SIZE;
+    int idx = (int) (ticks & (WHEEL_SIZE - 1));
+    Timeout head = buckets[idx];
+    timeout.bucket = idx;
+    timeout.prev = null;
+    timeout.next = head;
+    if (head != null) {
+      head.prev = timeout;
+    }
+    buckets[idx] = timeout;
+    pending++;
+    if (!armed) {
+      armed = true;
+      eventLoop.schedule(driver, tickNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private void unlink(Timeout timeout) {
+    if (timeout.bucket < 0) {
+      return;
+    }
+    if (timeout.prev != null) {
+      timeout.prev.next = timeout.next;
+    } else {
+      buckets[timeout.bucket] = timeout.next;
+    }
+    if (timeout.next != null) {
+      timeout.next.prev = timeout.prev;
+    }
+    timeout.prev = null;
+    timeout.next = null;
+    timeout.bucket = -1;
+    pending--;
+  }
+
+  private void advance() {
+    armed = false;
+    long target = (System.nanoTime() - startTime) / tickNanos;
+    while (tick <= target && pending > 0) {
+      Timeout timeout = buckets[(int) (tick++ & (WHEEL_SIZE - 1))];
+      while (timeout != null) {
+        Timeout next = timeout.next;
+        if (timeout.cancelled) {
+          unlink(timeout);
+        } else if (timeout.remainingRounds <= 0) {
+          unlink(timeout);
+          expire(timeout);
+        } else {
+          timeout.remainingRounds--;
+        }
+        timeout = next;
+      }
+    }
+    if (pending > 0 && !armed) {
+      armed = true;
+      long nextTick = startTime + tick * tickNanos;
+      eventLoop.schedule(driver, Math.max(0, nextTick - System.nanoTime()), TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private void expire(Timeout timeout) {
+    if (timeout.periodic) {
+      timeout.deadline += timeout.delay;
+      add(timeout);
+    }
+    timeout.context.dispatch(timeout);
+  }
+
+  private class Timeout implements Handler<Void>, Closeable {
+
+    private final long timerID;
+    private final ContextInternal context;
+    private final Handler<Long> handler;
+    private final long delay;
+    private final boolean periodic;
+    private volatile boolean cancelled;
+    private long deadline;
+
+    // Bucket linkage, only accessed from the event loop thread
+    private long remainingRounds;
+    private int bucket = -1;
+    private Timeout prev;
+    private Timeout next;
+
+    Timeout(long timerID, ContextInternal context, Handler<Long> handler, long delay, boolean periodic, long deadline) {
+      this.timerID = timerID;
+      this.context = context;
+      this.handler = handler;
+      this.delay = delay;
+      this.periodic = periodic;
+      this.deadline = deadline;
+    }
+
+    public void handle(Void v) {
+      if (periodic) {
+        if (timeouts.containsKey(timerID)) {
+          handler.handle(timerID);
+        }
+      } else if (timeouts.remove(timerID) != null) {
+        try {
+          handler.handle(timerID);
+        } finally {
+          // Clean up after it's fired
+          context.removeCloseHook(this);
+        }
+      }
+    }
+
+    private void cancel() {
+      cancelled = true;
+      if (eventLoop.inEventLoop()) {
+        unlink(this);
+      }
+      // Otherwise the timeout is purged when its bucket is visited
+    }
+
+    // Called via Context close hook when Verticle is undeployed
+    public void close(Promise<Void> completion) {
+      if (timeouts.remove(timerID) != null) {
+        cancel();
+      }
+      completion.complete();
+    }
+  }
+}
@@ -15,6 +15,7 @@ import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
 import io.netty.resolver.AddressResolverGroup;
 import io.netty.util.ResourceLeakDetector;
+import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.concurrent.GenericFutureListener;
 import io.vertx.codegen.annotations.Nullable;
 import io.vertx.core.FastFutureFamily.LockedFuture;
@@ -55,6 +56,7 @@ import io.vertx.core.shareddata.SharedData;
 import io.vertx.core.shareddata.impl.SharedDataImpl;
 import io.vertx.core.spi.VerticleFactory;
 import io.vertx.core.spi.cluster.ClusterManager;
+import io.vertx.core.spi.metrics.ContextMailboxMetrics;
 import io.vertx.core.spi.metrics.Metrics;
 import io.vertx.core.spi.metrics.MetricsProvider;
 import io.vertx.core.spi.metrics.PoolMetrics;
@@ -94,6 +96,10 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
   private final VertxMetrics metrics;
   private final ConcurrentMap<Long, InternalTimerHandler> timeouts = new ConcurrentHashMap<>();
   private final AtomicLong timeoutCounter = new AtomicLong(0);
+  private final Map<EventLoop, TimerWheel> timerWheels;
+  private final TimerWheel[] timerWheelsByIndex;
+  private final boolean contextCallBatchingEnabled;
+  private final ContextMailboxMetrics contextMailboxMetrics;
   private final ClusterManager clusterManager;
   private final DeploymentManager deploymentManager;
   private final VerticleManager verticleManager;
@@ -102,6 +108,7 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
   private final Map<ServerID, NetServerImpl> sharedNetServers = new HashMap<>();
   final WorkerPool workerPool;
   final WorkerPool internalBlockingPool;
+  private final WorkerPool fileSystemPool;
   private final ThreadFactory eventLoopThreadFactory;
   private final EventLoopGroup eventLoopGroup;
   private final EventLoopGroup acceptorEventLoopGroup;
@@ -137,6 +144,21 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     // The acceptor event loop thread needs to be from a different pool otherwise can get lags in accepted connections
     // under a lot of load
     acceptorEventLoopGroup = transport.eventLoopGroup(Transport.ACCEPTOR_EVENT_LOOP_GROUP, 1, acceptorEventLoopThreadFactory, 100);
+    if (options.isTimerWheelEnabled()) {
+      timerWheels = new IdentityHashMap<>();
+      List<TimerWheel> wheels = new ArrayList<>();
+      for (EventExecutor executor : eventLoopGroup) {
+        if (executor instanceof EventLoop && wheels.size() < TimerWheel.maxWheels()) {
+          TimerWheel wheel = new TimerWheel((EventLoop) executor, wheels.size(), options.getTimerWheelTickDuration(), TimeUnit.MILLISECONDS);
+          timerWheels.put((EventLoop) executor, wheel);
+          wheels.add(wheel);
+        }
+      }
+      timerWheelsByIndex = wheels.toArray(new TimerWheel[0]);
+    } else {
+      timerWheels = null;
+      timerWheelsByIndex = null;
+    }
 
     int workerPoolSize = options.getWorkerPoolSize();
     ExecutorService workerExec = new ThreadPoolExecutor(workerPoolSize, workerPoolSize,
@@ -147,6 +169,11 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
         new VertxThreadFactory("vert.x-internal-blocking-", checker, true, options.getMaxWorkerExecuteTime(), options.getMaxWorkerExecuteTimeUnit()));
     PoolMetrics internalBlockingPoolMetrics = metrics != null ? metrics.createPoolMetrics("worker", "vert.x-internal-blocking", options.getInternalBlockingPoolSize()) : null;
     internalBlockingPool = new WorkerPool(internalBlockingExec, internalBlockingPoolMetrics);
+    int fileSystemPoolSize = options.getFileSystemOptions().getBulkPoolSize();
+    ExecutorService fileSystemExec = Executors.newFixedThreadPool(fileSystemPoolSize,
+        new VertxThreadFactory("vert.x-file-system-", checker, true, options.getMaxWorkerExecuteTime(), options.getMaxWorkerExecuteTimeUnit()));
+    PoolMetrics fileSystemPoolMetrics = metrics != null ? metrics.createPoolMetrics("worker", "vert.x-file-system", fileSystemPoolSize) : null;
+    fileSystemPool = new WorkerPool(fileSystemExec, fileSystemPoolMetrics);
     namedWorkerPools = new HashMap<>();
     workerPool = new WorkerPool(workerExec, workerPoolMetrics);
     defaultWorkerPoolSize = options.getWorkerPoolSize();
@@ -154,6 +181,8 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     maxWorkerExecTimeUnit = options.getMaxWorkerExecuteTimeUnit();
 
     this.metrics = metrics;
+    this.contextCallBatchingEnabled = options.isContextCallBatchingEnabled();
+    this.contextMailboxMetrics = metrics != null && contextCallBatchingEnabled ? metrics.createContextMailboxMetrics() : null;
     this.transport = transport;
     this.fileResolver = fileResolver;
     this.addressResolverOptions = options.getAddressResolverOptions();
@@ -361,6 +390,11 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     return workerPool.executor();
   }
 
+  @Override
+  public WorkerPool getFileSystemPool() {
+    return fileSystemPool;
+  }
+
   public EventLoopGroup getEventLoopGroup() {
     return eventLoopGroup;
   }
@@ -397,6 +431,10 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
   }
 
   public boolean cancelTimer(long id) {
+    if (TimerWheel.isWheelId(id)) {
+      int index = TimerWheel.wheelIndex(id);
+      return timerWheelsByIndex != null && index < timerWheelsByIndex.length && timerWheelsByIndex[index].cancel(id);
+    }
     InternalTimerHandler handler = timeouts.remove(id);
     if (handler != null) {
       handler.cancel();
@@ -458,6 +496,12 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     if (delay < 1) {
       throw new IllegalArgumentException("Cannot schedule a timer with delay < 1 ms");
     }
+    if (timerWheels != null) {
+      TimerWheel wheel = timerWheels.get(context.nettyEventLoop());
+      if (wheel != null) {
+        return wheel.schedule(context, handler, delay, periodic);
+      }
+    }
     long timerId = timeoutCounter.getAndIncrement();
     InternalTimerHandler task = new InternalTimerHandler(timerId, handler, periodic, delay, context);
     timeouts.put(timerId, task);
@@ -783,6 +827,16 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     return metrics;
   }
 
+  @Override
+  public boolean isContextCallBatchingEnabled() {
+    return contextCallBatchingEnabled;
+  }
+
+  @Override
+  public ContextMailboxMetrics contextMailboxMetrics() {
+    return contextMailboxMetrics;
+  }
+
   @Override
   public File resolveFile(String fileName) {
     return fileResolver.resolveFile(fileName);
@@ -821,6 +875,7 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
 
       workerPool.close();
       internalBlockingPool.close();
+      fileSystemPool.close();
       new ArrayList<>(namedWorkerPools.values()).forEach(WorkerPool::close);
 
       acceptorEventLoopGroup.shutdownGracefully(0, 10, TimeUnit.SECONDS).addListener(new GenericFutureListener() {
@@ -1196,6 +1251,17 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     return Promise.futureNormal(this);
   }
 
+  /**
+   *
+   * here i push THIS as vertx instance
+   *
+   */
+  @Override
+  public <T> Promise<T> futureLockFree()
+  {
+    return Promise.futureLockFree(this);
+  }
+
   @Override
   public void addCloseHook(Closeable hook) {
     closeHooks.add(hook);
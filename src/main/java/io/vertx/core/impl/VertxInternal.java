@@ -21,6 +21,7 @@ import io.vertx.core.net.impl.NetServerImpl;
 import io.vertx.core.net.impl.ServerID;
 import io.vertx.core.net.impl.transport.Transport;
 import io.vertx.core.spi.cluster.ClusterManager;
+import io.vertx.core.spi.metrics.ContextMailboxMetrics;
 import io.vertx.core.spi.metrics.VertxMetrics;
 
 import java.io.File;
@@ -59,6 +60,11 @@ public interface VertxInternal extends Vertx {
 
   ExecutorService getWorkerPool();
 
+  /**
+   * @return the pool executing the bulk operations of the file system
+   */
+  WorkerPool getFileSystemPool();
+
   Map<ServerID, HttpServerImpl> sharedHttpServers();
 
   Map<ServerID, NetServerImpl> sharedNetServers();
@@ -67,6 +73,17 @@ public interface VertxInternal extends Vertx {
 
   Transport transport();
 
+  /**
+   * @return whether the calls between contexts made with {@link io.vertx.core.Context#run} and
+   *         {@link io.vertx.core.Context#runAndGetFuture} are batched
+   */
+  boolean isContextCallBatchingEnabled();
+
+  /**
+   * @return the metrics of the context mailboxes or {@code null}
+   */
+  ContextMailboxMetrics contextMailboxMetrics();
+
   /**
    * Get the current context
    * @return the context
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.net;
+
+import io.vertx.codegen.annotations.VertxGen;
+
+/**
+ * How a server scaled over several event loops, e.g by deploying several instances of a verticle listening on the same
+ * address, balances the accepted connections between its event loops.
+ */
+@VertxGen
+public enum AcceptBalancing {
+
+  /**
+   * A single socket listens for the server and the accepted connections are assigned to the event loops in turn.
+   */
+  ROUND_ROBIN,
+
+  /**
+   * A single socket listens for the server and an accepted connection is assigned to the event loop handling the
+   * fewest connections of the server.
+   */
+  LEAST_CONNECTIONS,
+
+  /**
+   * Each event loop listens with its own socket bound with {@code SO_REUSEPORT} and handles the connections it accepts,
+   * the kernel balances the connections between the sockets.
+   * <p>
+   * This requires the native epoll transport, the server falls back to {@link #ROUND_ROBIN} otherwise.
+   */
+  REUSE_PORT
+
+}
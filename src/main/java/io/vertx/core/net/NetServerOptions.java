@@ -16,6 +16,7 @@ import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.ClientAuth;
 import io.vertx.core.json.JsonObject;
 
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
@@ -54,11 +55,17 @@ public class NetServerOptions extends TCPSSLOptions {
    */
   public static final boolean DEFAULT_SNI = false;
 
+  /**
+   * The default balancing of the accepted connections = {@link AcceptBalancing#ROUND_ROBIN}
+   */
+  public static final AcceptBalancing DEFAULT_ACCEPT_BALANCING = AcceptBalancing.ROUND_ROBIN;
+
   private int port;
   private String host;
   private int acceptBacklog;
   private ClientAuth clientAuth;
   private boolean sni;
+  private AcceptBalancing acceptBalancing;
 
   /**
    * Default constructor
@@ -80,6 +87,7 @@ public class NetServerOptions extends TCPSSLOptions {
     this.acceptBacklog = other.getAcceptBacklog();
     this.clientAuth = other.getClientAuth();
     this.sni = other.isSni();
+    this.acceptBalancing = other.getAcceptBalancing();
   }
 
   /**
@@ -390,11 +398,30 @@ public class NetServerOptions extends TCPSSLOptions {
     return this;
   }
 
+  /**
+   * @return how the accepted connections are balanced between the event loops of the server
+   */
+  public AcceptBalancing getAcceptBalancing() {
+    return acceptBalancing;
+  }
+
+  /**
+   * Set how the accepted connections are balanced between the event loops of the server.
+   *
+   * @param acceptBalancing the balancing
+   * @return a reference to this, so the API can be used fluently
+   */
+  public NetServerOptions setAcceptBalancing(AcceptBalancing acceptBalancing) {
+    this.acceptBalancing = Objects.requireNonNull(acceptBalancing, "acceptBalancing");
+    return this;
+  }
+
   private void init() {
     this.port = DEFAULT_PORT;
     this.host = DEFAULT_HOST;
     this.acceptBacklog = DEFAULT_ACCEPT_BACKLOG;
     this.clientAuth = DEFAULT_CLIENT_AUTH;
     this.sni = DEFAULT_SNI;
+    this.acceptBalancing = DEFAULT_ACCEPT_BALANCING;
   }
 }
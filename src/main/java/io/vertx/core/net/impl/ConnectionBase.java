@@ -15,8 +15,10 @@ import io.netty.buffer.Unpooled;
 import io.netty.channel.*;
 import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.stream.ChunkedFile;
+import io.netty.handler.stream.ChunkedNioFile;
 import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.concurrent.FutureListener;
+import io.netty.util.internal.PlatformDependent;
 import io.vertx.core.*;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.PromiseInternal;
@@ -33,6 +35,9 @@ import javax.security.cert.X509Certificate;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.net.InetSocketAddress;
+import java.nio.channels.FileChannel;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.vertx.core.spi.metrics.Metrics.METRICS_ENABLED;
 
@@ -44,6 +49,9 @@ import static io.vertx.core.spi.metrics.Metrics.METRICS_ENABLED;
  * The internal state is protected using the synchronized keyword. If always used on the same event loop, then
  * we benefit from biased locking which makes the overhead of synchronized near zero.
  *
+ * The messages written from other threads are queued without locking in an outbound queue, the first message queued
+ * schedules a single task on the event loop that writes all the queued messages and flushes them once.
+ *
  * @author <a href="http://tfox.org">Tim Fox</a>
  */
 public abstract class ConnectionBase {
@@ -63,7 +71,9 @@ public abstract class ConnectionBase {
   protected final ContextInternal context;
   private Handler<Throwable> exceptionHandler;
   private Handler<Void> closeHandler;
-  private int writeInProgress;
+  private final Queue<PendingWrite> pendingWrites = PlatformDependent.newMpscQueue();
+  // The signals of the queued writes not yet seen by the drain, non zero while a drain is scheduled or running
+  private final AtomicInteger pendingWriteSignals = new AtomicInteger();
   private Object metric;
   private SocketAddress remoteAddress;
   private SocketAddress localAddress;
@@ -183,30 +193,73 @@ public abstract class ConnectionBase {
     writeToChannel(msg, listener == null ? voidPromise : wrap(listener));
   }
 
+  public final void writeToChannel(Object msg, boolean flush, FutureListener<Void> listener) {
+    writeToChannel(msg, flush, listener == null ? voidPromise : wrap(listener));
+  }
+
   public final void writeToChannel(Object msg, ChannelPromise promise) {
-    synchronized (this) {
-      if (!chctx.executor().inEventLoop() || writeInProgress > 0) {
-        // Make sure we serialize all the messages as this method can be called from various threads:
-        // two "sequential" calls to writeToChannel (we can say that as it is synchronized) should preserve
-        // the message order independently of the thread. To achieve this we need to reschedule messages
-        // not on the event loop or if there are pending async message for the channel.
-        queueForWrite(msg, promise);
-        return;
-      }
+    writeToChannel(msg, true, promise);
+  }
+
+  /**
+   * Like {@link #writeToChannel(Object, ChannelPromise)} but the flush of a message written from the event loop
+   * can be left to a later write or {@link #flush()}, so a batch of messages is written with a single flush.
+   *
+   * @param msg the message to write
+   * @param flush {@code false} to not flush the message when it is written from the event loop
+   * @param promise the promise receiving the completion event
+   */
+  public final void writeToChannel(Object msg, boolean flush, ChannelPromise promise) {
+    if (!chctx.executor().inEventLoop() || pendingWriteSignals.get() > 0) {
+      // Make sure we serialize all the messages as this method can be called from various threads:
+      // two "sequential" calls to writeToChannel should preserve the message order independently of the thread.
+      // To achieve this we need to queue messages not on the event loop or if there are pending queued messages
+      // for the channel.
+      queueForWrite(msg, promise);
+      return;
     }
     // On the event loop thread
-    write(msg, !read, promise);
+    write(msg, flush && !read, promise);
+  }
+
+  private static final class PendingWrite {
+
+    private final Object msg;
+    private final ChannelPromise promise;
+
+    private PendingWrite(Object msg, ChannelPromise promise) {
+      this.msg = msg;
+      this.promise = promise;
+    }
   }
 
   private void queueForWrite(Object msg, ChannelPromise promise) {
-    writeInProgress++;
-    chctx.executor().execute(() -> {
-      boolean flush;
-      synchronized (this) {
-        flush = --writeInProgress == 0 && !read;
+    pendingWrites.add(new PendingWrite(msg, promise));
+    if (pendingWriteSignals.getAndIncrement() == 0) {
+      chctx.executor().execute(this::drainPendingWrites);
+    }
+  }
+
+  /**
+   * This method is exclusively called on the event-loop thread, it writes the queued messages and flushes them once.
+   */
+  private void drainPendingWrites() {
+    int missed = 1;
+    for (;;) {
+      PendingWrite pending;
+      while ((pending = pendingWrites.poll()) != null) {
+        write(pending.msg, false, pending.promise);
       }
-      write(msg, flush, promise);
-    });
+      // A writer signals after queuing its message, so the messages of the signals seen here have been polled
+      missed = pendingWriteSignals.addAndGet(-missed);
+      if (missed == 0) {
+        break;
+      }
+    }
+    if (needsFlush && !read) {
+      needsFlush = false;
+      chctx.flush();
+    }
   }
 
   public void writeToChannel(Object obj) {
@@ -391,21 +444,22 @@ public abstract class ConnectionBase {
    * @param file the file to send
    * @param offset the file offset
    * @param length the file length
+   * @param shared whether the file is shared with other sends and must not be closed by the regions
    * @param writeFuture the write future to be completed when the transfer is done or failed
    */
-  private void sendFileRegion(RandomAccessFile file, long offset, long length, ChannelPromise writeFuture) {
+  private void sendFileRegion(FileChannel file, long offset, long length, boolean shared, ChannelPromise writeFuture) {
     if (length < MAX_REGION_SIZE) {
-      writeToChannel(new DefaultFileRegion(file.getChannel(), offset, length), writeFuture);
+      writeToChannel(shared ? new SharedFileRegion(file, offset, length) : new DefaultFileRegion(file, offset, length), writeFuture);
     } else {
       ChannelPromise promise = chctx.newPromise();
-      FileRegion region = new DefaultFileRegion(file.getChannel(), offset, MAX_REGION_SIZE);
+      FileRegion region = shared ? new SharedFileRegion(file, offset, MAX_REGION_SIZE) : new DefaultFileRegion(file, offset, MAX_REGION_SIZE);
       // Retain explicitly this file region so the underlying channel is not closed by the NIO channel when it
       // as been sent as we need it again
       region.retain();
       writeToChannel(region, promise);
       promise.addListener(future -> {
         if (future.isSuccess()) {
-          sendFileRegion(file, offset + MAX_REGION_SIZE, length - MAX_REGION_SIZE, writeFuture);
+          sendFileRegion(file, offset + MAX_REGION_SIZE, length - MAX_REGION_SIZE, shared, writeFuture);
         } else {
           log.error(future.cause().getMessage(), future.cause());
           writeFuture.setFailure(future.cause());
@@ -422,7 +476,7 @@ public abstract class ConnectionBase {
       writeToChannel(new ChunkedFile(raf, offset, length, 8192), writeFuture);
     } else {
       // No encryption - use zero-copy.
-      sendFileRegion(raf, offset, length, writeFuture);
+      sendFileRegion(raf.getChannel(), offset, length, false, writeFuture);
     }
     if (writeFuture != null) {
       writeFuture.addListener(fut -> raf.close());
@@ -432,6 +486,44 @@ public abstract class ConnectionBase {
     return writeFuture;
   }
 
+  /**
+   * Send a file channel shared with other sends, the channel remains open when the transfer is done or failed.
+   *
+   * @param file the file to send
+   * @param offset the file offset
+   * @param length the file length
+   * @return the future completed when the transfer is done or failed
+   */
+  public final ChannelFuture sendFile(FileChannel file, long offset, long length) throws IOException {
+    ChannelPromise writeFuture = chctx.newPromise();
+    if (!supportsFileRegion()) {
+      // Cannot use zero-copy
+      writeToChannel(new ChunkedNioFile(file, offset, length, 8192) {
+        @Override
+        public void close() {
+        }
+      }, writeFuture);
+    } else {
+      // No encryption - use zero-copy.
+      sendFileRegion(file, offset, length, true, writeFuture);
+    }
+    return writeFuture;
+  }
+
+  /**
+   * A file region that does not close its file channel when released.
+   */
+  private static class SharedFileRegion extends DefaultFileRegion {
+
+    SharedFileRegion(FileChannel file, long position, long count) {
+      super(file, position, count);
+    }
+
+    @Override
+    protected void deallocate() {
+    }
+  }
+
   public boolean isSsl() {
     return chctx.pipeline().get(SslHandler.class) != null;
   }
@@ -45,6 +45,14 @@ public class HandlerManager<T> {
     return hasHandlers;
   }
 
+  /**
+   * @param worker the event loop
+   * @return whether handlers are registered on the event loop
+   */
+  public boolean hasHandlers(EventLoop worker) {
+    return handlerMap.containsKey(worker);
+  }
+
   public synchronized List<T> handlers() {
     return handlerMap.values().stream()
       .flatMap(handlers -> handlers.list.stream())
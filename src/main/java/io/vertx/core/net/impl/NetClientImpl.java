@@ -241,7 +241,6 @@ public class NetClientImpl implements MetricsProvider, NetClient {
       if (metrics != null) {
         sock.metric(metrics.connected(sock.remoteAddress(), sock.remoteName()));
       }
-      sock.registerEventBusHandler();
       connectHandler.complete(sock);
     });
     handler.removeHandler(conn -> {
@@ -31,6 +31,7 @@ import io.vertx.core.impl.PromiseInternal;
 import io.vertx.core.impl.VertxInternal;
 import io.vertx.core.impl.logging.Logger;
 import io.vertx.core.impl.logging.LoggerFactory;
+import io.vertx.core.net.AcceptBalancing;
 import io.vertx.core.net.NetServer;
 import io.vertx.core.net.NetServerOptions;
 import io.vertx.core.net.NetSocket;
@@ -74,6 +75,7 @@ public class NetServerImpl implements Closeable, MetricsProvider, NetServer {
   private volatile ServerID id;
   private NetServerImpl actualServer;
   private io.netty.util.concurrent.Future<Channel> bindFuture;
+  private ReusePortListeners reusePortListeners;
   private volatile int actualPort;
   private ContextInternal listenContext;
   private TCPMetrics metrics;
@@ -204,11 +206,16 @@ public class NetServerImpl implements Closeable, MetricsProvider, NetServer {
       String hostOrPath = localAddress.isInetSocket() ? localAddress.host() : localAddress.path();
       id = new ServerID(actualPort, hostOrPath);
       NetServerImpl shared = sharedNetServers.get(id);
+      io.netty.util.concurrent.Future<Channel> listenFuture;
       if (shared == null || actualPort == 0) { // Wildcard port will imply a new actual server each time
         serverChannelGroup = new DefaultChannelGroup("vertx-acceptor-channels", GlobalEventExecutor.INSTANCE);
 
+        AcceptBalancing balancing = ReusePortListeners.balancing(vertx, options, localAddress);
+        availableWorkers.balancing(balancing);
         ServerBootstrap bootstrap = new ServerBootstrap();
-        bootstrap.group(availableWorkers);
+        if (balancing != AcceptBalancing.REUSE_PORT) {
+          bootstrap.group(availableWorkers);
+        }
         sslHelper.validate(vertx);
 
         bootstrap.childHandler(new ChannelInitializer<Channel>() {
@@ -218,6 +225,7 @@ public class NetServerImpl implements Closeable, MetricsProvider, NetServer {
               ch.close();
               return;
             }
+            reportAccepted(ch);
             HandlerHolder<Handlers> handler = handlerManager.chooseHandler(ch.eventLoop());
             if (handler != null) {
               if (sslHelper.isSSL()) {
@@ -255,7 +263,12 @@ public class NetServerImpl implements Closeable, MetricsProvider, NetServer {
         handlerManager.addHandler(new Handlers(this, handler, exceptionHandler), listenContext);
 
         try {
-          bindFuture = AsyncResolveConnectHelper.doBind(vertx, localAddress, bootstrap);
+          if (balancing == AcceptBalancing.REUSE_PORT) {
+            reusePortListeners = new ReusePortListeners(vertx, localAddress, bootstrap, availableWorkers, serverChannelGroup);
+            bindFuture = reusePortListeners.bind(listenContext.nettyEventLoop());
+          } else {
+            bindFuture = AsyncResolveConnectHelper.doBind(vertx, localAddress, bootstrap);
+          }
           bindFuture.addListener((GenericFutureListener<io.netty.util.concurrent.Future<Channel>>) res -> {
             if (res.isSuccess()) {
               Channel ch = res.getNow();
@@ -288,6 +301,7 @@ public class NetServerImpl implements Closeable, MetricsProvider, NetServer {
           sharedNetServers.put(id, this);
         }
         actualServer = this;
+        listenFuture = bindFuture;
       } else {
         // Server already exists with that host/port - we will use that
         actualServer = shared;
@@ -295,11 +309,22 @@ public class NetServerImpl implements Closeable, MetricsProvider, NetServer {
         VertxMetrics metrics = vertx.metricsSPI();
         this.metrics = metrics != null ? metrics.createNetServerMetrics(options, SocketAddress.inetSocketAddress(id.port, id.host)) : null;
         actualServer.handlerManager.addHandler(new Handlers(this, handler, exceptionHandler), listenContext);
+        if (actualServer.reusePortListeners != null) {
+          // The event loop of this server needs its own listener
+          listenFuture = actualServer.reusePortListeners.bind(listenContext.nettyEventLoop());
+          listenFuture.addListener(res -> {
+            if (!res.isSuccess()) {
+              unregister();
+            }
+          });
+        } else {
+          listenFuture = actualServer.bindFuture;
+        }
       }
 
       // just add it to the future so it gets notified once the bind is complete
       Promise<NetServer> promise = listenContext.promise();
-      actualServer.bindFuture.addListener(res -> {
+      listenFuture.addListener(res -> {
         if (res.isSuccess()) {
           promise.complete(this);
         } else {
@@ -310,6 +335,15 @@ public class NetServerImpl implements Closeable, MetricsProvider, NetServer {
     }
   }
 
+  private synchronized void unregister() {
+    if (listening) {
+      listening = false;
+      synchronized (vertx.sharedNetServers()) {
+        actualServer.handlerManager.removeHandler(new Handlers(this, registeredHandler, exceptionHandler), listenContext);
+      }
+    }
+  }
+
   @Override
   public synchronized NetServer listen(SocketAddress localAddress, Handler<AsyncResult<NetServer>> listenHandler) {
     if (listenHandler == null) {
@@ -381,7 +415,11 @@ public class NetServerImpl implements Closeable, MetricsProvider, NetServer {
 
         if (actualServer.handlerManager.hasHandlers()) {
           // The actual server still has handlers so we don't actually close it
-          completion.complete();
+          if (actualServer.reusePortListeners != null && !actualServer.handlerManager.hasHandlers(listenContext.nettyEventLoop())) {
+            actualServer.reusePortListeners.unbind(listenContext.nettyEventLoop(), completion);
+          } else {
+            completion.complete();
+          }
         } else {
           // No Handlers left so close the actual server
           // The done handler needs to be executed on the context that calls close, NOT the context
@@ -435,6 +473,16 @@ public class NetServerImpl implements Closeable, MetricsProvider, NetServer {
     fut.addListener((PromiseInternal<Void>)done);
   }
 
+  private void reportAccepted(Channel ch) {
+    TCPMetrics metrics = this.metrics;
+    if (metrics != null) {
+      // Called on the event loop of the channel
+      String eventLoop = Thread.currentThread().getName();
+      metrics.connectionAccepted(eventLoop, availableWorkers.connections(ch.eventLoop()));
+      ch.closeFuture().addListener(future -> metrics.acceptedConnectionClosed(eventLoop, availableWorkers.connections(ch.eventLoop())));
+    }
+  }
+
   private void connected(HandlerHolder<Handlers> handler, Channel ch) {
     NetServerImpl.this.initChannel(ch.pipeline());
 
@@ -444,7 +492,6 @@ public class NetServerImpl implements Closeable, MetricsProvider, NetServer {
       if (metrics != null) {
         conn.metric(metrics.connected(conn.remoteAddress(), conn.remoteName()));
       }
-      conn.registerEventBusHandler();
       handler.context.dispatch(conn, handler.handler.connectionHandler::handle);
     });
     nh.removeHandler(conn -> socketMap.remove(ch));
@@ -28,6 +28,7 @@ import io.vertx.core.Promise;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.Message;
 import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.eventbus.impl.EventBusImpl;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.VertxInternal;
 import io.vertx.core.impl.logging.Logger;
@@ -64,14 +65,15 @@ public class NetSocketImpl extends ConnectionBase implements NetSocketInternal {
 
   private static final Logger log = LoggerFactory.getLogger(NetSocketImpl.class);
 
-  private final String writeHandlerID;
   private final SSLHelper helper;
   private final SocketAddress remoteAddress;
   private final TCPMetrics metrics;
   private final InboundBuffer<Object> pending;
   private Handler<Void> endHandler;
   private Handler<Void> drainHandler;
+  private String writeHandlerID;
   private MessageConsumer registration;
+  private boolean closed;
   private Handler<Object> messageHandler;
 
   public NetSocketImpl(VertxInternal vertx, ChannelHandlerContext channel, ContextInternal context,
@@ -83,7 +85,6 @@ public class NetSocketImpl extends ConnectionBase implements NetSocketInternal {
                        SSLHelper helper, TCPMetrics metrics) {
     super(vertx, channel, context);
     this.helper = helper;
-    this.writeHandlerID = "__vertx.net." + UUID.randomUUID().toString();
     this.remoteAddress = remoteAddress;
     this.metrics = metrics;
     this.messageHandler = NULL_MSG_HANDLER;
@@ -105,18 +106,23 @@ public class NetSocketImpl extends ConnectionBase implements NetSocketInternal {
     });
   }
 
-  synchronized void registerEventBusHandler() {
-    Handler<Message<Buffer>> writeHandler = msg -> write(msg.body());
-    registration = vertx.eventBus().<Buffer>localConsumer(writeHandlerID).handler(writeHandler);
-  }
-
   @Override
   public TCPMetrics metrics() {
     return metrics;
   }
 
+  /**
+   * The write handler is registered on the first call, most sockets never need it.
+   */
   @Override
-  public String writeHandlerID() {
+  public synchronized String writeHandlerID() {
+    if (writeHandlerID == null) {
+      writeHandlerID = "__vertx.net." + UUID.randomUUID().toString();
+      if (!closed) {
+        Handler<Message<Buffer>> writeHandler = msg -> write(msg.body());
+        registration = ((EventBusImpl) vertx.eventBus()).<Buffer>localConsumer(context, writeHandlerID).handler(writeHandler);
+      }
+    }
     return writeHandlerID;
   }
 
@@ -133,6 +139,12 @@ public class NetSocketImpl extends ConnectionBase implements NetSocketInternal {
     return this;
   }
 
+  @Override
+  public NetSocketInternal writeMessage(Object message, boolean flush, Handler<AsyncResult<Void>> handler) {
+    writeToChannel(message, flush, handler == null ? null : context.promise(handler));
+    return this;
+  }
+
   @Override
   protected void reportsBytesWritten(Object msg) {
     if (msg instanceof ByteBuf) {
@@ -359,6 +371,7 @@ public class NetSocketImpl extends ConnectionBase implements NetSocketInternal {
     synchronized (this) {
       consumer = registration;
       registration = null;
+      closed = true;
     }
     context.dispatch(InboundBuffer.END_SENTINEL, pending::write);
     super.handleClosed();
@@ -65,6 +65,17 @@ public interface NetSocketInternal extends NetSocket {
    */
   NetSocketInternal writeMessage(Object message, Handler<AsyncResult<Void>> handler);
 
+  /**
+   * Like {@link #writeMessage(Object, Handler)} but a message written from the event loop is not flushed when
+   * {@code flush} is {@code false}, the caller should then call {@link #flush()} after the last message of its batch.
+   */
+  NetSocketInternal writeMessage(Object message, boolean flush, Handler<AsyncResult<Void>> handler);
+
+  /**
+   * Flush the messages written to the channel.
+   */
+  void flush();
+
   /**
    * Set a {@code handler} on this socket to process the messages produced by this socket. The message can be
    * {@link io.netty.buffer.ByteBuf} or other messages produced by channel pipeline handlers.
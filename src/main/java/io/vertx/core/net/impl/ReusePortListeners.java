@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.net.impl;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
+import io.netty.channel.group.ChannelGroup;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.GenericFutureListener;
+import io.vertx.core.Promise;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.impl.logging.Logger;
+import io.vertx.core.impl.logging.LoggerFactory;
+import io.vertx.core.net.AcceptBalancing;
+import io.vertx.core.net.NetServerOptions;
+import io.vertx.core.net.SocketAddress;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The listening sockets of a server balancing its connections with {@link AcceptBalancing#REUSE_PORT}, one per event
+ * loop of the server.
+ * <p>
+ * A socket is registered on its event loop and the connections it accepts are registered on the same event loop by
+ * the {@link VertxEventLoopGroup} of the server.
+ */
+public class ReusePortListeners {
+
+  private static final Logger log = LoggerFactory.getLogger(ReusePortListeners.class);
+
+  /**
+   * @return the balancing of a server, {@link AcceptBalancing#ROUND_ROBIN} replaces {@link AcceptBalancing#REUSE_PORT}
+   *         when the transport cannot balance the connections between the sockets
+   */
+  public static AcceptBalancing balancing(VertxInternal vertx, NetServerOptions options, SocketAddress address) {
+    AcceptBalancing balancing = options.getAcceptBalancing();
+    if (balancing == AcceptBalancing.REUSE_PORT && (address.isDomainSocket() || !vertx.transport().supportsReusePortBalancing())) {
+      log.warn("The " + balancing + " balancing requires the native epoll transport and an inet socket address, using " + AcceptBalancing.ROUND_ROBIN + " instead");
+      balancing = AcceptBalancing.ROUND_ROBIN;
+    }
+    return balancing;
+  }
+
+  private final VertxInternal vertx;
+  private final SocketAddress address;
+  private final ServerBootstrap bootstrap;
+  private final VertxEventLoopGroup workers;
+  private final ChannelGroup channelGroup;
+  private final Map<EventLoop, Future<Channel>> listeners = new HashMap<>();
+
+  /**
+   * @param bootstrap the configured bootstrap of the server, without event loop group
+   * @param workers the event loops of the server
+   * @param channelGroup the group closing the sockets when the server is closed
+   */
+  public ReusePortListeners(VertxInternal vertx, SocketAddress address, ServerBootstrap bootstrap, VertxEventLoopGroup workers, ChannelGroup channelGroup) {
+    this.vertx = vertx;
+    this.address = address;
+    this.bootstrap = bootstrap;
+    this.workers = workers;
+    this.channelGroup = channelGroup;
+  }
+
+  /**
+   * Bind the socket of an event loop unless it is already bound.
+   *
+   * @param eventLoop the event loop
+   * @return the future of the socket
+   */
+  public synchronized Future<Channel> bind(EventLoop eventLoop) {
+    Future<Channel> listener = listeners.get(eventLoop);
+    if (listener == null) {
+      listener = AsyncResolveConnectHelper.doBind(vertx, address, bootstrap.clone().group(eventLoop, workers));
+      listeners.put(eventLoop, listener);
+      Future<Channel> bound = listener;
+      bound.addListener((GenericFutureListener<Future<Channel>>) res -> {
+        if (res.isSuccess()) {
+          channelGroup.add(res.getNow());
+        } else {
+          synchronized (ReusePortListeners.this) {
+            listeners.remove(eventLoop, bound);
+          }
+        }
+      });
+    }
+    return listener;
+  }
+
+  /**
+   * Close the socket of an event loop, when the event loop does not handle the connections of the server anymore.
+   *
+   * @param eventLoop the event loop
+   * @param completion completed when the socket is closed
+   */
+  public synchronized void unbind(EventLoop eventLoop, Promise<Void> completion) {
+    Future<Channel> listener = listeners.remove(eventLoop);
+    if (listener == null) {
+      completion.complete();
+      return;
+    }
+    listener.addListener((GenericFutureListener<Future<Channel>>) res -> {
+      if (res.isSuccess()) {
+        res.getNow().close().addListener(future -> completion.complete());
+      } else {
+        completion.complete();
+      }
+    });
+  }
+}
@@ -13,6 +13,7 @@ package io.vertx.core.net.impl;
 
 import io.netty.channel.*;
 import io.netty.util.concurrent.*;
+import io.vertx.core.net.AcceptBalancing;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -23,6 +24,11 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
 /**
+ * The event loops of a server.
+ * <p>
+ * The group counts the connections it registers on each event loop, a connection is registered according to the
+ * {@link AcceptBalancing} of the group.
+ *
  * @author <a href="http://tfox.org">Tim Fox</a>
  */
 @SuppressWarnings("deprecation")
@@ -30,6 +36,7 @@ public final class VertxEventLoopGroup extends AbstractEventExecutorGroup implem
 
   private int pos;
   private final List<EventLoopHolder> workers = new ArrayList<>();
+  private AcceptBalancing balancing = AcceptBalancing.ROUND_ROBIN;
 
   @Override
   public synchronized EventLoop next() {
@@ -50,7 +57,64 @@ public final class VertxEventLoopGroup extends AbstractEventExecutorGroup implem
 
   @Override
   public ChannelFuture register(Channel channel) {
-    return next().register(channel);
+    if (channel instanceof ServerChannel) {
+      return next().register(channel);
+    }
+    EventLoopHolder holder = acquire(channel);
+    channel.closeFuture().addListener(future -> release(holder));
+    return holder.worker.register(channel);
+  }
+
+  private synchronized EventLoopHolder acquire(Channel channel) {
+    if (workers.isEmpty()) {
+      throw new IllegalStateException();
+    }
+    EventLoopHolder holder = null;
+    switch (balancing) {
+      case REUSE_PORT:
+        // The event loop of the listener that accepted the channel
+        Channel parent = channel.parent();
+        if (parent != null) {
+          holder = findHolder(parent.eventLoop());
+        }
+        break;
+      case LEAST_CONNECTIONS:
+        for (EventLoopHolder worker : workers) {
+          if (holder == null || worker.connections < holder.connections) {
+            holder = worker;
+          }
+        }
+        break;
+    }
+    if (holder == null) {
+      holder = workers.get(pos);
+      pos++;
+      checkPos();
+    }
+    holder.connections++;
+    return holder;
+  }
+
+  private synchronized void release(EventLoopHolder holder) {
+    holder.connections--;
+  }
+
+  /**
+   * Set how the connections are balanced between the event loops.
+   *
+   * @param balancing the balancing
+   */
+  public synchronized void balancing(AcceptBalancing balancing) {
+    this.balancing = balancing;
+  }
+
+  /**
+   * @param worker the event loop
+   * @return the number of connections registered on the event loop
+   */
+  public synchronized int connections(EventLoop worker) {
+    EventLoopHolder holder = findHolder(worker);
+    return holder != null ? holder.connections : 0;
   }
 
   @Override
@@ -142,6 +206,7 @@ public final class VertxEventLoopGroup extends AbstractEventExecutorGroup implem
 
   private static class EventLoopHolder {
     int count = 1;
+    int connections;
     final EventLoop worker;
 
     EventLoopHolder(EventLoop worker) {
@@ -26,6 +26,7 @@ import io.netty.channel.socket.DatagramChannel;
 import io.netty.channel.socket.InternetProtocolFamily;
 import io.netty.channel.unix.DomainSocketAddress;
 import io.vertx.core.datagram.DatagramSocketOptions;
+import io.vertx.core.net.AcceptBalancing;
 import io.vertx.core.net.ClientOptionsBase;
 import io.vertx.core.net.NetServerOptions;
 import io.vertx.core.net.impl.SocketAddressImpl;
@@ -92,6 +93,11 @@ class EpollTransport extends Transport {
     return Epoll.unavailabilityCause();
   }
 
+  @Override
+  public boolean supportsReusePortBalancing() {
+    return true;
+  }
+
   @Override
   public EventLoopGroup eventLoopGroup(int type, int nThreads, ThreadFactory threadFactory, int ioRatio) {
     EpollEventLoopGroup eventLoopGroup = new EpollEventLoopGroup(nThreads, threadFactory);
@@ -134,7 +140,7 @@ class EpollTransport extends Transport {
   @Override
   public void configure(NetServerOptions options, boolean domainSocket, ServerBootstrap bootstrap) {
     if (!domainSocket) {
-      bootstrap.option(EpollChannelOption.SO_REUSEPORT, options.isReusePort());
+      bootstrap.option(EpollChannelOption.SO_REUSEPORT, options.isReusePort() || options.getAcceptBalancing() == AcceptBalancing.REUSE_PORT);
     }
     if (options.isTcpFastOpen()) {
       bootstrap.option(EpollChannelOption.TCP_FASTOPEN, options.isTcpFastOpen() ? pendingFastOpenRequestsThreshold : 0);
@@ -107,6 +107,14 @@ public class Transport {
     return null;
   }
 
+  /**
+   * @return whether the kernel balances the connections between the sockets bound to the same address with
+   *         {@code SO_REUSEPORT}, as required by {@link io.vertx.core.net.AcceptBalancing#REUSE_PORT}
+   */
+  public boolean supportsReusePortBalancing() {
+    return false;
+  }
+
   public SocketAddress convert(io.vertx.core.net.SocketAddress address) {
     if (address.isDomainSocket()) {
       throw new IllegalArgumentException("Domain socket not supported by JDK transport");
@@ -18,6 +18,8 @@ import io.vertx.core.buffer.Buffer;
 import io.vertx.core.parsetools.impl.JsonParserImpl;
 import io.vertx.core.streams.ReadStream;
 
+import java.util.Set;
+
 /**
  * A parser class which allows to incrementally parse json elements and emit json parse events instead of parsing a json
  * element fully. This parser is convenient for parsing large json structures.
@@ -82,6 +84,33 @@ public interface JsonParser extends Handler<Buffer>, ReadStream<JsonEvent> {
   @Fluent
   JsonParser objectValueMode();
 
+  /**
+   * Flip the parser to emit a single value event for each new json object, the value of the event is the object
+   * decoded as an instance of {@code type} with Jackson databind.
+   * </p>
+   * The tokens of the object are bound to the instance, no {@link io.vertx.core.json.JsonObject} is created. Json
+   * object currently streamed won't be affected.
+   *
+   * @param type the type the objects are decoded to
+   * @return  a reference to this, so the API can be used fluently
+   * @throws UnsupportedOperationException when Jackson databind is not on the classpath
+   */
+  @Fluent
+  <T> JsonParser objectValueMode(Class<T> type);
+
+  /**
+   * Set the fields kept by the object value modes, the other fields of the emitted objects are skipped with their value,
+   * which is never materialized. Only the fields of the emitted objects are projected, the values of the kept fields
+   * are emitted entirely.
+   * </p>
+   * The parser keeps all the fields by default.
+   *
+   * @param fields the kept fields or {@code null} to keep all the fields
+   * @return  a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  JsonParser projection(Set<String> fields);
+
   /**
    * Flip the parser to emit a stream of events for each new json array.
    *
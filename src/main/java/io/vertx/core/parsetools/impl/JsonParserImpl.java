@@ -13,10 +13,8 @@ package io.vertx.core.parsetools.impl;
 
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonToken;
-import com.fasterxml.jackson.core.ObjectCodec;
-import com.fasterxml.jackson.core.base.ParserBase;
-import com.fasterxml.jackson.core.io.IOContext;
 import com.fasterxml.jackson.core.json.async.NonBlockingJsonParser;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import io.vertx.core.Handler;
 import io.vertx.core.VertxException;
 import io.vertx.core.buffer.Buffer;
@@ -24,7 +22,8 @@ import io.vertx.core.impl.Arguments;
 import io.vertx.core.json.DecodeException;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
-import io.vertx.core.json.jackson.JacksonCodec;
+import io.vertx.core.json.jackson.DatabindCodec;
+import io.vertx.core.json.jackson.JacksonFactory;
 import io.vertx.core.parsetools.JsonEvent;
 import io.vertx.core.parsetools.JsonEventType;
 import io.vertx.core.parsetools.JsonParser;
@@ -32,8 +31,13 @@ import io.vertx.core.streams.ReadStream;
 
 import java.io.IOException;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -44,8 +48,9 @@ public class JsonParserImpl implements JsonParser {
   private JsonToken currentToken;
   private Handler<JsonToken> tokenHandler = this::handleToken;
   private Handler<JsonEvent> eventHandler;
-  private BufferingHandler arrayHandler;
-  private BufferingHandler objectHandler;
+  private ValueHandler arrayHandler;
+  private ValueHandler objectHandler;
+  private Set<String> projection;
   private Handler<Throwable> exceptionHandler;
   private String currentField;
   private Handler<Void> endHandler;
@@ -126,7 +131,7 @@ public class JsonParserImpl implements JsonParser {
     try {
       switch (token) {
         case START_OBJECT: {
-          BufferingHandler handler = objectHandler;
+          ValueHandler handler = objectHandler;
           if (handler != null) {
             tokenHandler = handler;
             handler.handle(token);
@@ -136,7 +141,7 @@ public class JsonParserImpl implements JsonParser {
           break;
         }
         case START_ARRAY: {
-          BufferingHandler handler = arrayHandler;
+          ValueHandler handler = arrayHandler;
           if (handler != null) {
             tokenHandler = handler;
             handler.handle(token);
@@ -279,16 +284,36 @@ public class JsonParserImpl implements JsonParser {
 
   @Override
   public JsonParser objectValueMode() {
-    if (objectHandler == null) {
-      BufferingHandler handler = new BufferingHandler();
-      handler.handler = buffer -> {
-        handleEvent(new JsonEventImpl(JsonEventType.VALUE, currentField, new JsonObject(handler.convert(Map.class))));
+    if (!(objectHandler instanceof TreeValueHandler)) {
+      TreeValueHandler handler = new TreeValueHandler(true);
+      handler.handler = value -> {
+        handleEvent(new JsonEventImpl(JsonEventType.VALUE, currentField, new JsonObject((Map<String, Object>) value)));
       };
       objectHandler = handler;
     }
     return this;
   }
 
+  @Override
+  public <T> JsonParser objectValueMode(Class<T> type) {
+    Objects.requireNonNull(type, "No null type accepted");
+    if (!(JacksonFactory.CODEC instanceof DatabindCodec)) {
+      throw new UnsupportedOperationException("Mapping is not available without Jackson Databind on the classpath");
+    }
+    BindingValueHandler handler = new BindingValueHandler(type);
+    handler.handler = value -> {
+      handleEvent(new JsonEventImpl(JsonEventType.VALUE, currentField, value));
+    };
+    objectHandler = handler;
+    return this;
+  }
+
+  @Override
+  public JsonParser projection(Set<String> fields) {
+    projection = fields != null ? new HashSet<>(fields) : null;
+    return this;
+  }
+
   @Override
   public JsonParser arrayEventMode() {
     if (arrayHandler != null) {
@@ -301,9 +326,9 @@ public class JsonParserImpl implements JsonParser {
   @Override
   public JsonParser arrayValueMode() {
     if (arrayHandler == null) {
-      BufferingHandler handler = new BufferingHandler();
-      handler.handler = buffer -> {
-        handleEvent(new JsonEventImpl(JsonEventType.VALUE, currentField, new JsonArray(handler.convert(List.class))));
+      TreeValueHandler handler = new TreeValueHandler(false);
+      handler.handler = value -> {
+        handleEvent(new JsonEventImpl(JsonEventType.VALUE, currentField, new JsonArray((List<Object>) value)));
       };
       arrayHandler = handler;
     }
@@ -311,140 +336,204 @@ public class JsonParserImpl implements JsonParser {
   }
 
   /**
-   * A parser implementation that feeds from a list of tokens instead of bytes.
+   * Assembles the tokens of a value emitted by the value modes, as soon as the parser reads them.
+   * <p>
+   * The fields of an object value that are not in the projection of the parser are skipped with their values.
    */
-  private static class TokenParser extends ParserBase {
+  private abstract class ValueHandler implements Handler<JsonToken> {
 
-    private ArrayDeque<Object> tokens = new ArrayDeque<>();
-    private String text;
+    private final boolean object;
+    Handler<Object> handler;
+    private Set<String> fields;
+    private int depth;
+    private boolean skipValue;
+    private int skipDepth;
 
-    private TokenParser(IOContext ctxt, int features) {
-      super(ctxt, features);
+    ValueHandler(boolean object) {
+      this.object = object;
     }
 
-    @Override
-    public JsonToken nextToken() throws IOException {
-      if (tokens.isEmpty()) {
-        return null;
-      }
-      text = null;
-      _numTypesValid = NR_UNKNOWN;
-      _numberLong = 0L;
-      _numberDouble = 0L;
-      _currToken = (JsonToken) tokens.removeFirst();
-      if (_currToken == JsonToken.FIELD_NAME) {
-        String field = (String) tokens.removeFirst();
-        _parsingContext.setCurrentName(field);
-        text = field;
-      } else if (_currToken == JsonToken.VALUE_NUMBER_INT) {
-        Long v = (Long) tokens.removeFirst();
-        _numTypesValid = NR_LONG;
-        _numberLong = v;
-      } else if (_currToken == JsonToken.VALUE_NUMBER_FLOAT) {
-        Double v = (Double) tokens.removeFirst();
-        _numTypesValid = NR_DOUBLE;
-        _numberDouble = v;
-      } else if (_currToken == JsonToken.VALUE_STRING) {
-        text = (String) tokens.removeFirst();
-      }
-      return _currToken;
-    }
-
-    @Override
-    public String getText() {
-      return text;
-    }
-
-    @Override
-    public char[] getTextCharacters() {
-      throw new UnsupportedOperationException();
-    }
-
-    @Override
-    public int getTextLength() {
-      throw new UnsupportedOperationException();
-    }
-
-    @Override
-    public int getTextOffset() {
-      throw new UnsupportedOperationException();
-    }
-
-    @Override
-    public ObjectCodec getCodec() {
-      throw new UnsupportedOperationException();
-    }
-
-    @Override
-    public void setCodec(ObjectCodec c) {
-      throw new UnsupportedOperationException();
-    }
-
-    @Override
-    protected void _closeInput() {
-    }
-  }
-
-  private class BufferingHandler implements Handler<JsonToken> {
-
-    Handler<Void> handler;
-    int depth;
-    TokenParser buffer;
-
     @Override
     public void handle(JsonToken event) {
       try {
+        if (skipDepth > 0) {
+          switch (event) {
+            case START_OBJECT:
+            case START_ARRAY:
+              skipDepth++;
+              break;
+            case END_OBJECT:
+            case END_ARRAY:
+              skipDepth--;
+              break;
+          }
+          return;
+        }
+        if (skipValue) {
+          skipValue = false;
+          if (event == JsonToken.START_OBJECT || event == JsonToken.START_ARRAY) {
+            skipDepth = 1;
+          }
+          return;
+        }
         switch (event) {
           case START_OBJECT:
           case START_ARRAY:
             if (depth++ == 0) {
-              JsonFactory factory = new JsonFactory();
-              buffer = new TokenParser(new IOContext(factory._getBufferRecycler(), this, true), com.fasterxml.jackson.core.JsonParser.Feature.collectDefaults());
+              fields = object ? projection : null;
             }
-            buffer.tokens.add(event);
+            append(event);
             break;
           case FIELD_NAME:
-            buffer.tokens.add(event);
-            buffer.tokens.add(parser.currentName());
+            if (depth == 1 && fields != null && !fields.contains(parser.getCurrentName())) {
+              skipValue = true;
+            } else {
+              append(event);
+            }
             break;
           case VALUE_NUMBER_INT:
-            buffer.tokens.add(event);
-            buffer.tokens.add(parser.getLongValue());
-            break;
           case VALUE_NUMBER_FLOAT:
-            buffer.tokens.add(event);
-            buffer.tokens.add(parser.getDoubleValue());
-            break;
           case VALUE_STRING:
-            buffer.tokens.add(event);
-            buffer.tokens.add(parser.getText());
-            break;
           case VALUE_FALSE:
           case VALUE_TRUE:
           case VALUE_NULL:
-            buffer.tokens.add(event);
+            append(event);
             break;
           case END_OBJECT:
           case END_ARRAY:
-            buffer.tokens.add(event);
+            append(event);
             if (--depth == 0) {
               tokenHandler = JsonParserImpl.this::handleToken;
-              handler.handle(null);
-              buffer.close();
-              buffer = null;
+              handler.handle(value());
             }
             break;
           default:
             throw new UnsupportedOperationException("Not implemented " + event);
         }
       } catch (IOException e) {
-        // Should not happen as we are buffering
-        throw new VertxException(e);
+        throw new DecodeException(e.getMessage(), e);
+      }
+    }
+
+    /**
+     * Append the current token of the parser to the value.
+     */
+    abstract void append(JsonToken token) throws IOException;
+
+    /**
+     * @return the value appended since the last call
+     */
+    abstract Object value();
+  }
+
+  /**
+   * Builds the maps and lists of a {@code JsonObject} or a {@code JsonArray} value.
+   */
+  private class TreeValueHandler extends ValueHandler {
+
+    private final ArrayDeque<Object> containers = new ArrayDeque<>();
+    private Object value;
+    private String field;
+
+    TreeValueHandler(boolean object) {
+      super(object);
+    }
+
+    @Override
+    void append(JsonToken token) throws IOException {
+      switch (token) {
+        case START_OBJECT: {
+          Map<String, Object> map = new LinkedHashMap<>();
+          add(map);
+          containers.push(map);
+          break;
+        }
+        case START_ARRAY: {
+          List<Object> list = new ArrayList<>();
+          add(list);
+          containers.push(list);
+          break;
+        }
+        case END_OBJECT:
+        case END_ARRAY:
+          containers.pop();
+          break;
+        case FIELD_NAME:
+          field = parser.getCurrentName();
+          break;
+        case VALUE_NUMBER_INT:
+          add(parser.getLongValue());
+          break;
+        case VALUE_NUMBER_FLOAT:
+          add(parser.getDoubleValue());
+          break;
+        case VALUE_STRING:
+          add(parser.getText());
+          break;
+        case VALUE_TRUE:
+          add(Boolean.TRUE);
+          break;
+        case VALUE_FALSE:
+          add(Boolean.FALSE);
+          break;
+        case VALUE_NULL:
+          add(null);
+          break;
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void add(Object o) {
+      Object container = containers.peek();
+      if (container == null) {
+        value = o;
+      } else if (container instanceof Map) {
+        ((Map<String, Object>) container).put(field, o);
+        field = null;
+      } else {
+        ((List<Object>) container).add(o);
+      }
+    }
+
+    @Override
+    Object value() {
+      Object o = value;
+      value = null;
+      return o;
+    }
+  }
+
+  /**
+   * Binds an object value to a type with Jackson databind, the tokens of the value are copied to a databind token
+   * buffer until the value is complete.
+   */
+  private class BindingValueHandler extends ValueHandler {
+
+    private final Class<?> type;
+    private TokenBuffer buffer;
+
+    BindingValueHandler(Class<?> type) {
+      super(true);
+      this.type = type;
+    }
+
+    @Override
+    void append(JsonToken token) throws IOException {
+      if (buffer == null) {
+        buffer = new TokenBuffer(DatabindCodec.mapper(), false);
       }
+      buffer.copyCurrentEvent(parser);
     }
 
-    <T> T convert(Class<T> type) {
-      return JacksonCodec.fromParser(buffer, type);
+    @Override
+    Object value() {
+      TokenBuffer tokens = buffer;
+      buffer = null;
+      try {
+        return DatabindCodec.mapper().readValue(tokens.asParser(), type);
+      } catch (IOException e) {
+        throw new DecodeException(e.getMessage(), e);
+      }
     }
   }
 
@@ -16,6 +16,7 @@ import io.vertx.codegen.annotations.Nullable;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
+import io.vertx.core.FutureInt;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 
@@ -212,6 +213,15 @@ public interface AsyncMap<K, V> {
    */
   Future<Integer> size();
 
+  /**
+   * Like {@link #size()} but returns a {@link FutureInt}, an implementation knowing the size synchronously returns
+   * a fast future that does not box the size.
+   */
+  @GenIgnore
+  default FutureInt sizeInt() {
+    return FutureInt.createSlowFutureInt(size());
+  }
+
   /**
    * Get the keys of the map, asynchronously.
    * <p>
@@ -11,9 +11,12 @@
 
 package io.vertx.core.shareddata;
 
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
+import io.vertx.core.FutureBoolean;
+import io.vertx.core.FutureLong;
 import io.vertx.core.Handler;
 
 import java.util.Objects;
@@ -137,4 +140,61 @@ public interface Counter {
    * Same as {@link #compareAndSet(long, long, Handler)} but returns a {@code Future} of the asynchronous result
    */
   Future<Boolean> compareAndSet(long expected, long value);
+
+  /**
+   * Like {@link #get()} but returns a {@link FutureLong}, an implementation knowing the value synchronously returns
+   * a fast future that does not box the value.
+   */
+  @GenIgnore
+  default FutureLong getLong() {
+    return FutureLong.createSlowFutureLong(get());
+  }
+
+  /**
+   * Like {@link #incrementAndGet()} but returns a {@link FutureLong}.
+   */
+  @GenIgnore
+  default FutureLong incrementAndGetLong() {
+    return FutureLong.createSlowFutureLong(incrementAndGet());
+  }
+
+  /**
+   * Like {@link #getAndIncrement()} but returns a {@link FutureLong}.
+   */
+  @GenIgnore
+  default FutureLong getAndIncrementLong() {
+    return FutureLong.createSlowFutureLong(getAndIncrement());
+  }
+
+  /**
+   * Like {@link #decrementAndGet()} but returns a {@link FutureLong}.
+   */
+  @GenIgnore
+  default FutureLong decrementAndGetLong() {
+    return FutureLong.createSlowFutureLong(decrementAndGet());
+  }
+
+  /**
+   * Like {@link #addAndGet(long)} but returns a {@link FutureLong}.
+   */
+  @GenIgnore
+  default FutureLong addAndGetLong(long value) {
+    return FutureLong.createSlowFutureLong(addAndGet(value));
+  }
+
+  /**
+   * Like {@link #getAndAdd(long)} but returns a {@link FutureLong}.
+   */
+  @GenIgnore
+  default FutureLong getAndAddLong(long value) {
+    return FutureLong.createSlowFutureLong(getAndAdd(value));
+  }
+
+  /**
+   * Like {@link #compareAndSet(long, long)} but returns a {@link FutureBoolean}.
+   */
+  @GenIgnore
+  default FutureBoolean compareAndSetBoolean(long expected, long value) {
+    return FutureBoolean.createSlowFutureBoolean(compareAndSet(expected, value));
+  }
 }
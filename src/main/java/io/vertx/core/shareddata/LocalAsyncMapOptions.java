@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.shareddata;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Describes the options of a local {@link AsyncMap}.
+ */
+@DataObject(generateConverter = true, publicConverter = false)
+public class LocalAsyncMapOptions {
+
+  /**
+   * The default maximum number of entries = 0 (unbounded)
+   */
+  public static final int DEFAULT_MAX_SIZE = 0;
+
+  private int maxSize = DEFAULT_MAX_SIZE;
+
+  /**
+   * Default constructor.
+   */
+  public LocalAsyncMapOptions() {
+  }
+
+  /**
+   * Copy constructor.
+   *
+   * @param other the options to copy
+   */
+  public LocalAsyncMapOptions(LocalAsyncMapOptions other) {
+    this.maxSize = other.maxSize;
+  }
+
+  /**
+   * Constructor to create options from JSON.
+   *
+   * @param json the JSON
+   */
+  public LocalAsyncMapOptions(JsonObject json) {
+    this();
+    LocalAsyncMapOptionsConverter.fromJson(json, this);
+  }
+
+  /**
+   * @return the maximum number of entries of the map, {@code 0} when the map is unbounded
+   */
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Set the maximum number of entries of the map. When an entry is added to a full map, the least recently used
+   * entry is evicted. Defaults to {@code 0}, the map is unbounded.
+   *
+   * @param maxSize the maximum number of entries
+   * @return a reference to this, so the API can be used fluently
+   */
+  public LocalAsyncMapOptions setMaxSize(int maxSize) {
+    if (maxSize < 0) {
+      throw new IllegalArgumentException("maxSize must be >= 0");
+    }
+    this.maxSize = maxSize;
+    return this;
+  }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.shareddata;
+
+import io.vertx.codegen.annotations.VertxGen;
+
+/**
+ * The statistics of a local asynchronous map, see {@link SharedData#getLocalAsyncMapStats(String)}.
+ * <p>
+ * The counters are updated as the map is used and are never reset.
+ */
+@VertxGen
+public interface LocalAsyncMapStats {
+
+  /**
+   * @return the number of {@code get} calls that found an entry
+   */
+  long hitCount();
+
+  /**
+   * @return the number of {@code get} calls that did not find an entry
+   */
+  long missCount();
+
+  /**
+   * @return the number of entries evicted because the map exceeded its {@link LocalAsyncMapOptions#getMaxSize() maximum size}
+   */
+  long evictionCount();
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.shareddata;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Describes the options of a {@link LocalMap}.
+ */
+@DataObject(generateConverter = true, publicConverter = false)
+public class LocalMapOptions {
+
+  /**
+   * Whether the entries are stored off-heap by default = false
+   */
+  public static final boolean DEFAULT_OFF_HEAP = false;
+
+  private boolean offHeap = DEFAULT_OFF_HEAP;
+
+  /**
+   * Default constructor.
+   */
+  public LocalMapOptions() {
+  }
+
+  /**
+   * Copy constructor.
+   *
+   * @param other the options to copy
+   */
+  public LocalMapOptions(LocalMapOptions other) {
+    this.offHeap = other.offHeap;
+  }
+
+  /**
+   * Constructor to create options from JSON.
+   *
+   * @param json the JSON
+   */
+  public LocalMapOptions(JsonObject json) {
+    this();
+    LocalMapOptionsConverter.fromJson(json, this);
+  }
+
+  /**
+   * @return true if the entries are stored off-heap, false otherwise
+   */
+  public boolean isOffHeap() {
+    return offHeap;
+  }
+
+  /**
+   * Whether the entries are stored serialized in pooled direct memory instead of the Java heap. Defaults to {@code false}.
+   * <p>
+   * An off-heap map only accepts the types it can serialize: strings, primitive wrappers, {@code byte[]},
+   * {@link io.vertx.core.buffer.Buffer}, {@link io.vertx.core.json.JsonObject} and {@link io.vertx.core.json.JsonArray}.
+   * Keys are compared by their serialized form and the memory is released when the map is closed.
+   *
+   * @param offHeap true to store the entries off-heap, false otherwise
+   * @return a reference to this, so the API can be used fluently
+   */
+  public LocalMapOptions setOffHeap(boolean offHeap) {
+    this.offHeap = offHeap;
+    return this;
+  }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.shareddata;
+
+import io.vertx.codegen.annotations.VertxGen;
+
+/**
+ * The memory usage of an off-heap local map, see {@link SharedData#getOffHeapMapStats(String)}.
+ */
+@VertxGen
+public interface OffHeapMapStats {
+
+  /**
+   * @return the number of bytes used by the live entries
+   */
+  long memoryUsed();
+
+  /**
+   * @return the number of bytes of direct memory held by the map
+   */
+  long memoryAllocated();
+}
@@ -11,6 +11,7 @@
 
 package io.vertx.core.shareddata;
 
+import io.vertx.codegen.annotations.Nullable;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
@@ -87,6 +88,29 @@ public interface SharedData {
    */
   <K, V> Future<AsyncMap<K, V>> getLocalAsyncMap(String name);
 
+  /**
+   * Like {@link #getLocalAsyncMap(String, Handler)} but the map is created with the specified {@code options}.
+   *
+   * @param name the name of the map
+   * @param options the options of the map
+   * @param resultHandler the map will be returned asynchronously in this handler
+   * @throws IllegalStateException if the map already exists with different options
+   */
+  <K, V> void getLocalAsyncMap(String name, LocalAsyncMapOptions options, Handler<AsyncResult<AsyncMap<K, V>>> resultHandler);
+
+  /**
+   * Same as {@link #getLocalAsyncMap(String, LocalAsyncMapOptions, Handler)} but returns a {@code Future} of the asynchronous result
+   */
+  <K, V> Future<AsyncMap<K, V>> getLocalAsyncMap(String name, LocalAsyncMapOptions options);
+
+  /**
+   * Get the statistics of the local asynchronous map with the specified name.
+   *
+   * @param name the name of the map
+   * @return the statistics of the map, or {@code null} when the map has not been created
+   */
+  @Nullable LocalAsyncMapStats getLocalAsyncMapStats(String name);
+
   /**
    * Get an asynchronous lock with the specified name. The lock will be passed to the handler when it is available.
    * <p>
@@ -159,6 +183,23 @@ public interface SharedData {
    */
   Future<Lock> getLocalLockWithTimeout(String name, long timeout);
 
+  /**
+   * Try to get an asynchronous local lock with the specified name without waiting. The lock is passed to the handler
+   * when it is available immediately, otherwise a failure is sent to the handler. No timer is used.
+   * <p>
+   *   A lock that has waiters is not available, so this never acquires the lock before the waiters.
+   * </p>
+   *
+   * @param name  the name of the lock
+   * @param resultHandler  the handler
+   */
+  void tryGetLocalLock(String name, Handler<AsyncResult<Lock>> resultHandler);
+
+  /**
+   * Same as {@link #tryGetLocalLock(String, Handler)} but returns a {@code Future} of the asynchronous result
+   */
+  Future<Lock> tryGetLocalLock(String name);
+
   /**
    * Get an asynchronous counter. The counter will be passed to the handler.
    *
@@ -193,4 +234,24 @@ public interface SharedData {
    */
   <K, V> LocalMap<K, V> getLocalMap(String name);
 
+  /**
+   * Return a {@code LocalMap} with the specific {@code name}, the map is created with the specified {@code options}.
+   * <p>
+   * An off-heap map is closed when Vert.x is closed, which releases its memory.
+   *
+   * @param name  the name of the map
+   * @param options  the options of the map
+   * @return the map
+   * @throws IllegalStateException if the map already exists with different options
+   */
+  <K, V> LocalMap<K, V> getLocalMap(String name, LocalMapOptions options);
+
+  /**
+   * Get the memory usage of the off-heap local map with the specified name.
+   *
+   * @param name  the name of the map
+   * @return the memory usage of the map, or {@code null} when there is no off-heap map with this name
+   */
+  @Nullable OffHeapMapStats getOffHeapMapStats(String name);
+
 }
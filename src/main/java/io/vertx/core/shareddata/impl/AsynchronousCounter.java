@@ -12,6 +12,8 @@
 package io.vertx.core.shareddata.impl;
 
 import io.vertx.core.Future;
+import io.vertx.core.FutureBoolean;
+import io.vertx.core.FutureLong;
 import io.vertx.core.Promise;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.VertxInternal;
@@ -92,4 +94,39 @@ public class AsynchronousCounter implements Counter {
     promise.complete(counter.compareAndSet(expected, value));
     return promise.future();
   }
+
+  @Override
+  public FutureLong getLong() {
+    return FutureLong.createFastFutureLong(counter.get());
+  }
+
+  @Override
+  public FutureLong incrementAndGetLong() {
+    return FutureLong.createFastFutureLong(counter.incrementAndGet());
+  }
+
+  @Override
+  public FutureLong getAndIncrementLong() {
+    return FutureLong.createFastFutureLong(counter.getAndIncrement());
+  }
+
+  @Override
+  public FutureLong decrementAndGetLong() {
+    return FutureLong.createFastFutureLong(counter.decrementAndGet());
+  }
+
+  @Override
+  public FutureLong addAndGetLong(long value) {
+    return FutureLong.createFastFutureLong(counter.addAndGet(value));
+  }
+
+  @Override
+  public FutureLong getAndAddLong(long value) {
+    return FutureLong.createFastFutureLong(counter.getAndAdd(value));
+  }
+
+  @Override
+  public FutureBoolean compareAndSetBoolean(long expected, long value) {
+    return FutureBoolean.createFastFutureBoolean(counter.compareAndSet(expected, value));
+  }
 }
@@ -11,7 +11,7 @@
 
 package io.vertx.core.shareddata.impl;
 
-import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.impl.BufferImpl;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.shareddata.Shareable;
@@ -45,6 +45,9 @@ public class Checker {
       byte[] copy = new byte[bytes.length];
       System.arraycopy(bytes, 0, copy, 0, bytes.length);
       return (T) copy;
+    } else if (obj instanceof BufferImpl && ((BufferImpl) obj).isImmutable()) {
+      // The content cannot be modified, it is shared by a new buffer to not share the buffer itself
+      return (T) ((BufferImpl) obj).readOnlyCopy();
     } else if (obj instanceof Shareable) {
       return (T) ((Shareable) obj).copy();
     } else {
@@ -11,111 +11,247 @@
 
 package io.vertx.core.shareddata.impl;
 
-import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
 import io.vertx.core.Future;
-import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.shareddata.Lock;
+import io.vertx.core.spi.metrics.LockMetrics;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
+ * Local locks granted in FIFO order.
+ * <p>
+ * Each lock has an intrusive lock-free queue of waiters: acquiring or releasing a lock is {@code O(1)} whatever the
+ * number of waiters and only allocates the waiter. The lock {@link LocalLock#count} counts the holder and the
+ * waiters, a waiter is counted before being enqueued. The thread that moves the count from {@code 0} to {@code 1}
+ * or releases the lock while waiters are counted grants the lock to the next waiter, so a single thread at a time
+ * consumes the queue. Timed out waiters stay in the queue and are skipped when they reach its head.
+ * <p>
+ * The lock is removed from the map when its count drops to {@code 0}, it is then marked with a count of {@code -1}
+ * so a concurrent acquisition retries with a new lock.
+ *
  * @author Thomas Segismont
  */
 public class LocalAsyncLocks {
 
-  private enum Status {WAITING, ACQUIRED, TIMED_OUT}
+  private static final int WAITING = 0, ACQUIRED = 1, TIMED_OUT = 2;
+
+  private static final AtomicIntegerFieldUpdater<LockWaiter> STATUS =
+    AtomicIntegerFieldUpdater.newUpdater(LockWaiter.class, "status");
+  private static final AtomicIntegerFieldUpdater<LocalLock> COUNT =
+    AtomicIntegerFieldUpdater.newUpdater(LocalLock.class, "count");
+  private static final AtomicReferenceFieldUpdater<LocalLock, LockWaiter> TAIL =
+    AtomicReferenceFieldUpdater.newUpdater(LocalLock.class, LockWaiter.class, "tail");
+  private static final AtomicIntegerFieldUpdater<AsyncLock> INVOKED =
+    AtomicIntegerFieldUpdater.newUpdater(AsyncLock.class, "invoked");
 
   private class LockWaiter {
 
     final Context context;
-    final String lockName;
     final Promise<Lock> promise;
-    final AtomicReference<Status> status;
-    final Long timerId;
+    final Object waitMetric;
+    volatile int status;
+    volatile LockWaiter next;
+    long timerId = -1;
 
-    LockWaiter(Context context, String lockName, long timeout, Promise<Lock> promise) {
+    LockWaiter(Context context, Promise<Lock> promise, Object waitMetric) {
       this.context = context;
-      this.lockName = lockName;
       this.promise = promise;
-      status = new AtomicReference<>(Status.WAITING);
-      timerId = timeout != Long.MAX_VALUE ? context.owner().setTimer(timeout, tid -> timeout()) : null;
+      this.waitMetric = waitMetric;
     }
 
-    boolean isWaiting() {
-      return status.get() == Status.WAITING;
+    void startTimer(long timeout) {
+      if (timeout != Long.MAX_VALUE) {
+        timerId = context.owner().setTimer(timeout, tid -> timeout());
+      }
     }
 
     void timeout() {
-      if (status.compareAndSet(Status.WAITING, Status.TIMED_OUT)) {
+      if (STATUS.compareAndSet(this, WAITING, TIMED_OUT)) {
+        if (metrics != null) {
+          metrics.timedOut(waitMetric);
+        }
         promise.fail("Timed out waiting to get lock");
       }
     }
 
-    void acquireLock() {
-      if (status.compareAndSet(Status.WAITING, Status.ACQUIRED)) {
-        if (timerId != null) {
+    boolean acquireLock(LocalLock lock, boolean defer) {
+      if (STATUS.compareAndSet(this, WAITING, ACQUIRED)) {
+        if (timerId != -1) {
           context.owner().cancelTimer(timerId);
         }
-        promise.complete(new AsyncLock(lockName));
-      } else {
-        context.runOnContext(v -> nextWaiter(lockName));
+        Object holdMetric = metrics != null ? metrics.acquired(waitMetric) : null;
+        AsyncLock asyncLock = new AsyncLock(lock, holdMetric);
+        if (defer) {
+          context.runOnContext(v -> promise.complete(asyncLock));
+        } else {
+          promise.complete(asyncLock);
+        }
+        return true;
       }
+      return false;
     }
   }
 
   private class AsyncLock implements Lock {
-    final String lockName;
-    final AtomicBoolean invoked = new AtomicBoolean();
+    final LocalLock lock;
+    final Object holdMetric;
+    volatile int invoked;
 
-    AsyncLock(String lockName) {
-      this.lockName = lockName;
+    AsyncLock(LocalLock lock, Object holdMetric) {
+      this.lock = lock;
+      this.holdMetric = holdMetric;
     }
 
     @Override
     public void release() {
-      if (invoked.compareAndSet(false, true)) {
-        nextWaiter(lockName);
+      if (INVOKED.compareAndSet(this, 0, 1)) {
+        if (metrics != null) {
+          metrics.released(holdMetric);
+        }
+        lock.release();
+      }
+    }
+  }
+
+  private class LocalLock {
+
+    final String name;
+    // the holder and the queued waiters, -1 once removed from the map
+    volatile int count;
+    // last waiter added by the producers
+    volatile LockWaiter tail;
+    // the consumed node, its next waiter is the head of the queue, only accessed by the thread granting the lock
+    volatile LockWaiter head;
+
+    LocalLock(String name) {
+      this.name = name;
+      LockWaiter stub = new LockWaiter(null, null, null);
+      head = stub;
+      tail = stub;
+    }
+
+    /**
+     * @return the new count or {@code -1} when the lock was removed from the map
+     */
+    int enter() {
+      for (;;) {
+        int c = count;
+        if (c < 0) {
+          return -1;
+        }
+        if (COUNT.compareAndSet(this, c, c + 1)) {
+          return c + 1;
+        }
+      }
+    }
+
+    void enqueue(LockWaiter waiter) {
+      LockWaiter prev = TAIL.getAndSet(this, waiter);
+      prev.next = waiter;
+    }
+
+    private LockWaiter dequeue() {
+      LockWaiter next;
+      // A counted waiter is enqueued right after being counted, a producer might just not have linked it yet
+      while ((next = head.next) == null) {
+        Thread.yield();
+      }
+      head = next;
+      return next;
+    }
+
+    /**
+     * @param defer whether the waiter is completed in a task, a release happens in the handler of the previous holder
+     *              and granting inline would nest the handlers of all the waiters of a context
+     */
+    void grantNext(boolean defer) {
+      for (;;) {
+        if (dequeue().acquireLock(this, defer)) {
+          return;
+        }
+        // Skip the timed out waiter
+        if (COUNT.decrementAndGet(this) == 0) {
+          retire();
+          return;
+        }
+      }
+    }
+
+    void release() {
+      if (COUNT.decrementAndGet(this) == 0) {
+        retire();
+      } else {
+        grantNext(true);
+      }
+    }
+
+    private void retire() {
+      if (COUNT.compareAndSet(this, 0, -1)) {
+        locks.remove(name, this);
       }
     }
   }
 
-  // Value should never be modified
-  private final ConcurrentMap<String, List<LockWaiter>> waitersMap = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, LocalLock> locks = new ConcurrentHashMap<>();
+  private final LockMetrics metrics;
+
+  public LocalAsyncLocks() {
+    this(null);
+  }
+
+  public LocalAsyncLocks(LockMetrics<?> metrics) {
+    this.metrics = metrics;
+  }
+
+  private LocalLock lock(String name) {
+    LocalLock lock = locks.get(name);
+    return lock != null ? lock : locks.computeIfAbsent(name, LocalLock::new);
+  }
 
   public Future<Lock> acquire(ContextInternal context, String name, long timeout) {
     Promise<Lock> promise = context.promise();
-    LockWaiter lockWaiter = new LockWaiter(context, name, timeout, promise);
-    List<LockWaiter> waiters = waitersMap.compute(name, (s, list) -> {
-      List<LockWaiter> result;
-      if (list != null) {
-        result = new ArrayList<>(list.size() + 1);
-        result.addAll(list);
-      } else {
-        result = new ArrayList<>(1);
+    LocalLock lock = lock(name);
+    Object waitMetric = metrics != null ? metrics.requested(name, Math.max(lock.count, 0) + 1) : null;
+    LockWaiter waiter = new LockWaiter(context, promise, waitMetric);
+    waiter.startTimer(timeout);
+    for (;;) {
+      int count = lock.enter();
+      if (count > 0) {
+        lock.enqueue(waiter);
+        if (count == 1) {
+          lock.grantNext(false);
+        }
+        return promise.future();
       }
-      result.add(lockWaiter);
-      return result;
-    });
-    if (waiters.size() == 1) {
-      waiters.get(0).acquireLock();
+      // The lock was removed from the map
+      locks.remove(name, lock);
+      lock = lock(name);
     }
-    return promise.future();
   }
 
-  private void nextWaiter(String lockName) {
-    List<LockWaiter> waiters = waitersMap.compute(lockName, (s, list) -> {
-      return list == null || list.size() == 1 ? null : new ArrayList<>(list.subList(1, list.size()));
-    });
-    if (waiters != null) {
-      waiters.get(0).acquireLock();
+  public Future<Lock> tryAcquire(ContextInternal context, String name) {
+    for (;;) {
+      LocalLock lock = lock(name);
+      int count = lock.count;
+      if (count > 0) {
+        return context.failedFuture("Lock is not available");
+      }
+      if (count == 0 && COUNT.compareAndSet(lock, 0, 1)) {
+        Object holdMetric = null;
+        if (metrics != null) {
+          holdMetric = metrics.acquired(metrics.requested(name, 1));
+        }
+        return context.succeededFuture(new AsyncLock(lock, holdMetric));
+      }
+      if (lock.count < 0) {
+        locks.remove(name, lock);
+      }
     }
   }
 }
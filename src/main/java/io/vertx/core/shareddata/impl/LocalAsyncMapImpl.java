@@ -12,10 +12,15 @@
 package io.vertx.core.shareddata.impl;
 
 import io.vertx.core.Future;
+import io.vertx.core.FutureInt;
 import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.Deployment;
 import io.vertx.core.impl.VertxInternal;
 import io.vertx.core.shareddata.AsyncMap;
+import io.vertx.core.shareddata.LocalAsyncMapOptions;
+import io.vertx.core.shareddata.LocalAsyncMapStats;
 
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -24,31 +29,92 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static java.util.concurrent.TimeUnit.*;
 import static java.util.stream.Collectors.*;
 
 /**
+ * Local {@link AsyncMap} implementation.
+ * <p>
+ * Entries with a TTL are added to an expiry queue ordered by deadline. A single timer per map, set for the earliest
+ * deadline, sweeps the expired entries. The timer is set on a context owned by the map rather than on the context of
+ * the caller, so undeploying the verticle that set it does not cancel it. When an entry is overwritten or removed, its
+ * node stays in the queue until its deadline but is detached from the entry, so the queue does not retain the value.
+ * Reads check the deadline, so an expired entry is never returned even when the sweep is late.
+ * <p>
+ * When the map has a {@link LocalAsyncMapOptions#getMaxSize() maximum size}, entries are also linked in least
+ * recently used order. A write that makes the map exceed its maximum size evicts the least recently used entries. A
+ * read moves its entry to the most recently used position only if the list lock is free, so reads never wait.
+ *
  * @author Thomas Segismont
  */
-public class LocalAsyncMapImpl<K, V> implements AsyncMap<K, V> {
+public class LocalAsyncMapImpl<K, V> implements AsyncMap<K, V>, LocalAsyncMapStats {
 
   private final VertxInternal vertx;
-  private final ConcurrentMap<K, Holder<V>> map;
+  private final LocalAsyncMapOptions options;
+  private final ContextInternal sweepContext;
+  private final ConcurrentMap<K, Holder<K, V>> map;
+  private final PriorityBlockingQueue<Expiry<K, V>> expiries;
+  private final Lru lru;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  // guarded by expiries
+  private long sweepTimerId = -1;
+  private long sweepDeadline;
 
   public LocalAsyncMapImpl(VertxInternal vertx) {
+    this(vertx, new LocalAsyncMapOptions());
+  }
+
+  public LocalAsyncMapImpl(VertxInternal vertx, LocalAsyncMapOptions options) {
     this.vertx = vertx;
+    this.options = new LocalAsyncMapOptions(options);
+    sweepContext = vertx.createEventLoopContext((Deployment) null, null, null);
     map = new ConcurrentHashMap<>();
+    expiries = new PriorityBlockingQueue<>(11, Comparator.comparingLong(e -> e.deadline));
+    lru = options.getMaxSize() > 0 ? new Lru(options.getMaxSize()) : null;
+  }
+
+  /**
+   * @return whether this map was created with the given options
+   */
+  boolean hasOptions(LocalAsyncMapOptions options) {
+    return this.options.getMaxSize() == options.getMaxSize();
+  }
+
+  @Override
+  public long hitCount() {
+    return hits.sum();
+  }
+
+  @Override
+  public long missCount() {
+    return misses.sum();
+  }
+
+  @Override
+  public long evictionCount() {
+    return evictions.sum();
   }
 
   @Override
   public Future<V> get(K k) {
     ContextInternal ctx = vertx.getOrCreateContext();
-    Holder<V> h = map.get(k);
+    Holder<K, V> h = map.get(k);
     if (h != null && h.hasNotExpired()) {
+      hits.increment();
+      if (lru != null) {
+        lru.accessed(h);
+      }
       return ctx.succeededFuture(h.value);
     } else {
+      misses.increment();
       return ctx.succeededFuture();
     }
   }
@@ -56,49 +122,52 @@ public class LocalAsyncMapImpl<K, V> implements AsyncMap<K, V> {
   @Override
   public Future<Void> put(K k, V v) {
     ContextInternal ctx = vertx.getOrCreateContext();
-    Holder<V> previous = map.put(k, new Holder<>(v));
-    if (previous != null && previous.expires()) {
-      vertx.cancelTimer(previous.timerId);
-    }
+    Holder<K, V> h = new Holder<>(k, v);
+    Holder<K, V> previous = map.put(k, h);
+    replaced(previous, h);
     return ctx.succeededFuture();
   }
 
   @Override
   public Future<V> putIfAbsent(K k, V v) {
     ContextInternal ctx = vertx.getOrCreateContext();
-    Holder<V> h = map.putIfAbsent(k, new Holder<>(v));
+    Holder<K, V> h = putIfAbsent(new Holder<>(k, v));
     return ctx.succeededFuture(h == null ? null : h.value);
   }
 
   @Override
   public Future<Void> put(K k, V v, long ttl) {
     ContextInternal ctx = vertx.getOrCreateContext();
-    long timestamp = System.nanoTime();
-    long timerId = vertx.setTimer(ttl, l -> removeIfExpired(k));
-    Holder<V> previous = map.put(k, new Holder<>(v, timerId, ttl, timestamp));
-    if (previous != null && previous.expires()) {
-      vertx.cancelTimer(previous.timerId);
-    }
+    Holder<K, V> h = new Holder<>(k, v, ttl, System.nanoTime());
+    Holder<K, V> previous = map.put(k, h);
+    replaced(previous, h);
     return ctx.succeededFuture();
   }
 
-  private void removeIfExpired(K k) {
-    map.computeIfPresent(k, (key, holder) -> holder.hasNotExpired() ? holder : null);
-  }
-
   @Override
   public Future<V> putIfAbsent(K k, V v, long ttl) {
     ContextInternal ctx = vertx.getOrCreateContext();
-    long timestamp = System.nanoTime();
-    long timerId = vertx.setTimer(ttl, l -> removeIfExpired(k));
-    Holder<V> existing = map.putIfAbsent(k, new Holder<>(v, timerId, ttl, timestamp));
-    if (existing != null) {
-      if (existing.expires()) {
-        vertx.cancelTimer(timerId);
-      }
-      return ctx.succeededFuture(existing.value);
-    } else {
-      return ctx.succeededFuture();
+    Holder<K, V> h = putIfAbsent(new Holder<>(k, v, ttl, System.nanoTime()));
+    return ctx.succeededFuture(h == null ? null : h.value);
+  }
+
+  /**
+   * @return the existing holder or {@code null} when {@code h} was added, an expired holder is replaced
+   */
+  private Holder<K, V> putIfAbsent(Holder<K, V> h) {
+    for (;;) {
+      Holder<K, V> existing = map.putIfAbsent(h.key, h);
+      if (existing == null) {
+        added(h);
+        return null;
+      }
+      if (existing.hasNotExpired()) {
+        return existing;
+      }
+      if (map.replace(h.key, existing, h)) {
+        replaced(existing, h);
+        return null;
+      }
     }
   }
 
@@ -109,9 +178,7 @@ public class LocalAsyncMapImpl<K, V> implements AsyncMap<K, V> {
     map.computeIfPresent(k, (key, holder) -> {
       if (holder.value.equals(v)) {
         result.compareAndSet(false, true);
-        if (holder.expires()) {
-          vertx.cancelTimer(holder.timerId);
-        }
+        removed(holder);
         return null;
       }
       return holder;
@@ -122,11 +189,10 @@ public class LocalAsyncMapImpl<K, V> implements AsyncMap<K, V> {
   @Override
   public Future<V> replace(K k, V v) {
     ContextInternal ctx = vertx.getOrCreateContext();
-    Holder<V> previous = map.replace(k, new Holder<>(v));
+    Holder<K, V> h = new Holder<>(k, v);
+    Holder<K, V> previous = map.replace(k, h);
     if (previous != null) {
-      if (previous.expires()) {
-        vertx.cancelTimer(previous.timerId);
-      }
+      replaced(previous, h);
       return ctx.succeededFuture(previous.value);
     } else {
       return ctx.succeededFuture();
@@ -135,23 +201,29 @@ public class LocalAsyncMapImpl<K, V> implements AsyncMap<K, V> {
   @Override
   public Future<Boolean> replaceIfPresent(K k, V oldValue, V newValue) {
     ContextInternal ctx = vertx.getOrCreateContext();
-    Holder<V> h = new Holder<>(newValue);
-    Holder<V> result = map.computeIfPresent(k, (key, holder) -> {
+    Holder<K, V> h = new Holder<>(k, newValue);
+    Holder<K, V> result = map.computeIfPresent(k, (key, holder) -> {
       if (holder.value.equals(oldValue)) {
-        if (holder.expires()) {
-          vertx.cancelTimer(holder.timerId);
-        }
+        removed(holder);
         return h;
       }
       return holder;
     });
-    return ctx.succeededFuture(h == result);
+    if (h == result) {
+      added(h);
+      return ctx.succeededFuture(true);
+    }
+    return ctx.succeededFuture(false);
   }
 
   @Override
   public Future<Void> clear() {
     ContextInternal ctx = vertx.getOrCreateContext();
     map.clear();
+    expiries.clear();
+    if (lru != null) {
+      lru.clear();
+    }
     return ctx.succeededFuture();
   }
 
@@ -161,6 +233,11 @@ public class LocalAsyncMapImpl<K, V> implements AsyncMap<K, V> {
     return ctx.succeededFuture(map.size());
   }
 
+  @Override
+  public FutureInt sizeInt() {
+    return FutureInt.createFastFutureInt(map.size());
+  }
+
   @Override
   public Future<Set<K>> keys() {
     ContextInternal ctx = vertx.getOrCreateContext();
@@ -192,38 +269,110 @@ public class LocalAsyncMapImpl<K, V> implements AsyncMap<K, V> {
   @Override
   public Future<V> remove(K k) {
     ContextInternal ctx = vertx.getOrCreateContext();
-    Holder<V> previous = map.remove(k);
+    Holder<K, V> previous = map.remove(k);
     if (previous != null) {
-      if (previous.expires()) {
-        vertx.cancelTimer(previous.timerId);
-      }
+      removed(previous);
       return ctx.succeededFuture(previous.value);
     } else {
       return ctx.succeededFuture();
     }
   }
 
-  private static class Holder<V> {
+  private void replaced(Holder<K, V> previous, Holder<K, V> h) {
+    if (previous != null) {
+      removed(previous);
+    }
+    added(h);
+  }
+
+  private void added(Holder<K, V> h) {
+    if (h.expires()) {
+      Expiry<K, V> expiry = new Expiry<>(h);
+      h.expiry = expiry;
+      expiries.add(expiry);
+      scheduleSweep(h.deadline);
+    }
+    if (lru != null) {
+      lru.added(h);
+    }
+  }
+
+  private void removed(Holder<K, V> h) {
+    Expiry<K, V> expiry = h.expiry;
+    if (expiry != null) {
+      // The node is discarded by the sweep
+      expiry.holder = null;
+    }
+    if (lru != null) {
+      lru.removed(h);
+    }
+  }
+
+  private void scheduleSweep(long deadline) {
+    synchronized (expiries) {
+      if (sweepTimerId != -1) {
+        if (deadline - sweepDeadline >= 0) {
+          return;
+        }
+        vertx.cancelTimer(sweepTimerId);
+      }
+      long delay = Math.max(1, MILLISECONDS.convert(deadline - System.nanoTime() + MILLISECONDS.toNanos(1) - 1, NANOSECONDS));
+      sweepDeadline = deadline;
+      sweepTimerId = sweepContext.setTimer(delay, this::sweep);
+    }
+  }
+
+  private void sweep(long timerId) {
+    synchronized (expiries) {
+      if (sweepTimerId != timerId) {
+        return;
+      }
+      sweepTimerId = -1;
+    }
+    long now = System.nanoTime();
+    Expiry<K, V> e;
+    while ((e = expiries.peek()) != null && e.deadline - now <= 0) {
+      // A node added concurrently has an earlier deadline than the peeked one, so it is expired as well
+      e = expiries.poll();
+      Holder<K, V> h = e.holder;
+      if (h != null && map.remove(h.key, h)) {
+        removed(h);
+      }
+    }
+    if (e != null) {
+      scheduleSweep(e.deadline);
+    }
+  }
+
+  private static class Holder<K, V> {
+    final K key;
     final V value;
-    final long timerId;
     final long ttl;
-    final long timestamp;
+    final long deadline;
+    volatile Expiry<K, V> expiry;
 
-    Holder(V value) {
+    // guarded by the lru lock
+    Holder<K, V> prev;
+    Holder<K, V> next;
+    boolean linked;
+    boolean removed;
+
+    Holder(K key, V value) {
       Objects.requireNonNull(value);
+      this.key = key;
       this.value = value;
-      timestamp = ttl = timerId = 0;
+      ttl = deadline = 0;
     }
 
-    Holder(V value, long timerId, long ttl, long timestamp) {
+    Holder(K key, V value, long ttl, long timestamp) {
       Objects.requireNonNull(value);
       if (ttl < 1) {
         throw new IllegalArgumentException("ttl must be positive: " + ttl);
       }
+      this.key = key;
       this.value = value;
-      this.timerId = timerId;
       this.ttl = ttl;
-      this.timestamp = timestamp;
+      this.deadline = timestamp + MILLISECONDS.toNanos(ttl);
     }
 
     boolean expires() {
@@ -231,12 +380,138 @@ public class LocalAsyncMapImpl<K, V> implements AsyncMap<K, V> {
     }
 
     boolean hasNotExpired() {
-      return !expires() || MILLISECONDS.convert(System.nanoTime() - timestamp, NANOSECONDS) < ttl;
+      return !expires() || System.nanoTime() - deadline < 0;
     }
 
     @Override
     public String toString() {
-      return "Holder{" + "value=" + value + ", timerId=" + timerId + ", ttl=" + ttl + ", timestamp=" + timestamp + '}';
+      return "Holder{" + "value=" + value + ", ttl=" + ttl + ", deadline=" + deadline + '}';
+    }
+  }
+
+  /**
+   * The node of an expiring holder in the expiry queue, detached from the holder when it leaves the map.
+   */
+  private static class Expiry<K, V> {
+    final long deadline;
+    volatile Holder<K, V> holder;
+
+    Expiry(Holder<K, V> holder) {
+      this.deadline = holder.deadline;
+      this.holder = holder;
+    }
+  }
+
+  /**
+   * The holders of the map in least recently used order.
+   */
+  private class Lru {
+
+    final int maxSize;
+    final ReentrantLock lock = new ReentrantLock();
+    Holder<K, V> head;
+    Holder<K, V> tail;
+
+    Lru(int maxSize) {
+      this.maxSize = maxSize;
+    }
+
+    void added(Holder<K, V> h) {
+      lock.lock();
+      try {
+        // The holder might have been removed from the map before being added to the list
+        if (!h.removed) {
+          link(h);
+        }
+      } finally {
+        lock.unlock();
+      }
+      while (map.size() > maxSize) {
+        Holder<K, V> victim;
+        lock.lock();
+        try {
+          victim = head;
+          if (victim == null) {
+            return;
+          }
+          unlink(victim);
+          victim.removed = true;
+        } finally {
+          lock.unlock();
+        }
+        if (map.remove(victim.key, victim)) {
+          // Detach the victim from the expiry queue
+          LocalAsyncMapImpl.this.removed(victim);
+          evictions.increment();
+        }
+      }
+    }
+
+    void removed(Holder<K, V> h) {
+      lock.lock();
+      try {
+        h.removed = true;
+        if (h.linked) {
+          unlink(h);
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    void accessed(Holder<K, V> h) {
+      // A contended read is not recorded rather than waiting for the lock
+      if (lock.tryLock()) {
+        try {
+          if (h.linked && h != tail) {
+            unlink(h);
+            link(h);
+          }
+        } finally {
+          lock.unlock();
+        }
+      }
+    }
+
+    void clear() {
+      lock.lock();
+      try {
+        for (Holder<K, V> h = head; h != null; h = h.next) {
+          h.linked = false;
+          h.removed = true;
+          h.prev = null;
+        }
+        head = tail = null;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private void link(Holder<K, V> h) {
+      h.prev = tail;
+      h.next = null;
+      if (tail == null) {
+        head = h;
+      } else {
+        tail.next = h;
+      }
+      tail = h;
+      h.linked = true;
+    }
+
+    private void unlink(Holder<K, V> h) {
+      if (h.prev == null) {
+        head = h.next;
+      } else {
+        h.prev.next = h.next;
+      }
+      if (h.next == null) {
+        tail = h.prev;
+      } else {
+        h.next.prev = h.prev;
+      }
+      h.prev = h.next = null;
+      h.linked = false;
     }
   }
 }
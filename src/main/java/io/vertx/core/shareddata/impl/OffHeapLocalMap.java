@@ -0,0 +1,869 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.shareddata.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.Closeable;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.net.impl.PartialPooledByteBufAllocator;
+import io.vertx.core.shareddata.LocalMap;
+import io.vertx.core.shareddata.OffHeapMapStats;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static io.vertx.core.shareddata.impl.Checker.checkType;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A {@link LocalMap} storing its entries serialized in pooled direct memory, so they are not scanned by the GC.
+ * <p>
+ * The map is split in segments, each guarded by its own monitor. A segment indexes its entries with an open
+ * addressing table of primitive arrays holding, for each entry, the hash of the serialized key and a handle made of
+ * the chunk index and the offset of the entry. Entries are appended to direct chunks allocated from
+ * {@link PartialPooledByteBufAllocator}. A chunk is compacted when most of its entries are dead, and released when
+ * none is left. The map is closed when Vert.x is closed, so the chunks are released even if the map is not closed.
+ * <p>
+ * Keys and values are compared by their serialized form. The functions given to {@code compute}, {@code merge} and
+ * similar methods run while the segment of the key is locked, so they must not access the map.
+ */
+public class OffHeapLocalMap<K, V> implements LocalMap<K, V>, OffHeapMapStats {
+
+  private static final int CHUNK_SIZE = 64 * 1024;
+
+  // Must be a power of two
+  private static final int SEGMENTS = 16;
+  private static final int SEGMENT_SHIFT = Integer.numberOfLeadingZeros(SEGMENTS - 1);
+
+  // An entry is the key length, the value length, then the key and the value
+  private static final int ENTRY_HEADER = 8;
+
+  private static final byte STRING = 1, INTEGER = 2, LONG = 3, BOOLEAN = 4, DOUBLE = 5, FLOAT = 6, SHORT = 7,
+    BYTE = 8, CHARACTER = 9, BYTES = 10, BUFFER = 11, JSON_OBJECT = 12, JSON_ARRAY = 13;
+
+  private final VertxInternal vertx;
+  private final String name;
+  private final ConcurrentMap<String, LocalMap<?, ?>> maps;
+  private final Closeable closeHook = completion -> {
+    close();
+    completion.complete();
+  };
+  private final Segment[] segments;
+  private volatile boolean closed;
+
+  @SuppressWarnings("unchecked")
+  OffHeapLocalMap(VertxInternal vertx, String name, ConcurrentMap<String, LocalMap<?, ?>> maps) {
+    this.vertx = vertx;
+    this.name = name;
+    this.maps = maps;
+    segments = (Segment[]) new OffHeapLocalMap.Segment[SEGMENTS];
+    for (int i = 0;i < SEGMENTS;i++) {
+      segments[i] = new Segment();
+    }
+    vertx.addCloseHook(closeHook);
+  }
+
+  @Override
+  public long memoryUsed() {
+    long used = 0;
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        used += segment.used;
+      }
+    }
+    return used;
+  }
+
+  @Override
+  public long memoryAllocated() {
+    long allocated = 0;
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        allocated += segment.allocated;
+      }
+    }
+    return allocated;
+  }
+
+  @Override
+  public V get(Object key) {
+    return getOrDefault(key, null);
+  }
+
+  @Override
+  public V getOrDefault(Object key, V defaultValue) {
+    byte[] k = encode(key);
+    if (k == null) {
+      return defaultValue;
+    }
+    int hash = hash(k);
+    Segment segment = segment(hash);
+    synchronized (segment) {
+      int slot = segment.find(hash, k);
+      return slot == -1 ? defaultValue : segment.value(slot);
+    }
+  }
+
+  @Override
+  public V put(K key, V value) {
+    byte[] k = encodeChecked(key);
+    byte[] v = encodeChecked(value);
+    int hash = hash(k);
+    Segment segment = segment(hash);
+    synchronized (segment) {
+      int slot = segment.find(hash, k);
+      if (slot == -1) {
+        segment.insert(hash, k, v);
+        return null;
+      }
+      V previous = segment.value(slot);
+      segment.update(slot, k, v);
+      return previous;
+    }
+  }
+
+  @Override
+  public V remove(Object key) {
+    byte[] k = encode(key);
+    if (k == null) {
+      return null;
+    }
+    int hash = hash(k);
+    Segment segment = segment(hash);
+    synchronized (segment) {
+      int slot = segment.find(hash, k);
+      if (slot == -1) {
+        return null;
+      }
+      V previous = segment.value(slot);
+      segment.delete(slot);
+      return previous;
+    }
+  }
+
+  @Override
+  public void clear() {
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        segment.clear();
+      }
+    }
+  }
+
+  @Override
+  public int size() {
+    int size = 0;
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        size += segment.size;
+      }
+    }
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  @Override
+  public V putIfAbsent(K key, V value) {
+    byte[] k = encodeChecked(key);
+    byte[] v = encodeChecked(value);
+    int hash = hash(k);
+    Segment segment = segment(hash);
+    synchronized (segment) {
+      int slot = segment.find(hash, k);
+      if (slot != -1) {
+        return segment.value(slot);
+      }
+      segment.insert(hash, k, v);
+      return null;
+    }
+  }
+
+  @Override
+  public boolean remove(Object key, Object value) {
+    byte[] k = encode(key);
+    byte[] v = encode(value);
+    if (k == null || v == null) {
+      return false;
+    }
+    int hash = hash(k);
+    Segment segment = segment(hash);
+    synchronized (segment) {
+      int slot = segment.find(hash, k);
+      if (slot == -1 || !segment.valueEquals(slot, v)) {
+        return false;
+      }
+      segment.delete(slot);
+      return true;
+    }
+  }
+
+  @Override
+  public boolean replace(K key, V oldValue, V newValue) {
+    byte[] k = encodeChecked(key);
+    byte[] o = encodeChecked(oldValue);
+    byte[] v = encodeChecked(newValue);
+    int hash = hash(k);
+    Segment segment = segment(hash);
+    synchronized (segment) {
+      int slot = segment.find(hash, k);
+      if (slot == -1 || !segment.valueEquals(slot, o)) {
+        return false;
+      }
+      segment.update(slot, k, v);
+      return true;
+    }
+  }
+
+  @Override
+  public boolean removeIfPresent(K key, V value) {
+    return remove(key, value);
+  }
+
+  @Override
+  public boolean replaceIfPresent(K key, V oldValue, V newValue) {
+    return replace(key, oldValue, newValue);
+  }
+
+  @Override
+  public V replace(K key, V value) {
+    byte[] k = encodeChecked(key);
+    byte[] v = encodeChecked(value);
+    int hash = hash(k);
+    Segment segment = segment(hash);
+    synchronized (segment) {
+      int slot = segment.find(hash, k);
+      if (slot == -1) {
+        return null;
+      }
+      V previous = segment.value(slot);
+      segment.update(slot, k, v);
+      return previous;
+    }
+  }
+
+  @Override
+  public void replaceAll(BiFunction<? super K, ? super V, ? extends V> function) {
+    Objects.requireNonNull(function);
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        // Updating an entry does not move the entries in the table
+        for (int slot = 0;slot < segment.handles.length;slot++) {
+          if (segment.handles[slot] != 0) {
+            V output = function.apply(segment.key(slot), segment.value(slot));
+            segment.update(slot, segment.keyBytes(slot), encodeChecked(Objects.requireNonNull(output)));
+          }
+        }
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    maps.remove(name, this);
+    vertx.removeCloseHook(closeHook);
+    closed = true;
+    clear();
+  }
+
+  @Override
+  public Set<K> keySet() {
+    Set<K> keys = new HashSet<>();
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        for (int slot = 0;slot < segment.handles.length;slot++) {
+          if (segment.handles[slot] != 0) {
+            keys.add(segment.key(slot));
+          }
+        }
+      }
+    }
+    return keys;
+  }
+
+  @Override
+  public Collection<V> values() {
+    List<V> values = new ArrayList<>();
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        for (int slot = 0;slot < segment.handles.length;slot++) {
+          if (segment.handles[slot] != 0) {
+            values.add(segment.value(slot));
+          }
+        }
+      }
+    }
+    return values;
+  }
+
+  @Override
+  public Set<Entry<K, V>> entrySet() {
+    Set<Entry<K, V>> entries = new HashSet<>();
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        for (int slot = 0;slot < segment.handles.length;slot++) {
+          if (segment.handles[slot] != 0) {
+            entries.add(new AbstractMap.SimpleImmutableEntry<>(segment.key(slot), segment.value(slot)));
+          }
+        }
+      }
+    }
+    return entries;
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super K, ? super V> action) {
+    for (Map.Entry<K, V> entry : entrySet()) {
+      action.accept(entry.getKey(), entry.getValue());
+    }
+  }
+
+  @Override
+  public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+    byte[] k = encodeChecked(key);
+    int hash = hash(k);
+    Segment segment = segment(hash);
+    synchronized (segment) {
+      int slot = segment.find(hash, k);
+      V output = remappingFunction.apply(key, slot == -1 ? null : segment.value(slot));
+      return store(segment, slot, hash, k, output);
+    }
+  }
+
+  @Override
+  public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+    byte[] k = encodeChecked(key);
+    int hash = hash(k);
+    Segment segment = segment(hash);
+    synchronized (segment) {
+      int slot = segment.find(hash, k);
+      if (slot != -1) {
+        return segment.value(slot);
+      }
+      return store(segment, slot, hash, k, mappingFunction.apply(key));
+    }
+  }
+
+  @Override
+  public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+    byte[] k = encodeChecked(key);
+    int hash = hash(k);
+    Segment segment = segment(hash);
+    synchronized (segment) {
+      int slot = segment.find(hash, k);
+      if (slot == -1) {
+        return null;
+      }
+      return store(segment, slot, hash, k, remappingFunction.apply(key, segment.value(slot)));
+    }
+  }
+
+  @Override
+  public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+    byte[] k = encodeChecked(key);
+    encodeChecked(value);
+    int hash = hash(k);
+    Segment segment = segment(hash);
+    synchronized (segment) {
+      int slot = segment.find(hash, k);
+      V output = slot == -1 ? value : remappingFunction.apply(segment.value(slot), value);
+      return store(segment, slot, hash, k, output);
+    }
+  }
+
+  /**
+   * Store the output of a function, a {@code null} output removes the entry.
+   */
+  private V store(Segment segment, int slot, int hash, byte[] k, V output) {
+    if (output == null) {
+      if (slot != -1) {
+        segment.delete(slot);
+      }
+      return null;
+    }
+    byte[] v = encodeChecked(output);
+    if (slot == -1) {
+      segment.insert(hash, k, v);
+    } else {
+      segment.update(slot, k, v);
+    }
+    return output;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    byte[] k = encode(key);
+    if (k == null) {
+      return false;
+    }
+    int hash = hash(k);
+    Segment segment = segment(hash);
+    synchronized (segment) {
+      return segment.find(hash, k) != -1;
+    }
+  }
+
+  @Override
+  public boolean containsValue(Object value) {
+    byte[] v = encode(value);
+    if (v == null) {
+      return false;
+    }
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        for (int slot = 0;slot < segment.handles.length;slot++) {
+          if (segment.handles[slot] != 0 && segment.valueEquals(slot, v)) {
+            return true;
+          }
+        }
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public void putAll(Map<? extends K, ? extends V> m) {
+    for (Entry<? extends K, ? extends V> entry : m.entrySet()) {
+      put(entry.getKey(), entry.getValue());
+    }
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("{");
+    for (Map.Entry<K, V> entry : entrySet()) {
+      if (sb.length() > 1) {
+        sb.append(", ");
+      }
+      sb.append(entry.getKey()).append('=').append(entry.getValue());
+    }
+    return sb.append('}').toString();
+  }
+
+  private Segment segment(int hash) {
+    return segments[hash >>> SEGMENT_SHIFT];
+  }
+
+  private static byte[] encodeChecked(Object obj) {
+    checkType(obj);
+    byte[] bytes = encode(obj);
+    if (bytes == null) {
+      throw new IllegalArgumentException("Invalid type for off-heap shareddata data structure: " + obj.getClass().getName());
+    }
+    return bytes;
+  }
+
+  /**
+   * @return the serialized object or {@code null} when the type cannot be stored off-heap
+   */
+  private static byte[] encode(Object obj) {
+    if (obj instanceof String) {
+      return tagged(STRING, ((String) obj).getBytes(UTF_8));
+    } else if (obj instanceof Integer) {
+      return ByteBuffer.allocate(5).put(INTEGER).putInt((Integer) obj).array();
+    } else if (obj instanceof Long) {
+      return ByteBuffer.allocate(9).put(LONG).putLong((Long) obj).array();
+    } else if (obj instanceof Boolean) {
+      return new byte[]{BOOLEAN, (byte) ((Boolean) obj ? 1 : 0)};
+    } else if (obj instanceof Double) {
+      return ByteBuffer.allocate(9).put(DOUBLE).putDouble((Double) obj).array();
+    } else if (obj instanceof Float) {
+      return ByteBuffer.allocate(5).put(FLOAT).putFloat((Float) obj).array();
+    } else if (obj instanceof Short) {
+      return ByteBuffer.allocate(3).put(SHORT).putShort((Short) obj).array();
+    } else if (obj instanceof Byte) {
+      return new byte[]{BYTE, (Byte) obj};
+    } else if (obj instanceof Character) {
+      return ByteBuffer.allocate(3).put(CHARACTER).putChar((Character) obj).array();
+    } else if (obj instanceof byte[]) {
+      return tagged(BYTES, (byte[]) obj);
+    } else if (obj instanceof Buffer) {
+      return tagged(BUFFER, ((Buffer) obj).getBytes());
+    } else if (obj instanceof JsonObject) {
+      return tagged(JSON_OBJECT, ((JsonObject) obj).toBuffer().getBytes());
+    } else if (obj instanceof JsonArray) {
+      return tagged(JSON_ARRAY, ((JsonArray) obj).toBuffer().getBytes());
+    }
+    return null;
+  }
+
+  private static byte[] tagged(byte tag, byte[] bytes) {
+    byte[] result = new byte[bytes.length + 1];
+    result[0] = tag;
+    System.arraycopy(bytes, 0, result, 1, bytes.length);
+    return result;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T decode(ByteBuf chunk, int index, int length) {
+    int pos = index + 1;
+    Object obj;
+    switch (chunk.getByte(index)) {
+      case STRING:
+        obj = chunk.toString(pos, length - 1, UTF_8);
+        break;
+      case INTEGER:
+        obj = chunk.getInt(pos);
+        break;
+      case LONG:
+        obj = chunk.getLong(pos);
+        break;
+      case BOOLEAN:
+        obj = chunk.getByte(pos) != 0;
+        break;
+      case DOUBLE:
+        obj = chunk.getDouble(pos);
+        break;
+      case FLOAT:
+        obj = chunk.getFloat(pos);
+        break;
+      case SHORT:
+        obj = chunk.getShort(pos);
+        break;
+      case BYTE:
+        obj = chunk.getByte(pos);
+        break;
+      case CHARACTER:
+        obj = chunk.getChar(pos);
+        break;
+      case BYTES:
+        obj = bytes(chunk, pos, length - 1);
+        break;
+      case BUFFER:
+        obj = Buffer.buffer(bytes(chunk, pos, length - 1));
+        break;
+      case JSON_OBJECT:
+        obj = new JsonObject(Buffer.buffer(bytes(chunk, pos, length - 1)));
+        break;
+      case JSON_ARRAY:
+        obj = new JsonArray(Buffer.buffer(bytes(chunk, pos, length - 1)));
+        break;
+      default:
+        throw new IllegalStateException("Invalid off-heap entry");
+    }
+    return (T) obj;
+  }
+
+  private static byte[] bytes(ByteBuf chunk, int index, int length) {
+    byte[] bytes = new byte[length];
+    chunk.getBytes(index, bytes);
+    return bytes;
+  }
+
+  private static int hash(byte[] bytes) {
+    int h = 1;
+    for (byte b : bytes) {
+      h = 31 * h + b;
+    }
+    return spread(h);
+  }
+
+  private static int hash(ByteBuf chunk, int index, int length) {
+    int h = 1;
+    for (int i = 0;i < length;i++) {
+      h = 31 * h + chunk.getByte(index + i);
+    }
+    return spread(h);
+  }
+
+  private static int spread(int h) {
+    // The high bits select the segment and the low bits the slot
+    h *= 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  /**
+   * A part of the map, all the fields are guarded by the segment monitor.
+   * <p>
+   * Writing an entry or freeing one can compact a chunk, which changes the handles stored in the table but never
+   * moves them to another slot. A slot index stays valid across these operations, while a handle does not.
+   */
+  private final class Segment {
+
+    // The table, a handle is never 0 since the chunk 0 is not used
+    int[] hashes = new int[16];
+    long[] handles = new long[16];
+    int size;
+
+    ByteBuf[] chunks = new ByteBuf[4];
+    int[] liveBytes = new int[4];
+    int active;
+
+    long used;
+    long allocated;
+
+    int find(int hash, byte[] key) {
+      int mask = handles.length - 1;
+      for (int slot = hash & mask;;slot = (slot + 1) & mask) {
+        long handle = handles[slot];
+        if (handle == 0) {
+          return -1;
+        }
+        if (hashes[slot] == hash) {
+          ByteBuf chunk = chunks[chunkIndex(handle)];
+          int offset = offset(handle);
+          if (chunk.getInt(offset) == key.length && bytesEqual(chunk, offset + ENTRY_HEADER, key)) {
+            return slot;
+          }
+        }
+      }
+    }
+
+    K key(int slot) {
+      long handle = handles[slot];
+      ByteBuf chunk = chunks[chunkIndex(handle)];
+      int offset = offset(handle);
+      return decode(chunk, offset + ENTRY_HEADER, chunk.getInt(offset));
+    }
+
+    byte[] keyBytes(int slot) {
+      long handle = handles[slot];
+      ByteBuf chunk = chunks[chunkIndex(handle)];
+      int offset = offset(handle);
+      return bytes(chunk, offset + ENTRY_HEADER, chunk.getInt(offset));
+    }
+
+    V value(int slot) {
+      long handle = handles[slot];
+      ByteBuf chunk = chunks[chunkIndex(handle)];
+      int offset = offset(handle);
+      return decode(chunk, offset + ENTRY_HEADER + chunk.getInt(offset), chunk.getInt(offset + 4));
+    }
+
+    boolean valueEquals(int slot, byte[] value) {
+      long handle = handles[slot];
+      ByteBuf chunk = chunks[chunkIndex(handle)];
+      int offset = offset(handle);
+      return chunk.getInt(offset + 4) == value.length && bytesEqual(chunk, offset + ENTRY_HEADER + chunk.getInt(offset), value);
+    }
+
+    private boolean bytesEqual(ByteBuf chunk, int index, byte[] bytes) {
+      for (int i = 0;i < bytes.length;i++) {
+        if (chunk.getByte(index + i) != bytes[i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    void insert(int hash, byte[] key, byte[] value) {
+      long handle = write(key, value);
+      if ((size + 1) * 2 > handles.length) {
+        resize();
+      }
+      int mask = handles.length - 1;
+      int slot = hash & mask;
+      while (handles[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      hashes[slot] = hash;
+      handles[slot] = handle;
+      size++;
+    }
+
+    void update(int slot, byte[] key, byte[] value) {
+      long handle = write(key, value);
+      // Read the previous handle after the write since the write might have moved it
+      long previous = handles[slot];
+      handles[slot] = handle;
+      free(previous);
+    }
+
+    void delete(int slot) {
+      long handle = handles[slot];
+      // Backward shift deletion, the entries following the slot are moved back when their home slot allows it
+      int mask = handles.length - 1;
+      int hole = slot;
+      for (int i = (slot + 1) & mask;handles[i] != 0;i = (i + 1) & mask) {
+        int home = hashes[i] & mask;
+        boolean movable = i > hole ? (home <= hole || home > i) : (home <= hole && home > i);
+        if (movable) {
+          hashes[hole] = hashes[i];
+          handles[hole] = handles[i];
+          hole = i;
+        }
+      }
+      hashes[hole] = 0;
+      handles[hole] = 0;
+      size--;
+      free(handle);
+    }
+
+    void clear() {
+      for (int i = 1;i < chunks.length;i++) {
+        if (chunks[i] != null) {
+          chunks[i].release();
+          chunks[i] = null;
+          liveBytes[i] = 0;
+        }
+      }
+      hashes = new int[16];
+      handles = new long[16];
+      size = 0;
+      active = 0;
+      used = 0;
+      allocated = 0;
+    }
+
+    private void resize() {
+      int[] oldHashes = hashes;
+      long[] oldHandles = handles;
+      hashes = new int[oldHashes.length * 2];
+      handles = new long[oldHandles.length * 2];
+      int mask = handles.length - 1;
+      for (int i = 0;i < oldHandles.length;i++) {
+        if (oldHandles[i] != 0) {
+          int slot = oldHashes[i] & mask;
+          while (handles[slot] != 0) {
+            slot = (slot + 1) & mask;
+          }
+          hashes[slot] = oldHashes[i];
+          handles[slot] = oldHandles[i];
+        }
+      }
+    }
+
+    private long write(byte[] key, byte[] value) {
+      if (closed) {
+        throw new IllegalStateException("Map " + name + " is closed");
+      }
+      int length = ENTRY_HEADER + key.length + value.length;
+      int previous = active;
+      int index = reserve(length);
+      ByteBuf chunk = chunks[index];
+      int offset = chunk.writerIndex();
+      chunk.writeInt(key.length).writeInt(value.length).writeBytes(key).writeBytes(value);
+      liveBytes[index] += length;
+      used += length;
+      if (previous != 0 && previous != index) {
+        reclaim(previous);
+      }
+      return handle(index, offset);
+    }
+
+    /**
+     * @return the index of the active chunk with at least {@code length} writable bytes
+     */
+    private int reserve(int length) {
+      if (active == 0 || chunks[active].writableBytes() < length) {
+        int capacity = Math.max(CHUNK_SIZE, length);
+        int index = 1;
+        while (index < chunks.length && chunks[index] != null) {
+          index++;
+        }
+        if (index == chunks.length) {
+          ByteBuf[] newChunks = new ByteBuf[chunks.length * 2];
+          System.arraycopy(chunks, 0, newChunks, 0, chunks.length);
+          chunks = newChunks;
+          int[] newLiveBytes = new int[liveBytes.length * 2];
+          System.arraycopy(liveBytes, 0, newLiveBytes, 0, liveBytes.length);
+          liveBytes = newLiveBytes;
+        }
+        chunks[index] = PartialPooledByteBufAllocator.INSTANCE.directBuffer(capacity, capacity);
+        allocated += capacity;
+        active = index;
+      }
+      return active;
+    }
+
+    private void free(long handle) {
+      int index = chunkIndex(handle);
+      ByteBuf chunk = chunks[index];
+      int offset = offset(handle);
+      int length = ENTRY_HEADER + chunk.getInt(offset) + chunk.getInt(offset + 4);
+      liveBytes[index] -= length;
+      used -= length;
+      if (index != active) {
+        reclaim(index);
+      }
+    }
+
+    /**
+     * Release an inactive chunk without live entries or compact it when less than a quarter of it is live.
+     */
+    private void reclaim(int index) {
+      if (liveBytes[index] == 0) {
+        release(index);
+      } else if (liveBytes[index] < chunks[index].capacity() / 4) {
+        compact(index);
+      }
+    }
+
+    private void compact(int index) {
+      ByteBuf chunk = chunks[index];
+      int end = chunk.writerIndex();
+      for (int offset = 0;offset < end;) {
+        int keyLength = chunk.getInt(offset);
+        int length = ENTRY_HEADER + keyLength + chunk.getInt(offset + 4);
+        int slot = slot(handle(index, offset), hash(chunk, offset + ENTRY_HEADER, keyLength));
+        if (slot != -1) {
+          // Live entry, copy it to the active chunk
+          int target = reserve(length);
+          ByteBuf targetChunk = chunks[target];
+          int targetOffset = targetChunk.writerIndex();
+          targetChunk.writeBytes(chunk, offset, length);
+          liveBytes[target] += length;
+          liveBytes[index] -= length;
+          handles[slot] = handle(target, targetOffset);
+        }
+        offset += length;
+      }
+      release(index);
+    }
+
+    private int slot(long handle, int hash) {
+      int mask = handles.length - 1;
+      for (int slot = hash & mask;handles[slot] != 0;slot = (slot + 1) & mask) {
+        if (handles[slot] == handle) {
+          return slot;
+        }
+      }
+      return -1;
+    }
+
+    private void release(int index) {
+      allocated -= chunks[index].capacity();
+      chunks[index].release();
+      chunks[index] = null;
+      liveBytes[index] = 0;
+    }
+  }
+
+  private static long handle(int chunkIndex, int offset) {
+    return ((long) chunkIndex << 32) | offset;
+  }
+
+  private static int chunkIndex(long handle) {
+    return (int) (handle >>> 32);
+  }
+
+  private static int offset(long handle) {
+    return (int) handle;
+  }
+}
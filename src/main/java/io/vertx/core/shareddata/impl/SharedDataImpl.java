@@ -13,16 +13,22 @@ package io.vertx.core.shareddata.impl;
 
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
+import io.vertx.core.FutureInt;
 import io.vertx.core.Handler;
 import io.vertx.core.impl.Arguments;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.VertxInternal;
 import io.vertx.core.shareddata.AsyncMap;
 import io.vertx.core.shareddata.Counter;
+import io.vertx.core.shareddata.LocalAsyncMapOptions;
+import io.vertx.core.shareddata.LocalAsyncMapStats;
+import io.vertx.core.shareddata.OffHeapMapStats;
 import io.vertx.core.shareddata.LocalMap;
+import io.vertx.core.shareddata.LocalMapOptions;
 import io.vertx.core.shareddata.Lock;
 import io.vertx.core.shareddata.SharedData;
 import io.vertx.core.spi.cluster.ClusterManager;
+import io.vertx.core.spi.metrics.VertxMetrics;
 
 import java.io.Serializable;
 import java.util.List;
@@ -38,6 +44,7 @@ import java.util.concurrent.ConcurrentMap;
 public class SharedDataImpl implements SharedData {
 
   private static final long DEFAULT_LOCK_TIMEOUT = 10 * 1000;
+  private static final LocalAsyncMapOptions DEFAULT_LOCAL_ASYNC_MAP_OPTIONS = new LocalAsyncMapOptions();
 
   private final VertxInternal vertx;
   private final ClusterManager clusterManager;
@@ -49,7 +56,8 @@ public class SharedDataImpl implements SharedData {
   public SharedDataImpl(VertxInternal vertx, ClusterManager clusterManager) {
     this.vertx = vertx;
     this.clusterManager = clusterManager;
-    localAsyncLocks = new LocalAsyncLocks();
+    VertxMetrics metrics = vertx.metricsSPI();
+    localAsyncLocks = new LocalAsyncLocks(metrics != null ? metrics.createLockMetrics() : null);
   }
 
   @Override
@@ -133,6 +141,18 @@ public class SharedDataImpl implements SharedData {
     return localAsyncLocks.acquire(vertx.getOrCreateContext(), name, timeout);
   }
 
+  @Override
+  public void tryGetLocalLock(String name, Handler<AsyncResult<Lock>> resultHandler) {
+    Objects.requireNonNull(resultHandler, "resultHandler");
+    tryGetLocalLock(name).setHandler(resultHandler);
+  }
+
+  @Override
+  public Future<Lock> tryGetLocalLock(String name) {
+    Objects.requireNonNull(name, "name");
+    return localAsyncLocks.tryAcquire(vertx.getOrCreateContext(), name);
+  }
+
   @Override
   public Future<Counter> getCounter(String name) {
     Objects.requireNonNull(name, "name");
@@ -159,6 +179,28 @@ public class SharedDataImpl implements SharedData {
     return (LocalMap<K, V>) localMaps.computeIfAbsent(name, n -> new LocalMapImpl<>(n, localMaps));
   }
 
+  @SuppressWarnings("unchecked")
+  @Override
+  public <K, V> LocalMap<K, V> getLocalMap(String name, LocalMapOptions options) {
+    Objects.requireNonNull(options, "options");
+    LocalMap<?, ?> map;
+    if (options.isOffHeap()) {
+      map = localMaps.computeIfAbsent(name, n -> new OffHeapLocalMap<>(vertx, n, localMaps));
+    } else {
+      map = getLocalMap(name);
+    }
+    if (map instanceof OffHeapLocalMap != options.isOffHeap()) {
+      throw new IllegalStateException("Local map " + name + " already exists with different options");
+    }
+    return (LocalMap<K, V>) map;
+  }
+
+  @Override
+  public OffHeapMapStats getOffHeapMapStats(String name) {
+    LocalMap<?, ?> map = localMaps.get(name);
+    return map instanceof OffHeapLocalMap ? (OffHeapLocalMap<?, ?>) map : null;
+  }
+
   @Override
   public <K, V> void getLocalAsyncMap(String name, Handler<AsyncResult<AsyncMap<K, V>>> resultHandler) {
     Objects.requireNonNull(resultHandler, "resultHandler");
@@ -168,11 +210,35 @@ public class SharedDataImpl implements SharedData {
   @SuppressWarnings("unchecked")
   @Override
   public <K, V> Future<AsyncMap<K, V>> getLocalAsyncMap(String name) {
-    LocalAsyncMapImpl<K, V> asyncMap = (LocalAsyncMapImpl<K, V>) localAsyncMaps.computeIfAbsent(name, n -> new LocalAsyncMapImpl<>(vertx));
+    Objects.requireNonNull(name, "name");
+    LocalAsyncMapImpl<K, V> asyncMap = (LocalAsyncMapImpl<K, V>) localAsyncMaps.computeIfAbsent(name, n -> new LocalAsyncMapImpl<>(vertx, DEFAULT_LOCAL_ASYNC_MAP_OPTIONS));
+    ContextInternal context = vertx.getOrCreateContext();
+    return context.succeededFuture(new WrappedAsyncMap<>(asyncMap));
+  }
+
+  @Override
+  public <K, V> void getLocalAsyncMap(String name, LocalAsyncMapOptions options, Handler<AsyncResult<AsyncMap<K, V>>> resultHandler) {
+    Objects.requireNonNull(resultHandler, "resultHandler");
+    this.<K, V>getLocalAsyncMap(name, options).setHandler(resultHandler);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public <K, V> Future<AsyncMap<K, V>> getLocalAsyncMap(String name, LocalAsyncMapOptions options) {
+    Objects.requireNonNull(options, "options");
+    LocalAsyncMapImpl<K, V> asyncMap = (LocalAsyncMapImpl<K, V>) localAsyncMaps.computeIfAbsent(name, n -> new LocalAsyncMapImpl<>(vertx, options));
+    if (!asyncMap.hasOptions(options)) {
+      throw new IllegalStateException("Local async map " + name + " already exists with different options");
+    }
     ContextInternal context = vertx.getOrCreateContext();
     return context.succeededFuture(new WrappedAsyncMap<>(asyncMap));
   }
 
+  @Override
+  public LocalAsyncMapStats getLocalAsyncMapStats(String name) {
+    return localAsyncMaps.get(name);
+  }
+
   @Override
   public void getLocalCounter(String name, Handler<AsyncResult<Counter>> resultHandler) {
     Objects.requireNonNull(resultHandler, "resultHandler");
@@ -292,6 +358,11 @@ public class SharedDataImpl implements SharedData {
       return delegate.size();
     }
 
+    @Override
+    public FutureInt sizeInt() {
+      return delegate.sizeInt();
+    }
+
     @Override
     public Future<Set<K>> keys() {
       return delegate.keys();
@@ -64,4 +64,6 @@ public interface FutureFactory {
 
   <T> Promise<T> futureNormal(VertxInternal vertx);
 
+  <T> Promise<T> futureLockFree(VertxInternal vertx);
+
 }
@@ -71,4 +71,22 @@ public interface AsyncMultiMap<K, V> {
    * @param completionHandler This will be called when the remove is complete
    */
   void removeAllMatching(Predicate<V> p, Handler<AsyncResult<Void>> completionHandler);
+
+  /**
+   * Set a handler called with the key whose values changed, whichever node of the cluster made the change.
+   * <p>
+   * Vert.x uses it to cache the values of a key on each node until they change. The handler must be called after
+   * the change is visible to {@link #get}, on any thread. An implementation that cannot notify every change must
+   * return {@code false}, which is what the default implementation does.
+   * <p>
+   * The clustered event bus only caches the subscribers of its addresses when the subscription map implements this
+   * method. None of the cluster managers distributed with Vert.x does yet, only the {@code FakeClusterManager} of the
+   * test suite does.
+   *
+   * @param handler the handler
+   * @return {@code true} when the implementation notifies the changes to the handler
+   */
+  default boolean changeHandler(Handler<K> handler) {
+    return false;
+  }
 }
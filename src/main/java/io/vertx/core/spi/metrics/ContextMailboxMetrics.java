@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.spi.metrics;
+
+/**
+ * An SPI used internally by Vert.x to gather metrics on the mailboxes batching the calls a context makes
+ * to another context with {@link io.vertx.core.Context#run} and {@link io.vertx.core.Context#runAndGetFuture}.
+ */
+public interface ContextMailboxMetrics extends Metrics {
+
+  /**
+   * A call has been queued in a mailbox.
+   * This method is called from the caller context.
+   *
+   * @param depth the number of calls pending in the mailbox including this one
+   */
+  default void callQueued(int depth) {
+  }
+
+  /**
+   * A batch of calls has been executed by a single task on the target context.
+   *
+   * @param batchSize the number of calls of the batch
+   */
+  default void callsDrained(int batchSize) {
+  }
+
+  /**
+   * A batch of call completions has been sent back to the caller context in a single task.
+   *
+   * @param batchSize the number of completions of the batch
+   */
+  default void completionsSent(int batchSize) {
+  }
+}
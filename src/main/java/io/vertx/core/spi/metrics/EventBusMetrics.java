@@ -12,6 +12,7 @@
 package io.vertx.core.spi.metrics;
 
 import io.vertx.core.eventbus.ReplyFailure;
+import io.vertx.core.net.SocketAddress;
 
 /**
  * The event bus metrics SPI which Vert.x will use to call when each event occurs.
@@ -123,4 +124,57 @@ public interface EventBusMetrics<H> extends Metrics {
    */
   default void replyFailure(String address, ReplyFailure failure) {
   }
+
+  /**
+   * Called when the subscribers of an address are found in the node-local subscription cache of a clustered event
+   * bus. The cache, and the subscription cache callbacks, are only enabled when the cluster manager implements
+   * {@link io.vertx.core.spi.cluster.AsyncMultiMap#changeHandler}.<p/>
+   *
+   * No specific thread and context can be expected when this method is called.
+   *
+   * @param address the message address
+   */
+  default void subscriptionCacheHit(String address) {
+  }
+
+  /**
+   * Called when the subscribers of an address are not found in the node-local subscription cache of a clustered
+   * event bus and are fetched from the cluster manager.<p/>
+   *
+   * No specific thread and context can be expected when this method is called.
+   *
+   * @param address the message address
+   */
+  default void subscriptionCacheMiss(String address) {
+  }
+
+  /**
+   * Called when the cached subscribers of an address are invalidated because the subscriptions of the address or
+   * the cluster members changed.<p/>
+   *
+   * No specific thread and context can be expected when this method is called.
+   *
+   * @param address the address
+   * @param age the time in milliseconds the subscribers were cached
+   */
+  default void subscriptionCacheInvalidated(String address, long age) {
+  }
+
+  /**
+   * Called when a message is queued to be written to a cluster node.<p/>
+   * No specific thread and context can be expected when this method is called.
+   * @param remoteAddress the address of the node
+   * @param depth the number of messages in the queue of the node, including this message
+   */
+  default void clusterMessageQueued(SocketAddress remoteAddress, int depth) {
+  }
+
+  /**
+   * Called when a batch of queued messages has been written to a cluster node and flushed.<p/>
+   * No specific thread and context can be expected when this method is called.
+   * @param remoteAddress the address of the node
+   * @param batchSize the number of messages written with a single flush
+   */
+  default void clusterMessagesFlushed(SocketAddress remoteAddress, int batchSize) {
+  }
 }
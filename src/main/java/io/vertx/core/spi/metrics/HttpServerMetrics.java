@@ -108,4 +108,25 @@ public interface HttpServerMetrics<R, W, S> extends TCPMetrics<S> {
    */
   default void disconnected(W serverWebSocketMetric) {
   }
+
+  /**
+   * Called when a file sent by a response is found open and unchanged in the send file cache of the server.<p/>
+   *
+   * No specific thread and context can be expected when this method is called.
+   *
+   * @param path the path of the file
+   */
+  default void sendFileCacheHit(String path) {
+  }
+
+  /**
+   * Called when a file sent by a response is not found in the send file cache of the server or has changed since it
+   * was cached, the file is then opened and cached.<p/>
+   *
+   * No specific thread and context can be expected when this method is called.
+   *
+   * @param path the path of the file
+   */
+  default void sendFileCacheMiss(String path) {
+  }
 }
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.spi.metrics;
+
+/**
+ * An SPI used internally by Vert.x to gather metrics on the local locks of {@link io.vertx.core.shareddata.SharedData}.
+ * <p>
+ * Like {@link PoolMetrics}, these metrics usually measure the latency of a lock request waiting in the queue of the
+ * lock and the time the lock is held.
+ */
+public interface LockMetrics<T> extends Metrics {
+
+  /**
+   * A lock has been requested.
+   * This method is called from the requester context.
+   *
+   * @param name the name of the lock
+   * @param queueDepth the number of requests holding or waiting for the lock, including this one
+   * @return the timer measuring the wait for the lock
+   */
+  default T requested(String name, int queueDepth) {
+    return null;
+  }
+
+  /**
+   * The lock has been granted to the request.
+   *
+   * @param t the timer measuring the wait returned by {@link #requested}
+   * @return the timer measuring the time the lock is held
+   */
+  default T acquired(T t) {
+    return null;
+  }
+
+  /**
+   * The request timed out before the lock could be granted.
+   *
+   * @param t the timer measuring the wait returned by {@link #requested}
+   */
+  default void timedOut(T t) {
+  }
+
+  /**
+   * The lock has been released.
+   *
+   * @param t the timer measuring the time the lock is held returned by {@link #acquired}
+   */
+  default void released(T t) {
+  }
+}
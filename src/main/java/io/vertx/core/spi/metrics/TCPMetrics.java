@@ -58,4 +58,22 @@ public interface TCPMetrics<S> extends NetworkMetrics<S> {
   default void disconnected(S socketMetric, SocketAddress remoteAddress) {
   }
 
+  /**
+   * Called when a server has accepted a connection, with the event loop thread handling the connection.<p/>
+   *
+   * @param eventLoop the name of the event loop
+   * @param connections the number of connections of the server handled by the event loop, including this one
+   */
+  default void connectionAccepted(String eventLoop, int connections) {
+  }
+
+  /**
+   * Called when a connection accepted by a server is closed, with the event loop thread handling the connection.<p/>
+   *
+   * @param eventLoop the name of the event loop
+   * @param connections the number of connections of the server still handled by the event loop
+   */
+  default void acceptedConnectionClosed(String eventLoop, int connections) {
+  }
+
 }
@@ -19,6 +19,7 @@ import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.HttpServer;
 import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.http.WebSocketGroupOptions;
 import io.vertx.core.metrics.Measured;
 import io.vertx.core.net.*;
 
@@ -151,6 +152,46 @@ public interface VertxMetrics extends Metrics, Measured {
     return null;
   }
 
+  /**
+   * Provides the context mailbox metrics SPI when batching of the calls between contexts is enabled.<p/>
+   * <p>
+   * No specific thread and context can be expected when this method is called.<p/>
+   * <p>
+   * This method should be called only once.
+   *
+   * @return the context mailbox metrics SPI or {@code null} when metrics are disabled
+   */
+  default ContextMailboxMetrics createContextMailboxMetrics() {
+    return null;
+  }
+
+  /**
+   * Provides the metrics SPI of a WebSocket group.<p/>
+   * <p>
+   * No specific thread and context can be expected when this method is called.<p/>
+   * <p>
+   * This method is called once per group.
+   *
+   * @param options the options of the group
+   * @return the WebSocket group metrics SPI or {@code null} when metrics are disabled
+   */
+  default WebSocketGroupMetrics createWebSocketGroupMetrics(WebSocketGroupOptions options) {
+    return null;
+  }
+
+  /**
+   * Provides the local lock metrics SPI.<p/>
+   * <p>
+   * No specific thread and context can be expected when this method is called.<p/>
+   * <p>
+   * This method should be called only once.
+   *
+   * @return the local lock metrics SPI or {@code null} when metrics are disabled
+   */
+  default LockMetrics<?> createLockMetrics() {
+    return null;
+  }
+
   /**
    * Callback to signal when the Vertx instance is fully initialized. Other methods can be called before this method
    * when the instance is being constructed.
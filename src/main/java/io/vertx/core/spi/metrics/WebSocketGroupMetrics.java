@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.spi.metrics;
+
+/**
+ * An SPI used internally by Vert.x to gather metrics on a {@link io.vertx.core.http.WebSocketGroup}.
+ * <p>
+ * No specific thread and context can be expected when these methods are called.
+ */
+public interface WebSocketGroupMetrics extends Metrics {
+
+  /**
+   * A WebSocket has been added to the group.
+   */
+  default void memberAdded() {
+  }
+
+  /**
+   * A WebSocket has been removed from the group, because it has been closed or removed explicitly.
+   */
+  default void memberRemoved() {
+  }
+
+  /**
+   * A message has been broadcast to the group.
+   *
+   * @param numberOfBytes the size of the encoded frames of the message
+   * @param recipients the number of members the frames have been written to
+   */
+  default void messageBroadcast(long numberOfBytes, int recipients) {
+  }
+
+  /**
+   * A message has not been written to a slow member of a group with the {@code DROP} policy.
+   */
+  default void messageDropped() {
+  }
+
+  /**
+   * A slow member of a group with the {@code DISCONNECT} policy has been closed.
+   */
+  default void memberDisconnected() {
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.vertx.core.eventbus.impl.clustered.ClusteredMessage;
+import io.vertx.core.eventbus.impl.clustered.ClusteredMessageEncoder;
+import io.vertx.core.eventbus.impl.codecs.JsonObjectMessageCodec;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.net.impl.ServerID;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Map;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+public class ClusteredMessageEncoderBenchmark extends BenchmarkBase {
+
+  private ClusteredMessage<JsonObject, JsonObject> small;
+  private ClusteredMessage<JsonObject, JsonObject> large;
+  private ClusteredMessageEncoder encoder;
+  private ByteBufAllocator allocator;
+
+  @Setup
+  public void setup() {
+    ClassLoader classLoader = getClass().getClassLoader();
+    ServerID sender = new ServerID(1234, "localhost");
+    JsonObjectMessageCodec codec = new JsonObjectMessageCodec();
+    small = new ClusteredMessage<>(sender, "the-address", null, loadJson(classLoader.getResource("small_bench.json")), codec, true, null);
+    large = new ClusteredMessage<>(sender, "the-address", null, loadJson(classLoader.getResource("wide_bench.json")), codec, true, null);
+    encoder = new ClusteredMessageEncoder();
+    allocator = PooledByteBufAllocator.DEFAULT;
+  }
+
+  private JsonObject loadJson(URL url) {
+    try {
+      return new JsonObject(new ObjectMapper().readValue(url, Map.class));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Benchmark
+  public void smallEncodeToWire(Blackhole blackhole) {
+    blackhole.consume(small.encodeToWire());
+  }
+
+  @Benchmark
+  public void smallEncoder(Blackhole blackhole) {
+    encode(small, blackhole);
+  }
+
+  @Benchmark
+  public void largeEncodeToWire(Blackhole blackhole) {
+    blackhole.consume(large.encodeToWire());
+  }
+
+  @Benchmark
+  public void largeEncoder(Blackhole blackhole) {
+    encode(large, blackhole);
+  }
+
+  private void encode(ClusteredMessage<?, ?> message, Blackhole blackhole) {
+    ByteBuf buf = encoder.encode(message, allocator);
+    blackhole.consume(buf.writerIndex());
+    buf.release();
+  }
+}
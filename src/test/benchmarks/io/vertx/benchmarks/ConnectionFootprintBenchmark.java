@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.net.NetClient;
+import io.vertx.core.net.NetServer;
+import io.vertx.core.net.NetSocket;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The heap retained by an idle connection, measured on both the client and the server socket, when the event bus
+ * write handler of the sockets is registered or not.
+ * <p>
+ * The footprint is reported by the {@code bytesPerConnection} counter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class ConnectionFootprintBenchmark extends BenchmarkBase {
+
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class Footprint {
+
+    public long bytesPerConnection;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      bytesPerConnection = 0;
+    }
+  }
+
+  @Param({"1000"})
+  int connections;
+
+  @Param({"false", "true"})
+  boolean writeHandlerID;
+
+  Vertx vertx;
+  NetServer server;
+  NetClient client;
+  AtomicInteger accepted = new AtomicInteger();
+
+  @Setup
+  public void setup() throws Exception {
+    vertx = Vertx.vertx();
+    server = vertx.createNetServer()
+      .connectHandler(so -> {
+        if (writeHandlerID) {
+          so.writeHandlerID();
+        }
+        accepted.incrementAndGet();
+      })
+      .listen(0, "localhost")
+      .toCompletionStage()
+      .toCompletableFuture()
+      .get();
+    client = vertx.createNetClient();
+  }
+
+  @TearDown
+  public void tearDown() {
+    vertx.close();
+  }
+
+  private static long usedHeap() {
+    MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    for (int i = 0;i < 3;i++) {
+      System.gc();
+    }
+    return memory.getHeapMemoryUsage().getUsed();
+  }
+
+  @Benchmark
+  public void connect(Footprint footprint) throws Exception {
+    accepted.set(0);
+    long before = usedHeap();
+    List<NetSocket> sockets = new ArrayList<>(connections);
+    for (int i = 0;i < connections;i++) {
+      NetSocket so = client.connect(server.actualPort(), "localhost")
+        .toCompletionStage()
+        .toCompletableFuture()
+        .get();
+      if (writeHandlerID) {
+        so.writeHandlerID();
+      }
+      sockets.add(so);
+    }
+    while (accepted.get() < connections) {
+      Thread.sleep(1);
+    }
+    long after = usedHeap();
+    footprint.bytesPerConnection = (after - before) / connections;
+    List<Future<Void>> closed = new ArrayList<>(connections);
+    for (NetSocket so : sockets) {
+      closed.add(so.close());
+    }
+    for (Future<Void> fut : closed) {
+      fut.toCompletionStage().toCompletableFuture().get();
+    }
+  }
+}
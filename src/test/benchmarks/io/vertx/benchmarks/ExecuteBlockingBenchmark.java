@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.SynchronizedTaskQueue;
+import io.vertx.core.impl.TaskQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Ordered {@code executeBlocking} calls submitted concurrently by several threads to the same context.
+ */
+@State(Scope.Benchmark)
+@Threads(4)
+public class ExecuteBlockingBenchmark extends BenchmarkBase {
+
+  @Param({"lockfree", "synchronized"})
+  String queue;
+
+  @Param({"1", "64"})
+  int batch;
+
+  Vertx vertx;
+  ContextInternal context;
+  TaskQueue taskQueue;
+
+  @Setup
+  public void setup() {
+    vertx = Vertx.vertx();
+    context = (ContextInternal) vertx.getOrCreateContext();
+    taskQueue = queue.equals("lockfree") ? new TaskQueue() : new SynchronizedTaskQueue();
+  }
+
+  @TearDown
+  public void tearDown() {
+    vertx.close();
+  }
+
+  @Benchmark
+  public void orderedExecuteBlocking() throws Exception {
+    CountDownLatch latch = new CountDownLatch(batch);
+    Handler<Promise<Void>> task = p -> {
+      p.complete();
+      latch.countDown();
+    };
+    for (int i = 0;i < batch;i++) {
+      context.executeBlocking(task, taskQueue);
+    }
+    latch.await();
+  }
+}
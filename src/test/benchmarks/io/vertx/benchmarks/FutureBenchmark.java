@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.FastFutureFamily.FutureImplNormal;
+import io.vertx.core.FastFutureFamily.FutureLockFreeMultiHandler;
+import io.vertx.core.FastFutureFamily.FutureLockedMultiHandler;
+import io.vertx.core.FastFutureFamily.FutureLockedOneHandler;
+import io.vertx.core.FastFutureFamily.FutureSingleThread;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.BenchmarkContext;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.VertxInternal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Create a future, register handlers and complete it, for {@code FutureImpl} and each future of the
+ * {@code FastFutureFamily}.
+ * <p/>
+ * The benchmark thread runs on a {@link BenchmarkContext} so the handlers are called inline and only the cost of the
+ * future is measured. Run it with {@code -prof gc} to compare the allocation rate of the implementations.
+ * {@code FutureLockedOneHandler} only supports a single handler and ignores the {@code handlers} parameter.
+ */
+@State(Scope.Thread)
+@Fork(jvmArgsAppend = { "-Dvertx.disableContextTimings=true" })
+public class FutureBenchmark extends BenchmarkBase {
+
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  public static void consume(final AsyncResult<String> ar) {
+  }
+
+  @State(Scope.Thread)
+  public static class FutureState {
+
+    @Param({"1", "4"})
+    int handlers;
+
+    VertxInternal vertx;
+    BenchmarkContext context;
+    ContextInternal prev;
+    Handler<AsyncResult<String>> handler;
+
+    @Setup
+    public void setup() {
+      vertx = (VertxInternal) Vertx.vertx();
+      context = BenchmarkContext.create(vertx);
+      handler = FutureBenchmark::consume;
+    }
+
+    @Setup(Level.Iteration)
+    public void begin() {
+      prev = context.emitBegin();
+    }
+
+    @TearDown(Level.Iteration)
+    public void end() {
+      context.emitEnd(prev);
+    }
+
+    @TearDown
+    public void tearDown() {
+      vertx.close();
+    }
+
+    void register(Future<String> future) {
+      for (int i = 0;i < handlers;i++) {
+        future.onComplete(handler);
+      }
+    }
+  }
+
+  @Benchmark
+  public Object futureImpl(FutureState state) {
+    Promise<String> promise = state.context.promise();
+    state.register(promise.future());
+    promise.complete("foo");
+    return promise;
+  }
+
+  @Benchmark
+  public Object futureImplNormal(FutureState state) {
+    Promise<String> promise = new FutureImplNormal<>(state.vertx);
+    state.register(promise.future());
+    promise.complete("foo");
+    return promise;
+  }
+
+  @Benchmark
+  public Object futureSingleThread(FutureState state) {
+    Promise<String> promise = new FutureSingleThread<>();
+    promise.complete("foo");
+    state.register(promise.future());
+    return promise;
+  }
+
+  @Benchmark
+  public Object futureLockedOneHandler(FutureState state) {
+    Promise<String> promise = new FutureLockedOneHandler<>(state.handler, state.context);
+    promise.complete("foo");
+    return promise;
+  }
+
+  @Benchmark
+  public Object futureLockedMultiHandler(FutureState state) {
+    FutureLockedMultiHandler<String> future = new FutureLockedMultiHandler<>(state.vertx);
+    state.register(future);
+    future.promise().complete("foo");
+    return future;
+  }
+
+  @Benchmark
+  public Object futureLockFreeMultiHandler(FutureState state) {
+    Promise<String> promise = new FutureLockFreeMultiHandler<>(state.vertx);
+    state.register(promise.future());
+    promise.complete("foo");
+    return promise;
+  }
+}
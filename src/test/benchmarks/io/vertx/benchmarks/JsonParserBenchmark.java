@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.parsetools.JsonParser;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A line delimited json stream of records parsed in object value mode, as json objects or bound to a class, with and
+ * without projecting the records on two of their fields.
+ */
+@State(Scope.Thread)
+public class JsonParserBenchmark extends BenchmarkBase {
+
+  public static class Record {
+    public long id;
+    public String name;
+    public List<String> tags;
+    public Map<String, Object> payload;
+  }
+
+  private static final Set<String> PROJECTION = new HashSet<>(Arrays.asList("id", "name"));
+
+  @Param({"1000"})
+  int records;
+
+  @Param({"8192"})
+  int chunkSize;
+
+  private Buffer[] chunks;
+
+  @Setup
+  public void setup() {
+    Buffer stream = Buffer.buffer();
+    for (int i = 0;i < records;i++) {
+      JsonObject record = new JsonObject()
+        .put("id", i)
+        .put("name", "record-" + i)
+        .put("tags", new JsonArray().add("a").add("b").add("c"))
+        .put("payload", new JsonObject()
+          .put("description", "the description of the record " + i)
+          .put("values", new JsonArray().add(1).add(2).add(3).add(4))
+          .put("nested", new JsonObject().put("enabled", true).put("ratio", 0.5d)));
+      stream.appendBuffer(record.toBuffer()).appendString("\n");
+    }
+    int count = (stream.length() + chunkSize - 1) / chunkSize;
+    chunks = new Buffer[count];
+    for (int i = 0;i < count;i++) {
+      chunks[i] = stream.getBuffer(i * chunkSize, Math.min(stream.length(), (i + 1) * chunkSize));
+    }
+  }
+
+  private void parse(JsonParser parser, Blackhole blackhole) {
+    parser.handler(event -> blackhole.consume(event.value()));
+    for (Buffer chunk : chunks) {
+      parser.handle(chunk);
+    }
+    parser.end();
+  }
+
+  @Benchmark
+  public void objectValue(Blackhole blackhole) {
+    parse(JsonParser.newParser().objectValueMode(), blackhole);
+  }
+
+  @Benchmark
+  public void objectValueProjection(Blackhole blackhole) {
+    parse(JsonParser.newParser().objectValueMode().projection(PROJECTION), blackhole);
+  }
+
+  @Benchmark
+  public void objectBinding(Blackhole blackhole) {
+    parse(JsonParser.newParser().objectValueMode(Record.class), blackhole);
+  }
+
+  @Benchmark
+  public void objectBindingProjection(Blackhole blackhole) {
+    parse(JsonParser.newParser().objectValueMode(Record.class).projection(PROJECTION), blackhole);
+  }
+}
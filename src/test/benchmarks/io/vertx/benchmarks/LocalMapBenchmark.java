@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.shareddata.LocalMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Read a buffer from a {@link LocalMap}, a mutable buffer is copied on each read while a read-only buffer is shared.
+ */
+@State(Scope.Thread)
+public class LocalMapBenchmark extends BenchmarkBase {
+
+  @Param({"1024", "1048576"})
+  public int size;
+
+  private Vertx vertx;
+  private LocalMap<String, Object> map;
+
+  @Setup
+  public void setup() {
+    vertx = Vertx.vertx();
+    map = vertx.sharedData().getLocalMap("benchmark");
+    Buffer buffer = Buffer.buffer(new byte[size]);
+    map.put("bytes", new byte[size]);
+    map.put("buffer", buffer);
+    map.put("readOnlyBuffer", buffer.readOnlyCopy());
+  }
+
+  @TearDown
+  public void tearDown() {
+    vertx.close();
+  }
+
+  @Benchmark
+  public Object getBytes() {
+    return map.get("bytes");
+  }
+
+  @Benchmark
+  public Object getBuffer() {
+    return map.get("buffer");
+  }
+
+  @Benchmark
+  public Object getReadOnlyBuffer() {
+    return map.get("readOnlyBuffer");
+  }
+}
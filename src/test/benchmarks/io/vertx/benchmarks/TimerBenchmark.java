@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.impl.ContextInternal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Schedule and cancel timers on the event loop of a context, this is the typical usage of a timeout that
+ * is cancelled when the operation completes in time.
+ */
+@State(Scope.Thread)
+public class TimerBenchmark extends BenchmarkBase {
+
+  @State(Scope.Thread)
+  public static class TimerState {
+
+    @Param({"false", "true"})
+    boolean timerWheel;
+
+    @Param({"1", "100"})
+    int batch;
+
+    Vertx vertx;
+    ContextInternal context;
+    Handler<Long> timeout;
+    long[] ids;
+
+    @Setup
+    public void setup() {
+      vertx = Vertx.vertx(new VertxOptions().setTimerWheelEnabled(timerWheel));
+      context = (ContextInternal) vertx.getOrCreateContext();
+      timeout = id -> {};
+      ids = new long[batch];
+    }
+
+    @TearDown
+    public void tearDown() {
+      vertx.close();
+    }
+  }
+
+  @Benchmark
+  public void setAndCancelOnContext(TimerState state) throws Exception {
+    CompletableFuture<Void> latch = new CompletableFuture<>();
+    state.context.runOnContext(v -> {
+      long[] ids = state.ids;
+      for (int i = 0;i < ids.length;i++) {
+        ids[i] = state.vertx.setTimer(1000, state.timeout);
+      }
+      for (int i = 0;i < ids.length;i++) {
+        state.vertx.cancelTimer(ids[i]);
+      }
+      latch.complete(null);
+    });
+    latch.get();
+  }
+
+  @Benchmark
+  public void setAndCancel(TimerState state) {
+    long[] ids = state.ids;
+    for (int i = 0;i < ids.length;i++) {
+      ids[i] = state.context.setTimer(1000, state.timeout);
+    }
+    for (int i = 0;i < ids.length;i++) {
+      state.vertx.cancelTimer(ids[i]);
+    }
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.net.NetServer;
+import io.vertx.core.net.NetSocket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Small buffers written to a socket by a thread that is not the event loop of the socket, like a worker verticle
+ * does, compared to the same buffers written from the event loop.
+ */
+@State(Scope.Benchmark)
+public class WorkerWriteBenchmark extends BenchmarkBase {
+
+  @Param({"1", "1000"})
+  int batch;
+
+  @Param({"64"})
+  int size;
+
+  Vertx vertx;
+  NetServer server;
+  NetSocket socket;
+  Context context;
+  Buffer chunk;
+
+  @Setup
+  public void setup() throws Exception {
+    vertx = Vertx.vertx();
+    server = vertx.createNetServer()
+      .connectHandler(so -> so.handler(buff -> {}))
+      .listen(0, "localhost")
+      .toCompletionStage()
+      .toCompletableFuture()
+      .get();
+    CompletableFuture<Context> connected = new CompletableFuture<>();
+    vertx.createNetClient()
+      .connect(server.actualPort(), "localhost")
+      .onSuccess(so -> {
+        socket = so;
+        // The event loop of the socket
+        connected.complete(Vertx.currentContext());
+      })
+      .onFailure(connected::completeExceptionally);
+    context = connected.get();
+    chunk = Buffer.buffer(new byte[size]);
+  }
+
+  @TearDown
+  public void tearDown() {
+    vertx.close();
+  }
+
+  private void writeBatch(CountDownLatch latch) {
+    for (int i = 0;i < batch - 1;i++) {
+      socket.write(chunk, null);
+    }
+    socket.write(chunk, ar -> latch.countDown());
+  }
+
+  @Benchmark
+  public void workerWrite() throws Exception {
+    CountDownLatch latch = new CountDownLatch(1);
+    writeBatch(latch);
+    latch.await();
+  }
+
+  @Benchmark
+  public void eventLoopWrite() throws Exception {
+    CountDownLatch latch = new CountDownLatch(1);
+    context.runOnContext(v -> writeBatch(latch));
+    latch.await();
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core;
+
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.metrics.MetricsOptions;
+import io.vertx.core.spi.metrics.ContextMailboxMetrics;
+import io.vertx.core.spi.metrics.VertxMetrics;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ContextCallBatchingTest extends VertxTestBase {
+
+  private final List<Integer> drained = new CopyOnWriteArrayList<>();
+  private final List<Integer> sent = new CopyOnWriteArrayList<>();
+  private final AtomicInteger maxDepth = new AtomicInteger();
+
+  @Override
+  protected VertxOptions getOptions() {
+    ContextMailboxMetrics mailboxMetrics = new ContextMailboxMetrics() {
+      @Override
+      public void callQueued(int depth) {
+        maxDepth.accumulateAndGet(depth, Math::max);
+      }
+      @Override
+      public void callsDrained(int batchSize) {
+        drained.add(batchSize);
+      }
+      @Override
+      public void completionsSent(int batchSize) {
+        sent.add(batchSize);
+      }
+    };
+    VertxMetrics metrics = new VertxMetrics() {
+      @Override
+      public ContextMailboxMetrics createContextMailboxMetrics() {
+        return mailboxMetrics;
+      }
+    };
+    return super.getOptions()
+      .setContextCallBatchingEnabled(true)
+      .setMetricsOptions(new MetricsOptions().setEnabled(true).setFactory(options -> metrics));
+  }
+
+  @Test
+  public void testBatchedSupplierCalls() {
+    Context caller = vertx.getOrCreateContext();
+    Context target = vertx.getOrCreateContext();
+    assertNotSame(((ContextInternal) caller).nettyEventLoop(), ((ContextInternal) target).nettyEventLoop());
+    int num = 100;
+    List<Integer> results = new ArrayList<>();
+    // Hold the target until all the calls are queued so they are drained in a single batch
+    CountDownLatch queued = new CountDownLatch(1);
+    target.runOnContext(v -> {
+      try {
+        awaitLatch(queued);
+      } catch (InterruptedException e) {
+        fail(e);
+      }
+    });
+    caller.runOnContext(v -> {
+      for (int i = 0;i < num;i++) {
+        int val = i;
+        target.<Integer>run(true, () -> {
+          assertSame(target, Vertx.currentContext());
+          return val;
+        }, ar -> {
+          assertSame(caller, Vertx.currentContext());
+          results.add(ar.result());
+          if (results.size() == num) {
+            for (int j = 0;j < num;j++) {
+              assertEquals(j, (int) results.get(j));
+            }
+            assertEquals(num, maxDepth.get());
+            assertEquals(1, drained.size());
+            assertEquals(num, (int) drained.get(0));
+            assertEquals(1, sent.size());
+            assertEquals(num, (int) sent.get(0));
+            testComplete();
+          }
+        });
+      }
+      queued.countDown();
+    });
+    await();
+  }
+
+  @Test
+  public void testBatchedFutureCalls() {
+    Context caller = vertx.getOrCreateContext();
+    Context target = vertx.getOrCreateContext();
+    RuntimeException failure = new RuntimeException();
+    waitFor(3);
+    caller.runOnContext(v -> {
+      target.<String>runAndGetFuture(false, () -> "foo").onComplete(onSuccess(res -> {
+        assertSame(caller, Vertx.currentContext());
+        assertEquals("foo", res);
+        complete();
+      }));
+      target.<String>runAndGetFuture(false, () -> {
+        throw failure;
+      }).onComplete(onFailure(err -> {
+        assertSame(failure, err);
+        complete();
+      }));
+      target.<String>run(false, () -> {
+        throw failure;
+      }, (res, err) -> {
+        assertNull(res);
+        assertSame(failure, err);
+        complete();
+      });
+    });
+    await();
+  }
+
+  @Test
+  public void testSameContextIsNotBatched() {
+    Context ctx = vertx.getOrCreateContext();
+    ctx.runOnContext(v -> {
+      AtomicInteger count = new AtomicInteger();
+      ctx.run(true, count::incrementAndGet);
+      assertEquals(1, count.get());
+      assertEquals(0, maxDepth.get());
+      testComplete();
+    });
+    await();
+  }
+}
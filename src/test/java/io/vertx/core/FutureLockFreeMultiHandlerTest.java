@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core;
+
+import io.vertx.core.FastFutureFamily.FutureTimeoutException;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class FutureLockFreeMultiHandlerTest extends VertxTestBase {
+
+  @Test
+  public void testSingleHandler() {
+    Context ctx = vertx.getOrCreateContext();
+    ctx.runOnContext(v -> {
+      Promise<String> promise = vertx.futureLockFree();
+      promise.future().onComplete(onSuccess(res -> {
+        assertSame(ctx, Vertx.currentContext());
+        assertEquals("foo", res);
+        testComplete();
+      }));
+      assertFalse(promise.future().isComplete());
+      new Thread(() -> promise.complete("foo")).start();
+    });
+    await();
+  }
+
+  @Test
+  public void testHandlersGroupedByContext() {
+    Context ctx1 = vertx.getOrCreateContext();
+    Context ctx2 = vertx.getOrCreateContext();
+    Promise<String> promise = vertx.futureLockFree();
+    List<Integer> calls1 = new ArrayList<>();
+    List<Integer> calls2 = new ArrayList<>();
+    CountDownLatch registered = new CountDownLatch(2);
+    waitFor(5);
+    ctx1.runOnContext(v -> {
+      for (int i = 0;i < 3;i++) {
+        int val = i;
+        promise.future().onComplete(ar -> {
+          assertSame(ctx1, Vertx.currentContext());
+          assertEquals("foo", ar.result());
+          calls1.add(val);
+          if (calls1.size() == 3) {
+            assertEquals(Arrays.asList(0, 1, 2), calls1);
+          }
+          complete();
+        });
+      }
+      registered.countDown();
+    });
+    ctx2.runOnContext(v -> {
+      for (int i = 0;i < 2;i++) {
+        int val = i;
+        promise.future().onComplete(ar -> {
+          assertSame(ctx2, Vertx.currentContext());
+          calls2.add(val);
+          if (calls2.size() == 2) {
+            assertEquals(Arrays.asList(0, 1), calls2);
+          }
+          complete();
+        });
+      }
+      registered.countDown();
+    });
+    try {
+      awaitLatch(registered);
+    } catch (InterruptedException e) {
+      fail(e);
+    }
+    assertTrue(promise.tryComplete("foo"));
+    assertFalse(promise.tryComplete("bar"));
+    assertFalse(promise.tryFail(new Exception()));
+    await();
+  }
+
+  @Test
+  public void testHandlerAfterCompletion() {
+    Promise<String> promise = vertx.futureLockFree();
+    RuntimeException failure = new RuntimeException();
+    promise.fail(failure);
+    Context ctx = vertx.getOrCreateContext();
+    ctx.runOnContext(v -> {
+      promise.future().onComplete(onFailure(err -> {
+        assertSame(ctx, Vertx.currentContext());
+        assertSame(failure, err);
+        testComplete();
+      }));
+    });
+    await();
+  }
+
+  @Test
+  public void testFailingHandlerDoesNotPreventGroup() {
+    Context ctx = vertx.getOrCreateContext();
+    RuntimeException failure = new RuntimeException();
+    Promise<String> promise = vertx.futureLockFree();
+    waitFor(2);
+    ctx.exceptionHandler(err -> {
+      assertSame(failure, err);
+      complete();
+    });
+    ctx.runOnContext(v -> {
+      promise.future().onComplete(ar -> {
+        throw failure;
+      });
+      promise.future().onComplete(ar -> complete());
+      promise.complete("foo");
+    });
+    await();
+  }
+
+  @Test
+  public void testConcurrentRegistrationAndCompletion() throws Exception {
+    int numContexts = 4;
+    int numHandlers = 10;
+    int numFutures = 1000;
+    AtomicInteger calls = new AtomicInteger();
+    Context[] contexts = new Context[numContexts];
+    for (int i = 0;i < numContexts;i++) {
+      contexts[i] = vertx.getOrCreateContext();
+    }
+    for (int i = 0;i < numFutures;i++) {
+      Promise<String> promise = vertx.futureLockFree();
+      CountDownLatch started = new CountDownLatch(numContexts);
+      for (Context ctx : contexts) {
+        ctx.runOnContext(v -> {
+          started.countDown();
+          for (int j = 0;j < numHandlers;j++) {
+            promise.future().onComplete(ar -> {
+              assertEquals("foo", ar.result());
+              calls.incrementAndGet();
+            });
+          }
+        });
+      }
+      awaitLatch(started);
+      promise.complete("foo");
+    }
+    assertWaitUntil(() -> calls.get() == numContexts * numHandlers * numFutures);
+  }
+
+  @Test
+  public void testTimeout() {
+    Promise<String> promise = vertx.futureLockFree();
+    promise.future().onComplete(onFailure(err -> {
+      assertTrue(err instanceof FutureTimeoutException);
+      testComplete();
+    }), 10);
+    await();
+  }
+
+  @Test
+  public void testCompletionCancelsTimeout() throws Exception {
+    for (int i = 0;i < 100;i++) {
+      Promise<String> promise = vertx.futureLockFree();
+      CountDownLatch handled = new CountDownLatch(1);
+      Thread completer = new Thread(() -> promise.complete("foo"));
+      completer.start();
+      // Registered from a non Vert.x thread, the handler can run before the registration returns
+      promise.future().onComplete(onSuccess(res -> handled.countDown()), 60_000);
+      awaitLatch(handled);
+      completer.join();
+      // The timer created by the registration is the last one before this one and must be cancelled
+      long timerID = vertx.setTimer(60_000, id -> {});
+      assertTrue(vertx.cancelTimer(timerID));
+      assertFalse(vertx.cancelTimer(timerID - 1));
+    }
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core;
+
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class FuturePrimitiveTest extends VertxTestBase {
+
+  @Test
+  public void testFastMapAndCompose() {
+    FutureInt fut = FutureInt.createFastFutureInt(3)
+      .map(val -> val * 2)
+      .compose(val -> FutureInt.createFastFutureInt(val + 1));
+    assertTrue(fut.isFastFuture());
+    assertEquals(7, fut.getData());
+    AtomicInteger result = new AtomicInteger();
+    fut.onSuccess(result::set);
+    assertEquals(7, result.get());
+    assertEquals(7, (int) fut.toFuture().result());
+  }
+
+  @Test
+  public void testFastMapFailure() {
+    RuntimeException failure = new RuntimeException();
+    FutureLong fut = FutureLong.createFastFutureLong(3).map(val -> {
+      throw failure;
+    });
+    assertFalse(fut.isFastFuture());
+    AtomicReference<Throwable> cause = new AtomicReference<>();
+    fut.onSuccess(val -> fail()).onFailure(cause::set);
+    assertSame(failure, cause.get());
+  }
+
+  @Test
+  public void testSlowMapAndCompose() {
+    Promise<Double> promise = Promise.promise();
+    FutureDouble fut = FutureDouble.createSlowFutureDouble(promise)
+      .map(val -> val / 2)
+      .compose(val -> FutureDouble.createFastFutureDouble(val + 1));
+    assertFalse(fut.isFastFuture());
+    assertEquals(0D, fut.getData(), 0D);
+    fut.onSuccess(val -> {
+      assertEquals(3D, val, 0D);
+      testComplete();
+    });
+    promise.complete(4D);
+    await();
+  }
+
+  @Test
+  public void testSlowFailure() {
+    Promise<Long> promise = Promise.promise();
+    RuntimeException failure = new RuntimeException();
+    AtomicLong calls = new AtomicLong();
+    FutureLong.createSlowFutureLong(promise)
+      .map(calls::addAndGet)
+      .onSuccess(val -> fail())
+      .onFailure(err -> {
+        assertSame(failure, err);
+        assertEquals(0L, calls.get());
+        testComplete();
+      });
+    promise.fail(failure);
+    await();
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Run the timer tests with timers driven by the per event loop timing wheel.
+ */
+public class TimerWheelTest extends TimerTest {
+
+  @Override
+  protected VertxOptions getOptions() {
+    return super.getOptions().setTimerWheelEnabled(true);
+  }
+
+  @Test
+  public void testManyTimersWithCancellation() {
+    int num = 10000;
+    AtomicInteger fired = new AtomicInteger();
+    Context ctx = vertx.getOrCreateContext();
+    ctx.runOnContext(v -> {
+      for (int i = 0;i < num;i++) {
+        long id = vertx.setTimer(1 + (i % 700), l -> {
+          if (fired.incrementAndGet() == num / 2) {
+            vertx.setTimer(20, l2 -> {
+              assertEquals(num / 2, fired.get());
+              testComplete();
+            });
+          }
+        });
+        if (i % 2 == 0) {
+          assertTrue(vertx.cancelTimer(id));
+          assertFalse(vertx.cancelTimer(id));
+        }
+      }
+    });
+    await();
+  }
+}
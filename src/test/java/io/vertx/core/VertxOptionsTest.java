@@ -205,6 +205,21 @@ public class VertxOptionsTest extends VertxTestBase {
     assertEquals(TimeUnit.MINUTES, options.getWarningExceptionTimeUnit());
     assertEquals(options, options.setBlockedThreadCheckIntervalUnit(TimeUnit.MILLISECONDS));
     assertEquals(TimeUnit.MILLISECONDS, options.getBlockedThreadCheckIntervalUnit());
+    assertFalse(options.isTimerWheelEnabled());
+    assertEquals(options, options.setTimerWheelEnabled(true));
+    assertTrue(options.isTimerWheelEnabled());
+    assertEquals(VertxOptions.DEFAULT_TIMER_WHEEL_TICK_DURATION, options.getTimerWheelTickDuration());
+    assertEquals(options, options.setTimerWheelTickDuration(10));
+    assertEquals(10, options.getTimerWheelTickDuration());
+    try {
+      options.setTimerWheelTickDuration(0);
+      fail("Should throw exception");
+    } catch (IllegalArgumentException e) {
+      // OK
+    }
+    assertFalse(options.isContextCallBatchingEnabled());
+    assertEquals(options, options.setContextCallBatchingEnabled(true));
+    assertTrue(options.isContextCallBatchingEnabled());
   }
 
   @Test
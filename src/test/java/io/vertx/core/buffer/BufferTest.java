@@ -22,6 +22,7 @@ import io.vertx.test.core.TestUtils;
 import org.junit.Test;
 
 import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
 import java.nio.charset.StandardCharsets;
 import java.util.function.Function;
 
@@ -996,6 +997,35 @@ public class BufferTest {
     assertEquals(copy, copy2);
   }
 
+  @Test
+  public void testReadOnlyCopy() throws Exception {
+    Buffer buff = TestUtils.randomBuffer(100);
+    assertFalse(buff.isReadOnly());
+    Buffer readOnly = buff.readOnlyCopy();
+    assertTrue(readOnly.isReadOnly());
+    assertEquals(buff, readOnly);
+
+    //Make sure they don't share underlying buffer
+    Buffer expected = buff.copy();
+    buff.setInt(0, 1);
+    assertEquals(expected, readOnly);
+
+    try {
+      readOnly.setInt(0, 1);
+      fail();
+    } catch (ReadOnlyBufferException ignore) {
+    }
+    try {
+      readOnly.appendByte((byte) 1);
+      fail();
+    } catch (ReadOnlyBufferException ignore) {
+    }
+    assertEquals(expected, readOnly);
+    assertFalse(readOnly.copy().isReadOnly());
+    assertTrue(readOnly.readOnlyCopy().isReadOnly());
+    assertEquals(expected, readOnly.readOnlyCopy());
+  }
+
   @Test
   public void testCreateBuffers() throws Exception {
     Buffer buff = Buffer.buffer(1000);
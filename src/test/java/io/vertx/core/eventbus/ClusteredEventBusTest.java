@@ -12,6 +12,7 @@
 package io.vertx.core.eventbus;
 
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.VertxOptions;
 import io.vertx.core.impl.VertxInternal;
 import io.vertx.test.core.TestUtils;
@@ -19,6 +20,7 @@ import io.vertx.test.tls.Cert;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -288,6 +290,64 @@ public class ClusteredEventBusTest extends ClusteredEventBusTestBase {
     await();
   }
 
+  @Test
+  public void testWriteQueueHighWaterMark() {
+    int num = 100;
+    VertxOptions options = getOptions();
+    options.getEventBusOptions().setClusterWriteQueueHighWaterMark(1);
+    startNodes(2, options);
+    AtomicInteger received = new AtomicInteger();
+    AtomicInteger rejected = new AtomicInteger();
+    Runnable check = () -> {
+      if (received.get() + rejected.get() == num) {
+        assertTrue(received.get() > 0);
+        assertTrue(rejected.get() > 0);
+        testComplete();
+      }
+    };
+    vertices[1].eventBus().consumer(ADDRESS1, msg -> {
+      received.incrementAndGet();
+      check.run();
+    }).completionHandler(onSuccess(v -> {
+      // The messages are queued while connecting to the node
+      MessageProducer<String> producer = vertices[0].eventBus().sender(ADDRESS1);
+      for (int i = 0;i < num;i++) {
+        producer.write("msg-" + i, ar -> {
+          if (ar.failed()) {
+            assertTrue(ar.cause().getMessage().contains("is full"));
+            rejected.incrementAndGet();
+            check.run();
+          }
+        });
+      }
+    }));
+    await();
+  }
+
+  @Test
+  public void testMessagesSplitAcrossReads() {
+    int num = 200;
+    startNodes(2);
+    List<Buffer> expected = new ArrayList<>();
+    for (int i = 0;i < num;i++) {
+      expected.add(TestUtils.randomBuffer(i % 10 == 0 ? TestUtils.randomPositiveInt() % 200_000 : TestUtils.randomPositiveInt() % 100));
+    }
+    AtomicInteger received = new AtomicInteger();
+    vertices[1].eventBus().<Buffer>consumer(ADDRESS1, msg -> {
+      int idx = received.getAndIncrement();
+      assertEquals(expected.get(idx), msg.body());
+      assertEquals("" + idx, msg.headers().get("idx"));
+      if (idx == num - 1) {
+        testComplete();
+      }
+    }).completionHandler(onSuccess(v -> {
+      for (int i = 0;i < num;i++) {
+        vertices[0].eventBus().send(ADDRESS1, expected.get(i), new DeliveryOptions().addHeader("idx", "" + i));
+      }
+    }));
+    await();
+  }
+
   @Test
   public void testSendLocalOnly() {
     testDeliveryOptionsLocalOnly(true);
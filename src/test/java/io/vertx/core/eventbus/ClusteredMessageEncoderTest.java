@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.eventbus;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.impl.CodecManager;
+import io.vertx.core.eventbus.impl.codecs.JsonObjectMessageCodec;
+import io.vertx.core.eventbus.impl.codecs.StringMessageCodec;
+import io.vertx.core.eventbus.impl.clustered.ClusteredMessage;
+import io.vertx.core.eventbus.impl.clustered.ClusteredMessageEncoder;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.net.impl.ServerID;
+import io.vertx.test.core.TestUtils;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class ClusteredMessageEncoderTest {
+
+  private final ServerID sender = new ServerID(1234, "localhost");
+  private final ClusteredMessageEncoder encoder = new ClusteredMessageEncoder();
+  private final CodecManager codecManager = new CodecManager();
+
+  private void assertEncoded(ClusteredMessage<?, ?> message) {
+    ByteBuf buf = encoder.encode(message, PooledByteBufAllocator.DEFAULT);
+    try {
+      assertEquals(message.encodeToWire(), Buffer.buffer(buf.copy()));
+    } finally {
+      buf.release();
+    }
+  }
+
+  @Test
+  public void testSameWireFormat() {
+    MultiMap headers = MultiMap.caseInsensitiveMultiMap().add("foo", "bar").add("juu", "daa");
+    ClusteredMessage<String, String> message = new ClusteredMessage<>(sender, "the-address", headers, "the-body", new StringMessageCodec(), true, null);
+    message.setReplyAddress("the-reply-address");
+    assertEncoded(message);
+    assertEncoded(new ClusteredMessage<>(sender, "the-address", null, "the-body", new StringMessageCodec(), false, null));
+    assertEncoded(new ClusteredMessage<>(sender, "the-address", null, new EventBusTestBase.MyPOJO("the-pojo"), new EventBusTestBase.MyPOJOEncoder1(), true, null));
+    assertEncoded(new ClusteredMessage<>(new ServerID(4321, "other-host"), "the-address", null, "the-body", new StringMessageCodec(), true, null));
+  }
+
+  @Test
+  public void testBodyLargerThanEstimate() {
+    for (int i = 0;i < 10;i++) {
+      assertEncoded(new ClusteredMessage<>(sender, "the-address", null, "small", new StringMessageCodec(), true, null));
+    }
+    String large = TestUtils.randomUnicodeString(100_000);
+    assertEncoded(new ClusteredMessage<>(sender, "the-address", null, large, new StringMessageCodec(), true, null));
+  }
+
+  @Test
+  public void testReadFromWire() {
+    JsonObject body = new JsonObject().put("foo", "bar").put("num", 3);
+    ClusteredMessage<JsonObject, JsonObject> message = new ClusteredMessage<>(sender, "the-address", null, body, new JsonObjectMessageCodec(), true, null);
+    ByteBuf buf = encoder.encode(message, PooledByteBufAllocator.DEFAULT);
+    Buffer data = Buffer.buffer(buf.copy());
+    buf.release();
+    assertEquals(data.length() - 4, data.getInt(0));
+    ClusteredMessage<?, ?> received = new ClusteredMessage<>(null);
+    received.readFromWire(data.slice(4, data.length()), codecManager);
+    assertEquals("the-address", received.address());
+    assertNull(received.replyAddress());
+    assertEquals(body, received.body());
+  }
+
+  @Test
+  public void testLazyReadFromWire() {
+    MultiMap headers = MultiMap.caseInsensitiveMultiMap().add("foo", "bar");
+    ClusteredMessage<String, String> message = new ClusteredMessage<>(sender, "the-address", headers, "the-body", new StringMessageCodec(), true, null);
+    message.setReplyAddress("the-reply-address");
+    Buffer data = message.encodeToWire();
+    ClusteredMessage<?, ?> received = new ClusteredMessage<>(null);
+    received.readFromWire(data.slice(4, data.length()), codecManager);
+    ClusteredMessage<?, ?> copy = received.copyBeforeReceive();
+    assertEquals("the-address", received.address());
+    assertEquals("the-reply-address", received.replyAddress());
+    assertEquals("bar", received.headers().get("foo"));
+    assertEquals("the-body", received.body());
+    assertEquals("the-reply-address", copy.replyAddress());
+    assertEquals("bar", copy.headers().get("foo"));
+    assertEquals("the-body", copy.body());
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.eventbus;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.impl.clustered.ClusteredMessageParser;
+import io.vertx.test.core.TestUtils;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ClusteredMessageParserTest {
+
+  private static Buffer frame(Buffer message) {
+    return Buffer.buffer().appendInt(message.length()).appendBuffer(message);
+  }
+
+  private static List<Buffer> parse(Buffer data, int chunkSize) {
+    List<Buffer> messages = new ArrayList<>();
+    ClusteredMessageParser parser = new ClusteredMessageParser(messages::add);
+    for (int pos = 0;pos < data.length();pos += chunkSize) {
+      parser.handle(data.getBuffer(pos, Math.min(data.length(), pos + chunkSize)));
+    }
+    return messages;
+  }
+
+  @Test
+  public void testLargeMessageInSmallChunks() {
+    Buffer message = TestUtils.randomBuffer(8 * 1024 * 1024);
+    long start = System.currentTimeMillis();
+    List<Buffer> messages = parse(frame(message), 1024);
+    // Copying the accumulated bytes on every chunk would take minutes
+    long elapsed = System.currentTimeMillis() - start;
+    assertEquals(1, messages.size());
+    assertEquals(message, messages.get(0));
+    assertTrue("Parsing took " + elapsed + "ms", elapsed < 10_000);
+  }
+
+  @Test
+  public void testMessagesSplitAcrossChunks() {
+    List<Buffer> expected = new ArrayList<>();
+    Buffer data = Buffer.buffer();
+    for (int i = 0;i < 100;i++) {
+      Buffer message = TestUtils.randomBuffer(i * 37);
+      expected.add(message);
+      data.appendBuffer(frame(message));
+    }
+    for (int chunkSize : new int[] { 1, 3, 4, 7, 100, 1000, data.length() }) {
+      // The messages handed over first are not overwritten by the following chunks
+      assertEquals(expected, parse(data, chunkSize));
+    }
+  }
+}
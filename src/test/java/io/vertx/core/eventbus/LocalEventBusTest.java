@@ -532,6 +532,90 @@ public class LocalEventBusTest extends EventBusTestBase {
     await();
   }
 
+  @Test
+  public void testSendToReplyAddress() {
+    eb.<String>consumer(ADDRESS1).handler((Message<String> msg) -> {
+      eb.send(msg.replyAddress(), "a reply");
+    });
+    eb.request(ADDRESS1, "whatever", onSuccess(reply -> {
+      assertEquals("a reply", reply.body());
+      testComplete();
+    }));
+    await();
+  }
+
+  @Test
+  public void testReplyTimeoutsExpireByDeadline() {
+    eb.<String>consumer(ADDRESS1).handler((Message<String> msg) -> {
+      // Do not reply
+    });
+    Context ctx = vertx.getOrCreateContext();
+    ctx.runOnContext(v -> {
+      long start = System.currentTimeMillis();
+      AtomicBoolean shortTimedOut = new AtomicBoolean();
+      eb.request(ADDRESS1, "long", new DeliveryOptions().setSendTimeout(2000), onFailure(err -> {
+        assertEquals(ReplyFailure.TIMEOUT, ((ReplyException) err).failureType());
+        assertTrue(shortTimedOut.get());
+        assertTrue(System.currentTimeMillis() - start >= 2000);
+        testComplete();
+      }));
+      eb.request(ADDRESS1, "short", new DeliveryOptions().setSendTimeout(100), onFailure(err -> {
+        assertEquals(ReplyFailure.TIMEOUT, ((ReplyException) err).failureType());
+        assertTrue(System.currentTimeMillis() - start < 2000);
+        shortTimedOut.set(true);
+      }));
+    });
+    await();
+  }
+
+  @Test
+  public void testReplyAfterTimeoutFailsWithNoHandlers() {
+    eb.<String>consumer(ADDRESS1).handler((Message<String> msg) -> {
+      vertx.setTimer(200, id -> {
+        msg.replyAndRequest("late", new DeliveryOptions().setSendTimeout(10_000), onFailure(err -> {
+          assertEquals(ReplyFailure.NO_HANDLERS, ((ReplyException) err).failureType());
+          testComplete();
+        }));
+      });
+    });
+    eb.request(ADDRESS1, "whatever", new DeliveryOptions().setSendTimeout(50), onFailure(err -> {
+      assertEquals(ReplyFailure.TIMEOUT, ((ReplyException) err).failureType());
+    }));
+    await();
+  }
+
+  @Test
+  public void testManyRequestsWithRepliesAndTimeouts() {
+    int num = 10_000;
+    eb.<Integer>consumer(ADDRESS1).handler((Message<Integer> msg) -> {
+      if (msg.body() % 2 == 0) {
+        msg.reply(msg.body());
+      }
+    });
+    AtomicInteger replies = new AtomicInteger();
+    AtomicInteger timeouts = new AtomicInteger();
+    Runnable requests = () -> {
+      for (int i = 0;i < num;i++) {
+        int val = i;
+        eb.<Integer>request(ADDRESS1, val, new DeliveryOptions().setSendTimeout(500), ar -> {
+          if (ar.succeeded()) {
+            assertEquals(val, (int) ar.result().body());
+            replies.incrementAndGet();
+          } else {
+            assertEquals(1, val % 2);
+            assertEquals(ReplyFailure.TIMEOUT, ((ReplyException) ar.cause()).failureType());
+            timeouts.incrementAndGet();
+          }
+        });
+      }
+    };
+    vertx.runOnContext(v -> requests.run());
+    new Thread(requests).start();
+    assertWaitUntil(() -> replies.get() + timeouts.get() == 2 * num, 10_000);
+    assertEquals(num, replies.get());
+    assertEquals(num, timeouts.get());
+  }
+
   @Test
   public void testFailAfterSend() {
     eb.<String>consumer(ADDRESS1).handler((Message<String> msg) -> {
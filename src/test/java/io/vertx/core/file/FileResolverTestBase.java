@@ -34,6 +34,7 @@ import java.util.List;
 import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 /**
@@ -326,6 +327,65 @@ public abstract class FileResolverTestBase extends VertxTestBase {
     }
   }
 
+  @Test
+  public void testResolutionWarmUp() throws Exception {
+    File tmp = File.createTempFile("vertx", ".bin");
+    tmp.deleteOnExit();
+    URL url = tmp.toURI().toURL();
+    Files.write(tmp.toPath(), "foo".getBytes());
+    AtomicInteger lookups = new AtomicInteger();
+    ClassLoader old = Thread.currentThread().getContextClassLoader();
+    FileResolver resolver2;
+    Thread.currentThread().setContextClassLoader(new ClassLoader() {
+      @Override
+      public URL getResource(String name) {
+        if ("foo".equals(name)) {
+          lookups.incrementAndGet();
+          return url;
+        }
+        return super.getResource(name);
+      }
+    });
+    try {
+      resolver2 = new FileResolver(new FileSystemOptions().addResolutionWarmUpFile("foo"));
+    } finally {
+      Thread.currentThread().setContextClassLoader(old);
+    }
+    try {
+      assertEquals(1, lookups.get());
+      File file = resolver2.resolveFile("foo");
+      assertEquals("foo", new String(Files.readAllBytes(file.toPath())));
+      assertEquals(1, lookups.get());
+    } finally {
+      resolver2.close();
+    }
+  }
+
+  @Test
+  public void testResolutionOfMissingFileNotSharedWithOtherClassLoader() throws Exception {
+    File tmp = File.createTempFile("vertx", ".bin");
+    tmp.deleteOnExit();
+    URL url = tmp.toURI().toURL();
+    Files.write(tmp.toPath(), "foo".getBytes());
+    assertFalse(resolver.resolveFile("foo").exists());
+    ClassLoader old = Thread.currentThread().getContextClassLoader();
+    try {
+      Thread.currentThread().setContextClassLoader(new ClassLoader() {
+        @Override
+        public URL getResource(String name) {
+          if ("foo".equals(name)) {
+            return url;
+          }
+          return super.getResource(name);
+        }
+      });
+      File file = resolver.resolveFile("foo");
+      assertEquals("foo", new String(Files.readAllBytes(file.toPath())));
+    } finally {
+      Thread.currentThread().setContextClassLoader(old);
+    }
+  }
+
   private String readFile(File file) {
     return vertx.fileSystem().readFileBlocking(file.getAbsolutePath()).toString();
   }
@@ -11,11 +11,15 @@
 
 package io.vertx.core.file;
 
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.test.core.VertxTestBase;
 import org.junit.Test;
+import java.util.Collections;
 import java.util.Random;
 
+import static io.vertx.test.core.TestUtils.assertIllegalArgumentException;
+
 public class FileSystemOptionsTest extends VertxTestBase {
 
   @Test
@@ -24,6 +28,11 @@ public class FileSystemOptionsTest extends VertxTestBase {
 
     assertTrue(options.isFileCachingEnabled());
     assertTrue(options.isClassPathResolvingEnabled());
+    assertEquals(FileSystemOptions.DEFAULT_BULK_POOL_SIZE, options.getBulkPoolSize());
+    assertIllegalArgumentException(() -> options.setBulkPoolSize(0));
+    assertEquals(FileSystemOptions.DEFAULT_RESOLUTION_CACHE_MAX_SIZE, options.getResolutionCacheMaxSize());
+    assertIllegalArgumentException(() -> options.setResolutionCacheMaxSize(-1));
+    assertTrue(options.getResolutionWarmUpFiles().isEmpty());
   }
 
   @Test
@@ -34,7 +43,15 @@ public class FileSystemOptionsTest extends VertxTestBase {
     boolean enabled = rand.nextBoolean();
     options.setFileCachingEnabled(enabled);
     options.setClassPathResolvingEnabled(enabled);
+    int bulkPoolSize = 1 + rand.nextInt(10);
+    options.setBulkPoolSize(bulkPoolSize);
+    int resolutionCacheMaxSize = rand.nextInt(1000);
+    options.setResolutionCacheMaxSize(resolutionCacheMaxSize);
+    options.addResolutionWarmUpFile("index.html");
     options = new FileSystemOptions(options);
+    assertEquals(bulkPoolSize, options.getBulkPoolSize());
+    assertEquals(resolutionCacheMaxSize, options.getResolutionCacheMaxSize());
+    assertEquals(Collections.singletonList("index.html"), options.getResolutionWarmUpFiles());
     assertEquals(enabled, options.isClassPathResolvingEnabled());
     assertEquals(enabled, options.isFileCachingEnabled());
   }
@@ -44,6 +61,7 @@ public class FileSystemOptionsTest extends VertxTestBase {
     FileSystemOptions options = new FileSystemOptions(new JsonObject());
     assertTrue(options.isFileCachingEnabled());
     assertTrue(options.isClassPathResolvingEnabled());
+    assertEquals(FileSystemOptions.DEFAULT_BULK_POOL_SIZE, options.getBulkPoolSize());
   }
 
   @Test
@@ -52,8 +70,16 @@ public class FileSystemOptionsTest extends VertxTestBase {
     boolean enabled = rand.nextBoolean();
     FileSystemOptions options = new FileSystemOptions(new JsonObject().
       put("fileCachingEnabled", enabled).
-      put("classPathResolvingEnabled", enabled)
+      put("classPathResolvingEnabled", enabled).
+      put("bulkPoolSize", 7).
+      put("resolutionCacheMaxSize", 100).
+      put("resolutionWarmUpFiles", new JsonArray().add("index.html"))
     );
+    assertEquals(100, options.getResolutionCacheMaxSize());
+    assertEquals(Collections.singletonList("index.html"), options.getResolutionWarmUpFiles());
+    assertEquals(new JsonArray().add("index.html"), options.toJson().getJsonArray("resolutionWarmUpFiles"));
+    assertEquals(7, options.getBulkPoolSize());
+    assertEquals(7, (int) options.toJson().getInteger("bulkPoolSize"));
     assertEquals(enabled, options.isFileCachingEnabled());
     assertEquals(enabled, options.toJson().getBoolean("fileCachingEnabled"));
     assertEquals(enabled, options.isClassPathResolvingEnabled());
@@ -35,11 +35,15 @@ import org.junit.rules.TemporaryFolder;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.RandomAccessFile;
 import java.nio.file.*;
 import java.nio.file.attribute.*;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -1131,6 +1135,99 @@ public class FileSystemTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testWriteGathered() {
+    testWriteGathered(new OpenOptions().setWriteFlushSize(4096));
+  }
+
+  @Test
+  public void testWriteGatheredLinger() {
+    testWriteGathered(new OpenOptions().setWriteFlushSize(1024 * 1024).setWriteLingerTime(20));
+  }
+
+  @Test
+  public void testWriteGatheredGroupSync() {
+    testWriteGathered(new OpenOptions().setWriteFlushSize(4096).setWriteGroupSync(true));
+  }
+
+  private void testWriteGathered(OpenOptions options) {
+    String fileName = "some-file.dat";
+    int chunkSize = 100;
+    int chunks = 200;
+    byte[] content = TestUtils.randomByteArray(chunkSize * chunks);
+    Buffer buff = Buffer.buffer(content);
+    AtomicInteger count = new AtomicInteger();
+    vertx.fileSystem().open(testDir + pathSep + fileName, options, onSuccess(file -> {
+      for (int i = 0;i < chunks;i++) {
+        file.write(buff.getBuffer(i * chunkSize, (i + 1) * chunkSize), onSuccess(v -> {
+          if (count.incrementAndGet() == chunks) {
+            file.close(onSuccess(v2 -> {
+              try {
+                assertEquals(buff, Buffer.buffer(Files.readAllBytes(Paths.get(testDir + pathSep + fileName))));
+              } catch (IOException e) {
+                fail(e);
+                return;
+              }
+              testComplete();
+            }));
+          }
+        }));
+      }
+    }));
+    await();
+  }
+
+  @Test
+  public void testWriteGatheredNonContiguous() {
+    String fileName = "some-file.dat";
+    int chunkSize = 100;
+    int chunks = 20;
+    byte[] content = TestUtils.randomByteArray(chunkSize * chunks);
+    Buffer buff = Buffer.buffer(content);
+    AtomicInteger count = new AtomicInteger();
+    vertx.fileSystem().open(testDir + pathSep + fileName, new OpenOptions().setWriteFlushSize(1024 * 1024), onSuccess(file -> {
+      for (int i = chunks - 1;i >= 0;i--) {
+        file.write(buff.getBuffer(i * chunkSize, (i + 1) * chunkSize), i * chunkSize, onSuccess(v -> {
+          if (count.incrementAndGet() == chunks) {
+            file.close(onSuccess(v2 -> {
+              try {
+                assertEquals(buff, Buffer.buffer(Files.readAllBytes(Paths.get(testDir + pathSep + fileName))));
+              } catch (IOException e) {
+                fail(e);
+                return;
+              }
+              testComplete();
+            }));
+          }
+        }));
+      }
+    }));
+    await();
+  }
+
+  @Test
+  public void testFlushGatheredWrites() {
+    String fileName = "some-file.dat";
+    Buffer buff = TestUtils.randomBuffer(100);
+    vertx.fileSystem().open(testDir + pathSep + fileName, new OpenOptions().setWriteFlushSize(1024 * 1024).setWriteLingerTime(60_000), onSuccess(file -> {
+      AtomicBoolean written = new AtomicBoolean();
+      file.write(buff, onSuccess(v -> written.set(true)));
+      file.flush(onSuccess(v -> {
+        assertTrue(written.get());
+        file.close(onSuccess(v2 -> {
+          try {
+            assertEquals(buff, Buffer.buffer(Files.readAllBytes(Paths.get(testDir + pathSep + fileName))));
+          } catch (IOException e) {
+            fail(e);
+            return;
+          }
+          testComplete();
+        }));
+      }));
+    }));
+    await();
+  }
+
   @Test
   public void testWriteEmptyAsync() {
     String fileName = "some-file.dat";
@@ -1180,6 +1277,113 @@ public class FileSystemTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testReadAsyncMmap() throws Exception {
+    String fileName = "some-file.dat";
+    int chunkSize = 1000;
+    int chunks = 10;
+    byte[] content = TestUtils.randomByteArray(chunkSize * chunks);
+    createFile(fileName, content);
+    vertx.fileSystem().open(testDir + pathSep + fileName, new OpenOptions().setMmap(true), onSuccess(file -> {
+      Buffer buff = Buffer.buffer(chunks * chunkSize);
+      for (int i = chunks - 1;i >= 0;i--) {
+        file.read(buff, i * chunkSize, i * chunkSize, chunkSize, onSuccess(res -> assertSame(buff, res)));
+      }
+      assertEquals(Buffer.buffer(content), buff);
+      file.read(Buffer.buffer(), 0, chunkSize * chunks - 10, chunkSize, onSuccess(end -> {
+        assertEquals(Buffer.buffer(content).slice(chunkSize * chunks - 10, chunkSize * chunks), end);
+        file.read(Buffer.buffer(), 0, chunkSize * chunks, chunkSize, onSuccess(eof -> {
+          assertEquals(0, eof.length());
+          file.close(onSuccess(v -> testComplete()));
+        }));
+      }));
+    }));
+    await();
+  }
+
+  @Test
+  public void testReadMmapLargeFile() throws Exception {
+    String fileName = "some-file.dat";
+    long length = 3L * 1024 * 1024 * 1024;
+    byte[] head = TestUtils.randomByteArray(100);
+    byte[] middle = TestUtils.randomByteArray(100);
+    byte[] tail = TestUtils.randomByteArray(100);
+    long middlePos = AsyncFileImpl.MAPPED_REGION_SIZE - 50;
+    try (RandomAccessFile raf = new RandomAccessFile(new File(testDir, fileName), "rw")) {
+      raf.setLength(length);
+      raf.seek(0);
+      raf.write(head);
+      raf.seek(middlePos);
+      raf.write(middle);
+      raf.seek(length - tail.length);
+      raf.write(tail);
+    }
+    vertx.fileSystem().open(testDir + pathSep + fileName, new OpenOptions().setMmap(true).setWrite(false), onSuccess(file -> {
+      file.read(Buffer.buffer(), 0, 0, head.length, onSuccess(res1 -> {
+        assertEquals(Buffer.buffer(head), res1);
+        // Spans the end of the region mapped by the previous read
+        file.read(Buffer.buffer(), 0, middlePos, middle.length, onSuccess(res2 -> {
+          assertEquals(Buffer.buffer(middle), res2);
+          file.read(Buffer.buffer(), 0, length - tail.length, tail.length * 2, onSuccess(res3 -> {
+            assertEquals(Buffer.buffer(tail), res3);
+            Buffer buff = Buffer.buffer();
+            file.setReadPos(length - 1000);
+            file.handler(buff::appendBuffer);
+            file.endHandler(v -> {
+              assertEquals(1000, buff.length());
+              assertEquals(Buffer.buffer(tail), buff.slice(900, 1000));
+              file.close(onSuccess(v2 -> testComplete()));
+            });
+          }));
+        }));
+      }));
+    }));
+    await();
+  }
+
+  @Test
+  public void testRandomReadMmapAcrossRegions() throws Exception {
+    String fileName = "some-file.dat";
+    int regions = 6;
+    long length = regions * AsyncFileImpl.MAPPED_REGION_SIZE;
+    int readSize = 100;
+    Random random = new Random();
+    List<Long> positions = new ArrayList<>();
+    List<Buffer> expected = new ArrayList<>();
+    try (RandomAccessFile raf = new RandomAccessFile(new File(testDir, fileName), "rw")) {
+      raf.setLength(length);
+      for (int i = 0;i < 100;i++) {
+        // Half of the reads cross the end of a region
+        long pos = i % 2 == 0 ?
+          (1 + random.nextInt(regions - 1)) * AsyncFileImpl.MAPPED_REGION_SIZE - random.nextInt(readSize) :
+          (long) (random.nextDouble() * (length - readSize));
+        raf.seek(pos);
+        raf.write(TestUtils.randomByteArray(readSize));
+        positions.add(pos);
+      }
+      // The patches can overlap, the expected content is read back
+      for (long pos : positions) {
+        byte[] content = new byte[readSize];
+        raf.seek(pos);
+        raf.readFully(content);
+        expected.add(Buffer.buffer(content));
+      }
+    }
+    int reads = 1000;
+    waitFor(reads);
+    vertx.fileSystem().open(testDir + pathSep + fileName, new OpenOptions().setMmap(true).setWrite(false), onSuccess(file -> {
+      // The regions are visited in random order, more regions than the file keeps mapped
+      for (int i = 0;i < reads;i++) {
+        int idx = random.nextInt(positions.size());
+        file.read(Buffer.buffer(), 0, positions.get(idx), readSize, onSuccess(res -> {
+          assertEquals(expected.get(idx), res);
+          complete();
+        }));
+      }
+    }));
+    await();
+  }
+
   @Test
   public void testWriteStream() {
     String fileName = "some-file.dat";
@@ -1368,13 +1572,27 @@ public class FileSystemTest extends VertxTestBase {
     testReadStream(ReadStrategy.FETCH);
   }
 
+  @Test
+  public void testReadStreamMmap() throws Exception {
+    testReadStream(ReadStrategy.NONE, new OpenOptions().setMmap(true));
+  }
+
+  @Test
+  public void testReadStreamMmapFetch() throws Exception {
+    testReadStream(ReadStrategy.FETCH, new OpenOptions().setMmap(true));
+  }
+
   private void testReadStream(ReadStrategy strategy) throws Exception {
+    testReadStream(strategy, new OpenOptions());
+  }
+
+  private void testReadStream(ReadStrategy strategy, OpenOptions options) throws Exception {
     String fileName = "some-file.dat";
     int chunkSize = 1000;
     int chunks = 10;
     byte[] content = TestUtils.randomByteArray(chunkSize * chunks);
     createFile(fileName, content);
-    vertx.fileSystem().open(testDir + pathSep + fileName, new OpenOptions(), ar -> {
+    vertx.fileSystem().open(testDir + pathSep + fileName, options, ar -> {
       if (ar.succeeded()) {
         AtomicInteger inProgress = new AtomicInteger();
         AtomicBoolean ended = new AtomicBoolean();
@@ -1521,6 +1739,15 @@ public class FileSystemTest extends VertxTestBase {
 
   @Test
   public void testReadStreamSetReadPosReadLengthBufferSize() throws Exception {
+    testReadStreamSetReadPosReadLengthBufferSize(false);
+  }
+
+  @Test
+  public void testReadStreamMmapSetReadPosReadLengthBufferSize() throws Exception {
+    testReadStreamSetReadPosReadLengthBufferSize(true);
+  }
+
+  private void testReadStreamSetReadPosReadLengthBufferSize(boolean mmap) throws Exception {
     String fileName = "some-file.dat";
     int chunkSize = 1000;
     int chunks = 10;
@@ -1530,7 +1757,7 @@ public class FileSystemTest extends VertxTestBase {
     int readBufferSize = 1000;
     int numOfReads = readLength / readBufferSize + (readLength % readBufferSize > 0? 1 : 0);
     createFile(fileName, content);
-    vertx.fileSystem().open(testDir + pathSep + fileName, new OpenOptions(), ar -> {
+    vertx.fileSystem().open(testDir + pathSep + fileName, new OpenOptions().setMmap(mmap), ar -> {
       if (ar.succeeded()) {
         AsyncFile rs = ar.result();
         rs.setReadPos(readPos);
@@ -1715,6 +1942,126 @@ public class FileSystemTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testPropsBatch() throws Exception {
+    createFileWithJunk("file-1.dat", 100);
+    createFileWithJunk("file-2.dat", 200);
+    List<String> paths = Arrays.asList(testDir + pathSep + "file-1.dat", testDir + pathSep + "missing.dat", testDir + pathSep + "file-2.dat");
+    List<FileProps> blocking = vertx.fileSystem().propsBatchBlocking(paths);
+    assertEquals(100, blocking.get(0).size());
+    assertNull(blocking.get(1));
+    assertEquals(200, blocking.get(2).size());
+    vertx.fileSystem().propsBatch(paths, onSuccess(props -> {
+      assertEquals(3, props.size());
+      assertEquals(100, props.get(0).size());
+      assertEquals(paths.get(0), props.get(0).path());
+      assertTrue(props.get(0).isRegularFile());
+      assertNull(props.get(1));
+      assertEquals(200, props.get(2).size());
+      testComplete();
+    }));
+    await();
+  }
+
+  @Test
+  public void testExistsBatch() throws Exception {
+    createFileWithJunk("file-1.dat", 100);
+    mkDir("some-dir");
+    List<String> paths = Arrays.asList(testDir + pathSep + "file-1.dat", testDir + pathSep + "missing.dat", testDir + pathSep + "some-dir");
+    assertEquals(Arrays.asList(true, false, true), vertx.fileSystem().existsBatchBlocking(paths));
+    vertx.fileSystem().existsBatch(paths, onSuccess(exists -> {
+      assertEquals(Arrays.asList(true, false, true), exists);
+      testComplete();
+    }));
+    await();
+  }
+
+  @Test
+  public void testReadDirRecursive() throws Exception {
+    Set<String> expected = createTree();
+    Set<String> found = new HashSet<>();
+    ReadStream<FileProps> stream = vertx.fileSystem().readDirRecursive(testDir + pathSep + "root");
+    stream.exceptionHandler(this::fail);
+    stream.endHandler(v -> {
+      assertEquals(expected, found);
+      testComplete();
+    });
+    stream.handler(props -> {
+      assertTrue(found.add(props.path()));
+      assertEquals(props.path().endsWith(".dat"), props.isRegularFile());
+    });
+    await();
+  }
+
+  @Test
+  public void testReadDirRecursiveFetch() throws Exception {
+    Set<String> expected = createTree();
+    Set<String> found = new HashSet<>();
+    ReadStream<FileProps> stream = vertx.fileSystem().readDirRecursive(testDir + pathSep + "root");
+    stream.pause();
+    stream.exceptionHandler(this::fail);
+    stream.endHandler(v -> {
+      assertEquals(expected, found);
+      testComplete();
+    });
+    stream.handler(props -> {
+      assertTrue(found.add(props.path()));
+      vertx.runOnContext(v -> stream.fetch(1));
+    });
+    stream.fetch(1);
+    await();
+  }
+
+  @Test
+  public void testReadDirRecursiveDontFollowLink() throws Exception {
+    Assume.assumeFalse(Utils.isWindows());
+    mkDir("root");
+    mkDir("other");
+    createFileWithJunk("other" + pathSep + "file.dat", 100);
+    Files.createSymbolicLink(Paths.get(testDir, "root", "link"), Paths.get(testDir, "other"));
+    List<FileProps> found = new ArrayList<>();
+    ReadStream<FileProps> stream = vertx.fileSystem().readDirRecursive(testDir + pathSep + "root");
+    stream.exceptionHandler(this::fail);
+    stream.endHandler(v -> {
+      assertEquals(1, found.size());
+      assertTrue(found.get(0).isSymbolicLink());
+      testComplete();
+    });
+    stream.handler(found::add);
+    await();
+  }
+
+  @Test
+  public void testReadDirRecursiveDoesNotExist() {
+    ReadStream<FileProps> stream = vertx.fileSystem().readDirRecursive(testDir + pathSep + "missing");
+    stream.exceptionHandler(err -> {
+      assertTrue(err instanceof io.vertx.core.file.FileSystemException);
+      testComplete();
+    });
+    stream.endHandler(v -> fail());
+    stream.handler(props -> fail());
+    await();
+  }
+
+  private Set<String> createTree() throws Exception {
+    Set<String> paths = new HashSet<>();
+    String root = testDir + pathSep + "root";
+    mkDir("root");
+    for (int i = 0;i < 10;i++) {
+      String dir = "root" + pathSep + "dir-" + i;
+      mkDir(dir);
+      paths.add(testDir + pathSep + dir);
+      for (int j = 0;j < 100;j++) {
+        String file = dir + pathSep + "file-" + j + ".dat";
+        createFileWithJunk(file, 10);
+        paths.add(testDir + pathSep + file);
+      }
+    }
+    mkDir("root" + pathSep + "dir-0" + pathSep + "sub");
+    paths.add(root + pathSep + "dir-0" + pathSep + "sub");
+    return paths;
+  }
+
   @Test
   public void testFSProps() throws Exception {
     String fileName = "some-file.txt";
@@ -1773,6 +2120,20 @@ public class FileSystemTest extends VertxTestBase {
     assertFalse(opts.isSparse());
     assertEquals(opts, opts.setSparse(true));
     assertTrue(opts.isSparse());
+    assertFalse(opts.isMmap());
+    assertEquals(opts, opts.setMmap(true));
+    assertTrue(opts.isMmap());
+    assertEquals(OpenOptions.DEFAULT_WRITE_FLUSH_SIZE, opts.getWriteFlushSize());
+    assertEquals(opts, opts.setWriteFlushSize(4096));
+    assertEquals(4096, opts.getWriteFlushSize());
+    assertIllegalArgumentException(() -> opts.setWriteFlushSize(-1));
+    assertEquals(OpenOptions.DEFAULT_WRITE_LINGER_TIME, opts.getWriteLingerTime());
+    assertEquals(opts, opts.setWriteLingerTime(10));
+    assertEquals(10, opts.getWriteLingerTime());
+    assertIllegalArgumentException(() -> opts.setWriteLingerTime(-1));
+    assertFalse(opts.isWriteGroupSync());
+    assertEquals(opts, opts.setWriteGroupSync(true));
+    assertTrue(opts.isWriteGroupSync());
   }
 
   @Test
@@ -1789,6 +2150,10 @@ public class FileSystemTest extends VertxTestBase {
     assertEquals(def.isSparse(), json.isSparse());
     assertEquals(def.isSync(), json.isSync());
     assertEquals(def.isDsync(), json.isDsync());
+    assertEquals(def.isMmap(), json.isMmap());
+    assertEquals(def.getWriteFlushSize(), json.getWriteFlushSize());
+    assertEquals(def.getWriteLingerTime(), json.getWriteLingerTime());
+    assertEquals(def.isWriteGroupSync(), json.isWriteGroupSync());
   }
 
   @Test
@@ -265,6 +265,10 @@ public class Http1xTest extends HttpTest {
     assertEquals(options, options.setHttp2KeepAliveTimeout(10));
     assertEquals(10, options.getHttp2KeepAliveTimeout());
     assertIllegalArgumentException(() -> options.setHttp2KeepAliveTimeout(-1));
+
+    assertEquals(HttpClientOptions.DEFAULT_POOL_EVENT_LOOP_AFFINITY, options.isPoolEventLoopAffinity());
+    assertEquals(options, options.setPoolEventLoopAffinity(true));
+    assertTrue(options.isPoolEventLoopAffinity());
   }
 
   @Test
@@ -408,6 +412,11 @@ public class Http1xTest extends HttpTest {
     assertEquals(256, options.getDecoderInitialBufferSize());
     assertIllegalArgumentException(() -> options.setDecoderInitialBufferSize(-1));
 
+    assertEquals(HttpServerOptions.DEFAULT_SEND_FILE_CACHE_MAX_SIZE, options.getSendFileCacheMaxSize());
+    assertEquals(options, options.setSendFileCacheMaxSize(256));
+    assertEquals(256, options.getSendFileCacheMaxSize());
+    assertIllegalArgumentException(() -> options.setSendFileCacheMaxSize(-1));
+
   }
 
   @Test
@@ -497,6 +506,7 @@ public class Http1xTest extends HttpTest {
     options.setDecoderInitialBufferSize(decoderInitialBufferSize);
     options.setKeepAliveTimeout(keepAliveTimeout);
     options.setHttp2KeepAliveTimeout(http2KeepAliveTimeout);
+    options.setPoolEventLoopAffinity(rand.nextBoolean());
     HttpClientOptions copy = new HttpClientOptions(options);
     checkCopyHttpClientOptions(options, copy);
     HttpClientOptions copy2 = new HttpClientOptions(options.toJson());
@@ -549,6 +559,7 @@ public class Http1xTest extends HttpTest {
     assertEquals(def.getDecoderInitialBufferSize(), json.getDecoderInitialBufferSize());
     assertEquals(def.getKeepAliveTimeout(), json.getKeepAliveTimeout());
     assertEquals(def.getHttp2KeepAliveTimeout(), json.getHttp2KeepAliveTimeout());
+    assertEquals(def.isPoolEventLoopAffinity(), json.isPoolEventLoopAffinity());
   }
 
   @Test
@@ -763,6 +774,7 @@ public class Http1xTest extends HttpTest {
     boolean decompressionSupported = rand.nextBoolean();
     boolean acceptUnmaskedFrames = rand.nextBoolean();
     int decoderInitialBufferSize = TestUtils.randomPositiveInt();
+    int sendFileCacheMaxSize = TestUtils.randomPositiveInt();
 
     options.setSendBufferSize(sendBufferSize);
     options.setReceiveBufferSize(receiverBufferSize);
@@ -794,6 +806,7 @@ public class Http1xTest extends HttpTest {
     options.setDecompressionSupported(decompressionSupported);
     options.setAcceptUnmaskedFrames(acceptUnmaskedFrames);
     options.setDecoderInitialBufferSize(decoderInitialBufferSize);
+    options.setSendFileCacheMaxSize(sendFileCacheMaxSize);
 
     HttpServerOptions copy = new HttpServerOptions(options);
     checkCopyHttpServerOptions(options, copy);
@@ -841,6 +854,7 @@ public class Http1xTest extends HttpTest {
     assertEquals(def.isDecompressionSupported(), json.isDecompressionSupported());
     assertEquals(def.isAcceptUnmaskedFrames(), json.isAcceptUnmaskedFrames());
     assertEquals(def.getDecoderInitialBufferSize(), json.getDecoderInitialBufferSize());
+    assertEquals(def.getSendFileCacheMaxSize(), json.getSendFileCacheMaxSize());
   }
 
   @Test
@@ -887,6 +901,7 @@ public class Http1xTest extends HttpTest {
     boolean decompressionSupported = TestUtils.randomBoolean();
     boolean acceptUnmaskedFrames = TestUtils.randomBoolean();
     int decoderInitialBufferSize = TestUtils.randomPositiveInt();
+    int sendFileCacheMaxSize = TestUtils.randomPositiveInt();
 
     JsonObject json = new JsonObject();
     json.put("sendBufferSize", sendBufferSize)
@@ -927,7 +942,8 @@ public class Http1xTest extends HttpTest {
       .put("openSslSessionCacheEnabled", openSslSessionCacheEnabled)
       .put("decompressionSupported", decompressionSupported)
       .put("acceptUnmaskedFrames", acceptUnmaskedFrames)
-      .put("decoderInitialBufferSize", decoderInitialBufferSize);
+      .put("decoderInitialBufferSize", decoderInitialBufferSize)
+      .put("sendFileCacheMaxSize", sendFileCacheMaxSize);
 
     HttpServerOptions options = new HttpServerOptions(json);
     assertEquals(sendBufferSize, options.getSendBufferSize());
@@ -977,6 +993,7 @@ public class Http1xTest extends HttpTest {
     assertEquals(decompressionSupported, options.isDecompressionSupported());
     assertEquals(acceptUnmaskedFrames, options.isAcceptUnmaskedFrames());
     assertEquals(decoderInitialBufferSize, options.getDecoderInitialBufferSize());
+    assertEquals(sendFileCacheMaxSize, options.getSendFileCacheMaxSize());
 
     // Test other keystore/truststore types
     json.remove("keyStoreOptions");
@@ -4232,6 +4249,77 @@ public class Http1xTest extends HttpTest {
     await();
   }
 
+  @Test
+  public void testPoolEventLoopAffinity() throws Exception {
+    server.requestHandler(req -> req.response().end());
+    startServer(testAddress);
+    client.close();
+    client = vertx.createHttpClient(createBaseClientOptions().setMaxPoolSize(2).setPoolEventLoopAffinity(true));
+    Context ctx1 = vertx.getOrCreateContext();
+    Context ctx2 = vertx.getOrCreateContext();
+    assertNotSame(((ContextInternal) ctx1).nettyEventLoop(), ((ContextInternal) ctx2).nettyEventLoop());
+    HttpConnection conn1 = requestConnection(ctx1);
+    HttpConnection conn2 = requestConnection(ctx2);
+    assertNotSame(conn1, conn2);
+    for (int i = 0;i < 4;i++) {
+      assertSame(conn1, requestConnection(ctx1));
+      assertSame(conn2, requestConnection(ctx2));
+    }
+  }
+
+  @Test
+  public void testPoolEventLoopAffinityStealsIdleConnection() throws Exception {
+    server.requestHandler(req -> req.response().end());
+    startServer(testAddress);
+    client.close();
+    client = vertx.createHttpClient(createBaseClientOptions().setMaxPoolSize(1).setPoolEventLoopAffinity(true));
+    Context ctx1 = vertx.getOrCreateContext();
+    Context ctx2 = vertx.getOrCreateContext();
+    assertNotSame(((ContextInternal) ctx1).nettyEventLoop(), ((ContextInternal) ctx2).nettyEventLoop());
+    HttpConnection conn = requestConnection(ctx1);
+    assertSame(conn, requestConnection(ctx2));
+    assertSame(conn, requestConnection(ctx1));
+  }
+
+  @Test
+  public void testPoolEventLoopAffinityWaitsForBusyConnection() throws Exception {
+    server.requestHandler(req -> req.response().end());
+    startServer(testAddress);
+    client.close();
+    client = vertx.createHttpClient(createBaseClientOptions().setMaxPoolSize(1).setPoolEventLoopAffinity(true));
+    Context ctx1 = vertx.getOrCreateContext();
+    Context ctx2 = vertx.getOrCreateContext();
+    Set<HttpConnection> connections = new ConcurrentHashSet<>();
+    CountDownLatch latch = new CountDownLatch(2);
+    for (Context ctx : Arrays.asList(ctx1, ctx2)) {
+      ctx.runOnContext(v -> {
+        client.request(HttpMethod.GET, testAddress, DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/someuri")
+          .setHandler(onSuccess(resp -> {
+            connections.add(resp.request().connection());
+            latch.countDown();
+          }))
+          .end();
+      });
+    }
+    awaitLatch(latch);
+    assertEquals(1, connections.size());
+  }
+
+  private HttpConnection requestConnection(Context ctx) throws Exception {
+    CompletableFuture<HttpConnection> fut = new CompletableFuture<>();
+    ctx.runOnContext(v -> {
+      client.request(HttpMethod.GET, testAddress, DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/someuri")
+        .setHandler(onSuccess(resp -> {
+          resp.endHandler(v1 -> {
+            // Use runOnContext to be sure the connection is put back in the pool
+            vertx.runOnContext(v2 -> fut.complete(resp.request().connection()));
+          });
+        }))
+        .end();
+    });
+    return fut.get(10, TimeUnit.SECONDS);
+  }
+
   @Test
   public void testHttpClientResponseThrowsExceptionInResponseHandler() throws Exception {
     testHttpClientResponseThrowsExceptionInHandler(null, (resp, latch) -> {
@@ -243,4 +243,30 @@ public abstract class HttpMetricsTestBase extends HttpTestBase {
     client.get(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/somepath", resp -> {});
     await();
   }
+
+  @Test
+  public void testSendFileCacheMetrics() throws Exception {
+    server.close();
+    server = vertx.createHttpServer(new HttpServerOptions(createBaseServerOptions()).setSendFileCacheMaxSize(16));
+    server.requestHandler(req -> req.response().sendFile("webroot/somefile.html"));
+    startServer();
+    int num = 4;
+    AtomicInteger count = new AtomicInteger();
+    Runnable[] send = new Runnable[1];
+    send[0] = () -> client.get(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/somepath", onSuccess(resp -> {
+      resp.bodyHandler(buff -> {
+        assertTrue(buff.toString().contains("<body>blah</body>"));
+        if (count.incrementAndGet() < num) {
+          send[0].run();
+        } else {
+          FakeHttpServerMetrics metrics = FakeMetricsBase.getMetrics(server);
+          assertEquals(1, metrics.getSendFileCacheMisses());
+          assertEquals(num - 1, metrics.getSendFileCacheHits());
+          testComplete();
+        }
+      });
+    }));
+    send[0].run();
+    await();
+  }
 }
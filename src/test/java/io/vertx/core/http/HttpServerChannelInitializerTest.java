@@ -38,6 +38,7 @@ public class HttpServerChannelInitializerTest extends VertxTestBase {
       new HttpServerOptions(),
       "http://localhost:8080",
       null,
+      null,
       false,
       eventLoop -> new HandlerHolder<>(vertx.createEventLoopContext(eventLoop, null, null), conn -> {
         conn.handler(req -> {
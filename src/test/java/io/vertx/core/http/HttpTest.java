@@ -2029,6 +2029,97 @@ public abstract class HttpTest extends HttpTestBase {
     await();
   }
 
+  @Test
+  public void testSendFileCached() throws Exception {
+    String content1 = TestUtils.randomAlphaString(10000);
+    String content2 = TestUtils.randomAlphaString(5000);
+    File file = setupFile("test-send-file.html", content1);
+    server.close();
+    server = vertx.createHttpServer(createBaseServerOptions().setSendFileCacheMaxSize(16));
+    server.requestHandler(req -> {
+      req.response().sendFile(file.getAbsolutePath(), onSuccess(v -> {}));
+    });
+    startServer(testAddress);
+    List<String> expected = Arrays.asList(content1, content1, content2, content2);
+    AtomicInteger count = new AtomicInteger();
+    Runnable[] send = new Runnable[1];
+    send[0] = () -> {
+      client.request(HttpMethod.GET, testAddress, DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI)
+        .setHandler(onSuccess(resp -> {
+          assertEquals(200, resp.statusCode());
+          assertEquals("text/html", resp.headers().get("Content-Type"));
+          resp.bodyHandler(buff -> {
+            int idx = count.getAndIncrement();
+            assertEquals(expected.get(idx), buff.toString());
+            assertEquals(expected.get(idx).length(), Integer.parseInt(resp.headers().get("content-length")));
+            if (idx == 1) {
+              try {
+                setupFile("test-send-file.html", content2);
+              } catch (Exception e) {
+                fail(e);
+              }
+            }
+            if (idx + 1 < expected.size()) {
+              send[0].run();
+            } else {
+              testComplete();
+            }
+          });
+        })).end();
+    };
+    send[0].run();
+    await();
+  }
+
+  @Test
+  public void testSendRangeFileCached() throws Exception {
+    server.close();
+    server = vertx.createHttpServer(createBaseServerOptions().setSendFileCacheMaxSize(16));
+    server.requestHandler(req -> {
+      req.response().sendFile("webroot/somefile.html", 6, 6);
+    });
+    startServer(testAddress);
+    waitFor(2);
+    client.request(HttpMethod.GET, testAddress, DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI)
+      .setHandler(onSuccess(resp1 -> {
+        resp1.bodyHandler(buff1 -> {
+          assertEquals("<body>", buff1.toString());
+          complete();
+          client.request(HttpMethod.GET, testAddress, DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI)
+            .setHandler(onSuccess(resp2 -> {
+              resp2.bodyHandler(buff2 -> {
+                assertEquals("<body>", buff2.toString());
+                complete();
+              });
+            })).end();
+        });
+      })).end();
+    await();
+  }
+
+  @Test
+  public void testSendFileCachedNotFound() throws Exception {
+    File dir = testFolder.newFolder();
+    server.close();
+    server = vertx.createHttpServer(createBaseServerOptions().setSendFileCacheMaxSize(16));
+    server.requestHandler(req -> {
+      String path = req.path().equals("/dir") ? dir.getAbsolutePath() : "nosuchfile.html";
+      req.response().sendFile(path, onFailure(t -> {
+        assertTrue(t instanceof FileNotFoundException);
+        complete();
+      }));
+    });
+    startServer(testAddress);
+    waitFor(2);
+    client.request(HttpMethod.GET, testAddress, DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/file")
+      .setHandler(onFailure(err -> {}))
+      .end();
+    client.request(HttpMethod.GET, testAddress, DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/dir")
+      .setHandler(onFailure(err -> {}))
+      .end();
+    await();
+  }
+
   @Test
   public void test100ContinueHandledAutomatically() {
     Buffer toSend = TestUtils.randomBuffer(1000);
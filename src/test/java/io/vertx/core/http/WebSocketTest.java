@@ -31,6 +31,7 @@ import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.impl.FrameType;
 import io.vertx.core.http.impl.ws.WebSocketFrameImpl;
 import io.vertx.core.impl.ConcurrentHashSet;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.impl.NetSocketInternal;
 import io.vertx.core.net.NetServer;
 import io.vertx.core.net.NetSocket;
@@ -3109,4 +3110,218 @@ public class WebSocketTest extends VertxTestBase {
       }));
     await();
   }
+
+  @Test
+  public void testHandlerIDs() {
+    waitFor(2);
+    Buffer binary = TestUtils.randomBuffer(100);
+    server = vertx.createHttpServer()
+      .webSocketHandler(ws -> {
+        // Requested before the handshake
+        String textHandlerID = ws.textHandlerID();
+        String binaryHandlerID = ws.binaryHandlerID();
+        ws.textMessageHandler(msg -> {
+          vertx.eventBus().send(textHandlerID, "hello");
+          vertx.eventBus().send(binaryHandlerID, binary);
+        });
+      }).listen(DEFAULT_HTTP_PORT, onSuccess(v1 -> {
+        client = vertx.createHttpClient();
+        client.webSocket(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/someuri", onSuccess(ws -> {
+          ws.textMessageHandler(text -> {
+            assertEquals("hello", text);
+            complete();
+          });
+          ws.binaryMessageHandler(data -> {
+            assertEquals(binary, data);
+            complete();
+          });
+          ws.writeTextMessage("go");
+        }));
+      }));
+    await();
+  }
+
+  @Test
+  public void testWebSocketGroupBroadcast() {
+    int numClients = 3;
+    waitFor(numClients * 2);
+    Buffer binary = TestUtils.randomBuffer(1000);
+    WebSocketGroup group = WebSocketGroup.create(vertx);
+    AtomicInteger added = new AtomicInteger();
+    server = vertx.createHttpServer()
+      .webSocketHandler(ws -> {
+        group.add(ws);
+        if (added.incrementAndGet() == numClients) {
+          assertEquals(numClients, group.size());
+          group.writeTextMessage("hello");
+          group.writeBinaryMessage(binary);
+        }
+      }).listen(DEFAULT_HTTP_PORT, onSuccess(v1 -> {
+        client = vertx.createHttpClient();
+        for (int i = 0;i < numClients;i++) {
+          client.webSocket(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/someuri", onSuccess(ws -> {
+            ws.textMessageHandler(text -> {
+              assertEquals("hello", text);
+              complete();
+            });
+            ws.binaryMessageHandler(data -> {
+              assertEquals(binary, data);
+              complete();
+            });
+          }));
+        }
+      }));
+    await();
+  }
+
+  @Test
+  public void testWebSocketGroupFragmentation() {
+    String text = TestUtils.randomAlphaString(100);
+    WebSocketGroup group = WebSocketGroup.create(vertx, new WebSocketGroupOptions().setMaxFrameSize(16));
+    server = vertx.createHttpServer()
+      .webSocketHandler(ws -> {
+        group.add(ws);
+        group.writeTextMessage(text);
+      }).listen(DEFAULT_HTTP_PORT, onSuccess(v1 -> {
+        client = vertx.createHttpClient();
+        client.webSocket(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/someuri", onSuccess(ws -> {
+          List<WebSocketFrame> frames = new ArrayList<>();
+          ws.frameHandler(frame -> {
+            if (frame.isClose()) {
+              return;
+            }
+            frames.add(frame);
+            if (frame.isFinal()) {
+              assertEquals(7, frames.size());
+              StringBuilder received = new StringBuilder();
+              for (int i = 0;i < frames.size();i++) {
+                assertEquals(i == 0, frames.get(i).isText());
+                assertEquals(i > 0, frames.get(i).isContinuation());
+                assertTrue(frames.get(i).binaryData().length() <= 16);
+                received.append(frames.get(i).binaryData().toString());
+              }
+              assertEquals(text, received.toString());
+              testComplete();
+            }
+          });
+        }));
+      }));
+    await();
+  }
+
+  @Test
+  public void testWebSocketGroupMemberWithPendingHandshake() {
+    WebSocketGroup group = WebSocketGroup.create(vertx);
+    server = vertx.createHttpServer()
+      .webSocketHandler(ws -> {
+        Promise<Integer> promise = Promise.promise();
+        ws.setHandshake(promise.future());
+        group.add(ws);
+        assertEquals(1, group.size());
+        // The member is skipped until its handshake completes
+        group.writeTextMessage("skipped");
+        assertEquals(1, group.size());
+        ws.textMessageHandler(text -> {
+          assertEquals("ready", text);
+          group.writeTextMessage("hello");
+        });
+        promise.complete(101);
+      }).listen(DEFAULT_HTTP_PORT, onSuccess(v1 -> {
+        client = vertx.createHttpClient();
+        client.webSocket(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/someuri", onSuccess(ws -> {
+          ws.textMessageHandler(text -> {
+            assertEquals("hello", text);
+            testComplete();
+          });
+          ws.writeTextMessage("ready");
+        }));
+      }));
+    await();
+  }
+
+  @Test
+  public void testWebSocketGroupRemoveClosedMember() {
+    WebSocketGroup group = WebSocketGroup.create(vertx);
+    server = vertx.createHttpServer()
+      .webSocketHandler(ws -> {
+        group.add(ws);
+        assertEquals(1, group.size());
+        ws.closeHandler(v -> {
+          assertEquals(0, group.size());
+          testComplete();
+        });
+        ws.writeTextMessage("close");
+      }).listen(DEFAULT_HTTP_PORT, onSuccess(v1 -> {
+        client = vertx.createHttpClient();
+        client.webSocket(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/someuri", onSuccess(ws -> {
+          ws.textMessageHandler(text -> ws.close());
+        }));
+      }));
+    await();
+  }
+
+  @Test
+  public void testWebSocketGroupDropSlowConsumer() {
+    Promise<Void> resume = Promise.promise();
+    WebSocketGroup group = WebSocketGroup.create(vertx, new WebSocketGroupOptions().setSlowConsumerPolicy(SlowConsumerPolicy.DROP));
+    server = vertx.createHttpServer()
+      .webSocketHandler(ws -> {
+        group.add(ws);
+        fillQueue(ws, v -> {
+          group.writeTextMessage("dropped");
+          assertEquals(1, group.size());
+          ws.writeTextMessage("end");
+          resume.complete();
+        });
+      }).listen(DEFAULT_HTTP_PORT, onSuccess(v1 -> {
+        client = vertx.createHttpClient();
+        client.webSocket(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/someuri", onSuccess(ws -> {
+          ws.pause();
+          ws.textMessageHandler(text -> {
+            assertFalse("dropped".equals(text));
+            if ("end".equals(text)) {
+              testComplete();
+            }
+          });
+          resume.future().setHandler(onSuccess(v2 -> {
+            ws.resume();
+          }));
+        }));
+      }));
+    await();
+  }
+
+  @Test
+  public void testWebSocketGroupDisconnectSlowConsumer() {
+    WebSocketGroup group = WebSocketGroup.create(vertx, new WebSocketGroupOptions().setSlowConsumerPolicy(SlowConsumerPolicy.DISCONNECT));
+    server = vertx.createHttpServer()
+      .webSocketHandler(ws -> {
+        group.add(ws);
+        ws.closeHandler(v -> {
+          testComplete();
+        });
+        fillQueue(ws, v -> {
+          group.writeTextMessage("disconnect");
+          assertEquals(0, group.size());
+        });
+      }).listen(DEFAULT_HTTP_PORT, onSuccess(v1 -> {
+        client = vertx.createHttpClient();
+        client.webSocket(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/someuri", onSuccess(ws -> {
+          ws.pause();
+        }));
+      }));
+    await();
+  }
+
+  @Test
+  public void testWebSocketGroupOptionsJson() {
+    WebSocketGroupOptions options = new WebSocketGroupOptions();
+    assertEquals(WebSocketGroupOptions.DEFAULT_SLOW_CONSUMER_POLICY, options.getSlowConsumerPolicy());
+    assertEquals(WebSocketGroupOptions.DEFAULT_MAX_FRAME_SIZE, options.getMaxFrameSize());
+    assertIllegalArgumentException(() -> options.setMaxFrameSize(0));
+    WebSocketGroupOptions json = new WebSocketGroupOptions(new JsonObject().put("slowConsumerPolicy", "DISCONNECT").put("maxFrameSize", 1024));
+    assertEquals(SlowConsumerPolicy.DISCONNECT, json.getSlowConsumerPolicy());
+    assertEquals(1024, json.getMaxFrameSize());
+    assertEquals(json.toJson(), new WebSocketGroupOptions(json).toJson());
+  }
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.impl;
+
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.VertxOptions;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class ContextMailboxTest extends VertxTestBase {
+
+  @Override
+  protected VertxOptions getOptions() {
+    return super.getOptions().setContextCallBatchingEnabled(true);
+  }
+
+  private static <T> T await(Future<T> future) throws Exception {
+    return future.toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+  }
+
+  private ContextMailbox callAndGetMailbox(AbstractContext caller, ContextInternal target) throws Exception {
+    Promise<Void> called = Promise.promise();
+    caller.runOnContext(v -> target.run(true, () -> "foo", ar -> called.complete()));
+    await(called.future());
+    ContextMailbox mailbox = caller.outboundMailboxes().get(target);
+    assertNotNull(mailbox);
+    return mailbox;
+  }
+
+  @Test
+  public void testRemoveMailboxWhenCallerIsUndeployed() throws Exception {
+    ContextInternal target = (ContextInternal) vertx.getOrCreateContext();
+    AtomicReference<Context> callerRef = new AtomicReference<>();
+    String id = await(vertx.deployVerticle(new AbstractVerticle() {
+      @Override
+      public void start() {
+        callerRef.set(context);
+      }
+    }));
+    AbstractContext caller = (AbstractContext) callerRef.get();
+    ContextMailbox mailbox = callAndGetMailbox(caller, target);
+    await(vertx.undeploy(id));
+    assertTrue(caller.outboundMailboxes().isEmpty());
+    // The hook of the target context does not retain the mailbox anymore
+    assertFalse(target.removeCloseHook(mailbox));
+  }
+
+  @Test
+  public void testRemoveMailboxWhenTargetIsUndeployed() throws Exception {
+    AbstractContext caller = (AbstractContext) vertx.getOrCreateContext();
+    AtomicReference<Context> targetRef = new AtomicReference<>();
+    String id = await(vertx.deployVerticle(new AbstractVerticle() {
+      @Override
+      public void start() {
+        targetRef.set(context);
+      }
+    }));
+    callAndGetMailbox(caller, (ContextInternal) targetRef.get());
+    await(vertx.undeploy(id));
+    assertTrue(caller.outboundMailboxes().isEmpty());
+  }
+}
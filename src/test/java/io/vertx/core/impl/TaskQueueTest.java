@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.impl;
+
+import io.vertx.test.core.AsyncTestBase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TaskQueueTest extends AsyncTestBase {
+
+  private ExecutorService executor1;
+  private ExecutorService executor2;
+
+  @Before
+  public void createExecutors() {
+    disableThreadChecks();
+    executor1 = Executors.newFixedThreadPool(4);
+    executor2 = Executors.newFixedThreadPool(4);
+  }
+
+  @After
+  public void shutdownExecutors() {
+    executor1.shutdownNow();
+    executor2.shutdownNow();
+  }
+
+  @Test
+  public void testOrderPerProducer() throws Exception {
+    TaskQueue queue = new TaskQueue();
+    int producers = 4;
+    int num = 10000;
+    int[] last = new int[producers];
+    AtomicInteger running = new AtomicInteger();
+    CountDownLatch done = new CountDownLatch(producers * num);
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0;i < producers;i++) {
+      int producer = i;
+      threads.add(new Thread(() -> {
+        for (int j = 1;j <= num;j++) {
+          int val = j;
+          queue.execute(() -> {
+            assertEquals(1, running.incrementAndGet());
+            assertEquals(val - 1, last[producer]);
+            last[producer] = val;
+            running.decrementAndGet();
+            done.countDown();
+          }, executor1);
+        }
+      }));
+    }
+    threads.forEach(Thread::start);
+    awaitLatch(done);
+    for (int i = 0;i < producers;i++) {
+      assertEquals(num, last[i]);
+    }
+  }
+
+  @Test
+  public void testExecutorHandoff() throws Exception {
+    TaskQueue queue = new TaskQueue();
+    int num = 1000;
+    List<Integer> order = new ArrayList<>();
+    CountDownLatch done = new CountDownLatch(num);
+    for (int i = 0;i < num;i++) {
+      int val = i;
+      ExecutorService exec = i % 3 == 0 ? executor2 : executor1;
+      queue.execute(() -> {
+        synchronized (order) {
+          order.add(val);
+        }
+        done.countDown();
+      }, exec);
+    }
+    awaitLatch(done);
+    for (int i = 0;i < num;i++) {
+      assertEquals(i, (int) order.get(i));
+    }
+  }
+}
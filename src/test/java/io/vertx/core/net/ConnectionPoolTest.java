@@ -682,6 +682,32 @@ public class ConnectionPoolTest extends VertxTestBase {
     assertEquals(0, mgr.pool.capacity());
   }
 
+  @Test
+  public void testSharedWeight() {
+    FakeConnectionProvider connector = new FakeConnectionProvider();
+    AtomicLong sharedWeight = new AtomicLong();
+    List<Handler<AsyncResult<FakeConnection>>> overflowed = Collections.synchronizedList(new ArrayList<>());
+    Pool<FakeConnection> pool1 = new Pool<>(vertx.getOrCreateContext(), connector, System::currentTimeMillis, -1, 1, 1,
+      v -> {}, conn -> {}, conn -> {}, false, sharedWeight, overflowed::add);
+    Pool<FakeConnection> pool2 = new Pool<>(vertx.getOrCreateContext(), connector, System::currentTimeMillis, -1, 1, 1,
+      v -> {}, conn -> {}, conn -> {}, false, sharedWeight, overflowed::add);
+    AtomicReference<FakeConnection> borrowed = new AtomicReference<>();
+    assertTrue(pool1.getConnection(onSuccess(borrowed::set)));
+    FakeConnection conn = connector.assertRequest();
+    conn.connect();
+    assertWaitUntil(() -> borrowed.get() == conn);
+    assertEquals(1, sharedWeight.get());
+    // The second pool cannot create a connection and has none to recycle
+    Handler<AsyncResult<FakeConnection>> handler = ar -> fail();
+    assertTrue(pool2.getConnection(handler));
+    assertWaitUntil(() -> overflowed.size() == 1);
+    assertSame(handler, overflowed.get(0));
+    assertEquals(0, pool2.waitersInQueue());
+    connector.assertRequests(0);
+    conn.close();
+    assertEquals(0, sharedWeight.get());
+  }
+
   class FakeWaiter {
 
     protected final ContextInternal context;
@@ -23,6 +23,8 @@ import io.vertx.core.*;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.Message;
 import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.eventbus.ReplyException;
+import io.vertx.core.eventbus.ReplyFailure;
 import io.vertx.core.http.*;
 import io.vertx.core.impl.ConcurrentHashSet;
 import io.vertx.core.net.impl.NetSocketInternal;
@@ -309,6 +311,11 @@ public class NetTest extends VertxTestBase {
     assertEquals(options, options.setAcceptBacklog(rand));
     assertEquals(rand, options.getAcceptBacklog());
 
+    assertEquals(AcceptBalancing.ROUND_ROBIN, options.getAcceptBalancing());
+    assertEquals(options, options.setAcceptBalancing(AcceptBalancing.LEAST_CONNECTIONS));
+    assertEquals(AcceptBalancing.LEAST_CONNECTIONS, options.getAcceptBalancing());
+    assertNullPointerException(() -> options.setAcceptBalancing(null));
+
     assertEquals(0, options.getPort());
     assertEquals(options, options.setPort(1234));
     assertEquals(1234, options.getPort());
@@ -568,6 +575,7 @@ public class NetTest extends VertxTestBase {
     int port = 1234;
     String host = TestUtils.randomAlphaString(100);
     int acceptBacklog = TestUtils.randomPortInt();
+    AcceptBalancing acceptBalancing = AcceptBalancing.values()[rand.nextInt(AcceptBalancing.values().length)];
     boolean useAlpn = TestUtils.randomBoolean();
     boolean openSslSessionCacheEnabled = rand.nextBoolean();
     SSLEngineOptions sslEngine = TestUtils.randomBoolean() ? new JdkSSLEngineOptions() : new OpenSSLEngineOptions();
@@ -591,6 +599,7 @@ public class NetTest extends VertxTestBase {
     options.setPort(port);
     options.setHost(host);
     options.setAcceptBacklog(acceptBacklog);
+    options.setAcceptBalancing(acceptBalancing);
     options.setUseAlpn(useAlpn);
     options.setSslEngineOptions(sslEngine);
     options.setSni(sni);
@@ -613,6 +622,7 @@ public class NetTest extends VertxTestBase {
     assertEquals(def.getCrlPaths(), json.getCrlPaths());
     assertEquals(def.getCrlValues(), json.getCrlValues());
     assertEquals(def.getAcceptBacklog(), json.getAcceptBacklog());
+    assertEquals(def.getAcceptBalancing(), json.getAcceptBalancing());
     assertEquals(def.getPort(), json.getPort());
     assertEquals(def.getHost(), json.getHost());
     assertEquals(def.isTcpNoDelay(), json.isTcpNoDelay());
@@ -653,6 +663,7 @@ public class NetTest extends VertxTestBase {
     int port = 1234;
     String host = TestUtils.randomAlphaString(100);
     int acceptBacklog = TestUtils.randomPortInt();
+    AcceptBalancing acceptBalancing = AcceptBalancing.values()[rand.nextInt(AcceptBalancing.values().length)];
     boolean useAlpn = TestUtils.randomBoolean();
     boolean openSslSessionCacheEnabled = rand.nextBoolean();
     String sslEngine = TestUtils.randomBoolean() ? "jdkSslEngineOptions" : "openSslEngineOptions";
@@ -677,6 +688,7 @@ public class NetTest extends VertxTestBase {
       .put("port", port)
       .put("host", host)
       .put("acceptBacklog", acceptBacklog)
+      .put("acceptBalancing", acceptBalancing.name())
       .put("useAlpn", useAlpn)
       .put(sslEngine, new JsonObject())
       .put("openSslSessionCacheEnabled", openSslSessionCacheEnabled)
@@ -707,6 +719,7 @@ public class NetTest extends VertxTestBase {
     assertEquals(port, options.getPort());
     assertEquals(host, options.getHost());
     assertEquals(acceptBacklog, options.getAcceptBacklog());
+    assertEquals(acceptBalancing, options.getAcceptBalancing());
     assertEquals(useAlpn, options.isUseAlpn());
     switch (sslEngine) {
       case "jdkSslEngineOptions":
@@ -1867,6 +1880,67 @@ public class NetTest extends VertxTestBase {
     testSharedServersRoundRobin();
   }
 
+  @Test
+  public void testSharedServersLeastConnections() throws Exception {
+    int numConnections = 4;
+    BlockingQueue<NetServer> accepted = new LinkedBlockingQueue<>();
+    BlockingQueue<NetServer> closed = new LinkedBlockingQueue<>();
+    for (int i = 0;i < 2;i++) {
+      NetServer theServer = vertx.createNetServer(new NetServerOptions().setAcceptBalancing(AcceptBalancing.LEAST_CONNECTIONS));
+      theServer.connectHandler(so -> {
+        accepted.add(theServer);
+        so.closeHandler(v -> closed.add(theServer));
+      });
+      startServer(testAddress, theServer);
+    }
+    // Keep a connection open
+    client.connect(testAddress, onSuccess(so -> {}));
+    NetServer busy = accepted.poll(10, TimeUnit.SECONDS);
+    assertNotNull(busy);
+    for (int i = 0;i < numConnections;i++) {
+      client.connect(testAddress, onSuccess(NetSocket::close));
+      NetServer theServer = accepted.poll(10, TimeUnit.SECONDS);
+      assertNotNull(theServer);
+      assertNotSame(busy, theServer);
+      assertSame(theServer, closed.poll(10, TimeUnit.SECONDS));
+    }
+  }
+
+  @Test
+  public void testSharedServersReusePort() throws Exception {
+    int numServers = 2;
+    int numConnections = 10;
+    List<NetServer> servers = new ArrayList<>();
+    Map<NetServer, Integer> connectCount = new ConcurrentHashMap<>();
+    for (int i = 0;i < numServers;i++) {
+      NetServer theServer = vertx.createNetServer(new NetServerOptions().setAcceptBalancing(AcceptBalancing.REUSE_PORT));
+      theServer.connectHandler(so -> {
+        connectCount.merge(theServer, 1, Integer::sum);
+        so.end(Buffer.buffer("ok"));
+      });
+      startServer(testAddress, theServer);
+      servers.add(theServer);
+    }
+    CountDownLatch latch1 = new CountDownLatch(numConnections);
+    for (int i = 0;i < numConnections;i++) {
+      client.connect(testAddress, onSuccess(so -> so.closeHandler(v -> latch1.countDown())));
+    }
+    awaitLatch(latch1);
+    assertEquals(numConnections, connectCount.values().stream().mapToInt(Integer::intValue).sum());
+
+    // The remaining server accepts the connections
+    CountDownLatch closeLatch = new CountDownLatch(1);
+    servers.get(0).close(onSuccess(v -> closeLatch.countDown()));
+    awaitLatch(closeLatch);
+    connectCount.clear();
+    CountDownLatch latch2 = new CountDownLatch(numConnections);
+    for (int i = 0;i < numConnections;i++) {
+      client.connect(testAddress, onSuccess(so -> so.closeHandler(v -> latch2.countDown())));
+    }
+    awaitLatch(latch2);
+    assertEquals(Collections.singletonMap(servers.get(1), numConnections), connectCount);
+  }
+
   @Test
   public void testClosingVertxCloseSharedServers() throws Exception {
     int numServers = 2;
@@ -1922,6 +1996,38 @@ public class NetTest extends VertxTestBase {
     testComplete();
   }
 
+  @Test
+  public void testWriteHandlerIDFromOtherThread() throws Exception {
+    server.connectHandler(socket -> {
+      new Thread(() -> {
+        vertx.eventBus().send(socket.writeHandlerID(), Buffer.buffer("hello"));
+      }).start();
+    });
+    startServer();
+    client.connect(testAddress, onSuccess(socket -> {
+      socket.handler(buff -> {
+        assertEquals("hello", buff.toString());
+        testComplete();
+      });
+    }));
+    await();
+  }
+
+  @Test
+  public void testWriteHandlerIDOfClosedSocket() throws Exception {
+    server.connectHandler(socket -> {
+      socket.closeHandler(v -> {
+        vertx.eventBus().request(socket.writeHandlerID(), Buffer.buffer("hello"), onFailure(err -> {
+          assertEquals(ReplyFailure.NO_HANDLERS, ((ReplyException) err).failureType());
+          testComplete();
+        }));
+      });
+    });
+    startServer();
+    client.connect(testAddress, onSuccess(NetSocket::close));
+    await();
+  }
+
   @Test
   public void testRemoteAddress() {
     server.connectHandler(socket -> {
@@ -1966,6 +2072,42 @@ public class NetTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testWriteFromOtherThreadsPreservesOrder() throws Exception {
+    int num = 10000;
+    Buffer expected = Buffer.buffer();
+    for (int i = 0;i < num;i++) {
+      expected.appendString(i + ",");
+    }
+    server.connectHandler(socket -> {
+      Buffer received = Buffer.buffer();
+      socket.handler(buff -> {
+        received.appendBuffer(buff);
+        if (received.length() == expected.length()) {
+          assertEquals(expected, received);
+          testComplete();
+        }
+      });
+    }).listen(testAddress, onSuccess(s -> {
+      client.connect(testAddress, onSuccess(so -> {
+        Context ctx = Vertx.currentContext();
+        new Thread(() -> {
+          // Half of the messages are written from another thread, the other half are written from the event loop
+          // once the last message of the thread is written
+          for (int i = 0;i < num / 2;i++) {
+            so.write(i + ",");
+          }
+          ctx.runOnContext(v -> {
+            for (int i = num / 2;i < num;i++) {
+              so.write(i + ",");
+            }
+          });
+        }).start();
+      }));
+    }));
+    await();
+  }
+
   @Test
   public void sendFileClientToServer() throws Exception {
     File fDir = testFolder.newFolder();
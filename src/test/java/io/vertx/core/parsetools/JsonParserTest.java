@@ -26,6 +26,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -621,6 +622,87 @@ public class JsonParserTest {
       assertEquals(LinkedList.class, values.get(0).getClass());
     }
 
+  @Test
+  public void testObjectBinding() {
+    JsonParser parser = JsonParser.newParser();
+    List<Object> values = new ArrayList<>();
+    parser.objectValueMode(TheObject.class);
+    parser.handler(event -> {
+      assertEquals(JsonEventType.VALUE, event.type());
+      values.add(event.value());
+    });
+    Buffer data = Buffer.buffer("{\"f\":\"the-value-1\"}\n{\"f\":\"the-value-2\"}");
+    for (int i = 0;i < data.length();i++) {
+      parser.handle(data.slice(i, i + 1));
+    }
+    parser.end();
+    assertEquals(Arrays.asList(new TheObject("the-value-1"), new TheObject("the-value-2")), values);
+    assertEquals(TheObject.class, values.get(0).getClass());
+  }
+
+  @Test
+  public void testObjectBindingInArray() {
+    JsonParser parser = JsonParser.newParser();
+    List<Object> values = new ArrayList<>();
+    parser.objectValueMode(TheObject.class);
+    parser.handler(event -> {
+      if (event.type() == JsonEventType.VALUE) {
+        values.add(event.mapTo(TheObject.class));
+      } else {
+        values.add(event.type());
+      }
+    });
+    parser.handle(Buffer.buffer("[{\"f\":\"the-value-1\"},{\"f\":\"the-value-2\"}]"));
+    parser.end();
+    assertEquals(Arrays.asList(JsonEventType.START_ARRAY, new TheObject("the-value-1"), new TheObject("the-value-2"), JsonEventType.END_ARRAY), values);
+  }
+
+  @Test
+  public void testObjectBindingError() {
+    List<Object> values = new ArrayList<>();
+    List<Throwable> errors = new ArrayList<>();
+    JsonParser.newParser().objectValueMode(TheObject.class).handler(event -> values.add(event.value())).exceptionHandler(errors::add).write(Buffer.buffer("{\"destination\":\"unknown\"}")).end();
+    assertEquals(Collections.emptyList(), values);
+    assertEquals(1, errors.size());
+    assertTrue(errors.get(0) instanceof DecodeException);
+  }
+
+  @Test
+  public void testProjection() {
+    JsonParser parser = JsonParser.newParser();
+    List<Object> values = new ArrayList<>();
+    parser.objectValueMode();
+    parser.projection(new HashSet<>(Arrays.asList("f", "object")));
+    parser.handler(event -> values.add(event.value()));
+    parser.handle(Buffer.buffer("{\"skipped\":{\"a\":[1,{\"b\":[]}]},\"f\":\"the-value\",\"array\":[1,2],\"number\":3,\"object\":{\"skipped\":true}}"));
+    parser.end();
+    assertEquals(Collections.singletonList(new JsonObject().put("f", "the-value").put("object", new JsonObject().put("skipped", true))), values);
+  }
+
+  @Test
+  public void testProjectionBinding() {
+    JsonParser parser = JsonParser.newParser();
+    List<Object> values = new ArrayList<>();
+    parser.objectValueMode(TheObject.class);
+    parser.projection(Collections.singleton("f"));
+    parser.handler(event -> values.add(event.value()));
+    parser.handle(Buffer.buffer("{\"destination\":{\"a\":[1,2]},\"f\":\"the-value-1\",\"other\":3}{\"f\":\"the-value-2\"}"));
+    parser.end();
+    assertEquals(Arrays.asList(new TheObject("the-value-1"), new TheObject("the-value-2")), values);
+  }
+
+  @Test
+  public void testProjectionDoesNotApplyToArrayValues() {
+    JsonParser parser = JsonParser.newParser();
+    List<Object> values = new ArrayList<>();
+    parser.arrayValueMode();
+    parser.projection(Collections.singleton("f"));
+    parser.handler(event -> values.add(event.value()));
+    parser.handle(Buffer.buffer("[{\"f\":1,\"g\":2}]"));
+    parser.end();
+    assertEquals(Collections.singletonList(new JsonArray().add(new JsonObject().put("f", 1).put("g", 2))), values);
+  }
+
   public static class TheObject {
 
     private String f;
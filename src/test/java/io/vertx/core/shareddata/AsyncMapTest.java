@@ -630,6 +630,19 @@ public abstract class AsyncMapTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testSizeInt() {
+    getVertx().sharedData().<String, String>getAsyncMap("foo", onSuccess(map -> {
+      map.put("foo", "bar", onSuccess(v -> {
+        map.sizeInt().onSuccess(size -> {
+          assertEquals(1, size);
+          testComplete();
+        }).onFailure(this::fail);
+      }));
+    }));
+    await();
+  }
+
   @Test
   public void testKeys() {
     Map<JsonObject, Buffer> map = genJsonToBuffer(100);
@@ -12,9 +12,14 @@
 package io.vertx.core.shareddata;
 
 import io.vertx.core.*;
+import io.vertx.core.metrics.MetricsOptions;
+import io.vertx.core.spi.metrics.LockMetrics;
+import io.vertx.core.spi.metrics.VertxMetrics;
 import io.vertx.test.core.VertxTestBase;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -243,4 +248,151 @@ public class AsynchronousLockTest extends VertxTestBase {
     }, new DeploymentOptions().setInstances(5).setWorkerPoolName("bar").setWorkerPoolSize(1));
     await();
   }
+
+  @Test
+  public void testTryGetLocalLock() {
+    SharedData sharedData = getVertx().sharedData();
+    sharedData.tryGetLocalLock("foo", onSuccess(lock -> {
+      sharedData.tryGetLocalLock("foo", onFailure(err -> {
+        lock.release();
+        sharedData.tryGetLocalLock("foo", onSuccess(lock2 -> {
+          lock2.release();
+          testComplete();
+        }));
+      }));
+    }));
+    await();
+  }
+
+  @Test
+  public void testTryGetLocalLockWithWaiters() {
+    SharedData sharedData = getVertx().sharedData();
+    sharedData.getLocalLock("foo", onSuccess(lock -> {
+      sharedData.getLocalLock("foo", onSuccess(lock2 -> {}));
+      lock.release();
+      // The lock is granted to the waiter on release
+      sharedData.tryGetLocalLock("foo", onFailure(err -> testComplete()));
+    }));
+    await();
+  }
+
+  @Test
+  public void testLocalLockFifo() {
+    Vertx vertx = getVertx();
+    SharedData sharedData = vertx.sharedData();
+    int num = 100;
+    List<Integer> order = new ArrayList<>();
+    Context ctx = vertx.getOrCreateContext();
+    ctx.runOnContext(v -> {
+      sharedData.getLocalLock("foo", onSuccess(lock -> {
+        for (int i = 0;i < num;i++) {
+          int val = i;
+          sharedData.getLocalLock("foo", onSuccess(lock2 -> {
+            order.add(val);
+            lock2.release();
+            if (order.size() == num) {
+              for (int j = 0;j < num;j++) {
+                assertEquals(j, (int) order.get(j));
+              }
+              testComplete();
+            }
+          }));
+        }
+        lock.release();
+      }));
+    });
+    await();
+  }
+
+  @Test
+  public void testLocalLockSkipsTimedOutWaiter() {
+    SharedData sharedData = getVertx().sharedData();
+    waitFor(2);
+    sharedData.getLocalLock("foo", onSuccess(lock -> {
+      sharedData.getLocalLockWithTimeout("foo", 10, onFailure(err -> {
+        complete();
+        lock.release();
+      }));
+      sharedData.getLocalLock("foo", onSuccess(lock2 -> {
+        lock2.release();
+        complete();
+      }));
+    }));
+    await();
+  }
+
+  @Test
+  public void testLocalLockMetrics() {
+    AtomicInteger requested = new AtomicInteger();
+    AtomicInteger maxDepth = new AtomicInteger();
+    AtomicInteger acquired = new AtomicInteger();
+    AtomicInteger released = new AtomicInteger();
+    LockMetrics<Long> lockMetrics = new LockMetrics<Long>() {
+      @Override
+      public Long requested(String name, int queueDepth) {
+        requested.incrementAndGet();
+        maxDepth.accumulateAndGet(queueDepth, Math::max);
+        return System.nanoTime();
+      }
+      @Override
+      public Long acquired(Long t) {
+        assertNotNull(t);
+        acquired.incrementAndGet();
+        return t;
+      }
+      @Override
+      public void released(Long t) {
+        assertNotNull(t);
+        released.incrementAndGet();
+      }
+    };
+    VertxMetrics metrics = new VertxMetrics() {
+      @Override
+      public LockMetrics<?> createLockMetrics() {
+        return lockMetrics;
+      }
+    };
+    Vertx vertx = vertx(new VertxOptions().setMetricsOptions(new MetricsOptions().setEnabled(true).setFactory(options -> metrics)));
+    SharedData sharedData = vertx.sharedData();
+    sharedData.getLocalLock("foo", onSuccess(lock -> {
+      sharedData.getLocalLock("foo", onSuccess(lock2 -> {
+        lock2.release();
+        assertEquals(2, requested.get());
+        assertEquals(2, maxDepth.get());
+        assertEquals(2, acquired.get());
+        assertEquals(2, released.get());
+        testComplete();
+      }));
+      lock.release();
+    }));
+    await();
+  }
+
+  @Test
+  public void testLocalLockMutualExclusion() {
+    int numContexts = 4;
+    int numAcquisitions = 500;
+    AtomicInteger holders = new AtomicInteger();
+    // Local locks are per Vert.x instance
+    Vertx vertx = getVertx();
+    waitFor(numContexts * numAcquisitions);
+    for (int i = 0;i < numContexts;i++) {
+      Context ctx = vertx.getOrCreateContext();
+      ctx.runOnContext(v -> {
+        for (int j = 0;j < numAcquisitions;j++) {
+          // Some waiters time out and must be skipped
+          long timeout = j % 10 == 0 ? 1 : 30_000;
+          vertx.sharedData().getLocalLockWithTimeout("foo", timeout, ar -> {
+            if (ar.succeeded()) {
+              assertEquals(1, holders.incrementAndGet());
+              holders.decrementAndGet();
+              ar.result().release();
+            }
+            complete();
+          });
+        }
+      });
+    }
+    await();
+  }
 }
@@ -11,10 +11,15 @@
 
 package io.vertx.core.shareddata;
 
+import io.vertx.core.AbstractVerticle;
 import io.vertx.core.Vertx;
 import io.vertx.test.core.Repeat;
 import org.junit.Test;
 
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.HashSet;
+
 /**
  * @author Thomas Segismont
  */
@@ -45,4 +50,152 @@ public class LocalAsyncMapTest extends AsyncMapTest {
   public void testMapPutIfAbsentTtl() {
     super.testMapPutIfAbsentTtl();
   }
+
+  @Test
+  public void testTtlEntriesAreSwept() {
+    // The local map is available right away
+    AsyncMap<String, String> map = vertx.sharedData().<String, String>getLocalAsyncMap("foo").result();
+    for (int i = 0;i < 100;i++) {
+      map.put("key-" + i, "value", 10 + i % 10);
+    }
+    map.put("other", "value");
+    assertWaitUntil(() -> map.sizeInt().getData() == 1);
+  }
+
+  @Test
+  public void testTtlEntriesAreSweptAfterUndeployingTheVerticleThatSetTheTimer() {
+    AsyncMap<String, String> map = vertx.sharedData().<String, String>getLocalAsyncMap("foo").result();
+    vertx.deployVerticle(new AbstractVerticle() {
+      @Override
+      public void start() {
+        // Sets the sweep timer
+        map.put("pipo", "molo", 100);
+      }
+    }, onSuccess(id -> {
+      vertx.undeploy(id, onSuccess(v -> {
+        // A later deadline does not set a new sweep timer
+        map.put("juu", "fuu", 200);
+        testComplete();
+      }));
+    }));
+    await();
+    assertWaitUntil(() -> map.sizeInt().getData() == 0);
+  }
+
+  @Test
+  public void testGetWithDifferentOptions() {
+    vertx.sharedData().getLocalAsyncMap("foo", new LocalAsyncMapOptions().setMaxSize(3));
+    assertIllegalStateException(() -> vertx.sharedData().getLocalAsyncMap("foo", new LocalAsyncMapOptions().setMaxSize(4)));
+    // The map is returned when no options are specified
+    assertTrue(vertx.sharedData().getLocalAsyncMap("foo").succeeded());
+  }
+
+  @Test
+  public void testPutIfAbsentReplacesExpiredEntry() {
+    vertx.sharedData().<String, String>getLocalAsyncMap("foo", onSuccess(map -> {
+      map.put("pipo", "molo", 1, onSuccess(v1 -> {
+        vertx.setTimer(5, id -> {
+          map.putIfAbsent("pipo", "mili", onSuccess(previous -> {
+            assertNull(previous);
+            map.get("pipo", onSuccess(value -> {
+              assertEquals("mili", value);
+              testComplete();
+            }));
+          }));
+        });
+      }));
+    }));
+    await();
+  }
+
+  @Test
+  public void testMaxSizeEvictsLeastRecentlyUsed() {
+    LocalAsyncMapOptions options = new LocalAsyncMapOptions().setMaxSize(3);
+    vertx.sharedData().<String, String>getLocalAsyncMap("foo", options, onSuccess(map -> {
+      map.put("a", "1");
+      map.put("b", "2");
+      map.put("c", "3");
+      // "a" becomes the most recently used entry
+      map.get("a", onSuccess(value -> {
+        assertEquals("1", value);
+        map.put("d", "4", onSuccess(v -> {
+          map.keys(onSuccess(keys -> {
+            assertEquals(new HashSet<>(Arrays.asList("a", "c", "d")), keys);
+            assertEquals(1, vertx.sharedData().getLocalAsyncMapStats("foo").evictionCount());
+            testComplete();
+          }));
+        }));
+      }));
+    }));
+    await();
+  }
+
+  @Test
+  public void testHitAndMissCounters() {
+    vertx.sharedData().<String, String>getLocalAsyncMap("foo", onSuccess(map -> {
+      map.put("pipo", "molo");
+      map.get("pipo", onSuccess(v1 -> {
+        map.get("pipo", onSuccess(v2 -> {
+          map.get("missing", onSuccess(v3 -> {
+            LocalAsyncMapStats stats = vertx.sharedData().getLocalAsyncMapStats("foo");
+            assertEquals(2, stats.hitCount());
+            assertEquals(1, stats.missCount());
+            assertEquals(0, stats.evictionCount());
+            testComplete();
+          }));
+        }));
+      }));
+    }));
+    await();
+  }
+
+  @Test
+  public void testStatsOfMissingMap() {
+    assertNull(vertx.sharedData().getLocalAsyncMapStats("foo"));
+  }
+
+  private static WeakReference<byte[]> putValue(AsyncMap<String, byte[]> map, String key, long ttl) {
+    byte[] value = new byte[1024];
+    map.put(key, value, ttl);
+    return new WeakReference<>(value);
+  }
+
+  @Test
+  public void testEvictedValueIsNotRetainedUntilItsDeadline() {
+    LocalAsyncMapOptions options = new LocalAsyncMapOptions().setMaxSize(1);
+    vertx.sharedData().<String, byte[]>getLocalAsyncMap("foo", options, onSuccess(map -> {
+      WeakReference<byte[]> ref = putValue(map, "pipo", 60_000);
+      map.put("molo", new byte[0], onSuccess(v -> {
+        assertEquals(1, vertx.sharedData().getLocalAsyncMapStats("foo").evictionCount());
+        // the evicted value is still in the expiry queue for a minute
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (ref.get() != null && System.currentTimeMillis() < deadline) {
+          System.gc();
+        }
+        assertNull(ref.get());
+        testComplete();
+      }));
+    }));
+    await();
+  }
+
+  @Test
+  public void testReplacedValueIsNotRetainedUntilItsDeadline() {
+    vertx.sharedData().<String, byte[]>getLocalAsyncMap("foo", onSuccess(map -> {
+      WeakReference<byte[]> ref = putValue(map, "pipo", 60_000);
+      map.put("pipo", new byte[0], onSuccess(v1 -> {
+        map.put("molo", new byte[0], 60_000);
+        map.remove("molo", onSuccess(v2 -> {
+          // the replaced value is still in the expiry queue for a minute
+          long deadline = System.currentTimeMillis() + 10_000;
+          while (ref.get() != null && System.currentTimeMillis() < deadline) {
+            System.gc();
+          }
+          assertNull(ref.get());
+          testComplete();
+        }));
+      }));
+    }));
+    await();
+  }
 }
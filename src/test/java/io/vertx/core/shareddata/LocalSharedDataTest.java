@@ -11,6 +11,8 @@
 
 package io.vertx.core.shareddata;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
@@ -219,6 +221,26 @@ public class LocalSharedDataTest extends VertxTestBase {
     assertTrue(got2 != buff);
     assertEquals(buff, map.get(key));
 
+    Buffer readOnly = buff.readOnlyCopy();
+    map.put(key, readOnly);
+    Buffer rgot1 = (Buffer)map.get(key);
+    Buffer rgot2 = (Buffer)map.get(key);
+    assertTrue(rgot1 != readOnly); // The content is shared, not the buffer
+    assertTrue(rgot1 != rgot2);
+    assertTrue(rgot1.isReadOnly());
+    assertEquals(readOnly, rgot1);
+    assertEquals(readOnly, rgot2);
+
+    // A read-only view of a buffer that is written to is copied
+    ByteBuf written = Unpooled.copiedBuffer(TestUtils.randomByteArray(100));
+    Buffer view = Buffer.buffer(written.asReadOnly());
+    assertTrue(view.isReadOnly());
+    map.put(key, view);
+    Buffer vgot = (Buffer) map.get(key);
+    Buffer expected = view.copy();
+    written.setByte(0, ~written.getByte(0));
+    assertEquals(expected, vgot);
+
 
     byte[] bytes = TestUtils.randomByteArray(100);
     map.put(key, bytes);
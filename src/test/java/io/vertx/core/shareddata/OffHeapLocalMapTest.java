@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.shareddata;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.shareddata.impl.OffHeapLocalMap;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+
+import static io.vertx.test.core.TestUtils.*;
+
+public class OffHeapLocalMapTest extends VertxTestBase {
+
+  private <K, V> LocalMap<K, V> offHeapMap(String name) {
+    return vertx.sharedData().getLocalMap(name, new LocalMapOptions().setOffHeap(true));
+  }
+
+  @Test
+  public void testGetLocalMap() {
+    LocalMap<String, String> map = offHeapMap("foo");
+    assertTrue(map instanceof OffHeapLocalMap);
+    assertSame(map, vertx.sharedData().getLocalMap("foo"));
+    assertFalse(vertx.sharedData().getLocalMap("bar", new LocalMapOptions()) instanceof OffHeapLocalMap);
+  }
+
+  @Test
+  public void testTypes() {
+    LocalMap<Object, Object> map = offHeapMap("foo");
+    Object[] values = {
+      "foo", 123, 123L, true, 1.5d, 1.5f, (short) 12, (byte) 3, 'c',
+      randomBuffer(100), new JsonObject().put("foo", "bar"), new JsonArray().add(1).add("two")
+    };
+    for (Object value : values) {
+      map.put(value, value);
+    }
+    for (Object value : values) {
+      assertEquals(value, map.get(value));
+    }
+    byte[] bytes = randomByteArray(100);
+    map.put("bytes", bytes);
+    byte[] got = (byte[]) map.get("bytes");
+    assertNotSame(bytes, got);
+    assertTrue(Arrays.equals(bytes, got));
+    Buffer buffer = (Buffer) map.get(values[9]);
+    buffer.setByte(0, (byte) 0);
+    buffer.appendByte((byte) 0);
+    assertEquals(values[9], map.get(values[9]));
+    assertEquals(values.length + 1, map.size());
+  }
+
+  @Test
+  public void testUnsupportedType() {
+    LocalMap<String, Object> map = offHeapMap("foo");
+    Shareable shareable = new Shareable() {
+    };
+    assertIllegalArgumentException(() -> map.put("foo", shareable));
+    assertIllegalArgumentException(() -> map.put("foo", new Object()));
+    assertNull(map.get(shareable));
+    assertTrue(map.isEmpty());
+  }
+
+  @Test
+  public void testOperations() {
+    LocalMap<String, Integer> map = offHeapMap("foo");
+    assertNull(map.putIfAbsent("a", 1));
+    assertEquals(1, (int) map.putIfAbsent("a", 2));
+    assertEquals(1, (int) map.put("a", 3));
+    assertFalse(map.replaceIfPresent("a", 1, 4));
+    assertTrue(map.replaceIfPresent("a", 3, 4));
+    assertEquals(4, (int) map.replace("a", 5));
+    assertNull(map.replace("b", 5));
+    assertFalse(map.removeIfPresent("a", 4));
+    assertTrue(map.containsValue(5));
+    assertTrue(map.removeIfPresent("a", 5));
+    assertFalse(map.containsKey("a"));
+    assertEquals(7, (int) map.compute("a", (k, v) -> v == null ? 7 : v + 1));
+    assertEquals(8, (int) map.compute("a", (k, v) -> v == null ? 7 : v + 1));
+    assertEquals(8, (int) map.computeIfAbsent("a", k -> 0));
+    assertEquals(9, (int) map.computeIfPresent("a", (k, v) -> v + 1));
+    assertNull(map.computeIfPresent("a", (k, v) -> null));
+    assertEquals(1, (int) map.merge("b", 1, Integer::sum));
+    assertEquals(3, (int) map.merge("b", 2, Integer::sum));
+    map.put("c", 10);
+    map.replaceAll((k, v) -> v * 2);
+    assertEquals(new HashSet<>(Arrays.asList("b", "c")), map.keySet());
+    assertEquals(new HashSet<>(Arrays.asList(6, 20)), new HashSet<>(map.values()));
+    Map<String, Integer> entries = new HashMap<>();
+    map.forEach(entries::put);
+    assertEquals(2, entries.size());
+    assertEquals(20, (int) entries.get("c"));
+    assertEquals(42, (int) map.getOrDefault("d", 42));
+    map.clear();
+    assertTrue(map.isEmpty());
+  }
+
+  @Test
+  public void testRandomOperations() {
+    LocalMap<String, String> map = offHeapMap("foo");
+    Map<String, String> expected = new HashMap<>();
+    Random random = new Random(0);
+    for (int i = 0;i < 200_000;i++) {
+      String key = "key-" + random.nextInt(20_000);
+      switch (random.nextInt(4)) {
+        case 0:
+        case 1:
+          String value = randomAlphaString(random.nextInt(200));
+          assertEquals(expected.put(key, value), map.put(key, value));
+          break;
+        case 2:
+          assertEquals(expected.remove(key), map.remove(key));
+          break;
+        default:
+          assertEquals(expected.get(key), map.get(key));
+          break;
+      }
+    }
+    assertEquals(expected.size(), map.size());
+    expected.forEach((key, value) -> assertEquals(value, map.get(key)));
+  }
+
+  @Test
+  public void testMemoryIsReclaimed() {
+    LocalMap<Integer, byte[]> map = offHeapMap("foo");
+    OffHeapMapStats stats = vertx.sharedData().getOffHeapMapStats("foo");
+    assertEquals(0, stats.memoryAllocated());
+    int num = 50_000;
+    for (int i = 0;i < num;i++) {
+      map.put(i, new byte[200]);
+    }
+    long used = stats.memoryUsed();
+    long allocated = stats.memoryAllocated();
+    assertTrue(used > num * 200L);
+    assertTrue(allocated >= used);
+    for (int i = 0;i < num;i++) {
+      if (i % 10 != 0) {
+        map.remove(i);
+      }
+    }
+    // Chunks that are mostly dead are compacted
+    assertTrue(stats.memoryUsed() < used / 5);
+    assertTrue(stats.memoryAllocated() < allocated / 2);
+    for (int i = 0;i < num;i += 10) {
+      assertEquals(200, map.get(i).length);
+    }
+    map.close();
+    assertEquals(0, stats.memoryAllocated());
+    assertIllegalStateException(() -> map.put(0, new byte[1]));
+    assertNotSame(map, offHeapMap("foo"));
+  }
+
+  @Test
+  public void testGetOffHeapMapStats() {
+    assertNull(vertx.sharedData().getOffHeapMapStats("foo"));
+    vertx.sharedData().getLocalMap("foo");
+    assertNull(vertx.sharedData().getOffHeapMapStats("foo"));
+    assertSame(offHeapMap("bar"), vertx.sharedData().getOffHeapMapStats("bar"));
+  }
+
+  @Test
+  public void testConflictingOptions() {
+    offHeapMap("foo");
+    assertIllegalStateException(() -> vertx.sharedData().getLocalMap("foo", new LocalMapOptions()));
+    vertx.sharedData().getLocalMap("bar");
+    assertIllegalStateException(() -> offHeapMap("bar"));
+  }
+
+  @Test
+  public void testMemoryIsReleasedWhenVertxIsClosed() {
+    LocalMap<Integer, byte[]> map = offHeapMap("foo");
+    OffHeapMapStats stats = vertx.sharedData().getOffHeapMapStats("foo");
+    for (int i = 0;i < 1000;i++) {
+      map.put(i, new byte[200]);
+    }
+    assertTrue(stats.memoryAllocated() > 0);
+    vertx.close(onSuccess(v -> {
+      assertEquals(0, stats.memoryAllocated());
+      assertIllegalStateException(() -> map.put(0, new byte[1]));
+      testComplete();
+    }));
+    await();
+  }
+}
@@ -59,6 +59,22 @@ public class SharedCounterTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testUnboxedFutures() {
+    getVertx().sharedData().getCounter("foo", onSuccess(counter -> {
+      counter.incrementAndGetLong().map(val -> val * 10).onSuccess(val -> {
+        assertEquals(10L, val);
+        counter.compareAndSetBoolean(1, 5).runIfTrue(() -> {
+          counter.addAndGetLong(2).compose(val2 -> counter.getLong()).onSuccess(val3 -> {
+            assertEquals(7L, val3);
+            testComplete();
+          }).onFailure(this::fail);
+        });
+      }).onFailure(this::fail);
+    }));
+    await();
+  }
+
   @Test
   public void testIncrementAndGet() {
     getVertx().sharedData().getCounter("foo", ar -> {
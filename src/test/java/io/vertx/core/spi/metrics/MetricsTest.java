@@ -231,6 +231,55 @@ public class MetricsTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testSubscriptionCache() {
+    startNodes(2);
+    Vertx from = vertices[0];
+    FakeEventBusMetrics metrics = FakeMetricsBase.getMetrics(from.eventBus());
+    MessageConsumer<Object> consumer = vertices[1].eventBus().consumer(ADDRESS1, msg -> msg.reply("pong"));
+    consumer.completionHandler(onSuccess(v1 -> {
+      from.eventBus().request(ADDRESS1, "ping", onSuccess(r1 -> {
+        assertEquals(1, metrics.getSubscriptionCacheMisses(ADDRESS1));
+        assertEquals(0, metrics.getSubscriptionCacheHits(ADDRESS1));
+        from.eventBus().request(ADDRESS1, "ping", onSuccess(r2 -> {
+          from.eventBus().request(ADDRESS1, "ping", onSuccess(r3 -> {
+            assertEquals(1, metrics.getSubscriptionCacheMisses(ADDRESS1));
+            assertEquals(2, metrics.getSubscriptionCacheHits(ADDRESS1));
+            consumer.unregister(onSuccess(v2 -> {
+              assertEquals(Collections.singletonList(ADDRESS1), metrics.getSubscriptionCacheInvalidations());
+              from.eventBus().consumer(ADDRESS1, msg -> {
+                assertEquals(2, metrics.getSubscriptionCacheMisses(ADDRESS1));
+                testComplete();
+              }).completionHandler(onSuccess(v3 -> from.eventBus().send(ADDRESS1, "ping")));
+            }));
+          }));
+        }));
+      }));
+    }));
+    await();
+  }
+
+  @Test
+  public void testClusterWriteBatches() throws Exception {
+    int num = 1000;
+    startNodes(2);
+    FakeEventBusMetrics metrics = FakeMetricsBase.getMetrics(vertices[0].eventBus());
+    AtomicInteger received = new AtomicInteger();
+    CountDownLatch latch = new CountDownLatch(1);
+    vertices[1].eventBus().consumer(ADDRESS1, msg -> {
+      if (received.incrementAndGet() == num) {
+        testComplete();
+      }
+    }).completionHandler(onSuccess(v -> latch.countDown()));
+    awaitLatch(latch);
+    for (int i = 0;i < num;i++) {
+      vertices[0].eventBus().send(ADDRESS1, "msg-" + i);
+    }
+    await();
+    assertEquals(num, metrics.getClusterQueueDepths().size());
+    waitUntil(() -> metrics.getClusterBatchSizes().stream().mapToInt(Integer::intValue).sum() == num);
+  }
+
   @Test
   public void testHandlerRegistration() throws Exception {
     FakeEventBusMetrics metrics = FakeMetricsBase.getMetrics(vertx.eventBus());
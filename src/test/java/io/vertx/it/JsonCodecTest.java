@@ -11,10 +11,16 @@
 
 package io.vertx.it;
 
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.parsetools.JsonParser;
 import io.vertx.test.core.VertxTestBase;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
@@ -32,4 +38,20 @@ public class JsonCodecTest extends VertxTestBase {
       // Expected
     }
   }
+
+  @Test
+  public void testJsonParser() {
+    List<Object> values = new ArrayList<>();
+    JsonParser parser = JsonParser.newParser().objectValueMode();
+    parser.handler(event -> values.add(event.value()));
+    parser.handle(Buffer.buffer("{\"foo\":\"bar\"}"));
+    parser.end();
+    assertEquals(Collections.singletonList(new JsonObject().put("foo", "bar")), values);
+    try {
+      parser.objectValueMode(Object.class);
+      fail();
+    } catch (UnsupportedOperationException ignore) {
+      // Expected
+    }
+  }
 }
@@ -39,6 +39,7 @@ import java.util.Map.Entry;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 
@@ -48,6 +49,7 @@ public class FakeClusterManager implements ClusterManager {
 
   private static ConcurrentMap<String, LocalAsyncMapImpl> asyncMaps = new ConcurrentHashMap<>();
   private static ConcurrentMap<String, ConcurrentMap> asyncMultiMaps = new ConcurrentHashMap<>();
+  private static ConcurrentMap<String, List<Handler>> asyncMultiMapChangeHandlers = new ConcurrentHashMap<>();
   private static ConcurrentMap<String, Map> syncMaps = new ConcurrentHashMap<>();
   private static LocalAsyncLocks localAsyncLocks = new LocalAsyncLocks();
   private static ConcurrentMap<String, AtomicLong> counters = new ConcurrentHashMap<>();
@@ -121,7 +123,8 @@ public class FakeClusterManager implements ClusterManager {
     }
     @SuppressWarnings("unchecked")
     ConcurrentMap<K, ChoosableSet<V>> theMap = map;
-    vertx.runOnContext(v -> resultHandler.handle(Future.succeededFuture(new FakeAsyncMultiMap<>(theMap))));
+    List<Handler> changeHandlers = asyncMultiMapChangeHandlers.computeIfAbsent(name, n -> new CopyOnWriteArrayList<>());
+    vertx.runOnContext(v -> resultHandler.handle(Future.succeededFuture(new FakeAsyncMultiMap<>(theMap, changeHandlers))));
   }
 
   @SuppressWarnings("unchecked")
@@ -219,6 +222,7 @@ public class FakeClusterManager implements ClusterManager {
     nodes.clear();
     asyncMaps.clear();
     asyncMultiMaps.clear();
+    asyncMultiMapChangeHandlers.clear();
     localAsyncLocks = new LocalAsyncLocks();
     counters.clear();
     syncMaps.clear();
@@ -227,11 +231,26 @@ public class FakeClusterManager implements ClusterManager {
   private class FakeAsyncMultiMap<K, V> implements AsyncMultiMap<K, V> {
 
     private final ConcurrentMap<K, ChoosableSet<V>> map;
+    private final List<Handler> changeHandlers;
     private final TaskQueue taskQueue;
 
-    public FakeAsyncMultiMap(ConcurrentMap<K, ChoosableSet<V>> map) {
+    public FakeAsyncMultiMap(ConcurrentMap<K, ChoosableSet<V>> map, List<Handler> changeHandlers) {
       taskQueue = new TaskQueue();
       this.map = map;
+      this.changeHandlers = changeHandlers;
+    }
+
+    @Override
+    public boolean changeHandler(Handler<K> handler) {
+      changeHandlers.add(handler);
+      return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void changed(K k) {
+      for (Handler handler : changeHandlers) {
+        handler.handle(k);
+      }
     }
 
     @Override
@@ -247,6 +266,7 @@ public class FakeClusterManager implements ClusterManager {
           }
         }
         vals.add(v);
+        changed(k);
         fut.complete();
       }, taskQueue, completionHandler);
     }
@@ -276,6 +296,7 @@ public class FakeClusterManager implements ClusterManager {
               map.remove(k);
             }
             found = true;
+            changed(k);
           }
         }
         fut.complete(found);
@@ -296,15 +317,20 @@ public class FakeClusterManager implements ClusterManager {
           Entry<K, ChoosableSet<V>> entry = mapIter.next();
           ChoosableSet<V> vals = entry.getValue();
           Iterator<V> iter = vals.iterator();
+          boolean removed = false;
           while (iter.hasNext()) {
             V val = iter.next();
             if (p.test(val)) {
               iter.remove();
+              removed = true;
             }
           }
           if (vals.isEmpty()) {
             mapIter.remove();
           }
+          if (removed) {
+            changed(entry.getKey());
+          }
         }
         fut.complete();
       }, taskQueue, completionHandler);
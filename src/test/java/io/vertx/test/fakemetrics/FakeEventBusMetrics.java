@@ -12,6 +12,7 @@
 package io.vertx.test.fakemetrics;
 
 import io.vertx.core.eventbus.ReplyFailure;
+import io.vertx.core.net.SocketAddress;
 import io.vertx.core.spi.metrics.EventBusMetrics;
 
 import java.util.ArrayList;
@@ -35,6 +36,11 @@ public class FakeEventBusMetrics extends FakeMetricsBase implements EventBusMetr
   private final Map<String, AtomicInteger> decoded = new ConcurrentHashMap<>();
   private final List<String> replyFailureAddresses = Collections.synchronizedList(new ArrayList<>());
   private final List<ReplyFailure> replyFailures = Collections.synchronizedList(new ArrayList<>());
+  private final Map<String, AtomicInteger> subscriptionCacheHits = new ConcurrentHashMap<>();
+  private final Map<String, AtomicInteger> subscriptionCacheMisses = new ConcurrentHashMap<>();
+  private final List<String> subscriptionCacheInvalidations = Collections.synchronizedList(new ArrayList<>());
+  private final List<Integer> clusterQueueDepths = Collections.synchronizedList(new ArrayList<>());
+  private final List<Integer> clusterBatchSizes = Collections.synchronizedList(new ArrayList<>());
 
   public Map<String, AtomicInteger> getEncoded() {
     return encoded;
@@ -64,6 +70,28 @@ public class FakeEventBusMetrics extends FakeMetricsBase implements EventBusMetr
     return replyFailures;
   }
 
+  public int getSubscriptionCacheHits(String address) {
+    AtomicInteger value = subscriptionCacheHits.get(address);
+    return value != null ? value.get() : 0;
+  }
+
+  public int getSubscriptionCacheMisses(String address) {
+    AtomicInteger value = subscriptionCacheMisses.get(address);
+    return value != null ? value.get() : 0;
+  }
+
+  public List<String> getSubscriptionCacheInvalidations() {
+    return subscriptionCacheInvalidations;
+  }
+
+  public List<Integer> getClusterQueueDepths() {
+    return clusterQueueDepths;
+  }
+
+  public List<Integer> getClusterBatchSizes() {
+    return clusterBatchSizes;
+  }
+
   public int getEncodedBytes(String address) {
     AtomicInteger value = encoded.get(address);
     return value != null ? value.get() : 0;
@@ -134,6 +162,33 @@ public class FakeEventBusMetrics extends FakeMetricsBase implements EventBusMetr
     value.addAndGet(numberOfBytes);
   }
 
+  @Override
+  public void subscriptionCacheHit(String address) {
+    subscriptionCacheHits.computeIfAbsent(address, a -> new AtomicInteger()).incrementAndGet();
+  }
+
+  @Override
+  public void subscriptionCacheMiss(String address) {
+    subscriptionCacheMisses.computeIfAbsent(address, a -> new AtomicInteger()).incrementAndGet();
+  }
+
+  @Override
+  public void subscriptionCacheInvalidated(String address, long age) {
+    assertTrue(age >= 0);
+    subscriptionCacheInvalidations.add(address);
+  }
+
+  @Override
+  public void clusterMessageQueued(SocketAddress remoteAddress, int depth) {
+    assertTrue(depth > 0);
+    clusterQueueDepths.add(depth);
+  }
+
+  @Override
+  public void clusterMessagesFlushed(SocketAddress remoteAddress, int batchSize) {
+    clusterBatchSizes.add(batchSize);
+  }
+
   public void replyFailure(String address, ReplyFailure failure) {
     replyFailureAddresses.add(address);
     replyFailures.add(failure);
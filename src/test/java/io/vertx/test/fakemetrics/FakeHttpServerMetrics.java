@@ -22,6 +22,7 @@ import io.vertx.core.spi.metrics.HttpServerMetrics;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -30,6 +31,8 @@ public class FakeHttpServerMetrics extends FakeMetricsBase implements HttpServer
 
   private final ConcurrentMap<WebSocketBase, WebSocketMetric> webSockets = new ConcurrentHashMap<>();
   private final ConcurrentHashSet<HttpServerMetric> requests = new ConcurrentHashSet<>();
+  private final AtomicInteger sendFileCacheHits = new AtomicInteger();
+  private final AtomicInteger sendFileCacheMisses = new AtomicInteger();
 
   public WebSocketMetric getMetric(ServerWebSocket ws) {
     return webSockets.get(ws);
@@ -43,6 +46,14 @@ public class FakeHttpServerMetrics extends FakeMetricsBase implements HttpServer
     return requests.stream().filter(m -> m.response.get() == response).findFirst().orElse(null);
   }
 
+  public int getSendFileCacheHits() {
+    return sendFileCacheHits.get();
+  }
+
+  public int getSendFileCacheMisses() {
+    return sendFileCacheMisses.get();
+  }
+
   @Override
   public HttpServerMetric requestBegin(SocketMetric socketMetric, HttpServerRequest request) {
     HttpServerMetric metric = new HttpServerMetric(request, socketMetric);
@@ -115,4 +126,14 @@ public class FakeHttpServerMetrics extends FakeMetricsBase implements HttpServer
   public void exceptionOccurred(SocketMetric socketMetric, SocketAddress remoteAddress, Throwable t) {
   }
 
+  @Override
+  public void sendFileCacheHit(String path) {
+    sendFileCacheHits.incrementAndGet();
+  }
+
+  @Override
+  public void sendFileCacheMiss(String path) {
+    sendFileCacheMisses.incrementAndGet();
+  }
+
 }